@@ -0,0 +1,80 @@
+package com.example.analysis.benchmarks;
+
+import com.example.analysis.batch.BatchLoader;
+import com.example.analysis.batch.InMemoryOrderRepository;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * loadUsersWithOrders tarzı N+1 sorgu vs BatchLoader
+ *
+ * Repository her round trip'te 1ms bekler. İstenen id'lerin yarısı tekrar;
+ * roundTrips sayacı iterasyondaki toplam veritabanı çağrısıdır; skor ile birlikte
+ * op başına round trip hesaplanabilir (N+1: 2 × users, batched: users / maxBatchSize).
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 1)
+@Measurement(iterations = 3, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class BatchLoaderBenchmark {
+
+    @Param({"10", "1000"})
+    int users;
+
+    @Param({"100"})
+    int maxBatchSize;
+
+    InMemoryOrderRepository repository;
+    List<Integer> requestedIds;
+
+    @Setup
+    public void setup() {
+        repository = new InMemoryOrderRepository(1, TimeUnit.MILLISECONDS, 2);
+        requestedIds = new ArrayList<>(users * 2);
+        for (int i = 1; i <= users; i++) {
+            requestedIds.add(i);
+            requestedIds.add(i); // Aynı kullanıcı iki kez
+        }
+        Collections.shuffle(requestedIds, new Random(42));
+    }
+
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    @State(Scope.Thread)
+    public static class RoundTrips {
+        public long roundTrips;
+    }
+
+    @Benchmark
+    public int nPlusOne(RoundTrips counter) {
+        long before = repository.roundTrips();
+        int orders = 0;
+        for (Integer userId : requestedIds) {
+            orders += repository.getOrdersForUser(userId).size();
+        }
+        counter.roundTrips += repository.roundTrips() - before;
+        return orders;
+    }
+
+    @Benchmark
+    public int batched(RoundTrips counter) {
+        long before = repository.roundTrips();
+        BatchLoader<Integer, List<String>> loader =
+            new BatchLoader<>(repository::getOrdersForUsers, maxBatchSize);
+        List<CompletableFuture<List<String>>> futures = loader.loadMany(requestedIds);
+        loader.dispatch();
+        int orders = 0;
+        for (CompletableFuture<List<String>> future : futures) {
+            orders += future.join().size();
+        }
+        counter.roundTrips += repository.roundTrips() - before;
+        return orders;
+    }
+}
@@ -0,0 +1,26 @@
+package com.example.analysis.benchmarks;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Tüm benchmark'ları GC profiler ile çalıştırır
+ * ops/s yanında gc.alloc.rate.norm (byte/op) metriği de raporlanır
+ *
+ * Kullanım: java -jar benchmarks/target/benchmarks.jar [JMH argümanları]
+ * Örnek:    java -jar benchmarks/target/benchmarks.jar Fibonacci -f 1
+ */
+public class BenchmarkRunner {
+
+    public static void main(String[] args) throws Exception {
+        CommandLineOptions cli = new CommandLineOptions(args);
+        Options options = new OptionsBuilder()
+            .parent(cli)
+            .addProfiler(GCProfiler.class)
+            .build();
+        new Runner(options).run();
+    }
+}
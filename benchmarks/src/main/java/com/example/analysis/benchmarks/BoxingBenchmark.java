@@ -0,0 +1,38 @@
+package com.example.analysis.benchmarks;
+
+import com.example.analysis.SecurityIssues;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * SecurityIssues.calculateSum (Long wrapper) vs primitive long
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class BoxingBenchmark {
+
+    @Param({"1000000"})
+    int max;
+
+    SecurityIssues issues;
+
+    @Setup
+    public void setup() {
+        issues = new SecurityIssues();
+    }
+
+    @Benchmark
+    public long calculateSum() {
+        return issues.calculateSum(max);
+    }
+
+    @Benchmark
+    public long calculateSumEfficiently() {
+        return issues.calculateSumEfficiently(max);
+    }
+}
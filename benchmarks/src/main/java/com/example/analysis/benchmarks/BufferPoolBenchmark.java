@@ -0,0 +1,113 @@
+package com.example.analysis.benchmarks;
+
+import com.example.analysis.MemoryFootprint;
+import com.example.analysis.pool.ByteBufferPool;
+import com.example.analysis.pool.PooledBuffer;
+import org.openjdk.jmh.annotations.*;
+
+import java.nio.ByteBuffer;
+import java.util.Queue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Eski sabit 10 buffer'lık LinkedBlockingQueue pool'u vs ByteBufferPool,
+ * ve ThreadLocal buffer'lı processWithBuffer vs processWithBufferPooled
+ *
+ * Eski pool boşken işi atlar; skippedWork sayacı bu durumu görünür kılar.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class BufferPoolBenchmark {
+
+    @Param({"65536", "1048576"})
+    int payloadSize;
+
+    MemoryFootprint footprint;
+    Queue<ByteBuffer> legacyPool;
+    ByteBufferPool pool;
+    byte[] payload;
+
+    @Setup
+    public void setup() {
+        footprint = new MemoryFootprint();
+        legacyPool = new LinkedBlockingQueue<>();
+        for (int i = 0; i < 10; i++) {
+            legacyPool.offer(ByteBuffer.allocateDirect(1024 * 1024));
+        }
+        pool = new ByteBufferPool(16, true);
+        payload = new byte[payloadSize];
+    }
+
+    @TearDown
+    public void report() {
+        System.out.println();
+        System.out.println(pool.metrics());
+    }
+
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    @State(Scope.Thread)
+    public static class Skipped {
+        public long skippedWork;
+    }
+
+    private boolean legacy() {
+        ByteBuffer buffer = legacyPool.poll();
+        if (buffer == null) {
+            return false;
+        }
+        try {
+            buffer.clear();
+            buffer.put(payload);
+            return true;
+        } finally {
+            legacyPool.offer(buffer);
+        }
+    }
+
+    private void pooled() throws InterruptedException {
+        try (PooledBuffer pooled = pool.acquire(payload.length)) {
+            pooled.buffer().put(payload);
+        }
+    }
+
+    @Benchmark
+    @Threads(1)
+    public void legacyQueuePool_1(Skipped skipped) {
+        if (!legacy()) skipped.skippedWork++;
+    }
+
+    @Benchmark
+    @Threads(16)
+    public void legacyQueuePool_16(Skipped skipped) {
+        if (!legacy()) skipped.skippedWork++;
+    }
+
+    @Benchmark
+    @Threads(1)
+    public void stripedPool_1() throws InterruptedException {
+        pooled();
+    }
+
+    @Benchmark
+    @Threads(16)
+    public void stripedPool_16() throws InterruptedException {
+        pooled();
+    }
+
+    @Benchmark
+    @Threads(16)
+    public void threadLocalBuffer_16() {
+        footprint.processWithBuffer(payload);
+    }
+
+    @Benchmark
+    @Threads(16)
+    public void heapBufferPool_16() {
+        footprint.processWithBufferPooled(payload);
+    }
+}
@@ -0,0 +1,69 @@
+package com.example.analysis.benchmarks;
+
+import com.example.analysis.MemoryFootprint;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 10M zaman damgası (saniyede bir, ~116 gün) - süre ve allocation (gc.alloc.rate.norm)
+ *
+ * formatDates:            her eleman için SimpleDateFormat
+ * formatDatesEfficiently: BulkDateFormatter, gün öneki cache'ten
+ * formatDatesParallel:    aynısı ForkJoin parçalarıyla
+ * formatTimestampsTo:     "yyyy-MM-dd HH:mm:ss" satırları tek StringBuilder'a, eleman başına String yok
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 3)
+@Fork(value = 1, jvmArgsAppend = {"-Xmx3g"})
+@State(Scope.Benchmark)
+public class BulkDateFormattingBenchmark {
+
+    @Param({"10000000"})
+    int size;
+
+    MemoryFootprint footprint;
+    List<Date> dates;
+    long[] epochMillis;
+    StringBuilder sink;
+
+    @Setup
+    public void setup() {
+        footprint = new MemoryFootprint();
+        dates = new ArrayList<>(size);
+        epochMillis = new long[size];
+        long base = 1_700_000_000_000L;
+        for (int i = 0; i < size; i++) {
+            epochMillis[i] = base + i * 1000L;
+            dates.add(new Date(epochMillis[i]));
+        }
+        // "yyyy-MM-dd HH:mm:ss\n" = 20 karakter
+        sink = new StringBuilder(size * 20);
+    }
+
+    @Benchmark
+    public List<String> formatDates() {
+        return footprint.formatDates(dates);
+    }
+
+    @Benchmark
+    public List<String> formatDatesEfficiently() {
+        return footprint.formatDatesEfficiently(dates);
+    }
+
+    @Benchmark
+    public List<String> formatDatesParallel() {
+        return footprint.formatDatesParallel(dates);
+    }
+
+    @Benchmark
+    public int formatTimestampsTo() {
+        sink.setLength(0);
+        return footprint.formatTimestampsTo(epochMillis, sink).length();
+    }
+}
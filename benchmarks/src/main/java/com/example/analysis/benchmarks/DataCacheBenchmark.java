@@ -0,0 +1,109 @@
+package com.example.analysis.benchmarks;
+
+import com.example.analysis.MemoryFootprint;
+import org.openjdk.jmh.annotations.*;
+
+import java.lang.reflect.Field;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * cacheData (sınırsız static ArrayList) vs cacheDataBounded (256MB SegmentedLruCache)
+ * 1, 8 ve 32 thread ile throughput; her iterasyon sonunda GC sonrası tutulan heap yazdırılır.
+ *
+ * Sınırsız liste iterasyonlar arasında reflection ile temizlenir, aksi halde
+ * ölçüm birkaç iterasyonda OutOfMemoryError ile biter.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 200, timeUnit = TimeUnit.MILLISECONDS)
+@Measurement(iterations = 5, time = 200, timeUnit = TimeUnit.MILLISECONDS)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+@State(Scope.Benchmark)
+public class DataCacheBenchmark {
+
+    @Param({"1024"})
+    int payloadSize;
+
+    @Param({"100000"})
+    int keySpace;
+
+    MemoryFootprint footprint;
+    String[] keys;
+
+    @Setup
+    public void setup() {
+        footprint = new MemoryFootprint();
+        keys = new String[keySpace];
+        for (int i = 0; i < keySpace; i++) {
+            keys[i] = "key_" + i;
+        }
+    }
+
+    @TearDown(Level.Iteration)
+    public void reportHeldMemory() throws Exception {
+        Runtime runtime = Runtime.getRuntime();
+        System.gc();
+        long held = runtime.totalMemory() - runtime.freeMemory();
+        System.out.println();
+        System.out.println("Held heap after GC: " + held / (1024 * 1024) + " MB");
+        clearUnboundedCache();
+    }
+
+    private static void clearUnboundedCache() throws Exception {
+        Field field = MemoryFootprint.class.getDeclaredField("dataCache");
+        field.setAccessible(true);
+        // Iteration teardown'ı tüm benchmark thread'leri durduktan sonra çalışır
+        ((List<?>) field.get(null)).clear();
+    }
+
+    private void unbounded() {
+        byte[] data = new byte[payloadSize];
+        // ArrayList thread-safe değil - eşzamanlı add için dış senkronizasyon gerekir
+        synchronized (MemoryFootprint.class) {
+            footprint.cacheData(data);
+        }
+    }
+
+    private void bounded() {
+        String key = keys[ThreadLocalRandom.current().nextInt(keySpace)];
+        footprint.cacheDataBounded(key, new byte[payloadSize]);
+    }
+
+    @Benchmark
+    @Threads(1)
+    public void unboundedList_1() {
+        unbounded();
+    }
+
+    @Benchmark
+    @Threads(8)
+    public void unboundedList_8() {
+        unbounded();
+    }
+
+    @Benchmark
+    @Threads(32)
+    public void unboundedList_32() {
+        unbounded();
+    }
+
+    @Benchmark
+    @Threads(1)
+    public void boundedCache_1() {
+        bounded();
+    }
+
+    @Benchmark
+    @Threads(8)
+    public void boundedCache_8() {
+        bounded();
+    }
+
+    @Benchmark
+    @Threads(32)
+    public void boundedCache_32() {
+        bounded();
+    }
+}
@@ -0,0 +1,47 @@
+package com.example.analysis.benchmarks;
+
+import com.example.analysis.MemoryFootprint;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * formatDates (her eleman için SimpleDateFormat) vs paylaşılan DateTimeFormatter
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class DateFormattingBenchmark {
+
+    @Param({"10000"})
+    int size;
+
+    MemoryFootprint footprint;
+    List<Date> dates;
+
+    @Setup
+    public void setup() {
+        footprint = new MemoryFootprint();
+        dates = new ArrayList<>(size);
+        long base = 1_700_000_000_000L;
+        for (int i = 0; i < size; i++) {
+            dates.add(new Date(base + i * 60_000L)); // Dakikada bir
+        }
+    }
+
+    @Benchmark
+    public List<String> formatDates() {
+        return footprint.formatDates(dates);
+    }
+
+    @Benchmark
+    public List<String> formatDatesEfficiently() {
+        return footprint.formatDatesEfficiently(dates);
+    }
+}
@@ -0,0 +1,80 @@
+package com.example.analysis.benchmarks;
+
+import com.example.analysis.MemoryFootprint;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * buildComplexStructure şeklindeki (döngülü) graf üzerinde kopyalama ve serileştirme
+ *
+ * deepClone / serializeObject:            ObjectOutputStream (+ ObjectInputStream)
+ * deepCopy:                               DeepCopier, byte stream yok
+ * serializeObjectCompact / roundTrip:     CompactSerializer, pool'dan buffer
+ *
+ * payloadBytes=1048576 buildComplexStructure'ın kendisi (seviye başına 1MB, depth 100 = 100MB);
+ * 64 byte'lık payload'da graf yapısının maliyeti öne çıkar.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xmx2g"})
+@State(Scope.Benchmark)
+public class DeepCopyBenchmark {
+
+    @Param({"10", "100"})
+    int depth;
+
+    @Param({"64", "1048576"})
+    int payloadBytes;
+
+    MemoryFootprint demo;
+    Map<String, Object> graph;
+    byte[] compactBytes;
+
+    @Setup
+    public void setup() throws Exception {
+        demo = new MemoryFootprint();
+        graph = new HashMap<>();
+        build(graph, depth);
+        compactBytes = demo.serializeObjectCompact(graph);
+    }
+
+    /** buildComplexStructure ile aynı şekil, payload boyutu parametreli */
+    private void build(Map<String, Object> root, int level) {
+        for (int i = level; i > 0; i--) {
+            Map<String, Object> nested = new HashMap<>();
+            nested.put("data", new byte[payloadBytes]);
+            nested.put("child", root);
+            root.put("level_" + i, nested);
+        }
+    }
+
+    @Benchmark
+    public Object deepClone() throws Exception {
+        return demo.deepClone(graph);
+    }
+
+    @Benchmark
+    public Object deepCopy() {
+        return demo.deepCopy(graph);
+    }
+
+    @Benchmark
+    public byte[] serializeObject() throws Exception {
+        return demo.serializeObject(graph);
+    }
+
+    @Benchmark
+    public byte[] serializeObjectCompact() {
+        return demo.serializeObjectCompact(graph);
+    }
+
+    @Benchmark
+    public Object deserializeObjectCompact() {
+        return demo.deserializeObjectCompact(compactBytes);
+    }
+}
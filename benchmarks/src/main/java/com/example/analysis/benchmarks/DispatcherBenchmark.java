@@ -0,0 +1,96 @@
+package com.example.analysis.benchmarks;
+
+import com.example.analysis.dispatch.TaskDispatcher;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 100k sleep ağırlıklı görev: item başına new Thread (processItems) vs TaskDispatcher modları
+ *
+ * VIRTUAL modu Java 21+ gerektirir; daha eski JVM'de setup hata verir ve sadece o kombinasyon atlanır.
+ * Her iterasyon sonunda görev başına gecikme histogramı yazdırılır.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 1)
+@Measurement(iterations = 3)
+@Fork(1)
+@State(Scope.Benchmark)
+public class DispatcherBenchmark {
+
+    public enum DispatchMode { THREAD_PER_ITEM, BOUNDED_POOL, VIRTUAL }
+
+    @Param({"THREAD_PER_ITEM", "BOUNDED_POOL", "VIRTUAL"})
+    DispatchMode mode;
+
+    @Param({"100000"})
+    int items;
+
+    @Param({"1"})
+    int taskSleepMillis;
+
+    @Param({"200"})
+    int poolThreads;
+
+    TaskDispatcher dispatcher;
+
+    @Setup(Level.Iteration)
+    public void setup() {
+        switch (mode) {
+            case BOUNDED_POOL:
+                dispatcher = TaskDispatcher.boundedPool(poolThreads, 10_000, TaskDispatcher.RejectionPolicy.BLOCK);
+                break;
+            case VIRTUAL:
+                if (!TaskDispatcher.isVirtualThreadSupported()) {
+                    throw new IllegalStateException("VIRTUAL mode requires Java 21+, running " + Runtime.version());
+                }
+                dispatcher = TaskDispatcher.virtualThreads(items, TaskDispatcher.RejectionPolicy.BLOCK);
+                break;
+            default:
+                dispatcher = null;
+        }
+    }
+
+    @TearDown(Level.Iteration)
+    public void tearDown() {
+        if (dispatcher != null) {
+            dispatcher.close();
+            System.out.println();
+            System.out.println(mode + " latency: " + dispatcher.latency());
+        }
+    }
+
+    private void task() {
+        try {
+            Thread.sleep(taskSleepMillis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Benchmark
+    public void dispatch() throws Exception {
+        if (dispatcher == null) {
+            // PerformanceMetrics.processItems gibi - ama ölçüm için join edilir
+            List<Thread> threads = new ArrayList<>(items);
+            for (int i = 0; i < items; i++) {
+                Thread thread = new Thread(this::task);
+                thread.start();
+                threads.add(thread);
+            }
+            for (Thread thread : threads) {
+                thread.join();
+            }
+            return;
+        }
+        CompletableFuture<?>[] futures = new CompletableFuture<?>[items];
+        for (int i = 0; i < items; i++) {
+            futures[i] = dispatcher.submit(this::task);
+        }
+        CompletableFuture.allOf(futures).join();
+    }
+}
@@ -0,0 +1,46 @@
+package com.example.analysis.benchmarks;
+
+import com.example.analysis.PerformanceMetrics;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * filterEmails (her iterasyonda regex compile) vs filterEmailsEfficiently (static Pattern)
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class EmailFilterBenchmark {
+
+    @Param({"1000"})
+    int size;
+
+    PerformanceMetrics metrics;
+    List<String> inputs;
+
+    @Setup
+    public void setup() {
+        metrics = new PerformanceMetrics();
+        inputs = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            // Yarısı geçerli, yarısı geçersiz
+            inputs.add(i % 2 == 0 ? "user" + i + "@example.com" : "user" + i + ".example.com");
+        }
+    }
+
+    @Benchmark
+    public List<String> filterEmails() {
+        return metrics.filterEmails(inputs);
+    }
+
+    @Benchmark
+    public List<String> filterEmailsEfficiently() {
+        return metrics.filterEmailsEfficiently(inputs);
+    }
+}
@@ -0,0 +1,64 @@
+package com.example.analysis.benchmarks;
+
+import com.example.analysis.PerformanceMetrics;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * fibonacci (O(2^n)) vs eski HashMap memoization vs fibonacciMemoized / fibonacciFast
+ * Eski HashMap versiyonu her op'ta soğuk cache'ten başlar; fibonacciMemoized'ın paylaşılan
+ * memo'su ilk çağrıda oluşur (setup'ta), ölçümde sıcak
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class FibonacciBenchmark {
+
+    @Param({"20", "30"})
+    int n;
+
+    PerformanceMetrics metrics;
+
+    @Setup
+    public void setup() {
+        metrics = new PerformanceMetrics();
+        // Lazy memo'yu (12MB) ölçüm dışında oluştur
+        metrics.fibonacciMemoized(n);
+    }
+
+    @Benchmark
+    public int fibonacci() {
+        return metrics.fibonacci(n);
+    }
+
+    @Benchmark
+    public int fibonacciMemoizedHashMap() {
+        return legacyMemoized(new HashMap<>(), n);
+    }
+
+    @Benchmark
+    public int fibonacciMemoized() {
+        return metrics.fibonacciMemoized(n);
+    }
+
+    @Benchmark
+    public long fibonacciFast() {
+        return metrics.fibonacciFast(n);
+    }
+
+    // fibonacciMemoized'ın önceki hali: thread-safe değil, sınırsız, özyinelemeli
+    static int legacyMemoized(Map<Integer, Integer> cache, int n) {
+        if (n <= 1) return n;
+        Integer cached = cache.get(n);
+        if (cached != null) return cached;
+        int result = legacyMemoized(cache, n - 1) + legacyMemoized(cache, n - 2);
+        cache.put(n, result);
+        return result;
+    }
+}
@@ -0,0 +1,61 @@
+package com.example.analysis.benchmarks;
+
+import com.example.analysis.memo.Fibonacci;
+import com.example.analysis.memo.LongRecurrenceMemoizer;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigInteger;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Büyük n için memoization motoru ve fast doubling (n = 10^3 .. 10^6)
+ *
+ * Eski HashMap + özyineleme versiyonu n = 10^4 civarından sonra StackOverflowError
+ * verdiği için burada yok; küçük n karşılaştırması FibonacciBenchmark'ta.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class FibonacciScalingBenchmark {
+
+    @Param({"1000", "100000", "1000000"})
+    int n;
+
+    LongRecurrenceMemoizer warmMemo;
+
+    @Setup
+    public void setup() {
+        warmMemo = new LongRecurrenceMemoizer(Fibonacci.RECURRENCE, n + 1);
+        warmMemo.get(n);
+    }
+
+    /** Boş tablo ile - n adım explicit stack hesabı */
+    @Benchmark
+    public long memoizerCold() {
+        return new LongRecurrenceMemoizer(Fibonacci.RECURRENCE, n + 1).get(n);
+    }
+
+    /** Dolu tablo - lock'suz okuma */
+    @Benchmark
+    public long memoizerWarm() {
+        return warmMemo.get(n);
+    }
+
+    @Benchmark
+    public long iterative() {
+        return Fibonacci.iterative(n);
+    }
+
+    @Benchmark
+    public long fastDoubling() {
+        return Fibonacci.fastDoubling(n);
+    }
+
+    @Benchmark
+    public BigInteger fastDoublingBig() {
+        return Fibonacci.fastDoublingBig(n);
+    }
+}
@@ -0,0 +1,104 @@
+package com.example.analysis.benchmarks;
+
+import com.example.analysis.PerformanceMetrics;
+import com.example.analysis.io.FileContentCache;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ioHeavyTask iş yükü: aynı dosyanın ilk satırını 100 kez okumak (op = bir task çalışması)
+ *
+ * LEGACY:       ioHeavyTask (reader kapatılmıyor - descriptor'lar GC'ye kadar açık kalır)
+ * UNCACHED:     aynı döngü, try-with-resources ile
+ * CACHED_STAT:  ioLightTask - FileContentCache, her okumada mtime/boyut kontrolü
+ * CACHED_WATCH: FileContentCache + WatchService, okuma yolunda sistem çağrısı yok
+ *
+ * /tmp/data.txt yoksa oluşturulur ve sonunda silinir. Hit oranı ve kazanılan byte yazdırılır.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class FileCacheBenchmark {
+
+    private static final Path DATA = Paths.get("/tmp/data.txt");
+
+    public enum Reader { LEGACY, UNCACHED, CACHED_STAT, CACHED_WATCH }
+
+    @Param({"LEGACY", "UNCACHED", "CACHED_STAT", "CACHED_WATCH"})
+    Reader reader;
+
+    @Param({"4096", "1048576"})
+    int fileBytes;
+
+    PerformanceMetrics demo;
+    FileContentCache watchCache;
+    boolean createdData;
+
+    @Setup
+    public void setup() throws IOException {
+        demo = new PerformanceMetrics();
+        if (!Files.exists(DATA)) {
+            byte[] content = new byte[fileBytes];
+            Arrays.fill(content, (byte) 'x');
+            for (int i = 79; i < content.length; i += 80) {
+                content[i] = '\n';
+            }
+            Files.write(DATA, content);
+            createdData = true;
+        }
+        if (reader == Reader.CACHED_WATCH) {
+            watchCache = new FileContentCache(64L * 1024 * 1024, FileContentCache.Invalidation.WATCH);
+        }
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        if (watchCache != null) {
+            System.out.println();
+            System.out.println("[" + reader + "] " + watchCache.stats());
+            watchCache.close();
+        } else if (reader == Reader.CACHED_STAT) {
+            System.out.println();
+            System.out.println("[" + reader + "] " + PerformanceMetrics.fileCacheStats());
+        }
+        if (createdData) {
+            Files.deleteIfExists(DATA);
+        }
+    }
+
+    @Benchmark
+    public void ioTask(Blackhole bh) throws IOException {
+        switch (reader) {
+            case LEGACY:
+                demo.ioHeavyTask.run();
+                break;
+            case UNCACHED:
+                for (int i = 0; i < 100; i++) {
+                    try (BufferedReader in = Files.newBufferedReader(DATA, StandardCharsets.UTF_8)) {
+                        bh.consume(in.readLine());
+                    }
+                }
+                break;
+            case CACHED_STAT:
+                demo.ioLightTask.run();
+                break;
+            case CACHED_WATCH:
+                for (int i = 0; i < 100; i++) {
+                    bh.consume(watchCache.firstLine(DATA));
+                }
+                break;
+        }
+    }
+}
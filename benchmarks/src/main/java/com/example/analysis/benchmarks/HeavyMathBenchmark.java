@@ -0,0 +1,66 @@
+package com.example.analysis.benchmarks;
+
+import com.example.analysis.MemoryFootprint;
+import com.example.analysis.math.PairwiseTrigEngine;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * heavyMathOperation vs PairwiseTrigEngine, tek thread (skaler ve Vector API)
+ *
+ * engineVector için kök proje -Pvector ile kurulmuş olmalı (mvn install -Pvector);
+ * aksi halde sadece engineVector IllegalStateException ile biter.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "--add-modules=jdk.incubator.vector")
+@State(Scope.Benchmark)
+public class HeavyMathBenchmark {
+
+    @Param({"2000"})
+    int n;
+
+    MemoryFootprint footprint;
+    double[] data;
+    ForkJoinPool singleThread;
+    PairwiseTrigEngine scalar;
+    PairwiseTrigEngine vector;
+
+    @Setup
+    public void setup() {
+        footprint = new MemoryFootprint();
+        data = HeavyMathScalingBenchmark.randomData(n);
+        singleThread = new ForkJoinPool(1);
+        scalar = new PairwiseTrigEngine(singleThread, PairwiseTrigEngine.DEFAULT_TILE, false);
+        vector = PairwiseTrigEngine.isVectorApiAvailable()
+            ? new PairwiseTrigEngine(singleThread, PairwiseTrigEngine.DEFAULT_TILE, true)
+            : null;
+    }
+
+    @TearDown
+    public void tearDown() {
+        singleThread.shutdown();
+    }
+
+    @Benchmark
+    public double heavyMathOperation() {
+        return footprint.heavyMathOperation(data);
+    }
+
+    @Benchmark
+    public double engineScalar() {
+        return scalar.compute(data);
+    }
+
+    @Benchmark
+    public double engineVector() {
+        if (vector == null) {
+            throw new IllegalStateException("Vector API kernel missing - install the root project with -Pvector");
+        }
+        return vector.compute(data);
+    }
+}
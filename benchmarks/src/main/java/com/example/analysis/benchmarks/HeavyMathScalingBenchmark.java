@@ -0,0 +1,62 @@
+package com.example.analysis.benchmarks;
+
+import com.example.analysis.math.PairwiseTrigEngine;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * PairwiseTrigEngine'in çekirdek sayısına göre ölçeklenmesi (100k eleman)
+ * Makinedeki çekirdek sayısından büyük parallelism değerleri atlanabilir:
+ *   -p parallelism=1,2,4
+ * vectorized=true için kök proje -Pvector ile kurulmuş olmalı; aksi halde -p vectorized=false
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 1, time = 1)
+@Measurement(iterations = 3, time = 1)
+@Fork(value = 1, jvmArgsAppend = "--add-modules=jdk.incubator.vector")
+@State(Scope.Benchmark)
+public class HeavyMathScalingBenchmark {
+
+    @Param({"100000"})
+    int n;
+
+    @Param({"1", "2", "4", "8", "16"})
+    int parallelism;
+
+    @Param({"false", "true"})
+    boolean vectorized;
+
+    double[] data;
+    ForkJoinPool pool;
+    PairwiseTrigEngine engine;
+
+    static double[] randomData(int n) {
+        Random random = new Random(42);
+        double[] data = new double[n];
+        for (int i = 0; i < n; i++) {
+            data[i] = random.nextDouble() * 1000 - 500;
+        }
+        return data;
+    }
+
+    @Setup
+    public void setup() {
+        data = randomData(n);
+        pool = new ForkJoinPool(parallelism);
+        engine = new PairwiseTrigEngine(pool, PairwiseTrigEngine.DEFAULT_TILE, vectorized);
+    }
+
+    @TearDown
+    public void tearDown() {
+        pool.shutdown();
+    }
+
+    @Benchmark
+    public double compute() {
+        return engine.compute(data);
+    }
+}
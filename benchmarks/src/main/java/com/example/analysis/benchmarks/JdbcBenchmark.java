@@ -0,0 +1,99 @@
+package com.example.analysis.benchmarks;
+
+import com.example.analysis.SecurityIssues;
+import com.example.analysis.jdbc.QueryExecutor;
+import org.openjdk.jmh.annotations.*;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * getUserData (string SQL, her çağrıda yeni Statement, kapatılmıyor) vs QueryExecutor
+ * Gömülü H2 in-memory veritabanı, 10k kullanıcı. Skor = sorgu/s (batch için 100 id/op).
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class JdbcBenchmark {
+
+    private static final int USERS = 10_000;
+    private static final int BATCH = 100;
+
+    Connection connection;
+    QueryExecutor executor;
+    SecurityIssues issues;
+    List<String> batchIds;
+    int next;
+
+    @Setup
+    public void setup() throws SQLException {
+        connection = DriverManager.getConnection("jdbc:h2:mem:users;DB_CLOSE_DELAY=-1");
+        try (Statement st = connection.createStatement()) {
+            st.execute("CREATE TABLE IF NOT EXISTS users (id VARCHAR(16) PRIMARY KEY, name VARCHAR(64))");
+            st.execute("DELETE FROM users");
+        }
+        try (PreparedStatement ps = connection.prepareStatement("INSERT INTO users VALUES (?, ?)")) {
+            for (int i = 0; i < USERS; i++) {
+                ps.setString(1, "u" + i);
+                ps.setString(2, "User " + i);
+                ps.addBatch();
+            }
+            ps.executeBatch();
+        }
+        executor = new QueryExecutor(connection, 64, 100);
+        issues = new SecurityIssues();
+        batchIds = new ArrayList<>(BATCH);
+        for (int i = 0; i < BATCH; i++) {
+            batchIds.add("u" + (i * 97 % USERS));
+        }
+    }
+
+    @TearDown
+    public void tearDown() throws SQLException {
+        System.out.println();
+        System.out.println("Statement cache: hits=" + executor.statementCache().hits() +
+            " misses=" + executor.statementCache().misses());
+        executor.close();
+        connection.close();
+    }
+
+    private String nextId() {
+        next = (next + 1) % USERS;
+        return "u" + next;
+    }
+
+    @Benchmark
+    public List<String> getUserData() throws SQLException {
+        return issues.getUserData(connection, nextId());
+    }
+
+    @Benchmark
+    public List<String> getUserDataSafely() throws SQLException {
+        return issues.getUserDataSafely(executor, nextId());
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public List<String> singleQueriesForBatch() throws SQLException {
+        List<String> names = new ArrayList<>(BATCH);
+        for (String id : batchIds) {
+            names.addAll(issues.getUserDataSafely(executor, id));
+        }
+        return names;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public List<String> getUsersDataBatched() throws SQLException {
+        return issues.getUsersData(executor, batchIds);
+    }
+}
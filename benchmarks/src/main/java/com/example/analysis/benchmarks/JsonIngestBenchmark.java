@@ -0,0 +1,156 @@
+package com.example.analysis.benchmarks;
+
+import com.example.analysis.json.JsonProjection;
+import com.example.analysis.json.JsonReader;
+import com.example.analysis.json.JsonToken;
+import com.example.analysis.json.NdjsonProcessor;
+import com.example.analysis.text.TextAssembler;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Üretilmiş NDJSON dosyasında type == "buy" olanların amount toplamı
+ *
+ * - perDocumentMap: Files.lines + doküman başına yeni reader ve tam Map/List ağacı
+ *   (processJsonDocuments'taki "her doküman için yeni parser" deseni)
+ * - streamingSequential: NdjsonProcessor, parçalar tek thread'de, ("type", "amount") projection
+ * - streamingParallel: aynı işlem, parçalar common pool'da
+ *
+ * Dosya trial başında sizeMb boyunda üretilir ve sonunda silinir. İlk iterasyon
+ * page cache'i ısıtır; sonuçlar disk değil parse maliyetidir.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 1)
+@Measurement(iterations = 3)
+@Fork(value = 1, jvmArgsAppend = {"-Xmx4g"})
+@State(Scope.Benchmark)
+public class JsonIngestBenchmark {
+
+    private static final String[] TYPES = {"click", "view", "buy"};
+    private static final byte[] BUY = "buy".getBytes(StandardCharsets.UTF_8);
+
+    @Param({"1024"})
+    int sizeMb;
+
+    Path file;
+    long lines;
+    JsonProjection projection;
+    NdjsonProcessor sequential;
+    NdjsonProcessor parallel;
+
+    @Setup(Level.Trial)
+    public void generate() throws IOException {
+        file = Files.createTempFile("ingest", ".ndjson");
+        long target = (long) sizeMb * 1024 * 1024;
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            TextAssembler out = new TextAssembler(channel, 1 << 20);
+            while (out.length() < target) {
+                long id = lines++;
+                out.append("{\"id\":").append(id)
+                    .append(",\"user\":\"user_").append(id % 100_000)
+                    .append("\",\"type\":\"").append(TYPES[(int) (id % 3)])
+                    .append("\",\"amount\":").append(id % 1000).append('.').append((int) (id % 100))
+                    .append(",\"tags\":[\"t").append(id % 7).append("\",\"t").append(id % 11)
+                    .append("\"],\"meta\":{\"ip\":\"10.0.").append(id % 256).append('.').append((int) (id % 200))
+                    .append("\",\"agent\":\"Mozilla/5.0 \\\"bench\\\"\",\"ok\":true}}\n");
+            }
+            out.flush();
+        }
+        projection = new JsonProjection("type", "amount");
+        sequential = new NdjsonProcessor(NdjsonProcessor.DEFAULT_CHUNK, 1 << 20, false);
+        parallel = new NdjsonProcessor(NdjsonProcessor.DEFAULT_CHUNK, 1 << 20, true);
+    }
+
+    @TearDown(Level.Trial)
+    public void delete() throws IOException {
+        System.out.printf("%n[JsonIngest] %d MB, %d lines, readers created seq=%d par=%d%n",
+            sizeMb, lines, sequential.readersCreated(), parallel.readersCreated());
+        Files.deleteIfExists(file);
+    }
+
+    @Benchmark
+    public double perDocumentMap() throws IOException {
+        double sum = 0;
+        try (Stream<String> stream = Files.lines(file)) {
+            for (String line : (Iterable<String>) stream::iterator) {
+                byte[] bytes = line.getBytes(StandardCharsets.UTF_8);
+                JsonReader reader = new JsonReader();
+                reader.reset(bytes, 0, bytes.length);
+                @SuppressWarnings("unchecked")
+                Map<String, Object> document = (Map<String, Object>) readValue(reader, reader.next());
+                if ("buy".equals(document.get("type"))) {
+                    sum += ((Number) document.get("amount")).doubleValue();
+                }
+            }
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public double streamingSequential() throws IOException {
+        return sumBuys(sequential);
+    }
+
+    @Benchmark
+    public double streamingParallel() throws IOException {
+        return sumBuys(parallel);
+    }
+
+    private double sumBuys(NdjsonProcessor processor) throws IOException {
+        return processor.aggregate(file, projection, () -> new double[1],
+            (acc, row) -> {
+                if (row.textEquals(0, BUY)) {
+                    acc[0] += row.getDouble(1);
+                }
+            },
+            (a, b) -> {
+                a[0] += b[0];
+                return a;
+            })[0];
+    }
+
+    // Jackson/Gson'ın Map.class çıktısına benzer tam ağaç
+    private static Object readValue(JsonReader reader, JsonToken token) {
+        switch (token) {
+            case START_OBJECT: {
+                Map<String, Object> map = new HashMap<>();
+                while (reader.next() == JsonToken.FIELD_NAME) {
+                    String name = reader.stringValue();
+                    map.put(name, readValue(reader, reader.next()));
+                }
+                return map;
+            }
+            case START_ARRAY: {
+                List<Object> list = new ArrayList<>();
+                JsonToken next;
+                while ((next = reader.next()) != JsonToken.END_ARRAY) {
+                    list.add(readValue(reader, next));
+                }
+                return list;
+            }
+            case STRING:
+                return reader.stringValue();
+            case NUMBER:
+                return reader.doubleValue();
+            case TRUE:
+                return Boolean.TRUE;
+            case FALSE:
+                return Boolean.FALSE;
+            default:
+                return null;
+        }
+    }
+}
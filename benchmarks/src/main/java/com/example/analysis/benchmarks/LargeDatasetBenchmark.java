@@ -0,0 +1,39 @@
+package com.example.analysis.benchmarks;
+
+import com.example.analysis.MemoryFootprint;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * loadLargeDataset (default kapasite, sürekli rehash) vs önceden boyutlandırılmış HashMap
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class LargeDatasetBenchmark {
+
+    @Param({"10000", "100000"})
+    int expectedSize;
+
+    MemoryFootprint footprint;
+
+    @Setup
+    public void setup() {
+        footprint = new MemoryFootprint();
+    }
+
+    @Benchmark
+    public Map<String, String> loadLargeDataset() {
+        return footprint.loadLargeDataset(expectedSize);
+    }
+
+    @Benchmark
+    public Map<String, String> loadLargeDatasetEfficiently() {
+        return footprint.loadLargeDatasetEfficiently(expectedSize);
+    }
+}
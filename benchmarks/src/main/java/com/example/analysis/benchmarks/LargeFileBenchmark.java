@@ -0,0 +1,110 @@
+package com.example.analysis.benchmarks;
+
+import com.example.analysis.MemoryFootprint;
+import com.example.analysis.io.LargeFileReader;
+import com.example.analysis.io.LineIterator;
+import com.example.analysis.io.ReadMode;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.BufferedWriter;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Büyük dosyayı baştan sona okuma: süre ve peak heap
+ *
+ * readLargeFile tüm içeriği tek String'e biriktirir; 2GB dosyada (-p sizeMb=2048) OOM ile düşer.
+ * LINES_DIRECT / LINES_MAPPED satırları akış halinde işler, VIEW dosyayı kopyasız map eder.
+ * Her iterasyon sonunda heap havuzlarının peak kullanımı yazdırılır.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 1)
+@Measurement(iterations = 3)
+@Fork(value = 1, jvmArgsAppend = {"-Xmx1g"})
+@State(Scope.Benchmark)
+public class LargeFileBenchmark {
+
+    public enum Reader { LEGACY, LINES_DIRECT, LINES_MAPPED, VIEW }
+
+    @Param({"LEGACY", "LINES_DIRECT", "LINES_MAPPED", "VIEW"})
+    Reader reader;
+
+    @Param({"100"})
+    int sizeMb;
+
+    MemoryFootprint demo;
+    Path file;
+
+    @Setup
+    public void setup() throws Exception {
+        demo = new MemoryFootprint();
+        file = Files.createTempFile("large-file-bench", ".txt");
+        long target = (long) sizeMb * 1024 * 1024;
+        long written = 0;
+        try (BufferedWriter out = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            for (long i = 0; written < target; i++) {
+                String line = "user" + i + ",user" + i + "@example.com,2024-01-01,active";
+                out.write(line);
+                out.write('\n');
+                written += line.length() + 1;
+            }
+        }
+    }
+
+    @TearDown
+    public void tearDown() throws Exception {
+        Files.deleteIfExists(file);
+    }
+
+    @Setup(Level.Iteration)
+    public void resetPeaks() {
+        System.gc();
+        for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+            pool.resetPeakUsage();
+        }
+    }
+
+    @TearDown(Level.Iteration)
+    public void printPeakHeap() {
+        long peak = 0;
+        for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+            if (pool.getType() == MemoryType.HEAP) {
+                peak += pool.getPeakUsage().getUsed();
+            }
+        }
+        System.out.printf("%n[%s, %dMB] peak heap: %d MB%n", reader, sizeMb, peak / (1024 * 1024));
+    }
+
+    @Benchmark
+    public long read() throws Exception {
+        switch (reader) {
+            case LEGACY:
+                return demo.readLargeFile(file.toString()).length();
+            case LINES_DIRECT:
+                return demo.processLargeFileLines(file.toString(), line -> { });
+            case LINES_MAPPED:
+                long count = 0;
+                try (LineIterator lines = LargeFileReader.lineIterator(file, StandardCharsets.UTF_8, ReadMode.MAPPED)) {
+                    while (lines.hasNext()) {
+                        count += lines.next().length();
+                    }
+                }
+                return count;
+            default:
+                CharSequence view = demo.readLargeFileView(file.toString());
+                long newlines = 0;
+                for (int i = 0, n = view.length(); i < n; i++) {
+                    if (view.charAt(i) == '\n') {
+                        newlines++;
+                    }
+                }
+                return newlines;
+        }
+    }
+}
@@ -0,0 +1,179 @@
+package com.example.analysis.benchmarks;
+
+import com.example.analysis.lock.PublishedState;
+import com.example.analysis.lock.StripedLock;
+import com.example.analysis.lock.StripedStampedLock;
+import com.example.analysis.metrics.LatencyHistogram;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.StampedLock;
+
+/**
+ * 1-64 thread altında lock çekişmesi: her işlem work kadar Math.pow + paylaşılan durum güncellemesi
+ *
+ * - SYNCHRONIZED_METHOD: heavySynchronizedMethod gibi, ağır iş tek monitor altında (sleep hariç)
+ * - STRING_LITERAL: synchronizedMethod gibi; her thread kendi nesnesini kullanır
+ *   ama hepsi aynı intern'lenmiş "mylock" literal'ine kilitlenir
+ * - PRIVATE_LOCK: aynı kod, nesneye özel lock - thread'ler birbirini beklemez
+ * - STRIPED_REENTRANT / STRIPED_STAMPED: resources kaynaktan rastgele biri, şerit lock'u altında
+ * - PUBLISH_OUTSIDE: ağır iş lock dışında, sonuç PublishedState'e CAS ile yayınlanır
+ *
+ * Bekleme süresi = lock isteğinden kritik bölgeye girişe (PUBLISH_OUTSIDE'da yayın süresi).
+ * Her iterasyon sonunda throughput (işlem/sn) ve bekleme p50/p99 yazdırılır.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 1)
+@Measurement(iterations = 3)
+@Fork(1)
+@State(Scope.Benchmark)
+public class LockContentionBenchmark {
+
+    public enum LockMode {
+        SYNCHRONIZED_METHOD, STRING_LITERAL, PRIVATE_LOCK, STRIPED_REENTRANT, STRIPED_STAMPED, PUBLISH_OUTSIDE
+    }
+
+    @Param({"SYNCHRONIZED_METHOD", "STRING_LITERAL", "PRIVATE_LOCK", "STRIPED_REENTRANT", "STRIPED_STAMPED",
+        "PUBLISH_OUTSIDE"})
+    LockMode mode;
+
+    @Param({"1", "4", "16", "64"})
+    int threads;
+
+    @Param({"5000"})
+    int opsPerThread;
+
+    @Param({"1000"})
+    int work;
+
+    @Param({"256"})
+    int resources;
+
+    StripedLock striped;
+    StripedStampedLock stamped;
+    PublishedState<Double> published;
+    double[] resourceTotals;
+    LatencyHistogram waits;
+    long elapsedNanos;
+    volatile double checksum;
+
+    @Setup(Level.Iteration)
+    public void setup() {
+        striped = new StripedLock(64);
+        stamped = new StripedStampedLock(64);
+        published = new PublishedState<>(0.0);
+        resourceTotals = new double[resources];
+        waits = new LatencyHistogram();
+    }
+
+    @TearDown(Level.Iteration)
+    public void tearDown() {
+        double seconds = elapsedNanos / 1e9;
+        long ops = (long) threads * opsPerThread;
+        System.out.printf("%n[%s, %d threads] %.0f ops/s, wait p50=%dns p99=%dns max=%dns%n",
+            mode, threads, ops / seconds, waits.percentileNanos(50), waits.percentileNanos(99), waits.maxNanos());
+    }
+
+    @Benchmark
+    public void contend() throws InterruptedException {
+        CountDownLatch start = new CountDownLatch(1);
+        Thread[] workers = new Thread[threads];
+        for (int t = 0; t < threads; t++) {
+            Worker worker = new Worker();
+            workers[t] = new Thread(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    return;
+                }
+                for (int i = 0; i < opsPerThread; i++) {
+                    worker.operation();
+                }
+                checksum += worker.total;
+            });
+            workers[t].start();
+        }
+        long begin = System.nanoTime();
+        start.countDown();
+        for (Thread worker : workers) {
+            worker.join();
+        }
+        elapsedNanos = System.nanoTime() - begin;
+    }
+
+    private double compute() {
+        double sum = 0;
+        for (int i = 0; i < work; i++) {
+            sum += Math.pow(i, 2);
+        }
+        return sum;
+    }
+
+    // Monitor'ü benchmark nesnesi: tüm thread'ler aynı instance'ı çağırır
+    private synchronized void synchronizedMethod(int resource, long requested) {
+        waits.record(System.nanoTime() - requested);
+        resourceTotals[resource] += compute();
+    }
+
+    // Thread başına bir nesne - eski ve yeni lock seçimi aynı kodla karşılaştırılır
+    private final class Worker {
+        private final String literalLock = "mylock";
+        private final Object privateLock = new Object();
+        // Nesneye özel durum; PRIVATE_LOCK'ta paylaşılan veri yok
+        double total;
+
+        void operation() {
+            int resource = ThreadLocalRandom.current().nextInt(resources);
+            long requested = System.nanoTime();
+            switch (mode) {
+                case SYNCHRONIZED_METHOD:
+                    synchronizedMethod(resource, requested);
+                    break;
+                case STRING_LITERAL:
+                    synchronized (literalLock) {
+                        waits.record(System.nanoTime() - requested);
+                        total += compute();
+                    }
+                    break;
+                case PRIVATE_LOCK:
+                    synchronized (privateLock) {
+                        waits.record(System.nanoTime() - requested);
+                        total += compute();
+                    }
+                    break;
+                case STRIPED_REENTRANT: {
+                    ReentrantLock lock = striped.lockFor(resource);
+                    lock.lock();
+                    try {
+                        waits.record(System.nanoTime() - requested);
+                        resourceTotals[resource] += compute();
+                    } finally {
+                        lock.unlock();
+                    }
+                    break;
+                }
+                case STRIPED_STAMPED: {
+                    StampedLock lock = stamped.lockFor(resource);
+                    long stamp = lock.writeLock();
+                    try {
+                        waits.record(System.nanoTime() - requested);
+                        resourceTotals[resource] += compute();
+                    } finally {
+                        lock.unlockWrite(stamp);
+                    }
+                    break;
+                }
+                default: {
+                    double result = compute();
+                    long publishing = System.nanoTime();
+                    published.computeAndPublish(() -> result, Double::sum);
+                    waits.record(System.nanoTime() - publishing);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,138 @@
+package com.example.analysis.benchmarks;
+
+import com.example.analysis.MemoryFootprint;
+import com.example.analysis.SecurityIssues;
+import com.example.analysis.parse.NumberParser;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Kirli CSV sütunu parse: NumberFormatException ile kontrol akışı vs NumberParser
+ *
+ * - parseIntSafe / parseInteger: Integer.parseInt + catch (MemoryFootprint / SecurityIssues)
+ * - parseIntChecked / parseIntegerSafely: NumberParser, tek tek
+ * - intColumn / longColumn: NumberParser.parseInts / parseLongs ile tüm sütun
+ * - longParseWithCatch: longColumn için Long.parseLong + catch karşılığı
+ *
+ * invalidPercent kadar alan geçersizdir (harf içeren, boş, "n/a", int'e sığmayan).
+ * Skor alan başınadır.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class NumberParseBenchmark {
+
+    private static final int FIELDS = 10_000;
+    private static final String[] INVALID = {"12a45", "", "n/a", "99999999999", "-", "3.5"};
+
+    @Param({"0", "50", "100"})
+    int invalidPercent;
+
+    List<String> column;
+    int[] ints;
+    long[] longs;
+    BitSet failed;
+    MemoryFootprint footprint;
+    SecurityIssues issues;
+
+    @Setup
+    public void setup() {
+        Random random = new Random(42);
+        column = new ArrayList<>(FIELDS);
+        for (int i = 0; i < FIELDS; i++) {
+            if (random.nextInt(100) < invalidPercent) {
+                column.add(INVALID[random.nextInt(INVALID.length)]);
+            } else {
+                column.add(Integer.toString(random.nextInt(2_000_000) - 1_000_000));
+            }
+        }
+        ints = new int[FIELDS];
+        longs = new long[FIELDS];
+        failed = new BitSet(FIELDS);
+        footprint = new MemoryFootprint();
+        issues = new SecurityIssues();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(FIELDS)
+    public long parseIntSafe() {
+        long sum = 0;
+        for (String field : column) {
+            Integer value = footprint.parseIntSafe(field);
+            if (value != null) {
+                sum += value;
+            }
+        }
+        return sum;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(FIELDS)
+    public long parseInteger() {
+        long sum = 0;
+        for (String field : column) {
+            sum += issues.parseInteger(field);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(FIELDS)
+    public long parseIntChecked() {
+        long sum = 0;
+        for (String field : column) {
+            long result = footprint.parseIntChecked(field);
+            if (NumberParser.isOk(result)) {
+                sum += NumberParser.intValue(result);
+            }
+        }
+        return sum;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(FIELDS)
+    public long parseIntegerSafely() {
+        long sum = 0;
+        for (String field : column) {
+            sum += issues.parseIntegerSafely(field);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(FIELDS)
+    public int intColumn() {
+        failed.clear();
+        return issues.parseIntegerColumn(column, ints, failed);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(FIELDS)
+    public int longColumn() {
+        failed.clear();
+        return footprint.parseLongColumn(column, longs, 0L, failed);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(FIELDS)
+    public int longParseWithCatch() {
+        int failures = 0;
+        for (int i = 0; i < FIELDS; i++) {
+            try {
+                longs[i] = Long.parseLong(column.get(i));
+            } catch (NumberFormatException e) {
+                longs[i] = 0L;
+                failures++;
+            }
+        }
+        return failures;
+    }
+}
@@ -0,0 +1,118 @@
+package com.example.analysis.benchmarks;
+
+import com.example.analysis.offheap.OffHeapHandle;
+import com.example.analysis.offheap.OffHeapStore;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 1GB cache'lenmiş veri varken allocation churn'ün GC maliyeti
+ *
+ * HEAP:           1MB'lık byte[] blokları List içinde (cacheData gibi)
+ * OFF_HEAP:       aynı veri OffHeapStore direct slab'larında, heap'te sadece handle
+ * OFF_HEAP_SPILL: 256MB direct, kalanı memory-mapped dosyada
+ *
+ * gc.time (GC profiler) ve iterasyon sonunda yazdırılan heap/GC pause değerleri karşılaştırılır.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xmx2g", "-XX:MaxDirectMemorySize=2g"})
+@State(Scope.Benchmark)
+public class OffHeapGcBenchmark {
+
+    private static final int BLOCK = 1024 * 1024;
+
+    public enum Storage { HEAP, OFF_HEAP, OFF_HEAP_SPILL }
+
+    @Param({"HEAP", "OFF_HEAP", "OFF_HEAP_SPILL"})
+    Storage storage;
+
+    @Param({"1024"})
+    int cachedMb;
+
+    List<byte[]> heapCache;
+    List<OffHeapHandle> handles;
+    OffHeapStore store;
+    Path spillFile;
+    long gcMillisAtStart;
+
+    @Setup
+    public void setup() throws Exception {
+        byte[] block = new byte[BLOCK];
+        switch (storage) {
+            case HEAP:
+                heapCache = new ArrayList<>(cachedMb);
+                for (int i = 0; i < cachedMb; i++) {
+                    heapCache.add(new byte[BLOCK]);
+                }
+                break;
+            case OFF_HEAP:
+                store = new OffHeapStore((long) cachedMb * BLOCK);
+                fillStore(block);
+                break;
+            case OFF_HEAP_SPILL:
+                spillFile = Files.createTempFile("offheap-bench", ".spill");
+                store = new OffHeapStore(256L * BLOCK, OffHeapStore.DEFAULT_SLAB_SIZE, spillFile);
+                fillStore(block);
+                break;
+        }
+        System.gc();
+        gcMillisAtStart = totalGcMillis();
+    }
+
+    private void fillStore(byte[] block) {
+        handles = new ArrayList<>(cachedMb);
+        for (int i = 0; i < cachedMb; i++) {
+            handles.add(store.put(block));
+        }
+    }
+
+    @TearDown(Level.Iteration)
+    public void report() {
+        Runtime runtime = Runtime.getRuntime();
+        long gcMillis = totalGcMillis() - gcMillisAtStart;
+        System.gc();
+        long heapUsed = runtime.totalMemory() - runtime.freeMemory();
+        System.out.println();
+        System.out.println("Heap used after GC: " + heapUsed / (1024 * 1024) + " MB" +
+            ", GC pause total: " + gcMillis + " ms" +
+            (store != null ? ", off-heap stored: " + store.bytesStored() / (1024 * 1024) + " MB" : ""));
+        gcMillisAtStart = totalGcMillis();
+    }
+
+    @TearDown
+    public void tearDown() throws Exception {
+        if (store != null) {
+            store.close();
+        }
+        if (spillFile != null) {
+            Files.deleteIfExists(spillFile);
+        }
+    }
+
+    private static long totalGcMillis() {
+        long total = 0;
+        for (GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans()) {
+            total += Math.max(0, gc.getCollectionTime());
+        }
+        return total;
+    }
+
+    /** Kısa ömürlü nesne üreten tipik istek işleme yükü */
+    @Benchmark
+    public void allocationChurn(Blackhole bh) {
+        for (int i = 0; i < 64; i++) {
+            bh.consume(new byte[16 * 1024]);
+        }
+    }
+}
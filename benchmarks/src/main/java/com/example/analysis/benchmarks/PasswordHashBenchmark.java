@@ -0,0 +1,71 @@
+package com.example.analysis.benchmarks;
+
+import com.example.analysis.MemoryFootprint;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Tekil ve batch parola hash'leme (SHA-256, 10k tur) - throughput ve allocation
+ *
+ * hashPassword:           her çağrıda getInstance + tur başına yeni byte[]
+ * hashPasswordEfficiently: pool'lanmış digest, tek buffer
+ * hashPasswordPbkdf2:     PBKDF2WithHmacSHA256, 10k tur
+ * batch*:                 batchSize parola; eski yöntem sırayla, yenisi dispatcher üzerinde paralel
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PasswordHashBenchmark {
+
+    @Param({"64"})
+    int batchSize;
+
+    MemoryFootprint footprint;
+    List<String> passwords;
+    byte[] salt;
+
+    @Setup
+    public void setup() {
+        footprint = new MemoryFootprint();
+        passwords = new ArrayList<>(batchSize);
+        for (int i = 0; i < batchSize; i++) {
+            passwords.add("password-" + i);
+        }
+        salt = "0123456789abcdef".getBytes();
+    }
+
+    @Benchmark
+    public String hashPassword() throws Exception {
+        return footprint.hashPassword("password-0");
+    }
+
+    @Benchmark
+    public String hashPasswordEfficiently() {
+        return footprint.hashPasswordEfficiently("password-0");
+    }
+
+    @Benchmark
+    public String hashPasswordPbkdf2() {
+        return footprint.hashPasswordPbkdf2("password-0", salt);
+    }
+
+    @Benchmark
+    public List<String> batchHashPassword() throws Exception {
+        List<String> result = new ArrayList<>(passwords.size());
+        for (String password : passwords) {
+            result.add(footprint.hashPassword(password));
+        }
+        return result;
+    }
+
+    @Benchmark
+    public List<String> batchHashPasswords() {
+        return footprint.hashPasswords(passwords);
+    }
+}
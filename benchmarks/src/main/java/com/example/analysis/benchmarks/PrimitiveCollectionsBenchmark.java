@@ -0,0 +1,112 @@
+package com.example.analysis.benchmarks;
+
+import com.example.analysis.MemoryFootprint;
+import com.example.analysis.PerformanceMetrics;
+import com.example.analysis.primitive.IntArrayList;
+import com.example.analysis.primitive.IntIntHashMap;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Boxing'li koleksiyonlar vs com.example.analysis.primitive
+ * gc.alloc.rate.norm (byte/op) farkı asıl ölçüm; 100M eleman için -Xmx8g gerekir.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx8g")
+@State(Scope.Benchmark)
+public class PrimitiveCollectionsBenchmark {
+
+    @Param({"1000000", "100000000"})
+    int size;
+
+    MemoryFootprint footprint;
+    PerformanceMetrics metrics;
+    List<Integer> boxedNumbers;
+    IntArrayList numbers;
+
+    @Setup
+    public void setup() {
+        footprint = new MemoryFootprint();
+        metrics = new PerformanceMetrics();
+        Random random = new Random(42);
+        numbers = new IntArrayList(size);
+        boxedNumbers = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            int value = random.nextInt(size);
+            numbers.add(value);
+            boxedNumbers.add(value);
+        }
+    }
+
+    @Benchmark
+    public void calculateStats() {
+        footprint.calculateStats(size);
+    }
+
+    @Benchmark
+    public IntArrayList calculateStatsPrimitive() {
+        return footprint.calculateStatsPrimitive(size);
+    }
+
+    @Benchmark
+    public long sumBoxed() {
+        Long sum = 0L;
+        for (Integer n : boxedNumbers) {
+            sum += n;
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long sumPrimitive() {
+        return numbers.sum();
+    }
+
+    @Benchmark
+    public List<Integer> processNumbers() {
+        return footprint.processNumbers(boxedNumbers);
+    }
+
+    @Benchmark
+    public IntArrayList processNumbersPrimitive() {
+        return footprint.processNumbersPrimitive(numbers);
+    }
+
+    @Benchmark
+    public Map<Integer, Integer> histogramBoxed() {
+        Map<Integer, Integer> counts = new HashMap<>();
+        for (Integer n : boxedNumbers) {
+            counts.merge(n & 0xFFFF, 1, Integer::sum);
+        }
+        return counts;
+    }
+
+    @Benchmark
+    public IntIntHashMap histogramPrimitive() {
+        IntIntHashMap counts = new IntIntHashMap();
+        for (int i = 0; i < numbers.size(); i++) {
+            counts.addTo(numbers.get(i) & 0xFFFF, 1);
+        }
+        return counts;
+    }
+
+    /** PerformanceMetrics.sumWithBoxing sabit 1M eleman kullanır; size'dan bağımsız */
+    @Benchmark
+    public long sumWithBoxing() {
+        return metrics.sumWithBoxing();
+    }
+
+    @Benchmark
+    public long sumWithoutBoxing() {
+        return metrics.sumWithoutBoxing();
+    }
+}
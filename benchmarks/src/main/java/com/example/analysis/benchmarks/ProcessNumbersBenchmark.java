@@ -0,0 +1,48 @@
+package com.example.analysis.benchmarks;
+
+import com.example.analysis.MemoryFootprint;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * processNumbers (sorted().limit(10)) vs k boyutlu heap
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ProcessNumbersBenchmark {
+
+    @Param({"100000"})
+    int size;
+
+    MemoryFootprint footprint;
+    List<Integer> numbers;
+
+    @Setup
+    public void setup() {
+        footprint = new MemoryFootprint();
+        numbers = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            numbers.add(i);
+        }
+        Collections.shuffle(numbers, new Random(42));
+    }
+
+    @Benchmark
+    public List<Integer> processNumbers() {
+        return footprint.processNumbers(numbers);
+    }
+
+    @Benchmark
+    public List<Integer> processNumbersEfficiently() {
+        return footprint.processNumbersEfficiently(numbers);
+    }
+}
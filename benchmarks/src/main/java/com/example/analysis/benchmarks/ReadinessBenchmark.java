@@ -0,0 +1,112 @@
+package com.example.analysis.benchmarks;
+
+import com.example.analysis.metrics.LatencyHistogram;
+import com.example.analysis.signal.ReadinessSignal;
+import org.openjdk.jmh.annotations.*;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * waitForCondition busy-wait vs ReadinessSignal: uyanma gecikmesi ve boşta yakılan CPU
+ *
+ * - BUSY_LOOP: waitForCondition gibi döngü (çıkabilsin diye volatile bayrak okunur)
+ * - SIGNAL: ReadinessSignal.await() - kısa spin, ardından park
+ * - ASYNC: ReadinessSignal.whenReady() - bekleyen thread yok
+ *
+ * Her çağrıda waiters bekleyen kurulur, idleMillis boşta beklenir, tek sinyal verilir.
+ * Uyanma gecikmesi = sinyalden bekleyenin devam etmesine; CPU = bekleyen thread'lerin
+ * boşta geçen sürede harcadığı CPU zamanı (ASYNC'te bekleyen thread yok, 0).
+ * Her iterasyon sonunda yazdırılır.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ReadinessBenchmark {
+
+    public enum WaitMode { BUSY_LOOP, SIGNAL, ASYNC }
+
+    @Param({"BUSY_LOOP", "SIGNAL", "ASYNC"})
+    WaitMode mode;
+
+    @Param({"1", "16"})
+    int waiters;
+
+    @Param({"100"})
+    int idleMillis;
+
+    ThreadMXBean threadBean;
+    LatencyHistogram wakeups;
+    AtomicLong idleCpuNanos;
+
+    volatile boolean ready;
+    volatile long signalledAt;
+
+    @Setup(Level.Trial)
+    public void setupTrial() {
+        threadBean = ManagementFactory.getThreadMXBean();
+    }
+
+    @Setup(Level.Iteration)
+    public void setup() {
+        wakeups = new LatencyHistogram();
+        idleCpuNanos = new AtomicLong();
+    }
+
+    @TearDown(Level.Iteration)
+    public void tearDown() {
+        System.out.printf("%n[%s, %d waiters] wake-up p50=%dus p99=%dus, idle CPU %.1f ms/waiter (%d ms idle)%n",
+            mode, waiters, wakeups.percentileNanos(50) / 1000, wakeups.percentileNanos(99) / 1000,
+            idleCpuNanos.get() / 1e6 / waiters, idleMillis);
+    }
+
+    @Benchmark
+    public void waitAndSignal() throws InterruptedException {
+        ready = false;
+        ReadinessSignal signal = new ReadinessSignal();
+        CountDownLatch started = new CountDownLatch(waiters);
+        CountDownLatch done = new CountDownLatch(waiters);
+        for (int i = 0; i < waiters; i++) {
+            if (mode == WaitMode.ASYNC) {
+                signal.whenReady().thenRun(() -> {
+                    wakeups.record(System.nanoTime() - signalledAt);
+                    done.countDown();
+                });
+                started.countDown();
+                continue;
+            }
+            Thread waiter = new Thread(() -> {
+                long cpuStart = threadBean.getCurrentThreadCpuTime();
+                started.countDown();
+                if (mode == WaitMode.BUSY_LOOP) {
+                    while (!ready) {
+                        // Busy waiting - CPU %100
+                    }
+                } else {
+                    try {
+                        signal.await();
+                    } catch (InterruptedException e) {
+                        return;
+                    }
+                }
+                long woke = System.nanoTime();
+                wakeups.record(woke - signalledAt);
+                idleCpuNanos.addAndGet(threadBean.getCurrentThreadCpuTime() - cpuStart);
+                done.countDown();
+            });
+            waiter.start();
+        }
+        started.await();
+        Thread.sleep(idleMillis);
+        signalledAt = System.nanoTime();
+        ready = true;
+        signal.signal();
+        done.await();
+    }
+}
@@ -0,0 +1,93 @@
+package com.example.analysis.benchmarks;
+
+import com.example.analysis.PerformanceMetrics;
+import com.example.analysis.invoke.InvocationCache;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodType;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Liste üzerinde toString çağrısı: reflection vs önbellekli çağrı
+ *
+ * MONOMORPHIC: tüm elemanlar aynı sınıf
+ * MEGAMORPHIC: 8 farklı sınıf karışık sırada - call site'ta inline cache tutmaz
+ *
+ * direct: obj.toString() (alt sınır), reflectionInLoop: her eleman için getMethod + invoke,
+ * reflectionInLoopCached: InvocationCache.noArg (LambdaMetafactory), handle: InvocationCache.handle
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ReflectionBenchmark {
+
+    public enum Shape { MONOMORPHIC, MEGAMORPHIC }
+
+    @Param({"MONOMORPHIC", "MEGAMORPHIC"})
+    Shape shape;
+
+    @Param({"1000"})
+    int size;
+
+    PerformanceMetrics demo;
+    InvocationCache invocations;
+    List<Object> objects;
+
+    @Setup
+    public void setup() {
+        demo = new PerformanceMetrics();
+        invocations = new InvocationCache();
+        objects = new ArrayList<>(size);
+        Random random = new Random(42);
+        for (int i = 0; i < size; i++) {
+            int kind = shape == Shape.MONOMORPHIC ? 0 : random.nextInt(8);
+            switch (kind) {
+                case 0: objects.add(i); break;
+                case 1: objects.add((long) i); break;
+                case 2: objects.add("s" + i); break;
+                case 3: objects.add(new ArrayList<>(List.of(i))); break;
+                case 4: objects.add(new HashMap<>()); break;
+                case 5: objects.add(new StringBuilder("b").append(i)); break;
+                case 6: objects.add(BigDecimal.valueOf(i, 2)); break;
+                default: objects.add(new UUID(i, i)); break;
+            }
+        }
+    }
+
+    @Benchmark
+    public void direct(Blackhole bh) {
+        for (Object obj : objects) {
+            bh.consume(obj.toString());
+        }
+    }
+
+    @Benchmark
+    public void reflectionInLoop() throws Exception {
+        demo.reflectionInLoop(objects);
+    }
+
+    @Benchmark
+    public void reflectionInLoopCached() {
+        demo.reflectionInLoopCached(objects);
+    }
+
+    @Benchmark
+    public void handle(Blackhole bh) throws Throwable {
+        MethodType signature = MethodType.methodType(String.class);
+        for (Object obj : objects) {
+            MethodHandle toString = invocations.handle(obj.getClass(), "toString", signature);
+            bh.consume((String) toString.invokeExact(obj));
+        }
+    }
+}
@@ -0,0 +1,129 @@
+package com.example.analysis.benchmarks;
+
+import com.example.analysis.MemoryFootprint;
+import com.example.analysis.PerformanceMetrics;
+import com.example.analysis.regex.CompiledRegex;
+import com.example.analysis.regex.MatchBudgetExceededException;
+import com.example.analysis.regex.PatternRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Regex çağrı noktaları: e-posta şeklinde ve düşmanca girdiler (op = 1000 girdi)
+ *
+ * EMAIL:       geçerli/geçersiz karışık e-posta adresleri
+ * ADVERSARIAL: "aaaa...c" - backtracking'i tetikleyen girdiler
+ *
+ * JDK 9+ (a+)+b gibi greedy grup döngülerini memoize ettiği için validateComplexPattern
+ * Java 17'de patlamaz; (.*a){12} gibi sınırlı tekrarlar ise hâlâ polinom derecesi yüksek
+ * backtracking yapar. nestedRepeat* bu durumu karşılaştırır (budget: 100k adımda kesilir).
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class RegexBenchmark {
+
+    private static final String NESTED_REPEAT = "(.*a){12}";
+
+    public enum Input { EMAIL, ADVERSARIAL }
+
+    @Param({"EMAIL", "ADVERSARIAL"})
+    Input input;
+
+    @Param({"20"})
+    int adversarialLength;
+
+    MemoryFootprint memory;
+    PerformanceMetrics metrics;
+    List<String> inputs;
+    CompiledRegex nestedLinear;
+    CompiledRegex nestedBudgeted;
+
+    @Setup
+    public void setup() {
+        memory = new MemoryFootprint();
+        metrics = new PerformanceMetrics();
+        inputs = new ArrayList<>(1000);
+        Random random = new Random(42);
+        for (int i = 0; i < 1000; i++) {
+            if (input == Input.EMAIL) {
+                inputs.add(random.nextBoolean() ? "USER" + i + "@EXAMPLE.COM" : "user" + i + "@example");
+            } else {
+                inputs.add("a".repeat(adversarialLength) + "c");
+            }
+        }
+        nestedLinear = new PatternRegistry(16).get(NESTED_REPEAT);
+        nestedBudgeted = new PatternRegistry(16, false, 100_000, 0, TimeUnit.MILLISECONDS).get(NESTED_REPEAT);
+    }
+
+    @Benchmark
+    public void matchesEmail(Blackhole bh) {
+        for (String s : inputs) {
+            bh.consume(memory.matchesEmail(s));
+        }
+    }
+
+    @Benchmark
+    public void matchesEmailEfficiently(Blackhole bh) {
+        for (String s : inputs) {
+            bh.consume(memory.matchesEmailEfficiently(s));
+        }
+    }
+
+    @Benchmark
+    public List<String> filterEmails() {
+        return metrics.filterEmails(inputs);
+    }
+
+    @Benchmark
+    public List<String> filterEmailsLinear() {
+        return metrics.filterEmailsLinear(inputs);
+    }
+
+    @Benchmark
+    public void validateComplexPattern(Blackhole bh) {
+        for (String s : inputs) {
+            bh.consume(memory.validateComplexPattern(s));
+        }
+    }
+
+    @Benchmark
+    public void validateComplexPatternSafely(Blackhole bh) {
+        for (String s : inputs) {
+            bh.consume(memory.validateComplexPatternSafely(s));
+        }
+    }
+
+    @Benchmark
+    public void nestedRepeatBacktracking(Blackhole bh) {
+        for (String s : inputs) {
+            bh.consume(nestedBudgeted.matchesBacktracking(s));
+        }
+    }
+
+    @Benchmark
+    public void nestedRepeatBudgeted(Blackhole bh) {
+        for (String s : inputs) {
+            try {
+                bh.consume(nestedBudgeted.matches(s));
+            } catch (MatchBudgetExceededException e) {
+                bh.consume(e);
+            }
+        }
+    }
+
+    @Benchmark
+    public void nestedRepeatLinear(Blackhole bh) {
+        for (String s : inputs) {
+            bh.consume(nestedLinear.matches(s));
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package com.example.analysis.benchmarks;
+
+import com.example.analysis.SecurityIssues;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * SecurityIssues.buildLargeString (loop içinde +) vs StringBuilder
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class StringBuildingBenchmark {
+
+    @Param({"1000", "10000"})
+    int count;
+
+    SecurityIssues issues;
+
+    @Setup
+    public void setup() {
+        issues = new SecurityIssues();
+    }
+
+    @Benchmark
+    public String buildLargeString() {
+        return issues.buildLargeString(count);
+    }
+
+    @Benchmark
+    public String buildLargeStringEfficiently() {
+        return issues.buildLargeStringEfficiently(count);
+    }
+}
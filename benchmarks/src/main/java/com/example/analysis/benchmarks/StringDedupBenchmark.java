@@ -0,0 +1,111 @@
+package com.example.analysis.benchmarks;
+
+import com.example.analysis.MemoryFootprint;
+import org.openjdk.jmh.annotations.*;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 10M token'lık metin, vocabulary kadar farklı kelime (varsayılan %99.9 tekrar)
+ *
+ * SPLIT_SUBSTRING: tokenizeAndCache - split + substring, her token ayrı String
+ * SPLIT_INTERN:    split + String.intern() - JVM intern tablosu
+ * POOLED:          tokenizePooled - Tokenizer + StringPool, kopyasız
+ *
+ * Her iterasyon sonunda sonucun tuttuğu heap (GC sonrası, iterasyon başına göre fark) yazdırılır.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 3)
+@Fork(value = 1, jvmArgsAppend = {"-Xmx3g"})
+@State(Scope.Benchmark)
+public class StringDedupBenchmark {
+
+    public enum Strategy { SPLIT_SUBSTRING, SPLIT_INTERN, POOLED }
+
+    @Param({"SPLIT_SUBSTRING", "SPLIT_INTERN", "POOLED"})
+    Strategy strategy;
+
+    @Param({"10000000"})
+    int tokens;
+
+    @Param({"10000"})
+    int vocabulary;
+
+    String text;
+    MemoryFootprint footprint;
+    Object retained;
+    long baseline;
+
+    @Setup
+    public void setup() {
+        Random random = new Random(42);
+        String[] words = new String[vocabulary];
+        for (int i = 0; i < vocabulary; i++) {
+            StringBuilder word = new StringBuilder();
+            int length = 3 + random.nextInt(10);
+            for (int j = 0; j < length; j++) {
+                word.append((char) ('a' + random.nextInt(26)));
+            }
+            words[i] = word.toString();
+        }
+        StringBuilder sb = new StringBuilder(tokens * 9);
+        for (int i = 0; i < tokens; i++) {
+            if (i > 0) {
+                sb.append(' ');
+            }
+            sb.append(words[random.nextInt(vocabulary)]);
+        }
+        text = sb.toString();
+    }
+
+    @Setup(Level.Iteration)
+    public void measureBaseline() {
+        footprint = new MemoryFootprint();
+        retained = null;
+        baseline = usedHeapAfterGc();
+    }
+
+    @TearDown(Level.Iteration)
+    public void printRetainedHeap() {
+        long used = usedHeapAfterGc();
+        System.out.printf("%n[%s] retained heap: %d MB%n", strategy, (used - baseline) / (1024 * 1024));
+        retained = null;
+        footprint = null;
+    }
+
+    @Benchmark
+    public Object tokenize() {
+        switch (strategy) {
+            case SPLIT_SUBSTRING:
+                footprint.tokenizeAndCache(text);
+                retained = footprint;
+                break;
+            case SPLIT_INTERN:
+                String[] parts = text.split(" ");
+                List<String> interned = new ArrayList<>(parts.length);
+                for (String part : parts) {
+                    interned.add(part.substring(0, Math.min(10, part.length())).intern());
+                }
+                retained = interned;
+                break;
+            default:
+                retained = footprint.tokenizePooled(text);
+                break;
+        }
+        return retained;
+    }
+
+    private static long usedHeapAfterGc() {
+        MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+        System.gc();
+        System.gc();
+        return memory.getHeapMemoryUsage().getUsed();
+    }
+}
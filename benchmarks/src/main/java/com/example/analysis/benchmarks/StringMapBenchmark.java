@@ -0,0 +1,152 @@
+package com.example.analysis.benchmarks;
+
+import com.example.analysis.map.FrozenStringMap;
+import com.example.analysis.map.PartitionedSource;
+import com.example.analysis.map.StringMapBuilder;
+import org.openjdk.jmh.annotations.*;
+
+import java.lang.management.ManagementFactory;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.BiConsumer;
+import java.util.function.Supplier;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * HashMap vs StringMapBuilder / FrozenStringMap - put (toplu yükleme), get ve entry başına bellek
+ *
+ * Key/value String'leri setup'ta bir kez üretilir; ölçülen sadece map yapısıdır.
+ * Entry başına yapı maliyeti (GC sonrası heap farkı / size) setup'ta yazdırılır.
+ * 50M için: -p size=50000000 -jvmArgsAppend -Xmx16g
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xmx3g"})
+@State(Scope.Benchmark)
+public class StringMapBenchmark {
+
+    private static final int PROBES = 1 << 16;
+
+    @Param({"1000000"})
+    int size;
+
+    String[] keys;
+    String[] values;
+    String[] probes;
+    Map<String, String> hashMap;
+    FrozenStringMap<String> frozen;
+    int cursor;
+
+    @Setup
+    public void setup() {
+        keys = new String[size];
+        values = new String[size];
+        for (int i = 0; i < size; i++) {
+            keys[i] = "key_" + i;
+            values[i] = "value_" + i;
+        }
+        // Aynı içerikli ama farklı instance'lar - referans eşitliği kısayolu yok
+        probes = new String[PROBES];
+        java.util.Random random = new java.util.Random(42);
+        for (int i = 0; i < PROBES; i++) {
+            probes[i] = new String(keys[random.nextInt(size)]);
+        }
+
+        hashMap = measure("HashMap (default capacity)", this::buildHashMap);
+        frozen = measure("FrozenStringMap", this::buildFrozen);
+    }
+
+    private <M> M measure(String label, Supplier<M> builder) {
+        long before = usedHeapAfterGc();
+        M map = builder.get();
+        long after = usedHeapAfterGc();
+        System.out.printf("%n[%s, %d] %.1f bytes/entry%n", label, size, (after - before) / (double) size);
+        return map;
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Warmup(iterations = 3)
+    @Measurement(iterations = 5)
+    public Map<String, String> buildHashMap() {
+        Map<String, String> map = new HashMap<>();
+        for (int i = 0; i < size; i++) {
+            map.put(keys[i], values[i]);
+        }
+        return map;
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Warmup(iterations = 3)
+    @Measurement(iterations = 5)
+    public Map<String, String> buildHashMapPresized() {
+        Map<String, String> map = new HashMap<>((int) (size / 0.75f) + 1);
+        for (int i = 0; i < size; i++) {
+            map.put(keys[i], values[i]);
+        }
+        return map;
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Warmup(iterations = 3)
+    @Measurement(iterations = 5)
+    public FrozenStringMap<String> buildFrozen() {
+        StringMapBuilder<String> builder = new StringMapBuilder<>(size);
+        for (int i = 0; i < size; i++) {
+            builder.put(keys[i], values[i]);
+        }
+        return builder.freeze();
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Warmup(iterations = 3)
+    @Measurement(iterations = 5)
+    public FrozenStringMap<String> buildParallel() {
+        int partitions = Runtime.getRuntime().availableProcessors() * 4;
+        return FrozenStringMap.buildParallel(new PartitionedSource<String>() {
+            @Override
+            public int partitionCount() {
+                return partitions;
+            }
+
+            @Override
+            public int sizeHint(int partition) {
+                return size / partitions + 1;
+            }
+
+            @Override
+            public void forEach(int partition, BiConsumer<? super String, ? super String> sink) {
+                int from = (int) ((long) size * partition / partitions);
+                int to = (int) ((long) size * (partition + 1) / partitions);
+                for (int i = from; i < to; i++) {
+                    sink.accept(keys[i], values[i]);
+                }
+            }
+        });
+    }
+
+    @Benchmark
+    public String getHashMap() {
+        return hashMap.get(probes[cursor++ & (PROBES - 1)]);
+    }
+
+    @Benchmark
+    public String getFrozen() {
+        return frozen.get(probes[cursor++ & (PROBES - 1)]);
+    }
+
+    private static long usedHeapAfterGc() {
+        System.gc();
+        System.gc();
+        return ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed();
+    }
+}
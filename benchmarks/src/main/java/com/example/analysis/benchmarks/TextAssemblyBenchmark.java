@@ -0,0 +1,100 @@
+package com.example.analysis.benchmarks;
+
+import com.example.analysis.MemoryFootprint;
+import com.example.analysis.SecurityIssues;
+import org.openjdk.jmh.annotations.*;
+
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * count adet "i," CSV üretimi: StringBuilder vs TextAssembler (String ve kanal modu)
+ *
+ * - stringBuilderDefault: 16 karakterden büyüyen StringBuilder (MemoryFootprint.buildLargeString deseni)
+ * - stringBuilderPresized: SecurityIssues.buildLargeStringEfficiently (count * 8 tahmin)
+ * - assemblerString: buildLargeStringAssembled - tam kapasite, doğrudan int yazımı
+ * - assemblerChannel: writeLargeString - 64KB parçalar halinde kanala, String yok
+ * - footprintDefault / footprintPresized: MemoryFootprint.buildLargeString ve buildLargeStringPresized
+ *
+ * Kanal, ölçüme disk girmesin diye byte'ları sayıp atar. Op başına allocation için
+ * gc.alloc.rate.norm'a bakılmalı; 100M'de String yolları ~1GB, kanal yolu 64KB ayırır.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xmx4g"})
+@State(Scope.Benchmark)
+public class TextAssemblyBenchmark {
+
+    @Param({"1000000", "100000000"})
+    int count;
+
+    SecurityIssues issues;
+    MemoryFootprint footprint;
+    DiscardingChannel sink;
+
+    @Setup
+    public void setup() {
+        issues = new SecurityIssues();
+        footprint = new MemoryFootprint();
+        sink = new DiscardingChannel();
+    }
+
+    @Benchmark
+    public String stringBuilderDefault() {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < count; i++) {
+            sb.append(i).append(',');
+        }
+        return sb.toString();
+    }
+
+    @Benchmark
+    public String stringBuilderPresized() {
+        return issues.buildLargeStringEfficiently(count);
+    }
+
+    @Benchmark
+    public String assemblerString() {
+        return issues.buildLargeStringAssembled(count);
+    }
+
+    @Benchmark
+    public long assemblerChannel() {
+        return issues.writeLargeString(count, sink);
+    }
+
+    @Benchmark
+    public String footprintDefault() {
+        return footprint.buildLargeString(count);
+    }
+
+    @Benchmark
+    public String footprintPresized() {
+        return footprint.buildLargeStringPresized(count);
+    }
+
+    // Yazılan byte'ları sayar, içeriği atar
+    static final class DiscardingChannel implements WritableByteChannel {
+        long written;
+
+        @Override
+        public int write(ByteBuffer src) {
+            int n = src.remaining();
+            src.position(src.limit());
+            written += n;
+            return n;
+        }
+
+        @Override
+        public boolean isOpen() {
+            return true;
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+}
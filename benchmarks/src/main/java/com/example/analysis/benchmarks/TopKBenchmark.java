@@ -0,0 +1,74 @@
+package com.example.analysis.benchmarks;
+
+import com.example.analysis.select.IntTopK;
+import com.example.analysis.select.TopK;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * 10M rastgele int içinden en küçük k (k = 10, 1000)
+ *
+ * sortedLimit:        stream().sorted().limit(k) - processNumbers'daki tam sıralama
+ * topKCollector:      TopK.smallest(k) collector, Integer listesi üzerinde
+ * topKCollectorParallel: aynı collector, parallelStream
+ * intTopK:            int[] üzerinde IntTopK, tek thread
+ * intTopKParallel:    IntTopK.smallest - parça başına heap + merge
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xmx3g"})
+@State(Scope.Benchmark)
+public class TopKBenchmark {
+
+    @Param({"10000000"})
+    int size;
+
+    @Param({"10", "1000"})
+    int k;
+
+    int[] values;
+    List<Integer> boxed;
+
+    @Setup
+    public void setup() {
+        values = new Random(42).ints(size).toArray();
+        boxed = new ArrayList<>(size);
+        for (int value : values) {
+            boxed.add(value);
+        }
+    }
+
+    @Benchmark
+    public List<Integer> sortedLimit() {
+        return boxed.stream().sorted().limit(k).collect(Collectors.toList());
+    }
+
+    @Benchmark
+    public List<Integer> topKCollector() {
+        return boxed.stream().collect(TopK.smallest(k));
+    }
+
+    @Benchmark
+    public List<Integer> topKCollectorParallel() {
+        return boxed.parallelStream().collect(TopK.smallest(k));
+    }
+
+    @Benchmark
+    public int[] intTopK() {
+        IntTopK topK = new IntTopK(k, false);
+        topK.addAll(values, 0, values.length);
+        return topK.toSortedArray();
+    }
+
+    @Benchmark
+    public int[] intTopKParallel() {
+        return IntTopK.smallest(values, k);
+    }
+}
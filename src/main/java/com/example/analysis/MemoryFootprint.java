@@ -5,6 +5,43 @@ import java.util.concurrent.*;
 import java.util.stream.*;
 import java.io.*;
 import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.function.BiConsumer;
+import java.util.function.BinaryOperator;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import com.example.analysis.cache.SegmentedLruCache;
+import com.example.analysis.copy.CompactSerializer;
+import com.example.analysis.copy.DeepCopier;
+import com.example.analysis.dispatch.TaskDispatcher;
+import com.example.analysis.hash.PasswordHasher;
+import com.example.analysis.io.LargeFileReader;
+import com.example.analysis.io.LineIterator;
+import com.example.analysis.io.ReadMode;
+import com.example.analysis.json.JsonProjection;
+import com.example.analysis.json.NdjsonProcessor;
+import com.example.analysis.map.FrozenStringMap;
+import com.example.analysis.map.PartitionedSource;
+import com.example.analysis.map.StringMapBuilder;
+import com.example.analysis.math.PairwiseTrigEngine;
+import com.example.analysis.metrics.LatencyHistogram;
+import com.example.analysis.offheap.OffHeapHandle;
+import com.example.analysis.offheap.OffHeapStore;
+import com.example.analysis.parse.NumberParser;
+import com.example.analysis.pool.ByteBufferPool;
+import com.example.analysis.pool.PoolMetrics;
+import com.example.analysis.pool.PooledBuffer;
+import com.example.analysis.primitive.IntArrayList;
+import com.example.analysis.regex.PatternRegistry;
+import com.example.analysis.select.Extremes;
+import com.example.analysis.select.IntTopK;
+import com.example.analysis.text.StringPool;
+import com.example.analysis.text.StringPoolStats;
+import com.example.analysis.text.TextAssembler;
+import com.example.analysis.text.Tokenizer;
+import com.example.analysis.time.BulkDateFormatter;
 
 /**
  * Memory footprint ve ağır işlem analizi için örnekler
@@ -129,6 +166,21 @@ public class MemoryFootprint {
         }
     }
 
+    // İYİ ÖRNEK: Tek reader tüm dokümanlar için, sadece seçili alanlar okunur, Map kurulmaz
+    private static final NdjsonProcessor ndjson = new NdjsonProcessor();
+
+    public <A> A processJsonDocumentsEfficiently(List<String> jsonStrings, JsonProjection projection,
+                                                 A result, BiConsumer<A, JsonProjection.Row> accumulator) {
+        return ndjson.aggregate(jsonStrings, projection, result, accumulator);
+    }
+
+    // İYİ ÖRNEK: NDJSON dosyası memory-map'li parçalar halinde paralel, reader thread başına
+    public <A> A processJsonFile(Path file, JsonProjection projection, Supplier<A> supplier,
+                                 BiConsumer<A, JsonProjection.Row> accumulator,
+                                 BinaryOperator<A> combiner) throws IOException {
+        return ndjson.aggregate(file, projection, supplier, accumulator, combiner);
+    }
+
     // MEMORY SORUNU 7: StringBuilder capacity not set
     public String buildLargeString(int size) {
         StringBuilder sb = new StringBuilder(); // Default: 16 chars
@@ -139,6 +191,15 @@ public class MemoryFootprint {
         return sb.toString();
     }
 
+    // İYİ ÖRNEK: Kapasite baştan hesaplanır - büyüme ve ara kopyalar yok
+    public String buildLargeStringPresized(int size) {
+        TextAssembler text = new TextAssembler(Math.multiplyExact(size, 4));
+        for (int i = 0; i < size; i++) {
+            text.append("data");
+        }
+        return text.toString();
+    }
+
     // CPU SORUNU 5: Regular expression backtracking
     public boolean validateComplexPattern(String input) {
         // Catastrophic backtracking riski - O(2^n)
@@ -257,26 +318,341 @@ public class MemoryFootprint {
         // Regex pre-validation yapılmalı
     }
 
-    // İYİ ÖRNEK: Object pooling
-    private static final Queue<ByteBuffer> byteBufferPool = new LinkedBlockingQueue<>();
+    // İYİ ÖRNEK: Exception ve Integer boxing yok; durum (EMPTY/INVALID/OVERFLOW) paketlenmiş sonuçta
+    public long parseIntChecked(CharSequence value) {
+        return NumberParser.parseInt(value);
+    }
 
-    static {
-        for (int i = 0; i < 10; i++) {
-            byteBufferPool.offer(ByteBuffer.allocateDirect(1024 * 1024));
-        }
+    public int parseIntOrDefault(CharSequence value, int defaultValue) {
+        return NumberParser.parseIntOr(value, defaultValue);
+    }
+
+    // İYİ ÖRNEK: CSV long sütunu long[]'e, hatalı alan sayısı döner
+    public int parseLongColumn(List<String> values, long[] out, long defaultValue, BitSet failed) {
+        return NumberParser.parseLongs(values, out, defaultValue, failed);
     }
 
+    // İYİ ÖRNEK: Object pooling - size class'lı, striped pool
+    // Boş pool'da yeni buffer ayrılır, 1MB'dan büyük veri de işlenir
+    // ALLOCATE modunda tryAcquire hiç beklemez ve null dönmez
+    private static final ByteBufferPool byteBufferPool = new ByteBufferPool(16, true);
+
     public void processWithPooledBuffer(byte[] data) {
-        ByteBuffer buffer = byteBufferPool.poll();
-        if (buffer != null) {
-            try {
-                buffer.clear();
-                buffer.put(data);
-                // Process
-            } finally {
-                byteBufferPool.offer(buffer); // Return to pool
+        try (PooledBuffer pooled = byteBufferPool.tryAcquire(data.length)) {
+            ByteBuffer buffer = pooled.buffer();
+            buffer.put(data);
+            // Process
+        } // Return to pool
+    }
+
+    // İYİ ÖRNEK: ThreadLocal yerine paylaşılan heap buffer pool'u
+    // Thread'ler buffer'ı sadece iş süresince tutar - pool thread'lerinde memory pinlenmez
+    private static final ByteBufferPool heapBufferPool = new ByteBufferPool(16, false);
+
+    public void processWithBufferPooled(byte[] data) {
+        try (PooledBuffer pooled = heapBufferPool.tryAcquire(data.length)) {
+            byte[] buffer = pooled.buffer().array();
+            // İşlem yap
+            System.arraycopy(data, 0, buffer, 0, data.length);
+        }
+    }
+
+    public static PoolMetrics bufferPoolMetrics() {
+        return byteBufferPool.metrics();
+    }
+
+    // İYİ ÖRNEK: Byte bütçeli, segmentli LRU cache - dataCache yerine
+    private static final long DATA_CACHE_BUDGET = 256L * 1024 * 1024; // 256MB
+    private static final SegmentedLruCache<String, byte[]> boundedDataCache =
+        new SegmentedLruCache<>(DATA_CACHE_BUDGET, data -> data.length);
+
+    public void cacheDataBounded(String key, byte[] data) {
+        // Bütçe aşılınca en az kullanılan entry'ler atılır
+        boundedDataCache.put(key, data);
+    }
+
+    public byte[] getCachedData(String key) {
+        return boundedDataCache.get(key);
+    }
+
+    // İYİ ÖRNEK: Büyük payload'lar heap dışında - GC bu byte'ları taramaz/kopyalamaz
+    // 1GB direct memory, sonrası temp dosyaya memory-mapped taşar
+    // Temp dosya ilk taşmada açılır, DELETE_ON_CLOSE ile JVM bitince geride kalmaz
+    private static final OffHeapStore offHeapStore = new OffHeapStore(
+        1024L * 1024 * 1024, OffHeapStore.DEFAULT_SLAB_SIZE,
+        Path.of(System.getProperty("java.io.tmpdir"),
+            "codeql-demo-" + ProcessHandle.current().pid() + ".spill"));
+
+    public OffHeapHandle cacheDataOffHeap(byte[] data) {
+        // Heap'te sadece handle kalır; data çağırandan sonra toplanabilir
+        return offHeapStore.put(data);
+    }
+
+    public byte[] readOffHeap(OffHeapHandle handle) {
+        return offHeapStore.get(handle);
+    }
+
+    public void releaseOffHeap(OffHeapHandle handle) {
+        offHeapStore.release(handle);
+    }
+
+    public List<OffHeapHandle> processImagesOffHeap(int count) {
+        List<OffHeapHandle> images = new ArrayList<>(count);
+        // Tek scratch buffer - her resim için 10MB heap allocation yok
+        byte[] imageData = new byte[10 * 1024 * 1024];
+        for (int i = 0; i < count; i++) {
+            images.add(offHeapStore.put(imageData));
+        }
+        // Çağıran iş bitince releaseOffHeap ile bırakmalı
+        return images;
+    }
+
+    public Map<String, Object> buildComplexStructureOffHeap(int depth) {
+        return buildOffHeapLevel(depth, new byte[1024 * 1024]);
+    }
+
+    private Map<String, Object> buildOffHeapLevel(int depth, byte[] block) {
+        Map<String, Object> level = new HashMap<>();
+        if (depth > 0) {
+            level.put("data", offHeapStore.put(block)); // 1MB off-heap, heap'te handle
+            level.put("child", buildOffHeapLevel(depth - 1, block));
+        }
+        return level;
+    }
+
+    // İYİ ÖRNEK: Primitive int listesi - boxing yok, 4x daha az memory
+    public IntArrayList calculateStatsPrimitive(int count) {
+        return IntArrayList.range(count);
+    }
+
+    // İYİ ÖRNEK: Boxing olmadan map/filter, sıralama yerine en küçük 10
+    public IntArrayList processNumbersPrimitive(IntArrayList numbers) {
+        return numbers
+            .map(n -> n * 2)
+            .filter(n -> n > 100)
+            .smallest(10);
+    }
+
+    // İYİ ÖRNEK: Trig terimleri bir kez, simetrik çiftler yarıya, tile'lar paralel
+    private static final PairwiseTrigEngine trigEngine = new PairwiseTrigEngine();
+
+    public double heavyMathOperationFast(double[] data) {
+        // heavyMathOperation ile PairwiseTrigEngine.RELATIVE_TOLERANCE içinde aynı
+        return trigEngine.compute(data);
+    }
+
+    // İYİ ÖRNEK: Dosya bir kez map edilir, içerik heap'e kopyalanmaz
+    public CharSequence readLargeFileView(String path) throws IOException {
+        // Satır sonları korunur; 2GB üstü veya ASCII dışı UTF-8 için processLargeFileLines
+        return LargeFileReader.view(Paths.get(path), StandardCharsets.UTF_8);
+    }
+
+    // İYİ ÖRNEK: Satır satır akış - bellek kullanımı dosya boyutundan bağımsız
+    public long processLargeFileLines(String path, Consumer<String> lineConsumer) throws IOException {
+        long count = 0;
+        try (LineIterator lines = LargeFileReader.lineIterator(Paths.get(path), StandardCharsets.UTF_8, ReadMode.DIRECT)) {
+            while (lines.hasNext()) {
+                lineConsumer.accept(lines.next());
+                count++;
             }
         }
+        return count;
+    }
+
+    // İYİ ÖRNEK: Sınıf başına üretilen MethodHandle planı ile derin kopya - byte stream yok
+    private static final DeepCopier deepCopier = new DeepCopier();
+
+    public <T> T deepCopy(T obj) {
+        // Döngüler ve paylaşılan referanslar korunur (buildComplexStructure gibi)
+        return deepCopier.copy(obj);
+    }
+
+    // İYİ ÖRNEK: Kompakt binary format, çıktı buffer'ları tekrar kullanılır
+    private static final CompactSerializer compactSerializer = new CompactSerializer();
+
+    public byte[] serializeObjectCompact(Object obj) {
+        return compactSerializer.serialize(obj);
+    }
+
+    public Object deserializeObjectCompact(byte[] bytes) {
+        return compactSerializer.deserialize(bytes);
+    }
+
+    // İYİ ÖRNEK: Paylaşılan, sınırlı registry - bir kez derlenir, lineer motorda backtracking yok
+    private static final PatternRegistry patterns = PatternRegistry.shared();
+    private static final String EMAIL_REGEX = "^[A-Z0-9._%+-]+@[A-Z0-9.-]+\\.[A-Z]{2,6}$";
+
+    public boolean matchesEmailEfficiently(String input) {
+        return patterns.matches(EMAIL_REGEX, input);
+    }
+
+    public boolean validateComplexPatternSafely(String input) {
+        // (a+)+b lineer motorda O(n); çevrilemeyen pattern'ler adım bütçesiyle kesilir
+        return patterns.matches("(a+)+b", input);
+    }
+
+    // İYİ ÖRNEK: Beklenen boyuta göre önceden boyutlandırılmış HashMap
+    public Map<String, String> loadLargeDatasetEfficiently(int expectedSize) {
+        // load factor 0.75 - hiç resize olmaz
+        Map<String, String> map = new HashMap<>((int) (expectedSize / 0.75f) + 1);
+        for (int i = 0; i < expectedSize; i++) {
+            map.put("key_" + i, "value_" + i);
+        }
+        return map;
+    }
+
+    // İYİ ÖRNEK: Tam boyutlandırılmış open addressing - entry nesnesi yok, salt okunur sonuç
+    public Map<String, String> loadLargeDatasetFrozen(int expectedSize) {
+        StringMapBuilder<String> builder = new StringMapBuilder<>(expectedSize);
+        for (int i = 0; i < expectedSize; i++) {
+            builder.put("key_" + i, "value_" + i);
+        }
+        return builder.freeze();
+    }
+
+    // İYİ ÖRNEK: İndeks aralıkları paralel üretilir, tabloya CAS ile yerleştirilir
+    public Map<String, String> loadLargeDatasetParallel(int expectedSize) {
+        int partitions = Math.max(1, Math.min(expectedSize / 65536, Runtime.getRuntime().availableProcessors() * 4));
+        return FrozenStringMap.buildParallel(new PartitionedSource<String>() {
+            @Override
+            public int partitionCount() {
+                return partitions;
+            }
+
+            @Override
+            public int sizeHint(int partition) {
+                return end(partition) - start(partition);
+            }
+
+            @Override
+            public void forEach(int partition, BiConsumer<? super String, ? super String> sink) {
+                for (int i = start(partition), end = end(partition); i < end; i++) {
+                    sink.accept("key_" + i, "value_" + i);
+                }
+            }
+
+            private int start(int partition) {
+                return (int) ((long) expectedSize * partition / partitions);
+            }
+
+            private int end(int partition) {
+                return (int) ((long) expectedSize * (partition + 1) / partitions);
+            }
+        });
+    }
+
+    // İYİ ÖRNEK: Paylaşılan, thread-safe DateTimeFormatter
+    private static final java.time.format.DateTimeFormatter DATE_FORMATTER =
+        java.time.format.DateTimeFormatter.ofPattern("yyyy-MM-dd")
+            .withZone(java.time.ZoneId.systemDefault());
+
+    // Gün başına bir kez DATE_FORMATTER, sonrası cache'ten
+    private static final BulkDateFormatter bulkDateFormatter = new BulkDateFormatter(
+        DATE_FORMATTER, BulkDateFormatter.TimeLayout.NONE, java.time.ZoneId.systemDefault());
+
+    public List<String> formatDatesEfficiently(List<Date> dates) {
+        // formatDates gibi değiştirilebilir liste döner
+        return new ArrayList<>(Arrays.asList(bulkDateFormatter.formatAll(dates)));
+    }
+
+    // İYİ ÖRNEK: Büyük listeler ForkJoin ile parçalanır
+    public List<String> formatDatesParallel(List<Date> dates) {
+        return new ArrayList<>(Arrays.asList(bulkDateFormatter.formatAllParallel(dates)));
+    }
+
+    // İYİ ÖRNEK: Rapor satırları - eleman başına String yok, tek StringBuilder
+    private static final BulkDateFormatter timestampFormatter = new BulkDateFormatter(
+        DATE_FORMATTER, BulkDateFormatter.TimeLayout.SECONDS, java.time.ZoneId.systemDefault());
+
+    public StringBuilder formatTimestampsTo(long[] epochMillis, StringBuilder sink) {
+        timestampFormatter.formatAll(epochMillis, 0, epochMillis.length, '\n', sink);
+        return sink;
+    }
+
+    // İYİ ÖRNEK: Sıralama yerine k boyutlu int heap - O(n log k), boxing sadece sonuçta
+    public List<Integer> processNumbersEfficiently(List<Integer> numbers) {
+        return boxed(IntTopK.select(
+            numbers.stream().mapToInt(n -> n * 2).filter(n -> n > 100), 10, false));
+    }
+
+    // İYİ ÖRNEK: Paralel stream - parça başına heap, sonunda merge
+    public List<Integer> processNumbersParallel(List<Integer> numbers) {
+        return boxed(IntTopK.select(
+            numbers.parallelStream().mapToInt(n -> n * 2).filter(n -> n > 100), 10, false));
+    }
+
+    private static List<Integer> boxed(int[] values) {
+        List<Integer> result = new ArrayList<>(values.length);
+        for (int value : values) {
+            result.add(value);
+        }
+        return result;
+    }
+
+    // İYİ ÖRNEK: Sort + get(0) yerine lineer min - O(n), veri setleri değişmez
+    // Boş veri seti için null
+    public String[] processOrderedDataEfficiently(List<String>[] dataSets) {
+        String[] firsts = new String[dataSets.length];
+        for (int i = 0; i < dataSets.length; i++) {
+            if (!dataSets[i].isEmpty()) {
+                firsts[i] = Extremes.min(dataSets[i]);
+            }
+        }
+        return firsts;
+    }
+
+    // İYİ ÖRNEK: Pool'lanmış digest, 10k tur tek buffer'da; hashPassword ile aynı çıktı
+    private static final TaskDispatcher hashDispatcher = TaskDispatcher.boundedPool(
+        Runtime.getRuntime().availableProcessors(), 1024, TaskDispatcher.RejectionPolicy.CALLER_RUNS);
+    private static final PasswordHasher passwordHasher = new PasswordHasher(
+        PasswordHasher.Mode.ITERATED_SHA256, 10000, java.nio.charset.Charset.defaultCharset(), hashDispatcher);
+
+    public String hashPasswordEfficiently(String password) {
+        return passwordHasher.hash(password);
+    }
+
+    // İYİ ÖRNEK: Login patlamasında batch - çekirdek sayısı kadar thread, sıra korunur
+    public List<String> hashPasswords(List<String> passwords) {
+        return passwordHasher.hashAll(passwords);
+    }
+
+    // İYİ ÖRNEK: Yeni kayıtlar için tuzlu, standart PBKDF2
+    private static final PasswordHasher pbkdf2Hasher = new PasswordHasher(
+        PasswordHasher.Mode.PBKDF2_SHA256, 10000, StandardCharsets.UTF_8, hashDispatcher);
+
+    public String hashPasswordPbkdf2(String password, byte[] salt) {
+        return pbkdf2Hasher.hash(password, salt);
+    }
+
+    public LatencyHistogram passwordHashLatency() {
+        return passwordHasher.latency();
+    }
+
+    // İYİ ÖRNEK: intern() yerine sınırlı, uygulamaya ait string pool'u
+    private static final StringPool stringPool = new StringPool(1 << 16, 64);
+
+    public String processUserInputPooled(String input) {
+        return stringPool.intern(input);
+    }
+
+    // İYİ ÖRNEK: Tek kanonik instance - 1M eleman aynı String'i gösterir
+    public List<String> loadUsernamesPooled(int count) {
+        String admin = stringPool.intern("admin");
+        List<String> usernames = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            usernames.add(admin);
+        }
+        return usernames;
+    }
+
+    // İYİ ÖRNEK: split/substring yok; tekrar eden token'lar pool'daki tek instance
+    // Sonuç çağırana aittir - süresiz büyüyen alan yok
+    public List<String> tokenizePooled(String largeText) {
+        return Tokenizer.tokenize(largeText, ' ', stringPool, 10);
+    }
+
+    public StringPoolStats stringPoolStats() {
+        return stringPool.stats();
     }
 
     // İYİ ÖRNEK: Lazy initialization
@@ -3,6 +3,25 @@ package com.example.analysis;
 import java.util.*;
 import java.util.concurrent.*;
 import java.io.*;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.function.Function;
+import com.example.analysis.batch.BatchLoader;
+import com.example.analysis.batch.OrderRepository;
+import com.example.analysis.cache.SegmentedLruCache;
+import com.example.analysis.dispatch.TaskDispatcher;
+import com.example.analysis.invoke.InvocationCache;
+import com.example.analysis.io.FileCacheStats;
+import com.example.analysis.io.FileContentCache;
+import com.example.analysis.lock.PublishedState;
+import com.example.analysis.lock.StripedLock;
+import com.example.analysis.memo.Fibonacci;
+import com.example.analysis.memo.LongRecurrenceMemoizer;
+import com.example.analysis.metrics.LatencyHistogram;
+import com.example.analysis.primitive.IntArrayList;
+import com.example.analysis.regex.CompiledRegex;
+import com.example.analysis.regex.PatternRegistry;
+import com.example.analysis.signal.ReadinessSignal;
 
 /**
  * Performans metriklerini test etmek için örnek kodlar
@@ -39,6 +58,32 @@ public class PerformanceMetrics {
         }
     };
 
+    // İYİ ÖRNEK: Dosya bir kez okunur, sonraki okumalar bellekten (mtime/boyut kontrolüyle)
+    private static final FileContentCache fileCache = newFileCache(64L * 1024 * 1024);
+
+    private static FileContentCache newFileCache(long maxBytes) {
+        try {
+            return new FileContentCache(maxBytes, FileContentCache.Invalidation.STAT);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public Runnable ioLightTask = () -> {
+        try {
+            Path data = Paths.get("/tmp/data.txt");
+            for (int i = 0; i < 100; i++) {
+                String line = fileCache.firstLine(data);
+            }
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+    };
+
+    public static FileCacheStats fileCacheStats() {
+        return fileCache.stats();
+    }
+
     // PERFORMANS SORUNU 3: Runnable içinde senkron veritabanı çağrısı
     public Runnable databaseHeavyTask = new Runnable() {
         @Override
@@ -95,6 +140,72 @@ public class PerformanceMetrics {
         }
     }
 
+    // İYİ ÖRNEK: Hesap ve bekleme lock dışında, sadece sonucun yayınlanması atomik
+    private final PublishedState<Double> heavyResult = new PublishedState<>(0.0);
+
+    public double heavyMethodOutsideLock() {
+        double result = heavyResult.computeAndPublish(() -> {
+            double sum = 0;
+            for (int i = 0; i < 1000000; i++) {
+                sum += Math.pow(i, 2);
+            }
+            return sum;
+        }, (previous, sum) -> sum);
+        try {
+            Thread.sleep(1000); // Bekleme kimseyi bloklamaz
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return result;
+    }
+
+    public double lastHeavyResult() {
+        return heavyResult.get();
+    }
+
+    // İYİ ÖRNEK: Ağır hesap lock dışında; sadece kaynağın durumunu güncelleyen kısım
+    // kaynak başına şeritlenmiş private lock altında - farklı kaynaklar paralel
+    private final StripedLock resourceLocks = new StripedLock(64);
+    // Sadece en son kullanılan MAX_TRACKED_RESOURCES kaynağın toplamı tutulur - resourceId sayısı
+    // sınırsız olsa da bellek sabit; atılan kaynağın ortalaması sıfırdan başlar
+    private static final int MAX_TRACKED_RESOURCES = 10_000;
+    private final SegmentedLruCache<String, ResourceTotals> resourceTotals =
+        new SegmentedLruCache<>(MAX_TRACKED_RESOURCES, totals -> 1);
+
+    public double heavyMethodForResource(String resourceId) {
+        double sum = 0;
+        for (int i = 0; i < 1000000; i++) {
+            sum += Math.pow(i, 2);
+        }
+        double result = sum;
+        // Sayaç ve toplam birlikte güncellenir - lock sadece bu iki atama süresince tutulur
+        resourceLocks.run(resourceId, () -> {
+            // Aynı resourceId hep aynı şeritte - entry iki kez oluşturulmaz
+            ResourceTotals totals = resourceTotals.get(resourceId);
+            if (totals == null) {
+                totals = new ResourceTotals();
+                resourceTotals.put(resourceId, totals);
+            }
+            totals.runs++;
+            totals.sum += result;
+        });
+        return result;
+    }
+
+    /** Kaynak için şimdiye kadar yayınlanan sonuçların ortalaması; hiç çalışmadıysa 0 */
+    public double averageResultForResource(String resourceId) {
+        return resourceLocks.withLock(resourceId, () -> {
+            ResourceTotals totals = resourceTotals.get(resourceId);
+            return totals == null || totals.runs == 0 ? 0.0 : totals.sum / totals.runs;
+        });
+    }
+
+    // Alanlar sadece kaynağın şerit lock'u tutulurken okunur/yazılır
+    private static final class ResourceTotals {
+        long runs;
+        double sum;
+    }
+
     // PERFORMANS SORUNU 8: N+1 Query problemi simülasyonu
     public void loadUsersWithOrders() {
         List<Integer> userIds = Arrays.asList(1, 2, 3, 4, 5, 6, 7, 8, 9, 10);
@@ -107,6 +218,22 @@ public class PerformanceMetrics {
         }
     }
 
+    // İYİ ÖRNEK: Tek IN (...) sorgusu - key'ler toplanır, tekrarlar elenir
+    public Map<Integer, List<String>> loadUsersWithOrdersBatched(OrderRepository repository) {
+        List<Integer> userIds = Arrays.asList(1, 2, 3, 4, 5, 6, 7, 8, 9, 10);
+
+        BatchLoader<Integer, List<String>> loader =
+            new BatchLoader<>(repository::getOrdersForUsers, 500);
+        List<CompletableFuture<List<String>>> futures = loader.loadMany(userIds);
+        loader.dispatch(); // 10 kullanıcı = 1 round trip
+
+        Map<Integer, List<String>> ordersByUser = new LinkedHashMap<>();
+        for (int i = 0; i < userIds.size(); i++) {
+            ordersByUser.put(userIds.get(i), futures.get(i).join());
+        }
+        return ordersByUser;
+    }
+
     // PERFORMANS SORUNU 9: Reflection kullanımı loop içinde
     public void reflectionInLoop(List<Object> objects) throws Exception {
         for (Object obj : objects) {
@@ -117,6 +244,23 @@ public class PerformanceMetrics {
         }
     }
 
+    // İYİ ÖRNEK: Metod sınıf başına bir kez çözülür, çağrı üretilmiş Function üzerinden
+    private static final InvocationCache invocations = new InvocationCache();
+
+    public void reflectionInLoopCached(List<Object> objects) {
+        // Ardışık aynı sınıflar için ClassValue'ya bile gidilmez (inline cache)
+        Class<?> lastClass = null;
+        Function<Object, Object> toString = null;
+        for (Object obj : objects) {
+            Class<?> clazz = obj.getClass();
+            if (clazz != lastClass) {
+                toString = invocations.noArg(clazz, "toString");
+                lastClass = clazz;
+            }
+            toString.apply(obj);
+        }
+    }
+
     // PERFORMANS SORUNU 10: Regular expression compilation in loop
     public List<String> filterEmails(List<String> inputs) {
         List<String> emails = new ArrayList<>();
@@ -129,25 +273,81 @@ public class PerformanceMetrics {
         return emails;
     }
 
-    // İYİ ÖRNEK: Thread pool kullanımı
-    private ExecutorService executorService = Executors.newFixedThreadPool(10);
+    // İYİ ÖRNEK: Thread pool kullanımı - sınırlı kuyruk + backpressure
+    // Kuyruk dolunca görev çağıran thread'de çalışır, üretici yavaşlar
+    private final TaskDispatcher dispatcher =
+        TaskDispatcher.boundedPool(10, 1000, TaskDispatcher.RejectionPolicy.CALLER_RUNS);
 
     public void processItemsEfficiently(List<String> items) {
         for (String item : items) {
-            executorService.submit(() -> processItem(item));
+            dispatcher.submit(() -> processItem(item));
+        }
+    }
+
+    /** processItemsEfficiently gibi; tüm item'lar işlenince tamamlanan future döner */
+    public CompletableFuture<Void> processItemsAsync(List<String> items) {
+        CompletableFuture<?>[] futures = new CompletableFuture<?>[items.size()];
+        int i = 0;
+        for (String item : items) {
+            futures[i++] = dispatcher.submit(() -> processItem(item));
+        }
+        return CompletableFuture.allOf(futures);
+    }
+
+    // İYİ ÖRNEK: Sleep/IO ağırlıklı işler için item başına virtual thread (Java 21+)
+    // Dağıtıcı tüm instance'larca paylaşılır, çağrı başına oluşturulup kapatılmaz
+    public CompletableFuture<Void> processItemsVirtual(List<String> items) {
+        if (!TaskDispatcher.isVirtualThreadSupported()) {
+            return processItemsAsync(items);
+        }
+        TaskDispatcher virtual = VirtualDispatcherHolder.DISPATCHER;
+        CompletableFuture<?>[] futures = new CompletableFuture<?>[items.size()];
+        int i = 0;
+        for (String item : items) {
+            futures[i++] = virtual.submit(() -> processItem(item));
         }
+        return CompletableFuture.allOf(futures);
+    }
+
+    // İlk processItemsVirtual çağrısında yüklenir; Java 21 öncesinde hiç yüklenmez
+    private static final class VirtualDispatcherHolder {
+        static final TaskDispatcher DISPATCHER =
+            TaskDispatcher.virtualThreads(10000, TaskDispatcher.RejectionPolicy.BLOCK);
+    }
+
+    public LatencyHistogram itemLatency() {
+        return dispatcher.latency();
+    }
+
+    public void shutdown() {
+        dispatcher.shutdownGracefully(30, TimeUnit.SECONDS);
     }
 
     // İYİ ÖRNEK: Memoization ile fibonacci
-    private Map<Integer, Integer> fibCache = new HashMap<>();
+    // Thread-safe, sınırlı (2^20 değer: long + done işareti = 12MB), özyinelemesiz - büyük n'de stack taşmaz
+    // 12MB ilk fibonacciMemoized çağrısında ayrılır; PerformanceMetrics yüklenirken değil
+    private static final class FibMemoHolder {
+        static final LongRecurrenceMemoizer MEMO =
+            new LongRecurrenceMemoizer(Fibonacci.RECURRENCE, 1 << 20);
+    }
 
     public int fibonacciMemoized(int n) {
-        if (n <= 1) return n;
-        if (fibCache.containsKey(n)) return fibCache.get(n);
+        // fibonacci ile aynı sözleşme: n <= 1 ise n
+        if (n <= 1) {
+            return n;
+        }
+        // int'e daraltma eski int toplamalarıyla aynı sonucu verir; memo dışı n fast doubling ile
+        LongRecurrenceMemoizer memo = FibMemoHolder.MEMO;
+        return (int) (n < memo.capacity() ? memo.get(n) : Fibonacci.fastDoubling(n));
+    }
 
-        int result = fibonacciMemoized(n - 1) + fibonacciMemoized(n - 2);
-        fibCache.put(n, result);
-        return result;
+    // İYİ ÖRNEK: Fast doubling - O(log n), cache gerekmez
+    public long fibonacciFast(int n) {
+        return Fibonacci.fastDoubling(n);
+    }
+
+    public java.math.BigInteger fibonacciExact(int n) {
+        return Fibonacci.fastDoublingBig(n);
     }
 
     // İYİ ÖRNEK: Compiled pattern
@@ -164,6 +364,44 @@ public class PerformanceMetrics {
         return emails;
     }
 
+    // İYİ ÖRNEK: Registry'den lineer motor - düşmanca girdide de O(n)
+    private static final PatternRegistry patterns = PatternRegistry.shared();
+
+    public List<String> filterEmailsLinear(List<String> inputs) {
+        CompiledRegex email = patterns.get("^[A-Za-z0-9+_.-]+@(.+)$");
+        List<String> emails = new ArrayList<>();
+        for (String input : inputs) {
+            if (email.matches(input)) {
+                emails.add(input);
+            }
+        }
+        return emails;
+    }
+
+    // İYİ ÖRNEK: Primitive liste ve long toplam - boxing/unboxing yok
+    public long sumWithoutBoxing() {
+        IntArrayList numbers = IntArrayList.range(1000000);
+        long sum = 0;
+        for (int i = 0; i < numbers.size(); i++) {
+            sum += numbers.get(i);
+        }
+        return sum;
+    }
+
+    // İYİ ÖRNEK: Dizi tabanlı liste - get(i) O(1), boxing yok
+    public long efficientListAccess() {
+        IntArrayList list = new IntArrayList(10000);
+        for (int i = 0; i < 10000; i++) {
+            list.add(i);
+        }
+
+        long total = 0;
+        for (int i = 0; i < list.size(); i++) {
+            total += list.get(i);
+        }
+        return total;
+    }
+
     // PERFORMANS SORUNU 11: Busy waiting
     public void waitForCondition() {
         boolean ready = false;
@@ -173,6 +411,17 @@ public class PerformanceMetrics {
         }
     }
 
+    // İYİ ÖRNEK: Koşul sinyallenene kadar park - boşta CPU yakmaz, süre sınırlı
+    public boolean waitForConditionEfficiently(ReadinessSignal ready, long timeout, TimeUnit unit)
+            throws InterruptedException {
+        return ready.await(timeout, unit);
+    }
+
+    // İYİ ÖRNEK: Thread bağlamadan bekleme - devamı sinyalde çalışır
+    public CompletableFuture<Void> whenConditionReady(ReadinessSignal ready) {
+        return ready.whenReady();
+    }
+
     // PERFORMANS SORUNU 12: ArrayList yerine LinkedList (random access için)
     public void inefficientListAccess() {
         LinkedList<Integer> list = new LinkedList<>();
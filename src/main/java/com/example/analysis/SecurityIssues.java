@@ -1,8 +1,18 @@
 package com.example.analysis;
 
+import com.example.analysis.io.LargeFileReader;
+import com.example.analysis.jdbc.QueryExecutor;
+import com.example.analysis.lock.StripedLock;
+import com.example.analysis.parse.NumberParser;
+import com.example.analysis.text.TextAssembler;
+
 import java.sql.*;
 import java.io.*;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.*;
+import java.util.stream.Stream;
 
 /**
  * Bu sınıf CodeQL'in tespit edebileceği güvenlik ve performans sorunları içerir
@@ -123,6 +133,104 @@ public class SecurityIssues {
         e.printStackTrace();
     }
 
+    // İYİ ÖRNEK: Kapasitesi önceden ayrılmış StringBuilder
+    public String buildLargeStringEfficiently(int count) {
+        // Her eleman için ortalama ~8 karakter (rakamlar + virgül)
+        StringBuilder sb = new StringBuilder(count * 8);
+        for (int i = 0; i < count; i++) {
+            sb.append(i).append(',');
+        }
+        return sb.toString();
+    }
+
+    // İYİ ÖRNEK: Primitive long ile toplama - boxing yok
+    public long calculateSumEfficiently(int max) {
+        long sum = 0L;
+        for (int i = 0; i < max; i++) {
+            sum += i;
+        }
+        return sum;
+    }
+
+    // İYİ ÖRNEK: Cache'lenmiş PreparedStatement - parametre bağlama, her çağrıda parse yok
+    private static final String USER_BY_ID = "SELECT name FROM users WHERE id = ?";
+    private static final String USERS_BY_IDS = "SELECT name FROM users WHERE id IN ";
+
+    public List<String> getUserDataSafely(QueryExecutor executor, String userId) throws SQLException {
+        return executor.query(USER_BY_ID, ps -> ps.setString(1, userId), rs -> rs.getString("name"));
+    }
+
+    // İYİ ÖRNEK: N kullanıcı tek IN (...) sorgusunda
+    public List<String> getUsersData(QueryExecutor executor, List<String> userIds) throws SQLException {
+        if (userIds.isEmpty()) {
+            return new ArrayList<>();
+        }
+        return executor.queryIn(USERS_BY_IDS, userIds, rs -> rs.getString("name"));
+    }
+
+    // İYİ ÖRNEK: Kaynak her durumda kapanır, sadece ilk satır okunur
+    public String readFileSafely(String path) throws IOException {
+        try (Stream<String> lines = LargeFileReader.lines(Paths.get(path))) {
+            return lines.findFirst().orElse(null);
+        }
+    }
+
+    private static final Path USER_FILE_ROOT = Paths.get("/var/data").toAbsolutePath().normalize();
+
+    // İYİ ÖRNEK: Yol normalize edilir ve kök dizin dışına çıkması engellenir
+    public String readUserFileSafely(String filename) throws IOException {
+        Path file = USER_FILE_ROOT.resolve(filename).normalize();
+        if (!file.startsWith(USER_FILE_ROOT)) {
+            throw new SecurityException("Path escapes " + USER_FILE_ROOT + ": " + filename);
+        }
+        return readFileSafely(file.toString());
+    }
+
+    // İYİ ÖRNEK: Sınıfa özel lock nesnesi - başka hiçbir kod aynı monitor'ü alamaz
+    private final Object privateLock = new Object();
+
+    public void synchronizedMethodSafely() {
+        synchronized (privateLock) {
+            // kritik bölge
+        }
+    }
+
+    // İYİ ÖRNEK: Kaynak başına kilit - farklı kaynaklar birbirini beklemez
+    private static final StripedLock resourceLocks = new StripedLock(64);
+
+    public void synchronizedOnResource(String resourceId, Runnable criticalSection) {
+        resourceLocks.run(resourceId, criticalSection);
+    }
+
+    // İYİ ÖRNEK: Tam kapasite hesaplanır, sayılar ara String olmadan buffer'a yazılır
+    public String buildLargeStringAssembled(int count) {
+        TextAssembler text = new TextAssembler(Math.toIntExact(TextAssembler.rangeLength(count, 1)));
+        for (int i = 0; i < count; i++) {
+            text.append(i).append(',');
+        }
+        return text.toString();
+    }
+
+    // İYİ ÖRNEK: Büyük CSV tek String'de toplanmaz, 64KB'lık parçalar halinde kanala yazılır
+    public long writeLargeString(int count, WritableByteChannel channel) {
+        TextAssembler text = new TextAssembler(channel, 64 * 1024);
+        for (int i = 0; i < count; i++) {
+            text.append(i).append(',');
+        }
+        text.flush();
+        return text.length();
+    }
+
+    // İYİ ÖRNEK: Geçersiz girdi exception değil durum olarak döner - stack trace oluşmaz
+    public int parseIntegerSafely(String value) {
+        return NumberParser.parseIntOr(value, 0);
+    }
+
+    // İYİ ÖRNEK: Sütun tek geçişte int[]'e; hatalı alanlar failed'de işaretlenir
+    public int parseIntegerColumn(List<String> values, int[] out, BitSet failed) {
+        return NumberParser.parseInts(values, out, 0, failed);
+    }
+
     public static void main(String[] args) throws Exception {
         SecurityIssues demo = new SecurityIssues();
 
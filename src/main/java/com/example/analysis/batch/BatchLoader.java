@@ -0,0 +1,144 @@
+package com.example.analysis.batch;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * DataLoader tarzı toplu yükleyici - N+1 sorgu problemine karşı
+ *
+ * - load(key) hemen bir future döner; key'ler biriktirilir
+ * - Biriken key'ler maxBatchSize'a ulaşınca, dispatch() çağrılınca veya
+ *   (scheduler verildiyse) ilk key'den tickDelay sonra tek bir batch çağrısıyla yüklenir
+ * - Aynı key ikinci kez istenirse aynı future döner (deduplication + istek süresince cache)
+ *
+ * Bir instance bir isteğin ömrü kadar yaşamalı; cache hiç boşaltılmaz.
+ */
+public final class BatchLoader<K, V> {
+
+    private final Function<? super Set<K>, ? extends Map<K, V>> batchFunction;
+    private final int maxBatchSize;
+    private final ScheduledExecutorService scheduler;
+    private final long tickDelayNanos;
+
+    private final Map<K, CompletableFuture<V>> cache = new HashMap<>();
+    private Map<K, CompletableFuture<V>> pending = new HashMap<>();
+    private boolean tickScheduled;
+    private long batchCalls;
+
+    /** Sadece maxBatchSize dolunca veya dispatch() ile yükler */
+    public BatchLoader(Function<? super Set<K>, ? extends Map<K, V>> batchFunction, int maxBatchSize) {
+        this(batchFunction, maxBatchSize, null, 0, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * @param scheduler null değilse bekleyen key'ler tickDelay sonunda otomatik yüklenir
+     */
+    public BatchLoader(Function<? super Set<K>, ? extends Map<K, V>> batchFunction, int maxBatchSize,
+                       ScheduledExecutorService scheduler, long tickDelay, TimeUnit unit) {
+        if (maxBatchSize <= 0) {
+            throw new IllegalArgumentException("maxBatchSize must be positive: " + maxBatchSize);
+        }
+        this.batchFunction = Objects.requireNonNull(batchFunction, "batchFunction");
+        this.maxBatchSize = maxBatchSize;
+        this.scheduler = scheduler;
+        this.tickDelayNanos = unit.toNanos(tickDelay);
+    }
+
+    public CompletableFuture<V> load(K key) {
+        Objects.requireNonNull(key, "key");
+        Map<K, CompletableFuture<V>> full = null;
+        CompletableFuture<V> future;
+        synchronized (this) {
+            future = cache.get(key);
+            if (future != null) {
+                return future;
+            }
+            future = new CompletableFuture<>();
+            cache.put(key, future);
+            pending.put(key, future);
+            if (pending.size() >= maxBatchSize) {
+                full = takePending();
+            } else if (scheduler != null && !tickScheduled) {
+                tickScheduled = true;
+                scheduler.schedule(this::dispatch, tickDelayNanos, TimeUnit.NANOSECONDS);
+            }
+        }
+        if (full != null) {
+            execute(full);
+        }
+        return future;
+    }
+
+    public List<CompletableFuture<V>> loadMany(Iterable<? extends K> keys) {
+        List<CompletableFuture<V>> futures = new ArrayList<>();
+        for (K key : keys) {
+            futures.add(load(key));
+        }
+        return futures;
+    }
+
+    /** Bekleyen key'leri hemen yükler */
+    public void dispatch() {
+        Map<K, CompletableFuture<V>> batch;
+        synchronized (this) {
+            batch = takePending();
+        }
+        if (!batch.isEmpty()) {
+            execute(batch);
+        }
+    }
+
+    /** Şimdiye kadar yapılan batch çağrısı sayısı */
+    public synchronized long batchCalls() {
+        return batchCalls;
+    }
+
+    private Map<K, CompletableFuture<V>> takePending() {
+        Map<K, CompletableFuture<V>> batch = pending;
+        pending = new HashMap<>();
+        tickScheduled = false;
+        if (!batch.isEmpty()) {
+            batchCalls++;
+        }
+        return batch;
+    }
+
+    private void execute(Map<K, CompletableFuture<V>> batch) {
+        try {
+            Map<K, V> results = batchFunction.apply(new LinkedHashSet<>(batch.keySet()));
+            if (results == null) {
+                throw new NullPointerException("batch function returned null for " + batch.size() + " keys");
+            }
+            for (Map.Entry<K, CompletableFuture<V>> entry : batch.entrySet()) {
+                // Sonuçta olmayan key null ile tamamlanır (kayıt yok)
+                entry.getValue().complete(results.get(entry.getKey()));
+            }
+        } catch (RuntimeException | Error e) {
+            fail(batch, e);
+        }
+    }
+
+    // Tamamlanmamış future'lar hatayla biter ve cache'ten çıkar; key'ler tekrar denenebilir
+    private void fail(Map<K, CompletableFuture<V>> batch, Throwable error) {
+        List<K> failed = new ArrayList<>();
+        for (Map.Entry<K, CompletableFuture<V>> entry : batch.entrySet()) {
+            if (entry.getValue().completeExceptionally(error)) {
+                failed.add(entry.getKey());
+            }
+        }
+        synchronized (this) {
+            for (K key : failed) {
+                cache.remove(key, batch.get(key));
+            }
+        }
+    }
+}
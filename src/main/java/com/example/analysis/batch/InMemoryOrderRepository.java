@@ -0,0 +1,68 @@
+package com.example.analysis.batch;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Veritabanı yerine geçen stub: her çağrı sabit bir gecikme ekler
+ * ve round trip sayısını tutar. Kullanıcı başına ordersPerUser sipariş üretir.
+ */
+public final class InMemoryOrderRepository implements OrderRepository {
+
+    private final long latencyNanos;
+    private final int ordersPerUser;
+    private final AtomicLong roundTrips = new AtomicLong();
+
+    public InMemoryOrderRepository(long latency, TimeUnit unit, int ordersPerUser) {
+        this.latencyNanos = unit.toNanos(latency);
+        this.ordersPerUser = ordersPerUser;
+    }
+
+    @Override
+    public List<String> getOrdersForUser(int userId) {
+        roundTrip();
+        return ordersOf(userId);
+    }
+
+    @Override
+    public Map<Integer, List<String>> getOrdersForUsers(Collection<Integer> userIds) {
+        roundTrip();
+        Map<Integer, List<String>> result = new HashMap<>((int) (userIds.size() / 0.75f) + 1);
+        for (Integer userId : userIds) {
+            result.put(userId, ordersOf(userId));
+        }
+        return result;
+    }
+
+    public long roundTrips() {
+        return roundTrips.get();
+    }
+
+    public void resetRoundTrips() {
+        roundTrips.set(0);
+    }
+
+    private List<String> ordersOf(int userId) {
+        List<String> orders = new ArrayList<>(ordersPerUser);
+        for (int i = 1; i <= ordersPerUser; i++) {
+            orders.add("Order" + userId + "-" + i);
+        }
+        return orders;
+    }
+
+    private void roundTrip() {
+        roundTrips.incrementAndGet();
+        if (latencyNanos > 0) {
+            try {
+                TimeUnit.NANOSECONDS.sleep(latencyNanos);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package com.example.analysis.batch;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Sipariş veri erişimi - her metot çağrısı bir veritabanı round trip'idir
+ */
+public interface OrderRepository {
+
+    /** SELECT * FROM orders WHERE user_id = ? */
+    List<String> getOrdersForUser(int userId);
+
+    /**
+     * SELECT * FROM orders WHERE user_id IN (...)
+     *
+     * @return siparişi olmayan kullanıcılar için boş liste içerir
+     */
+    Map<Integer, List<String>> getOrdersForUsers(Collection<Integer> userIds);
+}
@@ -0,0 +1,57 @@
+package com.example.analysis.cache;
+
+/**
+ * Cache istatistiklerinin anlık görüntüsü
+ */
+public final class CacheStats {
+
+    private final long hitCount;
+    private final long missCount;
+    private final long evictionCount;
+    private final long expirationCount;
+    private final long rejectionCount;
+
+    CacheStats(long hitCount, long missCount, long evictionCount, long expirationCount, long rejectionCount) {
+        this.hitCount = hitCount;
+        this.missCount = missCount;
+        this.evictionCount = evictionCount;
+        this.expirationCount = expirationCount;
+        this.rejectionCount = rejectionCount;
+    }
+
+    public long hitCount() {
+        return hitCount;
+    }
+
+    public long missCount() {
+        return missCount;
+    }
+
+    /** Bütçe aşımı nedeniyle atılan entry sayısı */
+    public long evictionCount() {
+        return evictionCount;
+    }
+
+    /** TTL süresi dolduğu için atılan entry sayısı */
+    public long expirationCount() {
+        return expirationCount;
+    }
+
+    /** Tek başına bütçeden ağır olduğu için cache'lenmeyen put sayısı */
+    public long rejectionCount() {
+        return rejectionCount;
+    }
+
+    public double hitRatio() {
+        long total = hitCount + missCount;
+        return total == 0 ? 0.0 : (double) hitCount / total;
+    }
+
+    @Override
+    public String toString() {
+        return "CacheStats{hits=" + hitCount + ", misses=" + missCount +
+            ", evictions=" + evictionCount + ", expirations=" + expirationCount +
+            ", rejections=" + rejectionCount +
+            ", hitRatio=" + String.format("%.3f", hitRatio()) + "}";
+    }
+}
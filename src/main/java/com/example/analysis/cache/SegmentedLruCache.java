@@ -0,0 +1,372 @@
+package com.example.analysis.cache;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.ToLongFunction;
+
+/**
+ * Byte bütçeli, segmentli LRU (SLRU) cache
+ *
+ * - Toplam ağırlık (byte) maxWeight'i aşmaz; weigher her değerin ağırlığını verir.
+ *   Bütçe segment başına bölünmez, tüm segment'lerin ortak sayacıdır: bütçe aşılınca
+ *   önce yazılan segment'in, yetmezse sırayla diğer segment'lerin en eski entry'leri atılır.
+ *   Eşzamanlı put'lar sırasında toplam, eviction bitene kadar kısa süre aşılabilir.
+ * - Her segment probation + protected olmak üzere iki LRU listesi tutar:
+ *   yeni entry probation'a girer, ikinci erişimde protected'a terfi eder.
+ *   Tek seferlik erişimler (scan) sık kullanılan entry'leri dışarı atamaz.
+ * - Key hash'ine göre seçilen segment'ler ayrı lock'lara sahiptir - global lock yok;
+ *   bir thread aynı anda en fazla bir segment lock'u tutar
+ * - Tek başına maxWeight'ten ağır değerler cache'lenmez; put false döner ve
+ *   {@link CacheStats#rejectionCount()} artar
+ * - Opsiyonel TTL (expire-after-write)
+ */
+public final class SegmentedLruCache<K, V> {
+
+    private static final int DEFAULT_SEGMENTS = 64;
+    // Protected bölümün toplam bütçedeki payı
+    private static final double PROTECTED_RATIO = 0.8;
+
+    private final Segment<K, V>[] segments;
+    private final int segmentMask;
+    private final long maxWeight;
+    private final ToLongFunction<? super V> weigher;
+    private final long ttlNanos;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder expirations = new LongAdder();
+    private final LongAdder rejections = new LongAdder();
+
+    private final AtomicLong totalWeight = new AtomicLong();
+    private final AtomicLong protectedWeight = new AtomicLong();
+    private final long protectedBudget;
+    // Diğer segment'lerden eviction'a başlanacak yer - hep aynı segment boşaltılmasın
+    private final AtomicInteger evictionCursor = new AtomicInteger();
+
+    public SegmentedLruCache(long maxWeight, ToLongFunction<? super V> weigher) {
+        this(maxWeight, weigher, 0, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * @param ttl 0 ise entry'ler süresiz tutulur
+     */
+    public SegmentedLruCache(long maxWeight, ToLongFunction<? super V> weigher,
+                             long ttl, TimeUnit unit) {
+        this(maxWeight, weigher, ttl, unit, DEFAULT_SEGMENTS);
+    }
+
+    public SegmentedLruCache(long maxWeight, ToLongFunction<? super V> weigher,
+                             long ttl, TimeUnit unit, int segmentCount) {
+        if (maxWeight <= 0) {
+            throw new IllegalArgumentException("maxWeight must be positive: " + maxWeight);
+        }
+        if (ttl < 0) {
+            throw new IllegalArgumentException("ttl must not be negative: " + ttl);
+        }
+        this.maxWeight = maxWeight;
+        this.weigher = Objects.requireNonNull(weigher, "weigher");
+        this.ttlNanos = unit.toNanos(ttl);
+        this.protectedBudget = (long) (maxWeight * PROTECTED_RATIO);
+
+        if (segmentCount <= 0) {
+            throw new IllegalArgumentException("segmentCount must be positive: " + segmentCount);
+        }
+        // 2'nin kuvveti - hash & mask ile segment seçimi
+        int count = 1;
+        while (count < segmentCount) {
+            count <<= 1;
+        }
+        this.segments = newSegments(count);
+        this.segmentMask = count - 1;
+        for (int i = 0; i < count; i++) {
+            segments[i] = new Segment<>(this);
+        }
+    }
+
+    public V get(K key) {
+        Objects.requireNonNull(key, "key");
+        V value = segmentFor(key).get(key, ttlNanos > 0 ? System.nanoTime() : 0L);
+        if (value != null) {
+            hits.increment();
+        } else {
+            misses.increment();
+        }
+        return value;
+    }
+
+    /**
+     * maxWeight'ten ağır değer cache'lenmez (key'in eski değeri de çıkarılır)
+     *
+     * @return değer cache'e alındıysa true, ağırlığı nedeniyle reddedildiyse false
+     */
+    public boolean put(K key, V value) {
+        Objects.requireNonNull(key, "key");
+        Objects.requireNonNull(value, "value");
+        long weight = weigher.applyAsLong(value);
+        if (weight < 0) {
+            throw new IllegalArgumentException("weight must not be negative: " + weight);
+        }
+        Segment<K, V> segment = segmentFor(key);
+        if (weight > maxWeight) {
+            segment.remove(key);
+            rejections.increment();
+            return false;
+        }
+        segment.put(key, value, weight, ttlNanos > 0 ? System.nanoTime() : 0L);
+        if (totalWeight.get() > maxWeight) {
+            evictFromOtherSegments(segment);
+        }
+        return true;
+    }
+
+    public V remove(K key) {
+        Objects.requireNonNull(key, "key");
+        return segmentFor(key).remove(key);
+    }
+
+    public void clear() {
+        for (Segment<K, V> segment : segments) {
+            segment.clear();
+        }
+    }
+
+    /** Cache'te tutulan toplam ağırlık (byte) */
+    public long weightedSize() {
+        return totalWeight.get();
+    }
+
+    public int size() {
+        int total = 0;
+        for (Segment<K, V> segment : segments) {
+            total += segment.size();
+        }
+        return total;
+    }
+
+    public long maxWeight() {
+        return maxWeight;
+    }
+
+    public CacheStats stats() {
+        return new CacheStats(hits.sum(), misses.sum(), evictions.sum(), expirations.sum(), rejections.sum());
+    }
+
+    // Yazılan segment yetmediyse bütçe karşılanana kadar diğer segment'ler sırayla
+    private void evictFromOtherSegments(Segment<K, V> written) {
+        int start = evictionCursor.getAndIncrement();
+        for (int i = 0; i < segments.length && totalWeight.get() > maxWeight; i++) {
+            Segment<K, V> segment = segments[(start + i) & segmentMask];
+            if (segment != written) {
+                segment.evictOldest();
+            }
+        }
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static <K, V> Segment<K, V>[] newSegments(int count) {
+        return new Segment[count];
+    }
+
+    private Segment<K, V> segmentFor(Object key) {
+        int h = key.hashCode();
+        h ^= (h >>> 16);
+        h *= 0x85ebca6b;
+        h ^= (h >>> 13);
+        return segments[h & segmentMask];
+    }
+
+    private static final class Node<V> {
+        final V value;
+        final long weight;
+        final long writeNanos;
+        boolean isProtected;
+
+        Node(V value, long weight, long writeNanos) {
+            this.value = value;
+            this.weight = weight;
+            this.writeNanos = writeNanos;
+        }
+    }
+
+    private static final class Segment<SK, SV> {
+        private final ReentrantLock lock = new ReentrantLock();
+        private final SegmentedLruCache<?, ?> owner;
+        // Insertion order - baştaki en eski
+        private final LinkedHashMap<SK, Node<SV>> probation = new LinkedHashMap<>();
+        // Access order - baştaki en az kullanılan
+        private final LinkedHashMap<SK, Node<SV>> protectedZone = new LinkedHashMap<>(16, 0.75f, true);
+        private long probationWeight;
+        private long protectedWeight;
+
+        Segment(SegmentedLruCache<?, ?> owner) {
+            this.owner = owner;
+        }
+
+        SV get(SK key, long now) {
+            lock.lock();
+            try {
+                Node<SV> node = protectedZone.get(key);
+                if (node == null) {
+                    node = probation.get(key);
+                    if (node == null) {
+                        return null;
+                    }
+                }
+                if (isExpired(node, now)) {
+                    removeNode(key, node);
+                    owner.expirations.increment();
+                    return null;
+                }
+                if (!node.isProtected) {
+                    promote(key, node);
+                }
+                return node.value;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        void put(SK key, SV value, long weight, long now) {
+            lock.lock();
+            try {
+                Node<SV> old = protectedZone.get(key);
+                if (old == null) {
+                    old = probation.get(key);
+                }
+                if (old != null) {
+                    removeNode(key, old);
+                }
+                Node<SV> node = new Node<>(value, weight, now);
+                probation.put(key, node);
+                probationWeight += weight;
+                owner.totalWeight.addAndGet(weight);
+                evictLocked(node);
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        SV remove(SK key) {
+            lock.lock();
+            try {
+                Node<SV> node = protectedZone.get(key);
+                if (node == null) {
+                    node = probation.get(key);
+                }
+                if (node == null) {
+                    return null;
+                }
+                removeNode(key, node);
+                return node.value;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        void clear() {
+            lock.lock();
+            try {
+                probation.clear();
+                protectedZone.clear();
+                owner.totalWeight.addAndGet(-(probationWeight + protectedWeight));
+                owner.protectedWeight.addAndGet(-protectedWeight);
+                probationWeight = 0;
+                protectedWeight = 0;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        int size() {
+            lock.lock();
+            try {
+                return probation.size() + protectedZone.size();
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private boolean isExpired(Node<SV> node, long now) {
+            return owner.ttlNanos > 0 && now - node.writeNanos >= owner.ttlNanos;
+        }
+
+        private void promote(SK key, Node<SV> node) {
+            probation.remove(key);
+            probationWeight -= node.weight;
+            node.isProtected = true;
+            protectedZone.put(key, node);
+            protectedWeight += node.weight;
+            owner.protectedWeight.addAndGet(node.weight);
+
+            // Protected (toplamda) taşarsa bu segment'in en az kullanılanlarını probation'a geri indir
+            Iterator<Map.Entry<SK, Node<SV>>> it = protectedZone.entrySet().iterator();
+            while (owner.protectedWeight.get() > owner.protectedBudget && it.hasNext()) {
+                Map.Entry<SK, Node<SV>> eldest = it.next();
+                if (eldest.getValue() == node) {
+                    break;
+                }
+                it.remove();
+                Node<SV> demoted = eldest.getValue();
+                demoted.isProtected = false;
+                protectedWeight -= demoted.weight;
+                owner.protectedWeight.addAndGet(-demoted.weight);
+                probation.put(eldest.getKey(), demoted);
+                probationWeight += demoted.weight;
+            }
+        }
+
+        private void removeNode(SK key, Node<SV> node) {
+            if (node.isProtected) {
+                protectedZone.remove(key);
+                protectedWeight -= node.weight;
+                owner.protectedWeight.addAndGet(-node.weight);
+            } else {
+                probation.remove(key);
+                probationWeight -= node.weight;
+            }
+            owner.totalWeight.addAndGet(-node.weight);
+        }
+
+        /** Toplam bütçe aşıldıysa bu segment'ten atar */
+        void evictOldest() {
+            lock.lock();
+            try {
+                evictLocked(null);
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        // Bütçe aşıldığı sürece önce probation, sonra protected'ın en eski entry'leri; keep atılmaz
+        private void evictLocked(Node<SV> keep) {
+            evictFrom(probation.entrySet().iterator(), keep);
+            evictFrom(protectedZone.entrySet().iterator(), keep);
+        }
+
+        private void evictFrom(Iterator<Map.Entry<SK, Node<SV>>> it, Node<SV> keep) {
+            while (owner.totalWeight.get() > owner.maxWeight && it.hasNext()) {
+                Node<SV> victim = it.next().getValue();
+                if (victim == keep) {
+                    continue;
+                }
+                it.remove();
+                if (victim.isProtected) {
+                    protectedWeight -= victim.weight;
+                    owner.protectedWeight.addAndGet(-victim.weight);
+                } else {
+                    probationWeight -= victim.weight;
+                }
+                owner.totalWeight.addAndGet(-victim.weight);
+                owner.evictions.increment();
+            }
+        }
+    }
+}
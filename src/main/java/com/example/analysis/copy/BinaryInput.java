@@ -0,0 +1,105 @@
+package com.example.analysis.copy;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * BinaryOutput formatını byte[] üzerinden okur
+ */
+final class BinaryInput {
+
+    private final byte[] buffer;
+    private final int limit;
+    private int position;
+
+    BinaryInput(byte[] buffer, int offset, int length) {
+        this.buffer = buffer;
+        this.position = offset;
+        this.limit = offset + length;
+    }
+
+    private void require(int count) {
+        if (count < 0 || limit - position < count) {
+            throw new IllegalArgumentException("Truncated input at offset " + position);
+        }
+    }
+
+    int readByte() {
+        require(1);
+        return buffer[position++];
+    }
+
+    int readVarInt() {
+        int result = 0;
+        for (int shift = 0; shift < 35; shift += 7) {
+            int b = readByte();
+            result |= (b & 0x7F) << shift;
+            if (b >= 0) {
+                return result;
+            }
+        }
+        throw new IllegalArgumentException("Malformed varint at offset " + position);
+    }
+
+    long readVarLong() {
+        long result = 0;
+        for (int shift = 0; shift < 70; shift += 7) {
+            int b = readByte();
+            result |= (long) (b & 0x7F) << shift;
+            if (b >= 0) {
+                return result;
+            }
+        }
+        throw new IllegalArgumentException("Malformed varlong at offset " + position);
+    }
+
+    int readSignedVarInt() {
+        int raw = readVarInt();
+        return (raw >>> 1) ^ -(raw & 1);
+    }
+
+    long readSignedVarLong() {
+        long raw = readVarLong();
+        return (raw >>> 1) ^ -(raw & 1);
+    }
+
+    long readLong() {
+        require(8);
+        long value = 0;
+        for (int i = 0; i < 8; i++) {
+            value = (value << 8) | (buffer[position++] & 0xFF);
+        }
+        return value;
+    }
+
+    int readInt() {
+        require(4);
+        int value = (buffer[position] & 0xFF) << 24 | (buffer[position + 1] & 0xFF) << 16
+            | (buffer[position + 2] & 0xFF) << 8 | (buffer[position + 3] & 0xFF);
+        position += 4;
+        return value;
+    }
+
+    /** Uzunluk önekli dizi için - uzunluk kalan byte'tan büyükse reddedilir */
+    int readLength(int bytesPerElement) {
+        int length = readVarInt();
+        require((int) Math.min(Integer.MAX_VALUE, (long) length * bytesPerElement));
+        return length;
+    }
+
+    void readBytes(byte[] target, int offset, int length) {
+        require(length);
+        System.arraycopy(buffer, position, target, offset, length);
+        position += length;
+    }
+
+    String readString() {
+        int length = readLength(1);
+        String value = new String(buffer, position, length, StandardCharsets.UTF_8);
+        position += length;
+        return value;
+    }
+
+    boolean hasRemaining() {
+        return position < limit;
+    }
+}
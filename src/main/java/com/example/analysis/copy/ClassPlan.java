@@ -0,0 +1,131 @@
+package com.example.analysis.copy;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.RecordComponent;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Bir sınıf için bir kez üretilen kopyalama/serileştirme planı
+ *
+ * - instantiator: sınıfın (erişim belirleyicisi fark etmez) no-arg constructor'ı;
+ *   yoksa plan üretilmez ve CopyKind SERIALIZABLE/UNSUPPORTED yoluna düşer
+ * - primitiveCopy: tüm primitive ve değiştirilemez-tipli field'ları tek MethodHandle zincirinde kopyalar
+ * - deepFields: özyinelemeli kopyalanması gereken referans field'lar
+ * - Record'larda field'lar yazılamaz: canonical constructor kullanılır
+ *
+ * Planlar ClassValue'da tutulur; sınıf unload edildiğinde plan da gider.
+ */
+final class ClassPlan {
+
+    private static final ClassValue<ClassPlan> PLANS = new ClassValue<>() {
+        @Override
+        protected ClassPlan computeValue(Class<?> type) {
+            return new ClassPlan(type);
+        }
+    };
+
+    private static final MethodHandle NO_OP =
+        MethodHandles.empty(MethodType.methodType(void.class, Object.class, Object.class));
+
+    final Class<?> type;
+    final FieldAccess[] fields;
+    final FieldAccess[] deepFields;
+    final MethodHandle primitiveCopy;
+    final boolean record;
+    /** Record'larda (Object[] components)Object */
+    final MethodHandle canonicalConstructor;
+    private final MethodHandle instantiator;
+
+    static ClassPlan of(Class<?> type) {
+        return PLANS.get(type);
+    }
+
+    private ClassPlan(Class<?> type) {
+        if (type.isArray() || type.isInterface() || Modifier.isAbstract(type.getModifiers())) {
+            throw new IllegalArgumentException("No instance plan for " + type.getName());
+        }
+        this.type = type;
+        this.record = type.isRecord();
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.privateLookupIn(type, MethodHandles.lookup());
+            List<FieldAccess> all = new ArrayList<>();
+            if (record) {
+                // Bileşen sırası canonical constructor sırasıdır
+                RecordComponent[] components = type.getRecordComponents();
+                Class<?>[] types = new Class<?>[components.length];
+                for (int i = 0; i < components.length; i++) {
+                    types[i] = components[i].getType();
+                    all.add(new FieldAccess(lookup, type.getDeclaredField(components[i].getName()), true));
+                }
+                this.canonicalConstructor = lookup.findConstructor(type, MethodType.methodType(void.class, types))
+                    .asSpreader(Object[].class, types.length)
+                    .asType(MethodType.methodType(Object.class, Object[].class));
+                this.instantiator = null;
+            } else {
+                for (Class<?> c = type; c != null && c != Object.class; c = c.getSuperclass()) {
+                    for (Field field : c.getDeclaredFields()) {
+                        if (!Modifier.isStatic(field.getModifiers())) {
+                            all.add(new FieldAccess(lookup(lookup, c), field, false));
+                        }
+                    }
+                }
+                this.canonicalConstructor = null;
+                this.instantiator = instantiator(lookup, type);
+            }
+            this.fields = all.toArray(new FieldAccess[0]);
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            throw new IllegalArgumentException("Cannot build copy plan for " + type.getName()
+                + " (no no-arg constructor, or JDK internal type not open to reflection)", e);
+        }
+
+        MethodHandle chain = NO_OP;
+        List<FieldAccess> deep = new ArrayList<>();
+        if (!record) {
+            for (FieldAccess field : fields) {
+                if (field.shareable) {
+                    chain = MethodHandles.foldArguments(chain, field.shallowCopy);
+                } else {
+                    deep.add(field);
+                }
+            }
+        }
+        this.primitiveCopy = chain;
+        this.deepFields = deep.toArray(new FieldAccess[0]);
+    }
+
+    Object newInstance() {
+        try {
+            return instantiator.invokeExact();
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable t) {
+            throw new IllegalStateException("Cannot instantiate " + type.getName(), t);
+        }
+    }
+
+    Object newRecord(Object[] components) {
+        try {
+            return canonicalConstructor.invokeExact(components);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable t) {
+            throw new IllegalStateException("Cannot construct record " + type.getName(), t);
+        }
+    }
+
+    private static MethodHandles.Lookup lookup(MethodHandles.Lookup base, Class<?> declaring) throws IllegalAccessException {
+        return declaring == base.lookupClass() ? base : MethodHandles.privateLookupIn(declaring, MethodHandles.lookup());
+    }
+
+    private static MethodHandle instantiator(MethodHandles.Lookup lookup, Class<?> type)
+            throws ReflectiveOperationException {
+        // Constructor'ın atadığı değerlerin üzerine tüm field'lar yazılır
+        return lookup.findConstructor(type, MethodType.methodType(void.class))
+            .asType(MethodType.methodType(Object.class));
+    }
+}
@@ -0,0 +1,598 @@
+package com.example.analysis.copy;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Kompakt binary serializer - ObjectOutputStream yerine, byte gerçekten gerektiğinde
+ *
+ * - Sınıf adı yerine kayıt sırasındaki küçük id yazılır; sadece kayıtlı sınıflar
+ *   (ve yerleşik tipler) okunabilir - akıştan rastgele sınıf yüklenmez
+ * - Sayılar varint, field'lar ClassPlan sırasıyla isimsiz yazılır
+ * - Döngüler ve paylaşılan referanslar geri-referans ile korunur
+ * - Çıktı buffer'ları pool'da tutulur ve tekrar kullanılır
+ *
+ * Yerleşik tipler: null, String, boxed primitive'ler, primitive diziler, Object[],
+ * ArrayList, LinkedList, HashSet, LinkedHashSet, HashMap, LinkedHashMap,
+ * List.of/Set.of/Map.of. Kayıtlı enum, record ve no-arg constructor'ı olan sınıflar.
+ *
+ * Format sınıf yapısına bağlıdır: yazan ve okuyan tarafta aynı sınıf sürümü ve
+ * aynı kayıt sırası olmalı. Thread-safe.
+ */
+public final class CompactSerializer {
+
+    private static final int NULL = 0;
+    private static final int BACK_REF = 1;
+    private static final int STRING = 2;
+    private static final int TRUE = 3;
+    private static final int FALSE = 4;
+    private static final int INT = 5;
+    private static final int LONG = 6;
+    private static final int DOUBLE = 7;
+    private static final int FLOAT = 8;
+    private static final int SHORT = 9;
+    private static final int BYTE = 10;
+    private static final int CHAR = 11;
+    private static final int ENUM = 12;
+    private static final int BYTES = 13;
+    private static final int INTS = 14;
+    private static final int LONGS = 15;
+    private static final int DOUBLES = 16;
+    private static final int CHARS = 17;
+    private static final int FLOATS = 18;
+    private static final int SHORTS = 19;
+    private static final int BOOLEANS = 20;
+    private static final int OBJECT_ARRAY = 21;
+    private static final int ARRAY_LIST = 22;
+    private static final int LINKED_LIST = 23;
+    private static final int HASH_SET = 24;
+    private static final int LINKED_HASH_SET = 25;
+    private static final int HASH_MAP = 26;
+    private static final int LINKED_HASH_MAP = 27;
+    private static final int IMMUTABLE_LIST = 28;
+    private static final int IMMUTABLE_SET = 29;
+    private static final int IMMUTABLE_MAP = 30;
+    private static final int OBJECT = 31;
+    private static final int RECORD = 32;
+
+    private static final int POOL_SIZE = 8;
+    private static final int INITIAL_BUFFER = 4096;
+
+    private final Map<Class<?>, Integer> typeIds = new HashMap<>();
+    private final Class<?>[] types;
+    private final int maxRetainedBuffer;
+    private final ConcurrentLinkedQueue<BinaryOutput> outputs = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger pooled = new AtomicInteger();
+
+    public CompactSerializer(Class<?>... registeredTypes) {
+        this(64 * 1024 * 1024, registeredTypes);
+    }
+
+    /**
+     * @param maxRetainedBuffer bu boyuttan büyüyen çıktı buffer'ları pool'a geri konmaz
+     */
+    public CompactSerializer(int maxRetainedBuffer, Class<?>... registeredTypes) {
+        this.maxRetainedBuffer = maxRetainedBuffer;
+        this.types = registeredTypes.clone();
+        for (int i = 0; i < types.length; i++) {
+            Class<?> type = types[i];
+            if (!type.isEnum()) {
+                // Plan kayıt anında üretilir - desteklenmeyen sınıf erken hata verir
+                ClassPlan.of(type);
+            }
+            if (typeIds.putIfAbsent(type, i) != null) {
+                throw new IllegalArgumentException("Type registered twice: " + type.getName());
+            }
+        }
+    }
+
+    public byte[] serialize(Object value) {
+        BinaryOutput out = outputs.poll();
+        if (out == null) {
+            out = new BinaryOutput(INITIAL_BUFFER);
+        } else {
+            pooled.decrementAndGet();
+        }
+        try {
+            new Writer(out).write(value);
+            return out.toByteArray();
+        } finally {
+            out.reset();
+            if (out.capacity() <= maxRetainedBuffer && pooled.incrementAndGet() <= POOL_SIZE) {
+                outputs.offer(out);
+            } else if (out.capacity() <= maxRetainedBuffer) {
+                pooled.decrementAndGet();
+            }
+        }
+    }
+
+    public Object deserialize(byte[] bytes) {
+        return deserialize(bytes, 0, bytes.length);
+    }
+
+    public Object deserialize(byte[] bytes, int offset, int length) {
+        BinaryInput in = new BinaryInput(bytes, offset, length);
+        Object value = new Reader(in).read();
+        if (in.hasRemaining()) {
+            throw new IllegalArgumentException("Trailing bytes after serialized value");
+        }
+        return value;
+    }
+
+    public <T> T deserialize(byte[] bytes, Class<T> type) {
+        return type.cast(deserialize(bytes));
+    }
+
+    private int typeId(Class<?> type) {
+        Integer id = typeIds.get(type);
+        if (id == null) {
+            throw new IllegalArgumentException("Type not registered with CompactSerializer: " + type.getName());
+        }
+        return id;
+    }
+
+    private Class<?> type(int id) {
+        if (id < 0 || id >= types.length) {
+            throw new IllegalArgumentException("Unknown type id " + id);
+        }
+        return types[id];
+    }
+
+    private final class Writer {
+
+        private final BinaryOutput out;
+        private final IdentityHashMap<Object, Integer> written = new IdentityHashMap<>(64);
+
+        Writer(BinaryOutput out) {
+            this.out = out;
+        }
+
+        void write(Object value) {
+            if (value == null) {
+                out.writeByte(NULL);
+                return;
+            }
+            Class<?> type = value.getClass();
+            if (writeScalar(value, type)) {
+                return;
+            }
+            Integer ref = written.get(value);
+            if (ref != null) {
+                out.writeByte(BACK_REF);
+                out.writeVarInt(ref);
+                return;
+            }
+            written.put(value, written.size());
+            switch (CopyKind.of(type)) {
+                case PRIMITIVE_ARRAY:
+                    writePrimitiveArray(value);
+                    break;
+                case OBJECT_ARRAY:
+                    if (type != Object[].class) {
+                        throw new IllegalArgumentException("Only Object[] arrays are supported, not " + type.getName());
+                    }
+                    Object[] array = (Object[]) value;
+                    out.writeByte(OBJECT_ARRAY);
+                    out.writeVarInt(array.length);
+                    for (Object element : array) {
+                        write(element);
+                    }
+                    break;
+                case ARRAY_LIST:
+                    writeCollection(ARRAY_LIST, (Collection<?>) value);
+                    break;
+                case LINKED_LIST:
+                    writeCollection(LINKED_LIST, (Collection<?>) value);
+                    break;
+                case HASH_SET:
+                    writeCollection(HASH_SET, (Collection<?>) value);
+                    break;
+                case LINKED_HASH_SET:
+                    writeCollection(LINKED_HASH_SET, (Collection<?>) value);
+                    break;
+                case IMMUTABLE_LIST:
+                    writeCollection(IMMUTABLE_LIST, (Collection<?>) value);
+                    break;
+                case IMMUTABLE_SET:
+                    writeCollection(IMMUTABLE_SET, (Collection<?>) value);
+                    break;
+                case HASH_MAP:
+                    writeMap(HASH_MAP, (Map<?, ?>) value);
+                    break;
+                case LINKED_HASH_MAP:
+                    writeMap(LINKED_HASH_MAP, (Map<?, ?>) value);
+                    break;
+                case IMMUTABLE_MAP:
+                    writeMap(IMMUTABLE_MAP, (Map<?, ?>) value);
+                    break;
+                case RECORD:
+                    out.writeByte(RECORD);
+                    out.writeVarInt(typeId(type));
+                    writeFields(value, ClassPlan.of(type));
+                    break;
+                case OBJECT:
+                    out.writeByte(OBJECT);
+                    out.writeVarInt(typeId(type));
+                    writeFields(value, ClassPlan.of(type));
+                    break;
+                default:
+                    throw new IllegalArgumentException("CompactSerializer does not support " + type.getName());
+            }
+        }
+
+        private boolean writeScalar(Object value, Class<?> type) {
+            if (type == String.class) {
+                out.writeByte(STRING);
+                out.writeString((String) value);
+            } else if (type == Integer.class) {
+                out.writeByte(INT);
+                out.writeSignedVarInt((Integer) value);
+            } else if (type == Long.class) {
+                out.writeByte(LONG);
+                out.writeSignedVarLong((Long) value);
+            } else if (type == Boolean.class) {
+                out.writeByte((Boolean) value ? TRUE : FALSE);
+            } else if (type == Double.class) {
+                out.writeByte(DOUBLE);
+                out.writeLong(Double.doubleToRawLongBits((Double) value));
+            } else if (type == Float.class) {
+                out.writeByte(FLOAT);
+                out.writeInt(Float.floatToRawIntBits((Float) value));
+            } else if (type == Short.class) {
+                out.writeByte(SHORT);
+                out.writeSignedVarInt((Short) value);
+            } else if (type == Byte.class) {
+                out.writeByte(BYTE);
+                out.writeByte((Byte) value);
+            } else if (type == Character.class) {
+                out.writeByte(CHAR);
+                out.writeVarInt((Character) value);
+            } else if (value instanceof Enum) {
+                Enum<?> constant = (Enum<?>) value;
+                out.writeByte(ENUM);
+                out.writeVarInt(typeId(constant.getDeclaringClass()));
+                out.writeVarInt(constant.ordinal());
+            } else {
+                return false;
+            }
+            return true;
+        }
+
+        private void writePrimitiveArray(Object value) {
+            if (value instanceof byte[]) {
+                byte[] a = (byte[]) value;
+                out.writeByte(BYTES);
+                out.writeVarInt(a.length);
+                out.writeBytes(a, 0, a.length);
+            } else if (value instanceof int[]) {
+                int[] a = (int[]) value;
+                out.writeByte(INTS);
+                out.writeVarInt(a.length);
+                for (int v : a) out.writeSignedVarInt(v);
+            } else if (value instanceof long[]) {
+                long[] a = (long[]) value;
+                out.writeByte(LONGS);
+                out.writeVarInt(a.length);
+                for (long v : a) out.writeSignedVarLong(v);
+            } else if (value instanceof double[]) {
+                double[] a = (double[]) value;
+                out.writeByte(DOUBLES);
+                out.writeVarInt(a.length);
+                for (double v : a) out.writeLong(Double.doubleToRawLongBits(v));
+            } else if (value instanceof char[]) {
+                char[] a = (char[]) value;
+                out.writeByte(CHARS);
+                out.writeVarInt(a.length);
+                for (char v : a) out.writeVarInt(v);
+            } else if (value instanceof float[]) {
+                float[] a = (float[]) value;
+                out.writeByte(FLOATS);
+                out.writeVarInt(a.length);
+                for (float v : a) out.writeInt(Float.floatToRawIntBits(v));
+            } else if (value instanceof short[]) {
+                short[] a = (short[]) value;
+                out.writeByte(SHORTS);
+                out.writeVarInt(a.length);
+                for (short v : a) out.writeSignedVarInt(v);
+            } else {
+                boolean[] a = (boolean[]) value;
+                out.writeByte(BOOLEANS);
+                out.writeVarInt(a.length);
+                for (boolean v : a) out.writeByte(v ? 1 : 0);
+            }
+        }
+
+        private void writeCollection(int tag, Collection<?> collection) {
+            out.writeByte(tag);
+            out.writeVarInt(collection.size());
+            for (Object element : collection) {
+                write(element);
+            }
+        }
+
+        private void writeMap(int tag, Map<?, ?> map) {
+            out.writeByte(tag);
+            out.writeVarInt(map.size());
+            for (Map.Entry<?, ?> entry : map.entrySet()) {
+                write(entry.getKey());
+                write(entry.getValue());
+            }
+        }
+
+        private void writeFields(Object value, ClassPlan plan) {
+            try {
+                for (FieldAccess field : plan.fields) {
+                    switch (field.kind) {
+                        case BOOLEAN: out.writeByte((boolean) field.getter.invokeExact(value) ? 1 : 0); break;
+                        case BYTE: out.writeByte((byte) field.getter.invokeExact(value)); break;
+                        case CHAR: out.writeVarInt((char) field.getter.invokeExact(value)); break;
+                        case SHORT: out.writeSignedVarInt((short) field.getter.invokeExact(value)); break;
+                        case INT: out.writeSignedVarInt((int) field.getter.invokeExact(value)); break;
+                        case LONG: out.writeSignedVarLong((long) field.getter.invokeExact(value)); break;
+                        case FLOAT: out.writeInt(Float.floatToRawIntBits((float) field.getter.invokeExact(value))); break;
+                        case DOUBLE: out.writeLong(Double.doubleToRawLongBits((double) field.getter.invokeExact(value))); break;
+                        default: write((Object) field.getter.invokeExact(value));
+                    }
+                }
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable t) {
+                throw new IllegalStateException("Cannot serialize " + plan.type.getName(), t);
+            }
+        }
+    }
+
+    private final class Reader {
+
+        private final BinaryInput in;
+        private final List<Object> refs = new ArrayList<>(64);
+
+        Reader(BinaryInput in) {
+            this.in = in;
+        }
+
+        Object read() {
+            int tag = in.readByte();
+            switch (tag) {
+                case NULL: return null;
+                case BACK_REF: {
+                    int index = in.readVarInt();
+                    if (index < 0 || index >= refs.size() || refs.get(index) == null) {
+                        throw new IllegalArgumentException("Invalid back-reference " + index);
+                    }
+                    return refs.get(index);
+                }
+                case STRING: return in.readString();
+                case TRUE: return Boolean.TRUE;
+                case FALSE: return Boolean.FALSE;
+                case INT: return in.readSignedVarInt();
+                case LONG: return in.readSignedVarLong();
+                case DOUBLE: return Double.longBitsToDouble(in.readLong());
+                case FLOAT: return Float.intBitsToFloat(in.readInt());
+                case SHORT: return (short) in.readSignedVarInt();
+                case BYTE: return (byte) in.readByte();
+                case CHAR: return (char) in.readVarInt();
+                case ENUM: {
+                    Class<?> type = type(in.readVarInt());
+                    Object[] constants = type.getEnumConstants();
+                    int ordinal = in.readVarInt();
+                    if (constants == null || ordinal < 0 || ordinal >= constants.length) {
+                        throw new IllegalArgumentException("Invalid enum constant " + ordinal + " for " + type.getName());
+                    }
+                    return constants[ordinal];
+                }
+                case BYTES: {
+                    byte[] a = new byte[in.readLength(1)];
+                    in.readBytes(a, 0, a.length);
+                    return register(a);
+                }
+                case INTS: {
+                    int[] a = new int[in.readLength(1)];
+                    for (int i = 0; i < a.length; i++) a[i] = in.readSignedVarInt();
+                    return register(a);
+                }
+                case LONGS: {
+                    long[] a = new long[in.readLength(1)];
+                    for (int i = 0; i < a.length; i++) a[i] = in.readSignedVarLong();
+                    return register(a);
+                }
+                case DOUBLES: {
+                    double[] a = new double[in.readLength(8)];
+                    for (int i = 0; i < a.length; i++) a[i] = Double.longBitsToDouble(in.readLong());
+                    return register(a);
+                }
+                case CHARS: {
+                    char[] a = new char[in.readLength(1)];
+                    for (int i = 0; i < a.length; i++) a[i] = (char) in.readVarInt();
+                    return register(a);
+                }
+                case FLOATS: {
+                    float[] a = new float[in.readLength(4)];
+                    for (int i = 0; i < a.length; i++) a[i] = Float.intBitsToFloat(in.readInt());
+                    return register(a);
+                }
+                case SHORTS: {
+                    short[] a = new short[in.readLength(1)];
+                    for (int i = 0; i < a.length; i++) a[i] = (short) in.readSignedVarInt();
+                    return register(a);
+                }
+                case BOOLEANS: {
+                    boolean[] a = new boolean[in.readLength(1)];
+                    for (int i = 0; i < a.length; i++) a[i] = in.readByte() != 0;
+                    return register(a);
+                }
+                case OBJECT_ARRAY: {
+                    Object[] a = new Object[in.readLength(1)];
+                    register(a);
+                    for (int i = 0; i < a.length; i++) a[i] = read();
+                    return a;
+                }
+                case ARRAY_LIST: {
+                    int size = in.readLength(1);
+                    return readInto(new ArrayList<>(size), size);
+                }
+                case LINKED_LIST:
+                    return readInto(new LinkedList<>(), in.readLength(1));
+                case HASH_SET: {
+                    int size = in.readLength(1);
+                    return readInto(new HashSet<>(capacity(size)), size);
+                }
+                case LINKED_HASH_SET: {
+                    int size = in.readLength(1);
+                    return readInto(new LinkedHashSet<>(capacity(size)), size);
+                }
+                case HASH_MAP: {
+                    int size = in.readLength(2);
+                    return readInto(new HashMap<>(capacity(size)), size);
+                }
+                case LINKED_HASH_MAP: {
+                    int size = in.readLength(2);
+                    return readInto(new LinkedHashMap<>(capacity(size)), size);
+                }
+                case IMMUTABLE_LIST:
+                case IMMUTABLE_SET:
+                    return readImmutableCollection(tag);
+                case IMMUTABLE_MAP:
+                    return readImmutableMap();
+                case OBJECT:
+                    return readObject(ClassPlan.of(type(in.readVarInt())));
+                case RECORD:
+                    return readRecord(ClassPlan.of(type(in.readVarInt())));
+                default:
+                    throw new IllegalArgumentException("Unknown tag " + tag);
+            }
+        }
+
+        private Object register(Object value) {
+            refs.add(value);
+            return value;
+        }
+
+        private Collection<Object> readInto(Collection<Object> target, int size) {
+            register(target);
+            for (int i = 0; i < size; i++) {
+                target.add(read());
+            }
+            return target;
+        }
+
+        private Map<Object, Object> readInto(Map<Object, Object> target, int size) {
+            register(target);
+            for (int i = 0; i < size; i++) {
+                Object key = read();
+                target.put(key, read());
+            }
+            return target;
+        }
+
+        private Object readImmutableCollection(int tag) {
+            // Elemanlar okunurken slot boş kalır - kendine referans geçersiz
+            int slot = refs.size();
+            refs.add(null);
+            Object[] elements = new Object[in.readLength(1)];
+            for (int i = 0; i < elements.length; i++) {
+                elements[i] = read();
+            }
+            Object value = tag == IMMUTABLE_LIST ? Arrays.stream(elements).toList() : Set.of(elements);
+            refs.set(slot, value);
+            return value;
+        }
+
+        private Object readImmutableMap() {
+            int slot = refs.size();
+            refs.add(null);
+            Map.Entry<Object, Object>[] entries = newEntries(in.readLength(2));
+            for (int i = 0; i < entries.length; i++) {
+                Object key = read();
+                entries[i] = Map.entry(key, read());
+            }
+            Map<Object, Object> value = Map.ofEntries(entries);
+            refs.set(slot, value);
+            return value;
+        }
+
+        private Object readObject(ClassPlan plan) {
+            if (plan.record) {
+                throw new IllegalArgumentException(plan.type.getName() + " is a record");
+            }
+            Object target = plan.newInstance();
+            register(target);
+            try {
+                for (FieldAccess field : plan.fields) {
+                    switch (field.kind) {
+                        case BOOLEAN: field.setter.invokeExact(target, in.readByte() != 0); break;
+                        case BYTE: field.setter.invokeExact(target, (byte) in.readByte()); break;
+                        case CHAR: field.setter.invokeExact(target, (char) in.readVarInt()); break;
+                        case SHORT: field.setter.invokeExact(target, (short) in.readSignedVarInt()); break;
+                        case INT: field.setter.invokeExact(target, in.readSignedVarInt()); break;
+                        case LONG: field.setter.invokeExact(target, in.readSignedVarLong()); break;
+                        case FLOAT: field.setter.invokeExact(target, Float.intBitsToFloat(in.readInt())); break;
+                        case DOUBLE: field.setter.invokeExact(target, Double.longBitsToDouble(in.readLong())); break;
+                        default: field.setter.invokeExact(target, checked(field, read()));
+                    }
+                }
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable t) {
+                throw new IllegalStateException("Cannot deserialize " + plan.type.getName(), t);
+            }
+            return target;
+        }
+
+        private Object readRecord(ClassPlan plan) {
+            if (!plan.record) {
+                throw new IllegalArgumentException(plan.type.getName() + " is not a record");
+            }
+            int slot = refs.size();
+            refs.add(null);
+            Object[] components = new Object[plan.fields.length];
+            for (int i = 0; i < components.length; i++) {
+                FieldAccess field = plan.fields[i];
+                switch (field.kind) {
+                    case BOOLEAN: components[i] = in.readByte() != 0; break;
+                    case BYTE: components[i] = (byte) in.readByte(); break;
+                    case CHAR: components[i] = (char) in.readVarInt(); break;
+                    case SHORT: components[i] = (short) in.readSignedVarInt(); break;
+                    case INT: components[i] = in.readSignedVarInt(); break;
+                    case LONG: components[i] = in.readSignedVarLong(); break;
+                    case FLOAT: components[i] = Float.intBitsToFloat(in.readInt()); break;
+                    case DOUBLE: components[i] = Double.longBitsToDouble(in.readLong()); break;
+                    default: components[i] = checked(field, read());
+                }
+            }
+            Object value = plan.newRecord(components);
+            refs.set(slot, value);
+            return value;
+        }
+
+        /** Field tipine uymayan değer setter'da ClassCastException yerine anlamlı hata versin */
+        private Object checked(FieldAccess field, Object value) {
+            if (value != null && !field.type.isInstance(value)) {
+                throw new IllegalArgumentException("Value of type " + value.getClass().getName()
+                    + " does not fit field " + field.name + " (" + field.type.getName() + ")");
+            }
+            return value;
+        }
+    }
+
+    private static int capacity(int size) {
+        return (int) (size / 0.75f) + 1;
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static Map.Entry<Object, Object>[] newEntries(int length) {
+        return new Map.Entry[length];
+    }
+}
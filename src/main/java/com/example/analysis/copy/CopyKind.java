@@ -0,0 +1,102 @@
+package com.example.analysis.copy;
+
+import java.io.Serializable;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Bir sınıfın nasıl kopyalanacağı/serileştirileceği - sınıf başına bir kez hesaplanır
+ *
+ * Koleksiyonlarda tam sınıf eşleşmesi aranır; alt sınıflar field planına veya
+ * serialization fallback'ine düşer.
+ */
+enum CopyKind {
+    IMMUTABLE,
+    PRIMITIVE_ARRAY,
+    OBJECT_ARRAY,
+    ARRAY_LIST,
+    LINKED_LIST,
+    ARRAY_DEQUE,
+    HASH_SET,
+    LINKED_HASH_SET,
+    TREE_SET,
+    HASH_MAP,
+    LINKED_HASH_MAP,
+    TREE_MAP,
+    CONCURRENT_HASH_MAP,
+    /** List.of, Stream.toList vb. */
+    IMMUTABLE_LIST,
+    IMMUTABLE_SET,
+    IMMUTABLE_MAP,
+    RECORD,
+    /** Field planı ile */
+    OBJECT,
+    /** Reflection'a kapalı JDK tipi - ObjectOutputStream ile */
+    SERIALIZABLE,
+    UNSUPPORTED;
+
+    private static final Map<Class<?>, CopyKind> EXACT = Map.ofEntries(
+        Map.entry(ArrayList.class, ARRAY_LIST),
+        Map.entry(LinkedList.class, LINKED_LIST),
+        Map.entry(ArrayDeque.class, ARRAY_DEQUE),
+        Map.entry(HashSet.class, HASH_SET),
+        Map.entry(LinkedHashSet.class, LINKED_HASH_SET),
+        Map.entry(TreeSet.class, TREE_SET),
+        Map.entry(HashMap.class, HASH_MAP),
+        Map.entry(LinkedHashMap.class, LINKED_HASH_MAP),
+        Map.entry(TreeMap.class, TREE_MAP),
+        Map.entry(ConcurrentHashMap.class, CONCURRENT_HASH_MAP));
+
+    private static final ClassValue<CopyKind> KINDS = new ClassValue<>() {
+        @Override
+        protected CopyKind computeValue(Class<?> type) {
+            return classify(type);
+        }
+    };
+
+    static CopyKind of(Class<?> type) {
+        return KINDS.get(type);
+    }
+
+    private static CopyKind classify(Class<?> type) {
+        if (Immutables.isImmutable(type)) {
+            return IMMUTABLE;
+        }
+        if (type.isArray()) {
+            return type.getComponentType().isPrimitive() ? PRIMITIVE_ARRAY : OBJECT_ARRAY;
+        }
+        CopyKind exact = EXACT.get(type);
+        if (exact != null) {
+            return exact;
+        }
+        if (type.getName().startsWith("java.util.ImmutableCollections$")) {
+            if (List.class.isAssignableFrom(type)) return IMMUTABLE_LIST;
+            if (Set.class.isAssignableFrom(type)) return IMMUTABLE_SET;
+            if (Map.class.isAssignableFrom(type)) return IMMUTABLE_MAP;
+        }
+        if (type.isRecord()) {
+            return planOrFallback(type, RECORD);
+        }
+        return planOrFallback(type, OBJECT);
+    }
+
+    private static CopyKind planOrFallback(Class<?> type, CopyKind kind) {
+        try {
+            ClassPlan.of(type);
+            return kind;
+        } catch (IllegalArgumentException e) {
+            return Serializable.class.isAssignableFrom(type) ? SERIALIZABLE : UNSUPPORTED;
+        }
+    }
+}
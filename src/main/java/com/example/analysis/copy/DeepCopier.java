@@ -0,0 +1,240 @@
+package com.example.analysis.copy;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.UncheckedIOException;
+import java.lang.reflect.Array;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Serialization kullanmadan derin kopya
+ *
+ * - Sınıf başına kopyalama planı (MethodHandle getter/setter zinciri) bir kez üretilir
+ * - Döngüler ve paylaşılan referanslar IdentityHashMap ile korunur:
+ *   aynı nesneye iki yoldan ulaşılıyorsa kopyada da tek nesne olur
+ * - Değiştirilemez tipler (String, boxed, enum, java.time...) paylaşılır
+ * - Primitive diziler clone(), bilinen koleksiyonlar kapasiteyle yeniden kurulur
+ * - Reflection'a kapalı diğer JDK tipleri Serializable ise ObjectOutputStream ile kopyalanır
+ * - Kopya no-arg constructor ile oluşturulur, ardından field'lar yazılır; no-arg
+ *   constructor'ı olmayan sınıflar Serializable ise ObjectOutputStream ile kopyalanır
+ *
+ * Thread-safe; kopyalama sırasında kaynak graf değiştirilmemeli.
+ * LinkedHashMap access-order bilgisi korunmaz (insertion-order kopyalanır).
+ */
+public final class DeepCopier {
+
+    // Record döngüsünü tespit etmek için geçici işaret
+    private static final Object IN_PROGRESS = new Object();
+
+    @SuppressWarnings("unchecked")
+    public <T> T copy(T source) {
+        if (source == null) {
+            return null;
+        }
+        return (T) copy(source, new IdentityHashMap<>(64));
+    }
+
+    private Object copy(Object source, IdentityHashMap<Object, Object> copies) {
+        if (source == null) {
+            return null;
+        }
+        Class<?> type = source.getClass();
+        CopyKind kind = CopyKind.of(type);
+        if (kind == CopyKind.IMMUTABLE) {
+            return source;
+        }
+        Object existing = copies.get(source);
+        if (existing != null) {
+            if (existing == IN_PROGRESS) {
+                throw new IllegalArgumentException("Cycle through record " + type.getName() + " cannot be copied");
+            }
+            return existing;
+        }
+        switch (kind) {
+            case PRIMITIVE_ARRAY:
+                return register(copies, source, primitiveArrayClone(source));
+            case OBJECT_ARRAY:
+                return copyArray((Object[]) source, copies);
+            case ARRAY_LIST:
+                return copyInto(new ArrayList<>(((Collection<?>) source).size()), (Collection<?>) source, source, copies);
+            case LINKED_LIST:
+                return copyInto(new LinkedList<>(), (Collection<?>) source, source, copies);
+            case ARRAY_DEQUE:
+                return copyInto(new ArrayDeque<>(((Collection<?>) source).size()), (Collection<?>) source, source, copies);
+            case HASH_SET:
+                return copyInto(new HashSet<>(capacity(((Collection<?>) source).size())), (Collection<?>) source, source, copies);
+            case LINKED_HASH_SET:
+                return copyInto(new LinkedHashSet<>(capacity(((Collection<?>) source).size())), (Collection<?>) source, source, copies);
+            case TREE_SET:
+                return copyInto(new TreeSet<>(comparator(((TreeSet<?>) source).comparator())), (Collection<?>) source, source, copies);
+            case HASH_MAP:
+                return copyInto(new HashMap<>(capacity(((Map<?, ?>) source).size())), (Map<?, ?>) source, copies);
+            case LINKED_HASH_MAP:
+                return copyInto(new LinkedHashMap<>(capacity(((Map<?, ?>) source).size())), (Map<?, ?>) source, copies);
+            case TREE_MAP:
+                return copyInto(new TreeMap<>(comparator(((TreeMap<?, ?>) source).comparator())), (Map<?, ?>) source, copies);
+            case CONCURRENT_HASH_MAP:
+                return copyInto(new ConcurrentHashMap<>(capacity(((Map<?, ?>) source).size())), (Map<?, ?>) source, copies);
+            case IMMUTABLE_LIST:
+                return register(copies, source, Arrays.stream(copyElements((Collection<?>) source, copies)).toList());
+            case IMMUTABLE_SET:
+                return register(copies, source, Set.of(copyElements((Collection<?>) source, copies)));
+            case IMMUTABLE_MAP:
+                return register(copies, source, copyImmutableMap((Map<?, ?>) source, copies));
+            case RECORD:
+                return copyRecord(source, ClassPlan.of(type), copies);
+            case OBJECT:
+                return copyObject(source, ClassPlan.of(type), copies);
+            case SERIALIZABLE:
+                return register(copies, source, serializationCopy(source));
+            default:
+                throw new IllegalArgumentException("Cannot deep-copy " + type.getName());
+        }
+    }
+
+    private static Object register(IdentityHashMap<Object, Object> copies, Object source, Object copy) {
+        copies.put(source, copy);
+        return copy;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Comparator<Object> comparator(Comparator<?> comparator) {
+        return (Comparator<Object>) comparator;
+    }
+
+    private static int capacity(int size) {
+        return (int) (size / 0.75f) + 1;
+    }
+
+    private Object[] copyArray(Object[] source, IdentityHashMap<Object, Object> copies) {
+        Object[] copy = (Object[]) Array.newInstance(source.getClass().getComponentType(), source.length);
+        copies.put(source, copy);
+        for (int i = 0; i < source.length; i++) {
+            copy[i] = copy(source[i], copies);
+        }
+        return copy;
+    }
+
+    private <C extends Collection<Object>> C copyInto(C target, Collection<?> source, Object identity,
+                                                      IdentityHashMap<Object, Object> copies) {
+        // Eleman kopyalanmadan önce kaydedilir - kendini içeren koleksiyonlar için
+        copies.put(identity, target);
+        for (Object element : source) {
+            target.add(copy(element, copies));
+        }
+        return target;
+    }
+
+    private Map<Object, Object> copyInto(Map<Object, Object> target, Map<?, ?> source,
+                                         IdentityHashMap<Object, Object> copies) {
+        copies.put(source, target);
+        for (Map.Entry<?, ?> entry : source.entrySet()) {
+            target.put(copy(entry.getKey(), copies), copy(entry.getValue(), copies));
+        }
+        return target;
+    }
+
+    private Object[] copyElements(Collection<?> source, IdentityHashMap<Object, Object> copies) {
+        Object[] elements = source.toArray();
+        for (int i = 0; i < elements.length; i++) {
+            elements[i] = copy(elements[i], copies);
+        }
+        return elements;
+    }
+
+    private Map<Object, Object> copyImmutableMap(Map<?, ?> source, IdentityHashMap<Object, Object> copies) {
+        Map.Entry<Object, Object>[] entries = newEntries(source.size());
+        int i = 0;
+        for (Map.Entry<?, ?> entry : source.entrySet()) {
+            entries[i++] = Map.entry(copy(entry.getKey(), copies), copy(entry.getValue(), copies));
+        }
+        return Map.ofEntries(entries);
+    }
+
+    private Object copyObject(Object source, ClassPlan plan, IdentityHashMap<Object, Object> copies) {
+        Object target = plan.newInstance();
+        copies.put(source, target);
+        try {
+            // Primitive ve değiştirilemez field'lar tek zincirde
+            plan.primitiveCopy.invokeExact(target, source);
+            for (FieldAccess field : plan.deepFields) {
+                Object value = (Object) field.getter.invokeExact(source);
+                field.setter.invokeExact(target, copy(value, copies));
+            }
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable t) {
+            throw new IllegalStateException("Cannot copy " + plan.type.getName(), t);
+        }
+        return target;
+    }
+
+    private Object copyRecord(Object source, ClassPlan plan, IdentityHashMap<Object, Object> copies) {
+        copies.put(source, IN_PROGRESS);
+        Object[] components = new Object[plan.fields.length];
+        try {
+            for (int i = 0; i < components.length; i++) {
+                FieldAccess field = plan.fields[i];
+                // Record bileşenleri boxed okunur; canonical constructor spreader'ı unbox eder
+                Object value = (Object) field.boxedGetter.invokeExact(source);
+                components[i] = field.shareable ? value : copy(value, copies);
+            }
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable t) {
+            throw new IllegalStateException("Cannot copy " + plan.type.getName(), t);
+        }
+        return register(copies, source, plan.newRecord(components));
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static Map.Entry<Object, Object>[] newEntries(int length) {
+        return new Map.Entry[length];
+    }
+
+    private static Object primitiveArrayClone(Object array) {
+        if (array instanceof byte[]) return ((byte[]) array).clone();
+        if (array instanceof int[]) return ((int[]) array).clone();
+        if (array instanceof long[]) return ((long[]) array).clone();
+        if (array instanceof double[]) return ((double[]) array).clone();
+        if (array instanceof char[]) return ((char[]) array).clone();
+        if (array instanceof float[]) return ((float[]) array).clone();
+        if (array instanceof short[]) return ((short[]) array).clone();
+        return ((boolean[]) array).clone();
+    }
+
+    private static Object serializationCopy(Object source) {
+        try {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream(256);
+            try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+                out.writeObject(source);
+            }
+            try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+                return in.readObject();
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } catch (ClassNotFoundException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
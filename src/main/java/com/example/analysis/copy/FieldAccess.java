@@ -0,0 +1,65 @@
+package com.example.analysis.copy;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+
+/**
+ * Tek bir instance field'ı için tiplenmiş getter/setter
+ *
+ * Primitive field'larda getter (Object)K, setter (Object,K)void tipindedir - boxing yok.
+ * Referans field'larda getter (Object)Object, setter (Object,Object)void.
+ */
+final class FieldAccess {
+
+    enum Kind { BOOLEAN, BYTE, CHAR, SHORT, INT, LONG, FLOAT, DOUBLE, REFERENCE }
+
+    final String name;
+    final Class<?> type;
+    final Kind kind;
+    /** Referans field'da değer paylaşılabilir mi (değiştirilemez tip) */
+    final boolean shareable;
+    final MethodHandle getter;
+    /** (Object)Object - primitive değerler boxed döner */
+    final MethodHandle boxedGetter;
+    final MethodHandle setter;
+    /** (Object dst, Object src)void - src'deki değeri dst'ye olduğu gibi yazar */
+    final MethodHandle shallowCopy;
+
+    /**
+     * @param readOnly record bileşenleri: final field'a yazılamaz, setter üretilmez
+     */
+    FieldAccess(MethodHandles.Lookup lookup, Field field, boolean readOnly) throws IllegalAccessException {
+        field.setAccessible(true);
+        this.name = field.getName();
+        this.type = field.getType();
+        this.kind = kindOf(type);
+        this.shareable = kind != Kind.REFERENCE || Immutables.isImmutableType(type);
+
+        Class<?> slot = type.isPrimitive() ? type : Object.class;
+        MethodHandle rawGetter = lookup.unreflectGetter(field);
+        this.getter = rawGetter.asType(MethodType.methodType(slot, Object.class));
+        this.boxedGetter = rawGetter.asType(MethodType.methodType(Object.class, Object.class));
+        if (readOnly) {
+            this.setter = null;
+            this.shallowCopy = null;
+        } else {
+            this.setter = lookup.unreflectSetter(field).asType(MethodType.methodType(void.class, Object.class, slot));
+            // setter(dst, getter(src))
+            this.shallowCopy = MethodHandles.collectArguments(setter, 1, getter);
+        }
+    }
+
+    private static Kind kindOf(Class<?> type) {
+        if (type == boolean.class) return Kind.BOOLEAN;
+        if (type == byte.class) return Kind.BYTE;
+        if (type == char.class) return Kind.CHAR;
+        if (type == short.class) return Kind.SHORT;
+        if (type == int.class) return Kind.INT;
+        if (type == long.class) return Kind.LONG;
+        if (type == float.class) return Kind.FLOAT;
+        if (type == double.class) return Kind.DOUBLE;
+        return Kind.REFERENCE;
+    }
+}
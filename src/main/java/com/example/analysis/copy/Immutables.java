@@ -0,0 +1,38 @@
+package com.example.analysis.copy;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Set;
+import java.util.UUID;
+import java.util.regex.Pattern;
+
+/**
+ * Kopyalanmadan paylaşılabilen değiştirilemez tipler
+ */
+final class Immutables {
+
+    private static final Set<Class<?>> TYPES = Set.of(
+        String.class, Boolean.class, Byte.class, Character.class, Short.class,
+        Integer.class, Long.class, Float.class, Double.class,
+        BigInteger.class, BigDecimal.class, UUID.class, Pattern.class, Class.class);
+
+    private Immutables() {
+    }
+
+    /** Değer bu tipteyse referans aynen kullanılabilir */
+    static boolean isImmutable(Class<?> cls) {
+        return TYPES.contains(cls)
+            || cls.isEnum()
+            || (cls.getSuperclass() != null && cls.getSuperclass().isEnum())
+            // java.time tipleri değer tabanlı ve değiştirilemez
+            || (cls.getPackageName().equals("java.time") && !cls.isInterface());
+    }
+
+    /**
+     * Field'ın tanımlı tipi değiştirilemezse, atanabilecek her değer de öyledir
+     * (final sınıf veya enum) - field kopyası yüzeysel olabilir
+     */
+    static boolean isImmutableType(Class<?> declared) {
+        return declared.isEnum() || (isImmutable(declared) && java.lang.reflect.Modifier.isFinal(declared.getModifiers()));
+    }
+}
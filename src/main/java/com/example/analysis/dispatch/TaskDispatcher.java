@@ -0,0 +1,227 @@
+package com.example.analysis.dispatch;
+
+import com.example.analysis.metrics.LatencyHistogram;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Backpressure'lı görev dağıtıcı
+ *
+ * İki mod:
+ * - {@link #virtualThreads}: her görev ayrı virtual thread'de (Java 21+), sleep/IO ağırlıklı işler için
+ * - {@link #boundedPool}: sabit sayıda platform thread'i, sınırlı kuyruk
+ *
+ * Her iki modda da aynı anda en fazla maxInFlight görev kabul edilir; sınır
+ * dolunca {@link RejectionPolicy} uygulanır. Görevler CompletableFuture döner,
+ * kuyrukta bekleme + çalışma süresi {@link #latency()} histogramına yazılır.
+ */
+public final class TaskDispatcher implements AutoCloseable {
+
+    public enum RejectionPolicy {
+        /** RejectedExecutionException fırlat */
+        ABORT,
+        /** Görevi çağıran thread'de çalıştır - üretici doğal olarak yavaşlar */
+        CALLER_RUNS,
+        /** Yer açılana kadar çağıranı beklet */
+        BLOCK
+    }
+
+    private static final MethodHandle NEW_VIRTUAL_EXECUTOR = findVirtualExecutorFactory();
+
+    private final ExecutorService executor;
+    private final Semaphore inFlight;
+    private final RejectionPolicy policy;
+    private final LatencyHistogram latency = new LatencyHistogram();
+
+    private TaskDispatcher(ExecutorService executor, int maxInFlight, RejectionPolicy policy) {
+        if (maxInFlight <= 0) {
+            throw new IllegalArgumentException("maxInFlight must be positive: " + maxInFlight);
+        }
+        this.executor = executor;
+        this.inFlight = new Semaphore(maxInFlight);
+        this.policy = policy;
+    }
+
+    /** Çalışan JVM virtual thread destekliyorsa (Java 21+) true */
+    public static boolean isVirtualThreadSupported() {
+        return NEW_VIRTUAL_EXECUTOR != null;
+    }
+
+    /**
+     * Görev başına virtual thread
+     *
+     * @throws UnsupportedOperationException Java 21 öncesi JVM'de
+     */
+    public static TaskDispatcher virtualThreads(int maxInFlight, RejectionPolicy policy) {
+        if (NEW_VIRTUAL_EXECUTOR == null) {
+            throw new UnsupportedOperationException(
+                "virtual threads require Java 21+, running on " + Runtime.version());
+        }
+        try {
+            return new TaskDispatcher((ExecutorService) NEW_VIRTUAL_EXECUTOR.invoke(), maxInFlight, policy);
+        } catch (Throwable e) {
+            throw new IllegalStateException("could not create virtual thread executor", e);
+        }
+    }
+
+    /**
+     * threads adet platform thread'i ve queueCapacity'lik kuyruk;
+     * aynı anda threads + queueCapacity görev kabul edilir
+     */
+    public static TaskDispatcher boundedPool(int threads, int queueCapacity, RejectionPolicy policy) {
+        if (threads <= 0 || queueCapacity < 0) {
+            throw new IllegalArgumentException("invalid pool size: " + threads + " threads, " + queueCapacity + " queue");
+        }
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+            new LinkedBlockingQueue<>(), new NamedThreadFactory("dispatcher"));
+        return new TaskDispatcher(executor, threads + queueCapacity, policy);
+    }
+
+    public CompletableFuture<Void> submit(Runnable task) {
+        return submit(() -> {
+            task.run();
+            return null;
+        });
+    }
+
+    /**
+     * @throws RejectedExecutionException kapatılmışsa veya ABORT politikasında sınır doluysa
+     */
+    public <T> CompletableFuture<T> submit(Callable<T> task) {
+        if (executor.isShutdown()) {
+            throw new RejectedExecutionException("dispatcher is shut down");
+        }
+        CompletableFuture<T> future = new CompletableFuture<>();
+        long submitted = System.nanoTime();
+        if (!inFlight.tryAcquire()) {
+            switch (policy) {
+                case ABORT:
+                    throw new RejectedExecutionException("dispatcher is saturated");
+                case CALLER_RUNS:
+                    run(task, future, submitted);
+                    return future;
+                case BLOCK:
+                    try {
+                        inFlight.acquire();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        throw new RejectedExecutionException("interrupted while waiting for capacity", e);
+                    }
+                    break;
+            }
+        }
+        try {
+            executor.execute(() -> {
+                try {
+                    run(task, future, submitted);
+                } finally {
+                    inFlight.release();
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            inFlight.release();
+            throw e;
+        }
+        return future;
+    }
+
+    /** Kuyruk bekleme + çalışma süresi, görev başına */
+    public LatencyHistogram latency() {
+        return latency;
+    }
+
+    /** Yeni görev kabulünü durdurur; kabul edilmiş görevler tamamlanır */
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+        return executor.awaitTermination(timeout, unit);
+    }
+
+    /**
+     * Graceful kapatma: timeout içinde bitmeyen görevler kesilir
+     *
+     * @return tüm görevler timeout içinde bittiyse true
+     */
+    public boolean shutdownGracefully(long timeout, TimeUnit unit) {
+        executor.shutdown();
+        try {
+            if (executor.awaitTermination(timeout, unit)) {
+                return true;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        executor.shutdownNow();
+        return false;
+    }
+
+    /** Tüm kabul edilmiş görevler bitene kadar bekler */
+    @Override
+    public void close() {
+        executor.shutdown();
+        boolean interrupted = false;
+        while (true) {
+            try {
+                if (executor.awaitTermination(1, TimeUnit.DAYS)) {
+                    break;
+                }
+            } catch (InterruptedException e) {
+                interrupted = true;
+                executor.shutdownNow();
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private <T> void run(Callable<T> task, CompletableFuture<T> future, long submitted) {
+        try {
+            future.complete(task.call());
+        } catch (Throwable e) {
+            future.completeExceptionally(e);
+        } finally {
+            latency.record(System.nanoTime() - submitted);
+        }
+    }
+
+    private static MethodHandle findVirtualExecutorFactory() {
+        try {
+            return MethodHandles.publicLookup().findStatic(Executors.class,
+                "newVirtualThreadPerTaskExecutor", MethodType.methodType(ExecutorService.class));
+        } catch (NoSuchMethodException | IllegalAccessException e) {
+            return null;
+        }
+    }
+
+    private static final class NamedThreadFactory implements ThreadFactory {
+        private final String prefix;
+        private final AtomicInteger counter = new AtomicInteger();
+
+        NamedThreadFactory(String prefix) {
+            this.prefix = prefix;
+        }
+
+        @Override
+        public Thread newThread(Runnable r) {
+            Thread thread = new Thread(r, prefix + "-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
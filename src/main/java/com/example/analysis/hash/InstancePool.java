@@ -0,0 +1,57 @@
+package com.example.analysis.hash;
+
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Thread-safe olmayan nesneler (MessageDigest, SecretKeyFactory) için sınırlı pool
+ *
+ * ThreadLocal yerine: nesneler thread'e bağlanmaz, pool dışına çıkan thread
+ * (ör. kapanan executor) hiçbir şey tutmaz. Boşsa yeni nesne üretilir; iade
+ * edilen nesne pool doluysa bırakılır, böylece bellek maxIdle ile sınırlı kalır.
+ */
+public final class InstancePool<T> {
+
+    private final Supplier<? extends T> factory;
+    private final Consumer<? super T> reset;
+    private final ArrayBlockingQueue<T> idle;
+    private final LongAdder created = new LongAdder();
+
+    /**
+     * @param reset iade sırasında çağrılır; nesneyi ilk haline döndürmeli
+     */
+    public InstancePool(int maxIdle, Supplier<? extends T> factory, Consumer<? super T> reset) {
+        if (maxIdle <= 0) {
+            throw new IllegalArgumentException("maxIdle must be positive: " + maxIdle);
+        }
+        this.factory = Objects.requireNonNull(factory, "factory");
+        this.reset = Objects.requireNonNull(reset, "reset");
+        this.idle = new ArrayBlockingQueue<>(maxIdle);
+    }
+
+    public T acquire() {
+        T instance = idle.poll();
+        if (instance == null) {
+            created.increment();
+            instance = factory.get();
+        }
+        return instance;
+    }
+
+    public void release(T instance) {
+        reset.accept(instance);
+        idle.offer(instance);
+    }
+
+    /** Pool'un ömrü boyunca üretilen nesne sayısı */
+    public long created() {
+        return created.sum();
+    }
+
+    public int idle() {
+        return idle.size();
+    }
+}
@@ -0,0 +1,251 @@
+package com.example.analysis.hash;
+
+import com.example.analysis.dispatch.TaskDispatcher;
+import com.example.analysis.metrics.LatencyHistogram;
+
+import javax.crypto.SecretKeyFactory;
+import javax.crypto.spec.PBEKeySpec;
+import java.nio.charset.Charset;
+import java.security.DigestException;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.Provider;
+import java.security.spec.InvalidKeySpecException;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+/**
+ * Pool'lanmış digest/key factory ile parola hash'leme
+ *
+ * İki mod:
+ * - {@link Mode#ITERATED_SHA256}: digest(digest(...(parola))) zinciri; tuzsuz hash
+ *   eski hashPassword ile aynı çıktıyı verir. Turlar tek bir 32 byte'lık
+ *   buffer üzerinde döner, tur başına allocation yok.
+ * - {@link Mode#PBKDF2_SHA256}: standart PBKDF2WithHmacSHA256, tuz zorunlu
+ *
+ * Digest ve key factory nesneleri {@link InstancePool} ile paylaşılır
+ * (ThreadLocal yok). Batch hash'ler verilen {@link TaskDispatcher} üzerinde
+ * paralel çalışır; her hash'in hesaplama süresi {@link #latency()}'ye yazılır.
+ */
+public final class PasswordHasher {
+
+    public enum Mode {
+        ITERATED_SHA256,
+        PBKDF2_SHA256
+    }
+
+    private static final String DIGEST_ALGORITHM = "SHA-256";
+    private static final String PBKDF2_ALGORITHM = "PBKDF2WithHmacSHA256";
+    private static final int DIGEST_LENGTH = 32;
+    private static final int DEFAULT_MAX_IDLE = 64;
+
+    private final Mode mode;
+    private final int iterations;
+    private final Charset charset;
+    private final TaskDispatcher dispatcher;
+    private final InstancePool<DigestContext> digests;
+    private final InstancePool<SecretKeyFactory> keyFactories;
+    private final LatencyHistogram latency = new LatencyHistogram();
+
+    /**
+     * @param charset    parolanın byte'a çevrilmesi; eski çıktı için Charset.defaultCharset()
+     * @param dispatcher batch hash'ler için; null ise batch çağıran thread'de çalışır.
+     *                   Hasher dispatcher'ı kapatmaz.
+     */
+    public PasswordHasher(Mode mode, int iterations, Charset charset, TaskDispatcher dispatcher) {
+        if (iterations <= 0) {
+            throw new IllegalArgumentException("iterations must be positive: " + iterations);
+        }
+        this.mode = mode;
+        this.iterations = iterations;
+        this.charset = charset;
+        this.dispatcher = dispatcher;
+
+        // Provider arama bir kez; sonraki nesneler prototipten üretilir
+        MessageDigest prototype = newDigest(null);
+        Provider digestProvider = prototype.getProvider();
+        this.digests = new InstancePool<>(DEFAULT_MAX_IDLE,
+            () -> new DigestContext(cloneOrCreate(prototype, digestProvider)),
+            context -> context.digest.reset());
+
+        if (mode == Mode.PBKDF2_SHA256) {
+            Provider keyProvider = newKeyFactory(null).getProvider();
+            this.keyFactories = new InstancePool<>(DEFAULT_MAX_IDLE,
+                () -> newKeyFactory(keyProvider), factory -> { });
+        } else {
+            this.keyFactories = null;
+        }
+    }
+
+    public Mode mode() {
+        return mode;
+    }
+
+    /**
+     * Tuzsuz hash - sadece ITERATED_SHA256
+     *
+     * @throws IllegalStateException PBKDF2 modunda
+     */
+    public String hash(String password) {
+        return hash(password, null);
+    }
+
+    /**
+     * ITERATED_SHA256'da tuz ilk turda parolanın önüne eklenir; PBKDF2'de zorunlu
+     */
+    public String hash(String password, byte[] salt) {
+        return Base64.getEncoder().encodeToString(hashBytes(password, salt));
+    }
+
+    public byte[] hashBytes(String password, byte[] salt) {
+        long start = System.nanoTime();
+        try {
+            return mode == Mode.PBKDF2_SHA256 ? pbkdf2(password, salt) : iterated(password, salt);
+        } finally {
+            latency.record(System.nanoTime() - start);
+        }
+    }
+
+    /** Sabit zamanlı karşılaştırma */
+    public boolean verify(String password, byte[] salt, String expectedHash) {
+        byte[] expected = Base64.getDecoder().decode(expectedHash);
+        return MessageDigest.isEqual(hashBytes(password, salt), expected);
+    }
+
+    public List<String> hashAll(List<String> passwords) {
+        return hashAll(passwords, null);
+    }
+
+    /**
+     * Parolaları dispatcher üzerinde paralel hash'ler; sonuç sırası girdiyle aynı
+     *
+     * @param salts null veya passwords ile aynı boyutta
+     */
+    public List<String> hashAll(List<String> passwords, List<byte[]> salts) {
+        if (salts != null && salts.size() != passwords.size()) {
+            throw new IllegalArgumentException(
+                "salts size " + salts.size() + " does not match passwords size " + passwords.size());
+        }
+        int n = passwords.size();
+        List<String> result = new ArrayList<>(n);
+        if (dispatcher == null) {
+            for (int i = 0; i < n; i++) {
+                result.add(hash(passwords.get(i), salts == null ? null : salts.get(i)));
+            }
+            return result;
+        }
+        CompletableFuture<String>[] futures = newFutures(n);
+        for (int i = 0; i < n; i++) {
+            String password = passwords.get(i);
+            byte[] salt = salts == null ? null : salts.get(i);
+            futures[i] = dispatcher.submit(() -> hash(password, salt));
+        }
+        try {
+            for (CompletableFuture<String> future : futures) {
+                result.add(future.join());
+            }
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw e;
+        }
+        return result;
+    }
+
+    /** Hash başına hesaplama süresi (pool bekleme dahil, dispatcher kuyruğu hariç) */
+    public LatencyHistogram latency() {
+        return latency;
+    }
+
+    /** Pool'ların ömrü boyunca üretilen digest sayısı - yük altında thread sayısını aşmamalı */
+    public long digestsCreated() {
+        return digests.created();
+    }
+
+    private byte[] iterated(String password, byte[] salt) {
+        DigestContext context = digests.acquire();
+        try {
+            MessageDigest md = context.digest;
+            byte[] buffer = context.buffer;
+            if (salt != null) {
+                md.update(salt);
+            }
+            md.update(password.getBytes(charset));
+            md.digest(buffer, 0, DIGEST_LENGTH);
+            // İlk tur dahil toplam iterations tur: her tur önceki hash'in hash'i
+            for (int i = 1; i < iterations; i++) {
+                md.update(buffer, 0, DIGEST_LENGTH);
+                md.digest(buffer, 0, DIGEST_LENGTH);
+            }
+            return buffer.clone();
+        } catch (DigestException e) {
+            throw new IllegalStateException(e);
+        } finally {
+            digests.release(context);
+        }
+    }
+
+    private byte[] pbkdf2(String password, byte[] salt) {
+        if (salt == null || salt.length == 0) {
+            throw new IllegalStateException("PBKDF2 mode requires a salt");
+        }
+        PBEKeySpec spec = new PBEKeySpec(password.toCharArray(), salt, iterations, DIGEST_LENGTH * 8);
+        SecretKeyFactory factory = keyFactories.acquire();
+        try {
+            return factory.generateSecret(spec).getEncoded();
+        } catch (InvalidKeySpecException e) {
+            throw new IllegalStateException(e);
+        } finally {
+            keyFactories.release(factory);
+            spec.clearPassword();
+        }
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static CompletableFuture<String>[] newFutures(int length) {
+        return new CompletableFuture[length];
+    }
+
+    private static MessageDigest newDigest(Provider provider) {
+        try {
+            return provider == null
+                ? MessageDigest.getInstance(DIGEST_ALGORITHM)
+                : MessageDigest.getInstance(DIGEST_ALGORITHM, provider);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(DIGEST_ALGORITHM + " not available", e);
+        }
+    }
+
+    private static MessageDigest cloneOrCreate(MessageDigest prototype, Provider provider) {
+        try {
+            return (MessageDigest) prototype.clone();
+        } catch (CloneNotSupportedException e) {
+            return newDigest(provider);
+        }
+    }
+
+    private static SecretKeyFactory newKeyFactory(Provider provider) {
+        try {
+            return provider == null
+                ? SecretKeyFactory.getInstance(PBKDF2_ALGORITHM)
+                : SecretKeyFactory.getInstance(PBKDF2_ALGORITHM, provider);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(PBKDF2_ALGORITHM + " not available", e);
+        }
+    }
+
+    // Digest ve tur buffer'ı birlikte pool'lanır
+    private static final class DigestContext {
+        final MessageDigest digest;
+        final byte[] buffer = new byte[DIGEST_LENGTH];
+
+        DigestContext(MessageDigest digest) {
+            this.digest = digest;
+        }
+    }
+}
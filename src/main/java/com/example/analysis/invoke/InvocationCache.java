@@ -0,0 +1,223 @@
+package com.example.analysis.invoke;
+
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * Reflection ile bulunan metodlar için önbellekli çağrı katmanı
+ *
+ * - Metod çözümlemesi ve erişim kontrolü (Class, isim, imza) başına bir kez yapılır
+ * - Sonuçlar ClassValue'da sınıf başına tabloda tutulur: okuma yolu kilitsiz,
+ *   sınıf unload edilince tablo da gider
+ * - noArg(): LambdaMetafactory ile üretilmiş Function - çağrı normal bir interface
+ *   çağrısı gibi JIT tarafından inline edilebilir
+ * - handle(): (Object, parametreler...) tipinde MethodHandle
+ *
+ * Public olmayan sınıflardaki metodlar (ör. List.of'un döndüğü sınıf), erişilebilir
+ * bir üst sınıf/interface'teki tanım üzerinden bağlanır; çağrı yine sanal dispatch'tir.
+ */
+public final class InvocationCache {
+
+    private final ClassValue<Table> tables = new ClassValue<>() {
+        @Override
+        protected Table computeValue(Class<?> type) {
+            return new Table(type);
+        }
+    };
+
+    /**
+     * Parametresiz instance metodu; primitive dönüşler boxed, void metodlar null döner
+     *
+     * @throws IllegalArgumentException metod yoksa, static ise veya erişilemiyorsa
+     */
+    public Function<Object, Object> noArg(Class<?> type, String name) {
+        Table table = tables.get(type);
+        Function<Object, Object> function = table.noArg.get(name);
+        if (function == null) {
+            // Yarış halinde iki kez çözülebilir; ikisi de eşdeğer, ilk yazılan kalır
+            Function<Object, Object> created = table.createNoArg(name);
+            function = table.noArg.putIfAbsent(name, created);
+            if (function == null) {
+                function = created;
+            }
+        }
+        return function;
+    }
+
+    /**
+     * (Object receiver, parametreler...)dönüş tipinde handle; static metodlarda receiver yoktur
+     *
+     * @param signature metodun kendi tipi, örn. methodType(String.class, int.class)
+     */
+    public MethodHandle handle(Class<?> type, String name, MethodType signature) {
+        Table table = tables.get(type);
+        MethodKey key = new MethodKey(name, signature);
+        MethodHandle handle = table.handles.get(key);
+        if (handle == null) {
+            MethodHandle created = table.createHandle(name, signature);
+            handle = table.handles.putIfAbsent(key, created);
+            if (handle == null) {
+                handle = created;
+            }
+        }
+        return handle;
+    }
+
+    /** Tek seferlik çağrılar için kısayol: noArg(target.getClass(), name).apply(target) */
+    public Object invoke(Object target, String name) {
+        return noArg(target.getClass(), name).apply(target);
+    }
+
+    private static final class MethodKey {
+        final String name;
+        final MethodType signature;
+
+        MethodKey(String name, MethodType signature) {
+            this.name = Objects.requireNonNull(name, "name");
+            this.signature = Objects.requireNonNull(signature, "signature");
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof MethodKey)) {
+                return false;
+            }
+            MethodKey other = (MethodKey) o;
+            return name.equals(other.name) && signature.equals(other.signature);
+        }
+
+        @Override
+        public int hashCode() {
+            return name.hashCode() * 31 + signature.hashCode();
+        }
+    }
+
+    private static final class Table {
+        final Class<?> type;
+        final ConcurrentHashMap<String, Function<Object, Object>> noArg = new ConcurrentHashMap<>();
+        final ConcurrentHashMap<MethodKey, MethodHandle> handles = new ConcurrentHashMap<>();
+
+        Table(Class<?> type) {
+            this.type = type;
+        }
+
+        @SuppressWarnings("unchecked")
+        Function<Object, Object> createNoArg(String name) {
+            Method method = resolveAccessible(type, name, new Class<?>[0]);
+            if (Modifier.isStatic(method.getModifiers())) {
+                throw new IllegalArgumentException(type.getName() + "." + name + "() is static");
+            }
+            MethodHandles.Lookup lookup = MethodHandles.lookup();
+            try {
+                MethodHandle target = lookup.unreflect(method);
+                Class<?> returnType = method.getReturnType();
+                if (returnType == void.class) {
+                    // LambdaMetafactory void -> Object uyarlamaz
+                    MethodHandle erased = target.asType(MethodType.methodType(void.class, Object.class));
+                    return receiver -> {
+                        try {
+                            erased.invokeExact(receiver);
+                            return null;
+                        } catch (RuntimeException | Error e) {
+                            throw e;
+                        } catch (Throwable t) {
+                            throw new IllegalStateException(t);
+                        }
+                    };
+                }
+                CallSite site = LambdaMetafactory.metafactory(lookup, "apply",
+                    MethodType.methodType(Function.class),
+                    MethodType.methodType(Object.class, Object.class),
+                    target,
+                    MethodType.methodType(wrap(returnType), method.getDeclaringClass()));
+                return (Function<Object, Object>) site.getTarget().invokeExact();
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable t) {
+                throw new IllegalArgumentException("Cannot bind " + type.getName() + "." + name + "()", t);
+            }
+        }
+
+        MethodHandle createHandle(String name, MethodType signature) {
+            Method method = resolveAccessible(type, name, signature.parameterArray());
+            if (method.getReturnType() != signature.returnType()) {
+                throw new IllegalArgumentException(type.getName() + "." + name + " returns "
+                    + method.getReturnType().getName() + ", not " + signature.returnType().getName());
+            }
+            try {
+                MethodHandle handle = MethodHandles.lookup().unreflect(method);
+                return Modifier.isStatic(method.getModifiers())
+                    ? handle
+                    : handle.asType(handle.type().changeParameterType(0, Object.class));
+            } catch (IllegalAccessException e) {
+                throw new IllegalArgumentException("Cannot access " + method, e);
+            }
+        }
+    }
+
+    /**
+     * type üzerinden çağrılabilen public metodu, erişilebilir (public + export edilmiş)
+     * bir sınıf veya interface'teki tanımıyla döner
+     */
+    private static Method resolveAccessible(Class<?> type, String name, Class<?>[] parameters) {
+        ArrayDeque<Class<?>> queue = new ArrayDeque<>();
+        Set<Class<?>> seen = new HashSet<>();
+        queue.add(type);
+        while (!queue.isEmpty()) {
+            Class<?> candidate = queue.poll();
+            if (!seen.add(candidate)) {
+                continue;
+            }
+            if (isAccessible(candidate)) {
+                try {
+                    Method method = candidate.getMethod(name, parameters);
+                    if (isAccessible(method.getDeclaringClass())) {
+                        return method;
+                    }
+                } catch (NoSuchMethodException e) {
+                    // Bu tipin üst tiplerinde de yok (interface'lerde Object metodları görünmez)
+                    continue;
+                }
+            }
+            if (candidate.getSuperclass() != null) {
+                queue.add(candidate.getSuperclass());
+            }
+            queue.addAll(Arrays.asList(candidate.getInterfaces()));
+        }
+        throw new IllegalArgumentException("No accessible public method " + type.getName() + "." + name
+            + Arrays.toString(parameters));
+    }
+
+    private static boolean isAccessible(Class<?> type) {
+        for (Class<?> c = type; c != null; c = c.getEnclosingClass()) {
+            if (!Modifier.isPublic(c.getModifiers())) {
+                return false;
+            }
+        }
+        return type.getModule().isExported(type.getPackageName(), InvocationCache.class.getModule());
+    }
+
+    private static Class<?> wrap(Class<?> type) {
+        if (!type.isPrimitive()) return type;
+        if (type == int.class) return Integer.class;
+        if (type == long.class) return Long.class;
+        if (type == boolean.class) return Boolean.class;
+        if (type == double.class) return Double.class;
+        if (type == float.class) return Float.class;
+        if (type == char.class) return Character.class;
+        if (type == short.class) return Short.class;
+        return Byte.class;
+    }
+}
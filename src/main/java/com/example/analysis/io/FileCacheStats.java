@@ -0,0 +1,73 @@
+package com.example.analysis.io;
+
+/**
+ * FileContentCache metriklerinin anlık görüntüsü
+ */
+public final class FileCacheStats {
+
+    private final long hits;
+    private final long misses;
+    private final long invalidations;
+    private final long uncacheable;
+    private final long bytesLoaded;
+    private final long bytesSaved;
+    private final long cachedBytes;
+
+    FileCacheStats(long hits, long misses, long invalidations, long uncacheable,
+                   long bytesLoaded, long bytesSaved, long cachedBytes) {
+        this.hits = hits;
+        this.misses = misses;
+        this.invalidations = invalidations;
+        this.uncacheable = uncacheable;
+        this.bytesLoaded = bytesLoaded;
+        this.bytesSaved = bytesSaved;
+        this.cachedBytes = cachedBytes;
+    }
+
+    /** Diske gitmeden karşılanan okumalar */
+    public long hits() {
+        return hits;
+    }
+
+    /** Dosyanın okunduğu (veya okunmasının beklendiği) istekler */
+    public long misses() {
+        return misses;
+    }
+
+    public double hitRatio() {
+        long total = hits + misses;
+        return total == 0 ? 0.0 : (double) hits / total;
+    }
+
+    /** mtime/size değişikliği veya WatchService olayıyla düşürülen entry'ler */
+    public long invalidations() {
+        return invalidations;
+    }
+
+    /** Byte bütçesine sığmadığı için cache'lenemeyen yüklemeler */
+    public long uncacheable() {
+        return uncacheable;
+    }
+
+    /** Diskten okunan toplam byte */
+    public long bytesLoaded() {
+        return bytesLoaded;
+    }
+
+    /** Cache'ten karşılanıp diskten okunmayan toplam byte */
+    public long bytesSaved() {
+        return bytesSaved;
+    }
+
+    /** Şu an cache'te tutulan byte */
+    public long cachedBytes() {
+        return cachedBytes;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("FileCacheStats{hits=%d, misses=%d, hitRatio=%.3f, invalidations=%d, "
+                + "uncacheable=%d, bytesLoaded=%d, bytesSaved=%d, cachedBytes=%d}",
+            hits, misses, hitRatio(), invalidations, uncacheable, bytesLoaded, bytesSaved, cachedBytes);
+    }
+}
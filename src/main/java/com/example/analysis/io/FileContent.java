@@ -0,0 +1,55 @@
+package com.example.analysis.io;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.attribute.FileTime;
+
+/**
+ * Cache'lenmiş dosya içeriği - değiştirilemez
+ *
+ * Byte dizisi paylaşılır; dışarıya sadece read-only görünüm veya kopya verilir.
+ */
+public final class FileContent {
+
+    private final byte[] bytes;
+    private final FileTime lastModified;
+
+    FileContent(byte[] bytes, FileTime lastModified) {
+        this.bytes = bytes;
+        this.lastModified = lastModified;
+    }
+
+    public int size() {
+        return bytes.length;
+    }
+
+    public FileTime lastModified() {
+        return lastModified;
+    }
+
+    /** Kopyasız, read-only görünüm */
+    public ByteBuffer buffer() {
+        return ByteBuffer.wrap(bytes).asReadOnlyBuffer();
+    }
+
+    public byte[] toByteArray() {
+        return bytes.clone();
+    }
+
+    public String text(Charset charset) {
+        return new String(bytes, charset);
+    }
+
+    /** İlk satır (sonlandırıcısız, UTF-8); dosya boşsa null - BufferedReader.readLine gibi */
+    public String firstLine() {
+        if (bytes.length == 0) {
+            return null;
+        }
+        int end = 0;
+        while (end < bytes.length && bytes[end] != '\n' && bytes[end] != '\r') {
+            end++;
+        }
+        return new String(bytes, 0, end, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,239 @@
+package com.example.analysis.io;
+
+import com.example.analysis.cache.SegmentedLruCache;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Dosya içeriğini bir kez okuyup sonraki okumaları bellekten karşılayan cache
+ *
+ * - Toplam cache'lenen byte maxBytes'ı aşmaz (SegmentedLruCache, byte ağırlıklı)
+ * - Aynı dosya için eşzamanlı okumalarda disk bir kez okunur, diğerleri bekler
+ * - Değişiklik tespiti:
+ *   STAT  - her okumada tek readAttributes çağrısı, mtime veya boyut değiştiyse yeniden okunur
+ *   WATCH - dosyanın dizini WatchService'e kaydedilir, olay gelince entry düşürülür;
+ *           okuma yolunda hiç sistem çağrısı yok. Olay gecikmeli gelebilir (platforma bağlı).
+ * - maxBytes'tan büyük dosyalar okunur ama cache'lenmez
+ */
+public final class FileContentCache implements Closeable {
+
+    public enum Invalidation { STAT, WATCH }
+
+    // Az sayıda büyük dosya; eviction segment içinde LRU olduğundan az segment yeterli
+    private static final int SEGMENTS = 4;
+
+    private final Invalidation invalidation;
+    private final SegmentedLruCache<Path, FileContent> cache;
+    private final ConcurrentHashMap<Path, CompletableFuture<FileContent>> inFlight = new ConcurrentHashMap<>();
+
+    private final WatchService watchService;
+    private final Set<Path> watchedDirs = ConcurrentHashMap.newKeySet();
+    private final Thread watcher;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder invalidations = new LongAdder();
+    private final LongAdder uncacheable = new LongAdder();
+    private final LongAdder bytesLoaded = new LongAdder();
+    private final LongAdder bytesSaved = new LongAdder();
+
+    public FileContentCache(long maxBytes) throws IOException {
+        this(maxBytes, Invalidation.STAT);
+    }
+
+    public FileContentCache(long maxBytes, Invalidation invalidation) throws IOException {
+        this.invalidation = invalidation;
+        this.cache = new SegmentedLruCache<>(maxBytes, FileContent::size, 0, TimeUnit.NANOSECONDS, SEGMENTS);
+        if (invalidation == Invalidation.WATCH) {
+            this.watchService = FileSystems.getDefault().newWatchService();
+            this.watcher = new Thread(this::watchLoop, "file-content-cache-watcher");
+            watcher.setDaemon(true);
+            watcher.start();
+        } else {
+            this.watchService = null;
+            this.watcher = null;
+        }
+    }
+
+    public FileContent read(Path path) throws IOException {
+        Path key = path.toAbsolutePath().normalize();
+        FileContent cached = lookup(key);
+        if (cached != null) {
+            return cached;
+        }
+
+        CompletableFuture<FileContent> pending = new CompletableFuture<>();
+        CompletableFuture<FileContent> existing = inFlight.putIfAbsent(key, pending);
+        if (existing != null) {
+            misses.increment();
+            return join(existing);
+        }
+        try {
+            // İlk bakış ile putIfAbsent arasında başka bir yükleme bitip in-flight'tan
+            // çıkmış olabilir - dosya tekrar okunmadan önce cache'e yeniden bakılır
+            FileContent current = lookup(key);
+            if (current != null) {
+                pending.complete(current);
+                return current;
+            }
+            misses.increment();
+            FileContent loaded = load(key);
+            pending.complete(loaded);
+            return loaded;
+        } catch (IOException | RuntimeException | Error e) {
+            pending.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, pending);
+        }
+    }
+
+    /** İlk satır; dosya boşsa null */
+    public String firstLine(Path path) throws IOException {
+        return read(path).firstLine();
+    }
+
+    public void invalidate(Path path) {
+        if (cache.remove(path.toAbsolutePath().normalize()) != null) {
+            invalidations.increment();
+        }
+    }
+
+    public void invalidateAll() {
+        cache.clear();
+    }
+
+    public FileCacheStats stats() {
+        return new FileCacheStats(hits.sum(), misses.sum(), invalidations.sum(), uncacheable.sum(),
+            bytesLoaded.sum(), bytesSaved.sum(), cache.weightedSize());
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (watchService != null) {
+            watchService.close();
+            watcher.interrupt();
+        }
+        cache.clear();
+    }
+
+    private FileContent load(Path key) throws IOException {
+        if (invalidation == Invalidation.WATCH) {
+            // Okumadan önce kayıt - okuma sırasında gelen değişiklik kaçmaz
+            watch(key.getParent());
+        }
+        BasicFileAttributes before = Files.readAttributes(key, BasicFileAttributes.class);
+        byte[] bytes = Files.readAllBytes(key);
+        bytesLoaded.add(bytes.length);
+        FileContent content = new FileContent(bytes, before.lastModifiedTime());
+        // Okuma sırasında dosya değiştiyse sonucu döndür ama cache'leme
+        BasicFileAttributes after = Files.readAttributes(key, BasicFileAttributes.class);
+        if (!after.lastModifiedTime().equals(before.lastModifiedTime()) || after.size() != bytes.length) {
+            return content;
+        }
+        if (!cache.put(key, content)) {
+            uncacheable.increment();
+        }
+        return content;
+    }
+
+    /** Geçerli cache entry'si; yoksa veya dosya değiştiyse null (bayat entry düşürülür) */
+    private FileContent lookup(Path key) throws IOException {
+        FileContent cached = cache.get(key);
+        if (cached == null) {
+            return null;
+        }
+        if (invalidation == Invalidation.WATCH || isCurrent(key, cached)) {
+            hits.increment();
+            bytesSaved.add(cached.size());
+            return cached;
+        }
+        if (cache.remove(key) != null) {
+            invalidations.increment();
+        }
+        return null;
+    }
+
+    private static boolean isCurrent(Path key, FileContent cached) throws IOException {
+        try {
+            BasicFileAttributes attrs = Files.readAttributes(key, BasicFileAttributes.class);
+            FileTime mtime = attrs.lastModifiedTime();
+            return attrs.size() == cached.size() && mtime.equals(cached.lastModified());
+        } catch (NoSuchFileException e) {
+            return false;
+        }
+    }
+
+    private void watch(Path dir) throws IOException {
+        if (dir == null || watchedDirs.contains(dir)) {
+            return;
+        }
+        synchronized (watchedDirs) {
+            if (watchedDirs.add(dir)) {
+                dir.register(watchService,
+                    StandardWatchEventKinds.ENTRY_CREATE,
+                    StandardWatchEventKinds.ENTRY_MODIFY,
+                    StandardWatchEventKinds.ENTRY_DELETE);
+            }
+        }
+    }
+
+    private void watchLoop() {
+        try {
+            while (true) {
+                WatchKey watchKey = watchService.take();
+                Path dir = (Path) watchKey.watchable();
+                for (WatchEvent<?> event : watchKey.pollEvents()) {
+                    if (event.kind() == StandardWatchEventKinds.OVERFLOW) {
+                        // Olay kaybı - hangi dosyanın değiştiği bilinmiyor
+                        invalidations.add(cache.size());
+                        cache.clear();
+                    } else {
+                        invalidate(dir.resolve((Path) event.context()));
+                    }
+                }
+                if (!watchKey.reset()) {
+                    watchedDirs.remove(dir);
+                }
+            }
+        } catch (InterruptedException | ClosedWatchServiceException e) {
+            // close() çağrıldı
+        }
+    }
+
+    private static FileContent join(CompletableFuture<FileContent> future) throws IOException {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof IOException) {
+                throw (IOException) cause;
+            }
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw e;
+        }
+    }
+}
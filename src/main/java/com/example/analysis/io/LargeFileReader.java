@@ -0,0 +1,104 @@
+package com.example.analysis.io;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Büyük dosyalar için akış tabanlı okuma
+ *
+ * - lines(): tembel satır Stream'i, sabit bellek; Stream kapatılınca dosya da kapanır
+ * - view(): dosyayı memory-map eder ve kopyasız bir CharSequence döner
+ */
+public final class LargeFileReader {
+
+    public static final int DEFAULT_CHUNK = 64 * 1024;
+    /** MAPPED modunda bir seferde map edilen bölge */
+    public static final int DEFAULT_REGION = 16 * 1024 * 1024;
+
+    private LargeFileReader() {
+    }
+
+    /** UTF-8, DIRECT mod */
+    public static Stream<String> lines(Path path) throws IOException {
+        return lines(path, StandardCharsets.UTF_8, ReadMode.DIRECT);
+    }
+
+    /**
+     * try-with-resources ile kullanılmalı:
+     * <pre>try (Stream&lt;String&gt; lines = LargeFileReader.lines(path, UTF_8, MAPPED)) { ... }</pre>
+     */
+    public static Stream<String> lines(Path path, Charset charset, ReadMode mode) throws IOException {
+        LineIterator iterator = new LineIterator(path, charset, mode,
+            mode == ReadMode.MAPPED ? DEFAULT_REGION : DEFAULT_CHUNK, DEFAULT_CHUNK);
+        return StreamSupport.stream(
+                Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED | Spliterator.NONNULL), false)
+            .onClose(() -> {
+                try {
+                    iterator.close();
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+    }
+
+    public static LineIterator lineIterator(Path path, Charset charset, ReadMode mode) throws IOException {
+        return new LineIterator(path, charset, mode,
+            mode == ReadMode.MAPPED ? DEFAULT_REGION : DEFAULT_CHUNK, DEFAULT_CHUNK);
+    }
+
+    /**
+     * Dosya içeriğinin kopyasız görünümü (satır sonları dahil)
+     *
+     * Dosya handle'ı map edildikten hemen sonra kapanır; mapping GC'ye kadar geçerlidir.
+     * Sadece tek byte'lık içerik desteklenir: ISO-8859-1, US-ASCII veya tamamı ASCII olan UTF-8.
+     *
+     * @throws IllegalArgumentException dosya 2GB'tan büyükse (lines() kullanın) veya
+     *                                  UTF-8 dosya ASCII dışı byte içeriyorsa
+     */
+    public static CharSequence view(Path path, Charset charset) throws IOException {
+        boolean singleByte = charset.equals(StandardCharsets.ISO_8859_1) || charset.equals(StandardCharsets.US_ASCII);
+        if (!singleByte && !charset.equals(StandardCharsets.UTF_8)) {
+            throw new IllegalArgumentException("view supports ISO-8859-1, US-ASCII and ASCII-only UTF-8, not " + charset);
+        }
+        MappedByteBuffer buffer;
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size > Integer.MAX_VALUE) {
+                throw new IllegalArgumentException(path + " is " + size + " bytes; use lines() for files over 2GB");
+            }
+            buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+        }
+        if (!singleByte && !isAscii(buffer)) {
+            throw new IllegalArgumentException(path + " contains non-ASCII UTF-8; use lines()");
+        }
+        return new MappedTextView(buffer, 0, buffer.capacity());
+    }
+
+    private static boolean isAscii(ByteBuffer buffer) {
+        int limit = buffer.limit();
+        int i = 0;
+        // 8 byte'lık bloklar halinde yüksek bit kontrolü
+        for (; i + 8 <= limit; i += 8) {
+            if ((buffer.getLong(i) & 0x8080808080808080L) != 0) {
+                return false;
+            }
+        }
+        for (; i < limit; i++) {
+            if (buffer.get(i) < 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
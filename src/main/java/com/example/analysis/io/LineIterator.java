@@ -0,0 +1,198 @@
+package com.example.analysis.io;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CodingErrorAction;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * FileChannel üzerinden tembel satır okuyucu
+ *
+ * - Byte'lar sabit boyutlu parçalar halinde okunur ve parça parça decode edilir;
+ *   heap kullanımı dosya boyutundan bağımsızdır. Decode tamponu okuma/map bölgesinden
+ *   ayrı boyutlanır; 16MB'lık MAPPED bölgesi 32MB'lık char[] gerektirmez
+ * - Satır sonları \n ve \r\n; dönen satırlar sonlandırıcı içermez
+ * - Son satır okununca veya close() çağrılınca kanal hemen kapanır
+ * - Geçersiz byte dizileri U+FFFD ile değiştirilir
+ */
+public final class LineIterator implements Iterator<String>, Closeable {
+
+    private final FileChannel channel;
+    private final ReadMode mode;
+    private final int chunkSize;
+    private final long fileSize;
+    private final CharsetDecoder decoder;
+    private final CharBuffer chars;
+    private final StringBuilder line = new StringBuilder(128);
+
+    private ByteBuffer bytes;
+    private long mappedEnd;
+    private boolean inputDone;
+    private boolean decoderFlushed;
+    private String nextLine;
+    private boolean closed;
+
+    /** Decode tamponu min(chunkSize, {@link LargeFileReader#DEFAULT_CHUNK}) karakter */
+    public LineIterator(Path path, Charset charset, ReadMode mode, int chunkSize) throws IOException {
+        this(path, charset, mode, chunkSize, Math.min(chunkSize, LargeFileReader.DEFAULT_CHUNK));
+    }
+
+    /**
+     * @param chunkSize      DIRECT modunda okuma tamponu, MAPPED modunda map edilen bölge (byte)
+     * @param charBufferSize decode tamponu (karakter); bölge boyutundan bağımsız, küçük tutulabilir
+     */
+    public LineIterator(Path path, Charset charset, ReadMode mode, int chunkSize, int charBufferSize)
+            throws IOException {
+        if (chunkSize < 64) {
+            throw new IllegalArgumentException("chunkSize must be at least 64: " + chunkSize);
+        }
+        if (charBufferSize < 64) {
+            throw new IllegalArgumentException("charBufferSize must be at least 64: " + charBufferSize);
+        }
+        this.channel = FileChannel.open(path, StandardOpenOption.READ);
+        this.mode = mode;
+        this.chunkSize = chunkSize;
+        this.fileSize = channel.size();
+        this.decoder = charset.newDecoder()
+            .onMalformedInput(CodingErrorAction.REPLACE)
+            .onUnmappableCharacter(CodingErrorAction.REPLACE);
+        this.chars = CharBuffer.allocate(charBufferSize);
+        chars.flip();
+        if (mode == ReadMode.DIRECT) {
+            bytes = ByteBuffer.allocateDirect(chunkSize);
+            bytes.flip();
+        } else {
+            bytes = ByteBuffer.allocate(0);
+        }
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (nextLine != null) {
+            return true;
+        }
+        if (closed) {
+            return false;
+        }
+        try {
+            nextLine = readLine();
+        } catch (IOException e) {
+            closeQuietly();
+            throw new UncheckedIOException(e);
+        }
+        if (nextLine == null) {
+            closeQuietly();
+        }
+        return nextLine != null;
+    }
+
+    @Override
+    public String next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        String result = nextLine;
+        nextLine = null;
+        return result;
+    }
+
+    @Override
+    public void close() throws IOException {
+        closed = true;
+        channel.close();
+    }
+
+    private void closeQuietly() {
+        try {
+            close();
+        } catch (IOException ignored) {
+            // Okuma bitti, kapanış hatası sonucu değiştirmez
+        }
+    }
+
+    private String readLine() throws IOException {
+        line.setLength(0);
+        boolean sawAny = false;
+        while (true) {
+            if (!chars.hasRemaining() && !fillChars()) {
+                return sawAny ? line.toString() : null;
+            }
+            sawAny = true;
+            // CharBuffer heap'te: backing array üzerinde tarama, toplu kopyalama
+            char[] array = chars.array();
+            int start = chars.position();
+            int limit = chars.limit();
+            int i = start;
+            while (i < limit && array[i] != '\n') {
+                i++;
+            }
+            if (i == limit) {
+                line.append(array, start, limit - start);
+                chars.position(limit);
+                continue;
+            }
+            chars.position(i + 1);
+            int end = i > start && array[i - 1] == '\r' ? i - 1 : i;
+            if (line.length() == 0) {
+                // Satır tek parçada: StringBuilder'a uğramadan
+                return new String(array, start, end - start);
+            }
+            line.append(array, start, end - start);
+            int last = line.length() - 1;
+            if (end == i && i == start && last >= 0 && line.charAt(last) == '\r') {
+                line.setLength(last);
+            }
+            return line.toString();
+        }
+    }
+
+    /** chars'ı yeni decode edilmiş karakterlerle doldurur; girdi bittiyse false */
+    private boolean fillChars() throws IOException {
+        chars.clear();
+        while (chars.position() == 0) {
+            if (decoderFlushed) {
+                break;
+            }
+            decoder.decode(bytes, chars, inputDone);
+            if (chars.position() > 0) {
+                break;
+            }
+            if (inputDone) {
+                decoder.flush(chars);
+                decoderFlushed = true;
+            } else if (!refillBytes()) {
+                inputDone = true;
+            }
+        }
+        chars.flip();
+        return chars.hasRemaining();
+    }
+
+    /** Yeni byte'lar okur; dosya sonundaysa false */
+    private boolean refillBytes() throws IOException {
+        if (mode == ReadMode.DIRECT) {
+            bytes.compact();
+            int read = channel.read(bytes);
+            bytes.flip();
+            return read >= 0;
+        }
+        // Decode edilemeyen kuyruk byte'ları (yarım karakter) bir sonraki bölgeye dahil edilir
+        long start = mappedEnd - bytes.remaining();
+        if (mappedEnd >= fileSize) {
+            return false;
+        }
+        long length = Math.min(chunkSize, fileSize - start);
+        bytes = channel.map(FileChannel.MapMode.READ_ONLY, start, length);
+        mappedEnd = start + length;
+        return true;
+    }
+}
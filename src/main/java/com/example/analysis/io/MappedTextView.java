@@ -0,0 +1,51 @@
+package com.example.analysis.io;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Tek byte'lık karakterlerden oluşan bir buffer üzerinde kopyasız CharSequence
+ *
+ * charAt(i) doğrudan i'nci byte'ı okur; String'e çevrilmedikçe heap'te kopya oluşmaz.
+ */
+public final class MappedTextView implements CharSequence {
+
+    private final ByteBuffer buffer;
+    private final int offset;
+    private final int length;
+
+    MappedTextView(ByteBuffer buffer, int offset, int length) {
+        this.buffer = buffer;
+        this.offset = offset;
+        this.length = length;
+    }
+
+    @Override
+    public int length() {
+        return length;
+    }
+
+    @Override
+    public char charAt(int index) {
+        if (index < 0 || index >= length) {
+            throw new IndexOutOfBoundsException("index " + index + ", length " + length);
+        }
+        return (char) (buffer.get(offset + index) & 0xFF);
+    }
+
+    @Override
+    public CharSequence subSequence(int start, int end) {
+        if (start < 0 || end > length || start > end) {
+            throw new IndexOutOfBoundsException("range [" + start + ", " + end + "), length " + length);
+        }
+        return new MappedTextView(buffer, offset + start, end - start);
+    }
+
+    /** Sadece gerektiğinde - tüm içeriği heap'e kopyalar */
+    @Override
+    public String toString() {
+        byte[] copy = new byte[length];
+        buffer.get(offset, copy, 0, length);
+        return new String(copy, StandardCharsets.ISO_8859_1);
+    }
+}
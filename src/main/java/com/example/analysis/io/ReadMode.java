@@ -0,0 +1,11 @@
+package com.example.analysis.io;
+
+/**
+ * Dosya byte'larının nasıl okunacağı
+ */
+public enum ReadMode {
+    /** FileChannel.read ile yeniden kullanılan direct ByteBuffer'a */
+    DIRECT,
+    /** FileChannel.map ile bölge bölge memory-mapped */
+    MAPPED
+}
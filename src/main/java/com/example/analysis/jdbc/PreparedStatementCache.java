@@ -0,0 +1,88 @@
+package com.example.analysis.jdbc;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Tek bir Connection için SQL → PreparedStatement LRU cache'i
+ *
+ * Aynı SQL tekrar parse edilmez; kapasite aşılınca en az kullanılan statement kapatılır.
+ * Connection gibi thread-safe değildir.
+ */
+public final class PreparedStatementCache implements AutoCloseable {
+
+    private final Connection connection;
+    private final int maxStatements;
+    private final LinkedHashMap<String, PreparedStatement> statements;
+    private long hits;
+    private long misses;
+
+    public PreparedStatementCache(Connection connection, int maxStatements) {
+        if (maxStatements <= 0) {
+            throw new IllegalArgumentException("maxStatements must be positive: " + maxStatements);
+        }
+        this.connection = connection;
+        this.maxStatements = maxStatements;
+        this.statements = new LinkedHashMap<>(16, 0.75f, true);
+    }
+
+    public PreparedStatement prepare(String sql) throws SQLException {
+        PreparedStatement ps = statements.get(sql);
+        if (ps != null && !ps.isClosed()) {
+            hits++;
+            ps.clearParameters();
+            return ps;
+        }
+        misses++;
+        ps = connection.prepareStatement(sql);
+        statements.put(sql, ps);
+        evictIfNeeded();
+        return ps;
+    }
+
+    public int size() {
+        return statements.size();
+    }
+
+    public long hits() {
+        return hits;
+    }
+
+    public long misses() {
+        return misses;
+    }
+
+    /** Cache'teki tüm statement'ları kapatır; Connection açık kalır */
+    @Override
+    public void close() throws SQLException {
+        SQLException failure = null;
+        for (PreparedStatement ps : statements.values()) {
+            try {
+                ps.close();
+            } catch (SQLException e) {
+                if (failure == null) {
+                    failure = e;
+                } else {
+                    failure.addSuppressed(e);
+                }
+            }
+        }
+        statements.clear();
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    private void evictIfNeeded() throws SQLException {
+        Iterator<Map.Entry<String, PreparedStatement>> it = statements.entrySet().iterator();
+        while (statements.size() > maxStatements && it.hasNext()) {
+            PreparedStatement eldest = it.next().getValue();
+            it.remove();
+            eldest.close();
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package com.example.analysis.jdbc;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Connection başına sorgu katmanı
+ *
+ * - PreparedStatement'lar PreparedStatementCache'ten gelir, her çağrıda parse edilmez
+ * - ResultSet'ler try-with-resources ile her durumda kapanır - cursor leak yok
+ * - fetchSize ile büyük sonuçlar sürücüden parça parça akıtılır
+ * - IN (...) sorguları parametre sayısı 2'nin kuvvetine yuvarlanarak hazırlanır;
+ *   böylece her liste boyutu için ayrı statement cache'lenmez
+ *
+ * Connection gibi thread-safe değildir; her thread kendi executor'ını kullanmalı.
+ */
+public final class QueryExecutor implements AutoCloseable {
+
+    /** Tek IN sorgusundaki en fazla parametre */
+    public static final int MAX_IN_PARAMETERS = 1024;
+
+    private final PreparedStatementCache statements;
+    private final int fetchSize;
+
+    public QueryExecutor(Connection connection, int maxCachedStatements, int fetchSize) {
+        if (fetchSize < 0) {
+            throw new IllegalArgumentException("fetchSize must not be negative: " + fetchSize);
+        }
+        this.statements = new PreparedStatementCache(connection, maxCachedStatements);
+        this.fetchSize = fetchSize;
+    }
+
+    public <T> List<T> query(String sql, StatementBinder binder, RowMapper<T> mapper) throws SQLException {
+        List<T> results = new ArrayList<>();
+        stream(sql, binder, mapper, results::add);
+        return results;
+    }
+
+    /** Satırları listeye toplamadan tek tek consumer'a verir */
+    public <T> void stream(String sql, StatementBinder binder, RowMapper<T> mapper,
+                           Consumer<? super T> consumer) throws SQLException {
+        PreparedStatement ps = statements.prepare(sql);
+        binder.bind(ps);
+        ps.setFetchSize(fetchSize);
+        try (ResultSet rs = ps.executeQuery()) {
+            while (rs.next()) {
+                consumer.accept(mapper.map(rs));
+            }
+        }
+    }
+
+    /**
+     * sqlPrefix + "(?, ?, ...)" sorgusunu değerler için parça parça çalıştırır
+     *
+     * @param sqlPrefix örn. "SELECT name FROM users WHERE id IN "
+     */
+    public <T> List<T> queryIn(String sqlPrefix, List<String> values, RowMapper<T> mapper) throws SQLException {
+        List<T> results = new ArrayList<>();
+        for (int from = 0; from < values.size(); from += MAX_IN_PARAMETERS) {
+            List<String> chunk = values.subList(from, Math.min(values.size(), from + MAX_IN_PARAMETERS));
+            int slots = Integer.highestOneBit(Math.max(1, chunk.size() * 2 - 1));
+            stream(sqlPrefix + placeholders(slots), ps -> {
+                for (int i = 0; i < slots; i++) {
+                    // Fazla slot'lar son değerle doldurulur - IN sonucu değişmez
+                    ps.setString(i + 1, chunk.get(Math.min(i, chunk.size() - 1)));
+                }
+            }, mapper, results::add);
+        }
+        return results;
+    }
+
+    public PreparedStatementCache statementCache() {
+        return statements;
+    }
+
+    @Override
+    public void close() throws SQLException {
+        statements.close();
+    }
+
+    private static String placeholders(int count) {
+        StringBuilder sb = new StringBuilder(count * 3 + 2).append('(');
+        for (int i = 0; i < count; i++) {
+            if (i > 0) sb.append(", ");
+            sb.append('?');
+        }
+        return sb.append(')').toString();
+    }
+}
@@ -0,0 +1,13 @@
+package com.example.analysis.jdbc;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * ResultSet'in mevcut satırını bir nesneye çevirir
+ */
+@FunctionalInterface
+public interface RowMapper<T> {
+
+    T map(ResultSet rs) throws SQLException;
+}
@@ -0,0 +1,15 @@
+package com.example.analysis.jdbc;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+
+/**
+ * PreparedStatement parametrelerini bağlar - kullanıcı girdisi asla SQL'e eklenmez
+ */
+@FunctionalInterface
+public interface StatementBinder {
+
+    StatementBinder NONE = ps -> { };
+
+    void bind(PreparedStatement ps) throws SQLException;
+}
@@ -0,0 +1,192 @@
+package com.example.analysis.json;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+// JsonReader ve JsonProjection.Row'un ortak byte aralığı çözümleri
+final class JsonBytes {
+
+    private static final double[] POWERS_OF_TEN = {
+        1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11, 1e12, 1e13, 1e14, 1e15
+    };
+
+    private byte[] scratch = new byte[64];
+
+    /** String içeriği (tırnaklar hariç); escape yoksa heap buffer'dan doğrudan */
+    String decodeString(ByteBuffer buffer, int start, int end, boolean escaped) {
+        if (!escaped) {
+            return raw(buffer, start, end);
+        }
+        int length = unescape(buffer, start, end);
+        return new String(scratch, 0, length, StandardCharsets.UTF_8);
+    }
+
+    /** Aralığın kendisi - sayı, literal veya ham JSON */
+    String raw(ByteBuffer buffer, int start, int end) {
+        int length = end - start;
+        if (buffer.hasArray()) {
+            return new String(buffer.array(), buffer.arrayOffset() + start, length, StandardCharsets.UTF_8);
+        }
+        byte[] bytes = ensure(length);
+        buffer.get(start, bytes, 0, length);
+        return new String(bytes, 0, length, StandardCharsets.UTF_8);
+    }
+
+    /** String içeriği utf8 ile aynı mı; escape yoksa allocation yapmaz */
+    boolean textEquals(ByteBuffer buffer, int start, int end, boolean escaped, byte[] utf8) {
+        if (!escaped) {
+            if (end - start != utf8.length) {
+                return false;
+            }
+            for (int i = 0; i < utf8.length; i++) {
+                if (buffer.get(start + i) != utf8[i]) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        int length = unescape(buffer, start, end);
+        return Arrays.equals(scratch, 0, length, utf8, 0, utf8.length);
+    }
+
+    static long parseLong(ByteBuffer buffer, int start, int end) {
+        boolean negative = buffer.get(start) == '-';
+        int i = negative ? start + 1 : start;
+        // Long.parseLong gibi negatif tarafta biriktirilir; MIN_VALUE da sığar
+        long limit = negative ? Long.MIN_VALUE : -Long.MAX_VALUE;
+        long multiplyMin = limit / 10;
+        long result = 0;
+        for (; i < end; i++) {
+            int digit = buffer.get(i) - '0';
+            if (result < multiplyMin) {
+                throw new JsonParseException("number does not fit in a long", start);
+            }
+            result *= 10;
+            if (result < limit + digit) {
+                throw new JsonParseException("number does not fit in a long", start);
+            }
+            result -= digit;
+        }
+        return negative ? result : -result;
+    }
+
+    double parseDouble(ByteBuffer buffer, int start, int end, boolean integral) {
+        // 15 basamağa kadar tam sayılar double'a kayıpsız çevrilir
+        if (integral && end - start <= 15) {
+            long value = parseLong(buffer, start, end);
+            // long'da -0 yok; "-0" Double.parseDouble gibi -0.0 olmalı
+            return value == 0 && buffer.get(start) == '-' ? -0.0 : value;
+        }
+        double fast = parseShortDecimal(buffer, start, end);
+        if (!Double.isNaN(fast)) {
+            return fast;
+        }
+        return Double.parseDouble(raw(buffer, start, end));
+    }
+
+    // Üssüz, en fazla 15 basamaklı ondalık: mantis ve 10^n double'da tam,
+    // tek bölme doğru yuvarlanır (Clinger hızlı yolu). Uymazsa NaN
+    private static double parseShortDecimal(ByteBuffer buffer, int start, int end) {
+        boolean negative = buffer.get(start) == '-';
+        long mantissa = 0;
+        int digits = 0;
+        int fraction = -1;
+        for (int i = negative ? start + 1 : start; i < end; i++) {
+            byte b = buffer.get(i);
+            if (b == '.') {
+                fraction = 0;
+            } else if (b >= '0' && b <= '9') {
+                mantissa = mantissa * 10 + (b - '0');
+                if (++digits > 15) {
+                    return Double.NaN;
+                }
+                if (fraction >= 0) {
+                    fraction++;
+                }
+            } else {
+                return Double.NaN;
+            }
+        }
+        double value = fraction > 0 ? mantissa / POWERS_OF_TEN[fraction] : mantissa;
+        return negative ? -value : value;
+    }
+
+    // Escape'leri çözüp UTF-8 olarak scratch'e yazar, uzunluğu döner
+    private int unescape(ByteBuffer buffer, int start, int end) {
+        // Çözülmüş hali hiçbir zaman kaynaktan uzun değildir
+        byte[] out = ensure(end - start);
+        int length = 0;
+        for (int i = start; i < end; i++) {
+            byte b = buffer.get(i);
+            if (b != '\\') {
+                out[length++] = b;
+                continue;
+            }
+            byte e = buffer.get(++i);
+            switch (e) {
+                case 'b': out[length++] = '\b'; break;
+                case 'f': out[length++] = '\f'; break;
+                case 'n': out[length++] = '\n'; break;
+                case 'r': out[length++] = '\r'; break;
+                case 't': out[length++] = '\t'; break;
+                case 'u': {
+                    int unit = hex4(buffer, i + 1);
+                    i += 4;
+                    int codePoint = unit;
+                    if (Character.isHighSurrogate((char) unit) && i + 6 < end
+                            && buffer.get(i + 1) == '\\' && buffer.get(i + 2) == 'u') {
+                        int low = hex4(buffer, i + 3);
+                        if (Character.isLowSurrogate((char) low)) {
+                            codePoint = Character.toCodePoint((char) unit, (char) low);
+                            i += 6;
+                        }
+                    }
+                    if (Character.isSurrogate((char) codePoint) && codePoint < 0x10000) {
+                        codePoint = 0xFFFD;
+                    }
+                    length = writeUtf8(out, length, codePoint);
+                    break;
+                }
+                default:
+                    // '"', '\\', '/'
+                    out[length++] = e;
+            }
+        }
+        return length;
+    }
+
+    private static int hex4(ByteBuffer buffer, int from) {
+        int value = 0;
+        for (int i = from; i < from + 4; i++) {
+            value = (value << 4) | Character.digit(buffer.get(i), 16);
+        }
+        return value;
+    }
+
+    private static int writeUtf8(byte[] out, int length, int codePoint) {
+        if (codePoint < 0x80) {
+            out[length++] = (byte) codePoint;
+        } else if (codePoint < 0x800) {
+            out[length++] = (byte) (0xC0 | (codePoint >> 6));
+            out[length++] = (byte) (0x80 | (codePoint & 0x3F));
+        } else if (codePoint < 0x10000) {
+            out[length++] = (byte) (0xE0 | (codePoint >> 12));
+            out[length++] = (byte) (0x80 | ((codePoint >> 6) & 0x3F));
+            out[length++] = (byte) (0x80 | (codePoint & 0x3F));
+        } else {
+            out[length++] = (byte) (0xF0 | (codePoint >> 18));
+            out[length++] = (byte) (0x80 | ((codePoint >> 12) & 0x3F));
+            out[length++] = (byte) (0x80 | ((codePoint >> 6) & 0x3F));
+            out[length++] = (byte) (0x80 | (codePoint & 0x3F));
+        }
+        return length;
+    }
+
+    private byte[] ensure(int length) {
+        if (scratch.length < length) {
+            scratch = new byte[Math.max(length, scratch.length * 2)];
+        }
+        return scratch;
+    }
+}
@@ -0,0 +1,29 @@
+package com.example.analysis.json;
+
+/**
+ * Geçersiz JSON; offset hatanın bulunduğu byte konumudur
+ *
+ * NdjsonProcessor'dan gelen hatalarda offset dosya başından itibarendir.
+ */
+public final class JsonParseException extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+
+    private final String detail;
+    private final long offset;
+
+    JsonParseException(String detail, long offset) {
+        super(detail + " at offset " + offset, null, false, false);
+        this.detail = detail;
+        this.offset = offset;
+    }
+
+    public long offset() {
+        return offset;
+    }
+
+    // Buffer içi offset'i dosya offset'ine çevirir
+    JsonParseException shift(long delta) {
+        return new JsonParseException(detail, offset + delta);
+    }
+}
@@ -0,0 +1,192 @@
+package com.example.analysis.json;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * Kök object'ten sadece seçili alanları okur - dokümanın tamamı için Map kurulmaz
+ *
+ * Değerler {@link Row}'a buffer aralığı olarak kaydedilir; String/sayı çözümü
+ * sadece getter çağrılınca yapılır. Seçilmeyen alanların object/array değerleri
+ * tokenize edilmeden atlanır, tüm alanlar bulununca dokümanın geri kalanı
+ * okunmaz (ve doğrulanmaz). Aynı alan tekrar ederse ilki geçerlidir.
+ *
+ * Projection değişmezdir, thread'ler arasında paylaşılabilir; Row paylaşılamaz.
+ */
+public final class JsonProjection {
+
+    private final String[] fields;
+    private final byte[][] names;
+
+    public JsonProjection(String... fields) {
+        if (fields.length == 0) {
+            throw new IllegalArgumentException("at least one field is required");
+        }
+        this.fields = fields.clone();
+        this.names = new byte[fields.length][];
+        for (int i = 0; i < fields.length; i++) {
+            names[i] = Objects.requireNonNull(fields[i], "field").getBytes(StandardCharsets.UTF_8);
+        }
+    }
+
+    public int fieldCount() {
+        return fields.length;
+    }
+
+    public String field(int index) {
+        return fields[index];
+    }
+
+    /** Alan adının index'i, yoksa -1 */
+    public int indexOf(String field) {
+        for (int i = 0; i < fields.length; i++) {
+            if (fields[i].equals(field)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /** Dokümanlar arasında tekrar kullanılacak satır */
+    public Row newRow() {
+        return new Row(fields.length);
+    }
+
+    /**
+     * reader'ın güncel dokümanını (reset sonrası) row'a okur
+     *
+     * @return bulunan alan sayısı
+     * @throws JsonParseException kök değer object değilse veya okunan kısım geçersizse
+     */
+    public int project(JsonReader reader, Row row) {
+        if (row.types.length != fields.length) {
+            throw new IllegalArgumentException("row was created by a different projection");
+        }
+        row.clear(reader.buffer());
+        if (reader.next() != JsonToken.START_OBJECT) {
+            throw new JsonParseException("document is not an object", reader.tokenStart());
+        }
+        int found = 0;
+        while (found < fields.length && reader.next() == JsonToken.FIELD_NAME) {
+            int index = match(reader);
+            JsonToken value = reader.next();
+            if (index < 0 || row.types[index] != null) {
+                reader.skipValue();
+                continue;
+            }
+            int start = reader.tokenStart();
+            if (value == JsonToken.START_OBJECT || value == JsonToken.START_ARRAY) {
+                reader.skipValue();
+            }
+            row.set(index, value, start, reader.tokenEnd(), reader.escaped(), reader.integral());
+            found++;
+        }
+        return found;
+    }
+
+    private int match(JsonReader reader) {
+        for (int i = 0; i < names.length; i++) {
+            if (reader.textEquals(names[i])) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Bir dokümanın seçili alanları; sadece bir sonraki project çağrısına
+     * (ve okunan buffer geçerli kaldıkça) kadar geçerlidir
+     */
+    public static final class Row {
+
+        private final JsonToken[] types;
+        private final int[] starts;
+        private final int[] ends;
+        private final boolean[] escaped;
+        private final boolean[] integral;
+        private final JsonBytes bytes = new JsonBytes();
+        private ByteBuffer buffer;
+
+        Row(int fieldCount) {
+            types = new JsonToken[fieldCount];
+            starts = new int[fieldCount];
+            ends = new int[fieldCount];
+            escaped = new boolean[fieldCount];
+            integral = new boolean[fieldCount];
+        }
+
+        /** Alan dokümanda var ve null değil */
+        public boolean has(int index) {
+            JsonToken type = types[index];
+            return type != null && type != JsonToken.NULL;
+        }
+
+        /** Değerin türü; object/array için START_OBJECT/START_ARRAY, alan yoksa null */
+        public JsonToken type(int index) {
+            return types[index];
+        }
+
+        /** STRING'de çözülmüş metin, diğer türlerde ham JSON; yok veya null ise null */
+        public String getString(int index) {
+            JsonToken type = types[index];
+            if (type == null || type == JsonToken.NULL) {
+                return null;
+            }
+            if (type == JsonToken.STRING) {
+                return bytes.decodeString(buffer, starts[index], ends[index], escaped[index]);
+            }
+            return bytes.raw(buffer, starts[index], ends[index]);
+        }
+
+        /** STRING değeri utf8 ile aynı mı - allocation yok */
+        public boolean textEquals(int index, byte[] utf8) {
+            return types[index] == JsonToken.STRING
+                && bytes.textEquals(buffer, starts[index], ends[index], escaped[index], utf8);
+        }
+
+        public long getLong(int index) {
+            requireNumber(index);
+            if (!integral[index]) {
+                throw new JsonParseException("number is not an integer", starts[index]);
+            }
+            return JsonBytes.parseLong(buffer, starts[index], ends[index]);
+        }
+
+        public double getDouble(int index) {
+            requireNumber(index);
+            return bytes.parseDouble(buffer, starts[index], ends[index], integral[index]);
+        }
+
+        public boolean getBoolean(int index) {
+            JsonToken type = types[index];
+            if (type == JsonToken.TRUE) {
+                return true;
+            }
+            if (type == JsonToken.FALSE) {
+                return false;
+            }
+            throw new IllegalStateException("field " + index + " is not a boolean: " + type);
+        }
+
+        void clear(ByteBuffer source) {
+            buffer = source;
+            Arrays.fill(types, null);
+        }
+
+        void set(int index, JsonToken type, int start, int end, boolean isEscaped, boolean isIntegral) {
+            types[index] = type;
+            starts[index] = start;
+            ends[index] = end;
+            escaped[index] = isEscaped;
+            integral[index] = isIntegral;
+        }
+
+        private void requireNumber(int index) {
+            if (types[index] != JsonToken.NUMBER) {
+                throw new IllegalStateException("field " + index + " is not a number: " + types[index]);
+            }
+        }
+    }
+}
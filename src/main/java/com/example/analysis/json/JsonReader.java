@@ -0,0 +1,477 @@
+package com.example.analysis.json;
+
+import java.nio.ByteBuffer;
+import java.util.Objects;
+
+/**
+ * UTF-8 byte buffer üzerinde çekme (pull) tabanlı JSON tokenizer
+ *
+ * - {@link #next()} bir sonraki token'ı döner; ağaç (Map/List) kurulmaz
+ * - String ve sayılar sadece istenirse çözülür ({@link #stringValue()},
+ *   {@link #longValue()}); alan adları {@link #textEquals(byte[])} ile
+ *   allocation olmadan karşılaştırılır
+ * - {@link #skipValue()} ilgilenilmeyen object/array'i tokenize etmeden atlar
+ * - {@link #reset} ile sonraki dokümana geçilir; tek reader binlerce doküman
+ *   için kullanılır. Thread-safe değildir, thread başına bir reader olmalı.
+ *
+ * Yapı (ayraçlar, iç içe geçme, escape'ler, sayı biçimi) doğrulanır; UTF-8
+ * byte dizileri doğrulanmaz, çözülürken geçersizler U+FFFD olur.
+ */
+public final class JsonReader {
+
+    public static final int DEFAULT_MAX_DEPTH = 256;
+
+    private static final byte OBJECT = 1;
+    private static final byte ARRAY = 2;
+
+    private final byte[] stack;
+    private final JsonBytes bytes = new JsonBytes();
+    private ByteBuffer buffer;
+    // reset(byte[]) aynı dizi için wrapper'ı tekrar kullanır
+    private ByteBuffer wrapped;
+    private int pos;
+    private int limit;
+    private int depth;
+    // Mevcut container'da bir değer tamamlandı, sıradaki ',' ile başlamalı
+    private boolean needComma;
+    // FIELD_NAME döndü; ':' ve değer bekleniyor
+    private boolean afterName;
+    private boolean rootDone;
+
+    private JsonToken token;
+    // STRING/FIELD_NAME'de tırnaklar hariç içerik, container'da '{' / '['
+    private int tokenStart;
+    private int tokenEnd;
+    private boolean escaped;
+    private boolean integral;
+
+    public JsonReader() {
+        this(DEFAULT_MAX_DEPTH);
+    }
+
+    public JsonReader(int maxDepth) {
+        if (maxDepth <= 0) {
+            throw new IllegalArgumentException("maxDepth must be positive: " + maxDepth);
+        }
+        this.stack = new byte[maxDepth];
+    }
+
+    /** buffer[from, to) aralığındaki dokümana geçer; buffer'ın position/limit'i değişmez */
+    public JsonReader reset(ByteBuffer buffer, int from, int to) {
+        Objects.checkFromToIndex(from, to, buffer.limit());
+        this.buffer = buffer;
+        this.pos = from;
+        this.limit = to;
+        this.depth = 0;
+        this.needComma = false;
+        this.afterName = false;
+        this.rootDone = false;
+        this.token = null;
+        return this;
+    }
+
+    public JsonReader reset(byte[] data, int from, int to) {
+        if (wrapped == null || wrapped.array() != data) {
+            wrapped = ByteBuffer.wrap(data);
+        }
+        return reset(wrapped, from, to);
+    }
+
+    /** Buffer referanslarını bırakır - pool'a iade edilirken */
+    public void clear() {
+        buffer = null;
+        wrapped = null;
+        token = null;
+    }
+
+    public JsonToken next() {
+        skipWhitespace();
+        if (afterName) {
+            if (pos >= limit || buffer.get(pos) != ':') {
+                throw error("expected ':'");
+            }
+            pos++;
+            afterName = false;
+            skipWhitespace();
+            return token = readValue();
+        }
+        if (depth == 0) {
+            if (!rootDone) {
+                return token = readValue();
+            }
+            if (pos < limit) {
+                throw error("unexpected data after root value");
+            }
+            return token = JsonToken.END_DOCUMENT;
+        }
+        if (pos >= limit) {
+            throw error("unexpected end of input");
+        }
+        byte c = buffer.get(pos);
+        boolean inObject = stack[depth - 1] == OBJECT;
+        if (c == '}' || c == ']') {
+            if ((c == '}') != inObject) {
+                throw error("mismatched '" + (char) c + "'");
+            }
+            tokenStart = pos;
+            tokenEnd = ++pos;
+            depth--;
+            valueDone();
+            return token = c == '}' ? JsonToken.END_OBJECT : JsonToken.END_ARRAY;
+        }
+        if (needComma) {
+            if (c != ',') {
+                throw error(inObject ? "expected ',' or '}'" : "expected ',' or ']'");
+            }
+            pos++;
+            skipWhitespace();
+            if (pos >= limit) {
+                throw error("unexpected end of input");
+            }
+            c = buffer.get(pos);
+        }
+        if (inObject) {
+            if (c != '"') {
+                throw error("expected field name");
+            }
+            readString();
+            afterName = true;
+            return token = JsonToken.FIELD_NAME;
+        }
+        if (c == ']') {
+            throw error("trailing comma");
+        }
+        return token = readValue();
+    }
+
+    public JsonToken currentToken() {
+        return token;
+    }
+
+    /** İçinde bulunulan container sayısı; kökte 0 */
+    public int depth() {
+        return depth;
+    }
+
+    /** STRING/FIELD_NAME'de çözülmüş metin; NUMBER ve literal'lerde ham yazım */
+    public String stringValue() {
+        switch (requireToken()) {
+            case STRING:
+            case FIELD_NAME:
+                return bytes.decodeString(buffer, tokenStart, tokenEnd, escaped);
+            case NUMBER:
+            case TRUE:
+            case FALSE:
+            case NULL:
+                return bytes.raw(buffer, tokenStart, tokenEnd);
+            default:
+                throw new IllegalStateException("no text for " + token);
+        }
+    }
+
+    /** STRING/FIELD_NAME içeriği utf8 ile aynı mı; escape yoksa allocation yapmaz */
+    public boolean textEquals(byte[] utf8) {
+        if (token != JsonToken.STRING && token != JsonToken.FIELD_NAME) {
+            return false;
+        }
+        return bytes.textEquals(buffer, tokenStart, tokenEnd, escaped, utf8);
+    }
+
+    public long longValue() {
+        if (requireToken() != JsonToken.NUMBER) {
+            throw new IllegalStateException("not a number: " + token);
+        }
+        if (!integral) {
+            throw new JsonParseException("number is not an integer", tokenStart);
+        }
+        return JsonBytes.parseLong(buffer, tokenStart, tokenEnd);
+    }
+
+    public double doubleValue() {
+        if (requireToken() != JsonToken.NUMBER) {
+            throw new IllegalStateException("not a number: " + token);
+        }
+        return bytes.parseDouble(buffer, tokenStart, tokenEnd, integral);
+    }
+
+    public boolean booleanValue() {
+        if (token == JsonToken.TRUE) {
+            return true;
+        }
+        if (token == JsonToken.FALSE) {
+            return false;
+        }
+        throw new IllegalStateException("not a boolean: " + token);
+    }
+
+    /**
+     * START_OBJECT/START_ARRAY'de container'ı sonuna kadar tokenize etmeden atlar;
+     * sonrasında token END_OBJECT/END_ARRAY olur ve [tokenStart, tokenEnd) container'ın
+     * ham JSON'udur. FIELD_NAME'de alanın değerini atlar. Atlanan içerik doğrulanmaz.
+     */
+    public void skipValue() {
+        if (token == JsonToken.FIELD_NAME) {
+            next();
+        }
+        if (token != JsonToken.START_OBJECT && token != JsonToken.START_ARRAY) {
+            return;
+        }
+        int start = tokenStart;
+        int level = 1;
+        int i = pos;
+        byte last = 0;
+        while (level > 0) {
+            if (i >= limit) {
+                throw error("unexpected end of input");
+            }
+            byte b = buffer.get(i++);
+            if (b == '"') {
+                i = skipString(i);
+            } else if (b == '{' || b == '[') {
+                level++;
+            } else if (b == '}' || b == ']') {
+                level--;
+                last = b;
+            }
+        }
+        pos = i;
+        depth--;
+        valueDone();
+        tokenStart = start;
+        tokenEnd = i;
+        token = last == '}' ? JsonToken.END_OBJECT : JsonToken.END_ARRAY;
+    }
+
+    /** Mevcut token'ın buffer'daki başlangıcı */
+    public int tokenStart() {
+        return tokenStart;
+    }
+
+    public int tokenEnd() {
+        return tokenEnd;
+    }
+
+    ByteBuffer buffer() {
+        return buffer;
+    }
+
+    boolean escaped() {
+        return escaped;
+    }
+
+    boolean integral() {
+        return integral;
+    }
+
+    private JsonToken readValue() {
+        if (pos >= limit) {
+            throw error("unexpected end of input");
+        }
+        byte c = buffer.get(pos);
+        switch (c) {
+            case '{':
+                push(OBJECT);
+                return JsonToken.START_OBJECT;
+            case '[':
+                push(ARRAY);
+                return JsonToken.START_ARRAY;
+            case '"':
+                readString();
+                valueDone();
+                return JsonToken.STRING;
+            case 't':
+                readLiteral("true");
+                return JsonToken.TRUE;
+            case 'f':
+                readLiteral("false");
+                return JsonToken.FALSE;
+            case 'n':
+                readLiteral("null");
+                return JsonToken.NULL;
+            default:
+                if (c == '-' || (c >= '0' && c <= '9')) {
+                    readNumber();
+                    valueDone();
+                    return JsonToken.NUMBER;
+                }
+                throw error("unexpected character '" + (char) (c & 0xFF) + "'");
+        }
+    }
+
+    private void push(byte container) {
+        if (depth == stack.length) {
+            throw error("nesting deeper than " + stack.length);
+        }
+        stack[depth++] = container;
+        tokenStart = pos;
+        tokenEnd = ++pos;
+        needComma = false;
+    }
+
+    private void valueDone() {
+        needComma = true;
+        if (depth == 0) {
+            rootDone = true;
+        }
+    }
+
+    private void readString() {
+        int start = pos + 1;
+        int i = start;
+        boolean hasEscape = false;
+        while (true) {
+            if (i >= limit) {
+                throw error("unterminated string");
+            }
+            byte b = buffer.get(i);
+            if (b == '"') {
+                break;
+            }
+            if (b == '\\') {
+                hasEscape = true;
+                i = checkEscape(i + 1);
+            } else if ((b & 0xFF) < 0x20) {
+                pos = i;
+                throw error("control character in string");
+            } else {
+                i++;
+            }
+        }
+        tokenStart = start;
+        tokenEnd = i;
+        escaped = hasEscape;
+        pos = i + 1;
+    }
+
+    // i: '\\' sonrası; escape sonrası index'i döner
+    private int checkEscape(int i) {
+        if (i >= limit) {
+            throw error("unterminated string");
+        }
+        switch (buffer.get(i)) {
+            case '"':
+            case '\\':
+            case '/':
+            case 'b':
+            case 'f':
+            case 'n':
+            case 'r':
+            case 't':
+                return i + 1;
+            case 'u':
+                if (i + 4 >= limit) {
+                    throw error("unterminated string");
+                }
+                for (int h = i + 1; h <= i + 4; h++) {
+                    if (Character.digit(buffer.get(h), 16) < 0) {
+                        pos = h;
+                        throw error("invalid \\u escape");
+                    }
+                }
+                return i + 5;
+            default:
+                pos = i;
+                throw error("invalid escape");
+        }
+    }
+
+    // skipValue için: escape'ler doğrulanmadan string sonuna
+    private int skipString(int i) {
+        while (true) {
+            if (i >= limit) {
+                throw error("unterminated string");
+            }
+            byte b = buffer.get(i++);
+            if (b == '"') {
+                return i;
+            }
+            if (b == '\\') {
+                i++;
+            }
+        }
+    }
+
+    private void readNumber() {
+        int start = pos;
+        int i = pos;
+        if (buffer.get(i) == '-') {
+            i++;
+        }
+        if (i < limit && buffer.get(i) == '0') {
+            i++;
+        } else {
+            i = digits(i);
+        }
+        boolean isIntegral = true;
+        if (i < limit && buffer.get(i) == '.') {
+            i = digits(i + 1);
+            isIntegral = false;
+        }
+        if (i < limit && (buffer.get(i) | 0x20) == 'e') {
+            i++;
+            if (i < limit && (buffer.get(i) == '+' || buffer.get(i) == '-')) {
+                i++;
+            }
+            i = digits(i);
+            isIntegral = false;
+        }
+        tokenStart = start;
+        tokenEnd = i;
+        integral = isIntegral;
+        pos = i;
+    }
+
+    // En az bir rakam zorunlu
+    private int digits(int i) {
+        int start = i;
+        while (i < limit && isDigit(buffer.get(i))) {
+            i++;
+        }
+        if (i == start) {
+            pos = i;
+            throw error("expected digit");
+        }
+        return i;
+    }
+
+    private void readLiteral(String literal) {
+        int length = literal.length();
+        if (pos + length > limit) {
+            throw error("unexpected end of input");
+        }
+        for (int i = 0; i < length; i++) {
+            if (buffer.get(pos + i) != literal.charAt(i)) {
+                throw error("invalid literal");
+            }
+        }
+        tokenStart = pos;
+        tokenEnd = pos + length;
+        pos += length;
+        valueDone();
+    }
+
+    private void skipWhitespace() {
+        while (pos < limit) {
+            byte b = buffer.get(pos);
+            if (b != ' ' && b != '\n' && b != '\r' && b != '\t') {
+                return;
+            }
+            pos++;
+        }
+    }
+
+    private JsonToken requireToken() {
+        if (token == null) {
+            throw new IllegalStateException("next() not called");
+        }
+        return token;
+    }
+
+    private static boolean isDigit(byte b) {
+        return b >= '0' && b <= '9';
+    }
+
+    private JsonParseException error(String message) {
+        return new JsonParseException(message, pos);
+    }
+}
@@ -0,0 +1,19 @@
+package com.example.analysis.json;
+
+/**
+ * {@link JsonReader#next()} ile dönen token türleri
+ */
+public enum JsonToken {
+    START_OBJECT,
+    END_OBJECT,
+    START_ARRAY,
+    END_ARRAY,
+    FIELD_NAME,
+    STRING,
+    NUMBER,
+    TRUE,
+    FALSE,
+    NULL,
+    /** Kök değer bitti; girdide sadece boşluk kaldı */
+    END_DOCUMENT
+}
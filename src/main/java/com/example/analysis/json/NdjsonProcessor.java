@@ -0,0 +1,190 @@
+package com.example.analysis.json;
+
+import com.example.analysis.hash.InstancePool;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.BiConsumer;
+import java.util.function.BinaryOperator;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+
+/**
+ * Satır başına bir JSON doküman (NDJSON) dosyalarını paralel parçalar halinde işler
+ *
+ * - Dosya chunkSize'lık parçalara bölünür; her parça ayrı memory-map edilir ve
+ *   ayrı bir thread'de işlenir. Başlangıcı bir parçaya düşen satır o parçaya aittir.
+ * - Her parça, işi boyunca pool'dan tek bir JsonReader ve Row alır: reader
+ *   doküman başına değil, çalışan thread başına oluşur (ThreadLocal yok)
+ * - Sonuç collector benzeri supplier/accumulator/combiner ile birleştirilir;
+ *   her parçanın kendi accumulator'ı olduğundan accumulator thread-safe olmak zorunda değil
+ *
+ * Mapping'ler ancak GC ile bırakıldığından parça sayısı MAX_CHUNKS ile sınırlıdır;
+ * büyük dosyalarda parça boyu gerektiği kadar büyütülür (vm.max_map_count'a takılmamak için).
+ *
+ * Boş satırlar atlanır, \r\n satır sonları desteklenir. Hatalarda offset dosya başındandır.
+ */
+public final class NdjsonProcessor {
+
+    public static final int DEFAULT_CHUNK = 32 * 1024 * 1024;
+    public static final int DEFAULT_MAX_LINE = 16 * 1024 * 1024;
+    static final int MAX_CHUNKS = 4096;
+
+    private final int chunkSize;
+    private final int maxLineLength;
+    private final boolean parallel;
+    private final InstancePool<JsonReader> readers;
+
+    public NdjsonProcessor() {
+        this(DEFAULT_CHUNK, DEFAULT_MAX_LINE, true);
+    }
+
+    /**
+     * @param maxLineLength bir parçanın sonundan taşan satır için okunacak en fazla byte
+     * @param parallel      false ise parçalar çağıran thread'de sırayla işlenir
+     */
+    public NdjsonProcessor(int chunkSize, int maxLineLength, boolean parallel) {
+        if (chunkSize <= 0 || maxLineLength <= 0 || (long) chunkSize + maxLineLength + 1 > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException(
+                "invalid chunkSize/maxLineLength: " + chunkSize + "/" + maxLineLength);
+        }
+        this.chunkSize = chunkSize;
+        this.maxLineLength = maxLineLength;
+        this.parallel = parallel;
+        this.readers = new InstancePool<>(Runtime.getRuntime().availableProcessors() * 2,
+            JsonReader::new, JsonReader::clear);
+    }
+
+    /**
+     * @param accumulator her doküman için çağrılır; row sadece çağrı süresince geçerli
+     * @param combiner    parça sonuçlarını birleştirir (sıra garantisi yok)
+     */
+    public <A> A aggregate(Path file, JsonProjection projection, Supplier<A> supplier,
+                           BiConsumer<A, JsonProjection.Row> accumulator,
+                           BinaryOperator<A> combiner) throws IOException {
+        Objects.requireNonNull(projection, "projection");
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            long chunkLength = Math.max(chunkSize, (size + MAX_CHUNKS - 1) / MAX_CHUNKS);
+            if (chunkLength + maxLineLength + 1 > Integer.MAX_VALUE) {
+                throw new IOException("file too large for chunk limit: " + size + " bytes");
+            }
+            int chunks = (int) Math.max(1, (size + chunkLength - 1) / chunkLength);
+            IntStream indexes = IntStream.range(0, chunks);
+            if (parallel) {
+                indexes = indexes.parallel();
+            }
+            try {
+                return indexes
+                    .mapToObj(chunk -> processChunk(channel, size, chunkLength, chunk, projection, supplier.get(), accumulator))
+                    .reduce(combiner)
+                    .orElseGet(supplier);
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            }
+        }
+    }
+
+    /** Bellekteki dokümanlar; tek reader ve row tüm liste için kullanılır */
+    public <A> A aggregate(List<String> documents, JsonProjection projection, A result,
+                           BiConsumer<A, JsonProjection.Row> accumulator) {
+        JsonReader reader = readers.acquire();
+        try {
+            JsonProjection.Row row = projection.newRow();
+            for (String document : documents) {
+                byte[] bytes = document.getBytes(StandardCharsets.UTF_8);
+                projection.project(reader.reset(bytes, 0, bytes.length), row);
+                accumulator.accept(result, row);
+            }
+            return result;
+        } finally {
+            readers.release(reader);
+        }
+    }
+
+    /** Pool'un ürettiği reader sayısı - doküman sayısıyla değil thread sayısıyla sınırlı olmalı */
+    public long readersCreated() {
+        return readers.created();
+    }
+
+    private <A> A processChunk(FileChannel channel, long size, long chunkLength, int chunk,
+                               JsonProjection projection,
+                               A result, BiConsumer<A, JsonProjection.Row> accumulator) {
+        long chunkStart = chunk * chunkLength;
+        long chunkEnd = Math.min(size, chunkStart + chunkLength);
+        // Önceki byte'a bakmak için bir geri, taşan son satır için maxLineLength ileri
+        long mapStart = Math.max(0, chunkStart - 1);
+        long mapEnd = Math.min(size, chunkEnd + maxLineLength);
+        MappedByteBuffer buffer;
+        try {
+            buffer = channel.map(FileChannel.MapMode.READ_ONLY, mapStart, mapEnd - mapStart);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        int limit = buffer.limit();
+        int end = (int) (chunkEnd - mapStart);
+        int lineStart = (int) (chunkStart - mapStart);
+        if (chunkStart > 0 && buffer.get(lineStart - 1) != '\n') {
+            // Önceki parçanın satırının devamı
+            lineStart = indexOfNewline(buffer, lineStart, limit) + 1;
+            if (lineStart == 0) {
+                return result;
+            }
+        }
+
+        JsonReader reader = readers.acquire();
+        JsonProjection.Row row = projection.newRow();
+        try {
+            while (lineStart < end) {
+                int newline = indexOfNewline(buffer, lineStart, limit);
+                int lineEnd;
+                if (newline >= 0) {
+                    lineEnd = newline;
+                } else if (mapEnd == size) {
+                    lineEnd = limit;
+                } else {
+                    throw new JsonParseException("line longer than " + maxLineLength + " bytes",
+                        mapStart + lineStart);
+                }
+                if (!isBlank(buffer, lineStart, lineEnd)) {
+                    try {
+                        projection.project(reader.reset(buffer, lineStart, lineEnd), row);
+                    } catch (JsonParseException e) {
+                        throw e.shift(mapStart);
+                    }
+                    accumulator.accept(result, row);
+                }
+                lineStart = lineEnd + 1;
+            }
+            return result;
+        } finally {
+            readers.release(reader);
+        }
+    }
+
+    private static int indexOfNewline(MappedByteBuffer buffer, int from, int limit) {
+        for (int i = from; i < limit; i++) {
+            if (buffer.get(i) == '\n') {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static boolean isBlank(MappedByteBuffer buffer, int from, int to) {
+        for (int i = from; i < to; i++) {
+            byte b = buffer.get(i);
+            if (b != ' ' && b != '\t' && b != '\r') {
+                return false;
+            }
+        }
+        return true;
+    }
+}
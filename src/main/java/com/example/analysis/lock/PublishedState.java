@@ -0,0 +1,59 @@
+package com.example.analysis.lock;
+
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BiFunction;
+import java.util.function.Supplier;
+
+/**
+ * Ağır iş kritik bölge dışında, sadece sonucun yayınlanması atomik
+ *
+ * {@link #computeAndPublish} işi çağıran thread'de lock tutmadan bir kez çalıştırır,
+ * sonucu CAS ile mevcut duruma birleştirir. Okuyucular {@link #get()} ile
+ * lock'suz, her zaman tutarlı bir snapshot görür. Durum değişmez (immutable)
+ * nesne olmalıdır.
+ */
+public final class PublishedState<T> {
+
+    private final AtomicReference<T> state;
+    private final LongAdder conflicts = new LongAdder();
+
+    public PublishedState(T initial) {
+        this.state = new AtomicReference<>(initial);
+    }
+
+    public T get() {
+        return state.get();
+    }
+
+    public void set(T value) {
+        state.set(value);
+    }
+
+    /**
+     * @param work  lock dışında bir kez çalışır
+     * @param merge yayın anında çalışır; yarışta tekrar çağrılabilir, saf ve ucuz olmalı
+     * @return yayınlanan yeni durum
+     */
+    public <R> T computeAndPublish(Supplier<? extends R> work,
+                                   BiFunction<? super T, ? super R, ? extends T> merge) {
+        Objects.requireNonNull(merge, "merge");
+        R result = work.get();
+        T current = state.get();
+        while (true) {
+            T next = merge.apply(current, result);
+            T witness = state.compareAndExchange(current, next);
+            if (witness == current) {
+                return next;
+            }
+            conflicts.increment();
+            current = witness;
+        }
+    }
+
+    /** Başka bir yayınla çakışıp merge'ü tekrarlayan yayın sayısı */
+    public long conflicts() {
+        return conflicts.sum();
+    }
+}
@@ -0,0 +1,61 @@
+package com.example.analysis.lock;
+
+import java.util.Objects;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * Kaynak key'ine göre şeritlenmiş ReentrantLock'lar - tek monitor yerine
+ *
+ * Farklı key'ler (büyük olasılıkla) farklı lock'lara düşer ve paralel ilerler;
+ * aynı key her zaman aynı lock'u alır. Lock nesneleri sınıfa özeldir, dışarıdan
+ * (String literal veya this gibi) paylaşılamaz. Lock sayısı sabittir, key
+ * sayısıyla büyümez.
+ */
+public final class StripedLock {
+
+    private final ReentrantLock[] locks;
+    private final int mask;
+
+    /** @param stripes şerit sayısı, 2'nin kuvvetine yuvarlanır */
+    public StripedLock(int stripes) {
+        int count = Stripes.count(stripes);
+        this.locks = new ReentrantLock[count];
+        for (int i = 0; i < count; i++) {
+            locks[i] = new ReentrantLock();
+        }
+        this.mask = count - 1;
+    }
+
+    /** key'in lock'u; çağıran lock/unlock'u kendisi yönetir */
+    public ReentrantLock lockFor(Object key) {
+        return locks[Stripes.index(key, mask)];
+    }
+
+    /** action key'in lock'u tutulurken çalışır - sadece paylaşılan durumu değiştiren kısım olmalı */
+    public <T> T withLock(Object key, Supplier<? extends T> action) {
+        Objects.requireNonNull(action, "action");
+        ReentrantLock lock = lockFor(key);
+        lock.lock();
+        try {
+            return action.get();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void run(Object key, Runnable action) {
+        Objects.requireNonNull(action, "action");
+        ReentrantLock lock = lockFor(key);
+        lock.lock();
+        try {
+            action.run();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int stripes() {
+        return locks.length;
+    }
+}
@@ -0,0 +1,70 @@
+package com.example.analysis.lock;
+
+import java.util.Objects;
+import java.util.concurrent.locks.StampedLock;
+import java.util.function.Supplier;
+
+/**
+ * Kaynak key'ine göre şeritlenmiş StampedLock'lar - okuma ağırlıklı durum için
+ *
+ * {@link #read} önce optimistic okuma dener: yazma yoksa hiçbir lock alınmaz,
+ * okuyucular birbirini ve cache line'ı kirletmez. Doğrulama başarısızsa read
+ * lock ile bir kez daha okunur. StampedLock reentrant değildir; action içinden
+ * aynı şeride tekrar girilmemelidir.
+ */
+public final class StripedStampedLock {
+
+    private final StampedLock[] locks;
+    private final int mask;
+
+    /** @param stripes şerit sayısı, 2'nin kuvvetine yuvarlanır */
+    public StripedStampedLock(int stripes) {
+        int count = Stripes.count(stripes);
+        this.locks = new StampedLock[count];
+        for (int i = 0; i < count; i++) {
+            locks[i] = new StampedLock();
+        }
+        this.mask = count - 1;
+    }
+
+    public StampedLock lockFor(Object key) {
+        return locks[Stripes.index(key, mask)];
+    }
+
+    /**
+     * Optimistic okuma; reader yan etkisiz olmalı ve tutarsız bir ara durumu
+     * görürse exception fırlatmamalıdır (sonucu doğrulamadan kullanılmaz)
+     */
+    public <T> T read(Object key, Supplier<? extends T> reader) {
+        Objects.requireNonNull(reader, "reader");
+        StampedLock lock = lockFor(key);
+        long stamp = lock.tryOptimisticRead();
+        if (stamp != 0) {
+            T value = reader.get();
+            if (lock.validate(stamp)) {
+                return value;
+            }
+        }
+        stamp = lock.readLock();
+        try {
+            return reader.get();
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    public <T> T write(Object key, Supplier<? extends T> writer) {
+        Objects.requireNonNull(writer, "writer");
+        StampedLock lock = lockFor(key);
+        long stamp = lock.writeLock();
+        try {
+            return writer.get();
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    public int stripes() {
+        return locks.length;
+    }
+}
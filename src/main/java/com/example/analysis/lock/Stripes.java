@@ -0,0 +1,28 @@
+package com.example.analysis.lock;
+
+import java.util.Objects;
+
+// Şerit sayısı ve key -> şerit eşlemesi
+final class Stripes {
+
+    static final int MAX_STRIPES = 1 << 16;
+
+    private Stripes() {
+    }
+
+    static int count(int stripes) {
+        if (stripes <= 0 || stripes > MAX_STRIPES) {
+            throw new IllegalArgumentException("stripes must be in [1, " + MAX_STRIPES + "]: " + stripes);
+        }
+        // 2'nin kuvveti - hash & mask ile şerit seçimi
+        return stripes == 1 ? 1 : Integer.highestOneBit(stripes - 1) << 1;
+    }
+
+    static int index(Object key, int mask) {
+        int h = Objects.requireNonNull(key, "key").hashCode();
+        h ^= (h >>> 16);
+        h *= 0x85ebca6b;
+        h ^= (h >>> 13);
+        return h & mask;
+    }
+}
@@ -0,0 +1,233 @@
+package com.example.analysis.map;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.BiConsumer;
+import java.util.stream.IntStream;
+
+/**
+ * Salt okunur, String key'li open addressing map
+ *
+ * {@link StringMapBuilder#freeze()} veya {@link #buildParallel} ile oluşur.
+ * Lookup tek bir long[] üzerinde lineer probe'dur: ardışık slot'lar aynı
+ * cache line'da, hash'i tutmayan slot'lar için key nesnesine gidilmez.
+ * Değiştirilemez; oluştuktan sonra thread'ler arasında serbestçe paylaşılabilir.
+ * Iterasyon sırası ekleme sırasıdır.
+ */
+public final class FrozenStringMap<V> extends AbstractMap<String, V> {
+
+    private static final VarHandle SLOTS = MethodHandles.arrayElementVarHandle(long[].class);
+
+    private final long[] table;
+    // key 2i, value 2i+1
+    private final Object[] entries;
+    private Set<Map.Entry<String, V>> entrySet;
+
+    FrozenStringMap(long[] table, Object[] entries) {
+        this.table = table;
+        this.entries = entries;
+    }
+
+    /**
+     * Bölümlenmiş kaynaktan paralel kurulum
+     *
+     * 1. Her bölüm kendi dizilerine paralel doldurulur (String üretimi, hashCode)
+     * 2. Bölümler ortak dense dizilere kendi offset'lerinden kopyalanır
+     * 3. Slot'lar başlangıç slot'una göre sıralanır, parçalar halinde CAS ile
+     *    paralel yerleştirilir
+     *
+     * Bölümlerin key'leri ayrık olmalıdır; tekrar eden key görülürse sıralı
+     * kuruluma düşülür ve sonraki bölümdeki değer kazanır (HashMap.put sırası).
+     */
+    public static <V> FrozenStringMap<V> buildParallel(PartitionedSource<? extends V> source) {
+        int partitions = source.partitionCount();
+        Partition[] parts = new Partition[partitions];
+        IntStream.range(0, partitions).parallel().forEach(p -> {
+            Partition part = new Partition(Math.max(source.sizeHint(p), 0));
+            source.forEach(p, part::add);
+            parts[p] = part;
+        });
+
+        int[] offsets = new int[partitions + 1];
+        for (int p = 0; p < partitions; p++) {
+            long end = (long) offsets[p] + parts[p].size;
+            if (end > StringTable.MAX_ENTRIES) {
+                throw new IllegalArgumentException("too many entries: " + end);
+            }
+            offsets[p + 1] = (int) end;
+        }
+        int total = offsets[partitions];
+        Object[] entries = new Object[total << 1];
+        long[] table = new long[StringTable.capacityFor(total)];
+        AtomicBoolean duplicate = new AtomicBoolean();
+
+        long[] encoded = new long[total];
+        IntStream.range(0, partitions).parallel().forEach(p -> {
+            Partition part = parts[p];
+            int base = offsets[p];
+            System.arraycopy(part.entries, 0, entries, base << 1, part.size << 1);
+            for (int i = 0; i < part.size; i++) {
+                encoded[base + i] = StringTable.encode(part.hashes[i], base + i);
+            }
+            parts[p] = null;
+        });
+
+        // Başlangıç slot'una göre sıralı parçalar: her thread tablonun ayrı bir
+        // bölgesine sıralı yazar, CAS yarışı sadece parça sınırlarında olur
+        long[] sorted = StringTable.sortBySlot(encoded, total, table.length);
+        int chunks = Math.max(1, Math.min(partitions, total >> 12));
+        IntStream.range(0, chunks).parallel().forEach(c -> {
+            int from = (int) ((long) total * c / chunks);
+            int to = (int) ((long) total * (c + 1) / chunks);
+            for (int i = from; i < to && !duplicate.get(); i++) {
+                if (!insertConcurrently(table, entries, sorted[i])) {
+                    duplicate.set(true);
+                }
+            }
+        });
+
+        if (duplicate.get()) {
+            StringMapBuilder<V> builder = new StringMapBuilder<>(total);
+            for (int i = 0; i < total; i++) {
+                @SuppressWarnings("unchecked")
+                V value = (V) entries[(i << 1) + 1];
+                builder.put((String) entries[i << 1], value);
+            }
+            return builder.freeze();
+        }
+        return new FrozenStringMap<>(table, entries);
+    }
+
+    @Override
+    public V get(Object key) {
+        if (!(key instanceof String)) {
+            return null;
+        }
+        String k = (String) key;
+        int index = StringTable.find(table, entries, k, k.hashCode());
+        @SuppressWarnings("unchecked")
+        V value = index < 0 ? null : (V) entries[(index << 1) + 1];
+        return value;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        if (!(key instanceof String)) {
+            return false;
+        }
+        String k = (String) key;
+        return StringTable.find(table, entries, k, k.hashCode()) >= 0;
+    }
+
+    @Override
+    public int size() {
+        return entries.length >> 1;
+    }
+
+    /** Ekleme sırasıyla, entry nesnesi oluşturmadan */
+    @Override
+    @SuppressWarnings("unchecked")
+    public void forEach(BiConsumer<? super String, ? super V> action) {
+        Objects.requireNonNull(action, "action");
+        for (int i = 0; i < entries.length; i += 2) {
+            action.accept((String) entries[i], (V) entries[i + 1]);
+        }
+    }
+
+    @Override
+    public Set<Map.Entry<String, V>> entrySet() {
+        Set<Map.Entry<String, V>> set = entrySet;
+        if (set == null) {
+            set = new AbstractSet<>() {
+                @Override
+                public Iterator<Map.Entry<String, V>> iterator() {
+                    return new Iterator<>() {
+                        private int next;
+
+                        @Override
+                        public boolean hasNext() {
+                            return next < entries.length;
+                        }
+
+                        @Override
+                        @SuppressWarnings("unchecked")
+                        public Map.Entry<String, V> next() {
+                            if (next >= entries.length) {
+                                throw new NoSuchElementException();
+                            }
+                            int i = next;
+                            next += 2;
+                            return new SimpleImmutableEntry<>((String) entries[i], (V) entries[i + 1]);
+                        }
+                    };
+                }
+
+                @Override
+                public int size() {
+                    return FrozenStringMap.this.size();
+                }
+            };
+            entrySet = set;
+        }
+        return set;
+    }
+
+    // Aynı key'e sahip entry bulunursa false; entries önceden doldurulmuş olmalı
+    private static boolean insertConcurrently(long[] table, Object[] entries, long encoded) {
+        int capacity = table.length;
+        int hash = StringTable.hashOf(encoded);
+        String key = (String) entries[StringTable.indexOf(encoded) << 1];
+        int slot = StringTable.startSlot(hash, capacity);
+        while (true) {
+            long entry = (long) SLOTS.getVolatile(table, slot);
+            if (entry == 0) {
+                if (SLOTS.compareAndSet(table, slot, 0L, encoded)) {
+                    return true;
+                }
+                // Başka thread bu slot'u aldı - aynı slot tekrar incelenir
+                continue;
+            }
+            if (StringTable.hashOf(entry) == hash && key.equals(entries[StringTable.indexOf(entry) << 1])) {
+                return false;
+            }
+            if (++slot == capacity) {
+                slot = 0;
+            }
+        }
+    }
+
+    // Bir bölümün kopyalanmadan önceki ara dizileri
+    private static final class Partition {
+        Object[] entries;
+        int[] hashes;
+        int size;
+
+        Partition(int sizeHint) {
+            int length = Math.min(Math.max(sizeHint, 16), StringTable.MAX_ENTRIES);
+            entries = new Object[length << 1];
+            hashes = new int[length];
+        }
+
+        void add(String key, Object value) {
+            Objects.requireNonNull(key, "key");
+            if (size == hashes.length) {
+                int length = (int) Math.min(size + (size >> 1) + 16L, StringTable.MAX_ENTRIES);
+                entries = Arrays.copyOf(entries, length << 1);
+                hashes = Arrays.copyOf(hashes, length);
+            }
+            entries[size << 1] = key;
+            entries[(size << 1) + 1] = value;
+            hashes[size] = key.hashCode();
+            size++;
+        }
+    }
+}
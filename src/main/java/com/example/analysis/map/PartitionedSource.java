@@ -0,0 +1,18 @@
+package com.example.analysis.map;
+
+import java.util.function.BiConsumer;
+
+/**
+ * Paralel kurulum için bölümlere ayrılmış (key, value) kaynağı
+ *
+ * forEach farklı bölümler için aynı anda, farklı thread'lerden çağrılır.
+ */
+public interface PartitionedSource<V> {
+
+    int partitionCount();
+
+    /** Bölümdeki tahmini entry sayısı; ara diziler bu boyutta açılır */
+    int sizeHint(int partition);
+
+    void forEach(int partition, BiConsumer<? super String, ? super V> sink);
+}
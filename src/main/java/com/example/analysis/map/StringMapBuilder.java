@@ -0,0 +1,110 @@
+package com.example.analysis.map;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * String key'li toplu yükleme map'i - default kapasiteli HashMap yerine
+ *
+ * - expectedSize'a göre tam boyutlandırılır; o sayıya kadar hiç rehash yok
+ * - Open addressing: entry nesnesi yok, key/value'lar ekleme sırasıyla tek bir
+ *   düz dizide, tablo tek bir long[] (bkz. StringTable)
+ * - Aşılırsa büyür; rehash saklanan hash'lerle yapılır, hashCode/equals çağrılmaz
+ * - {@link #freeze()} kopyalamadan salt okunur {@link FrozenStringMap}'e döner;
+ *   sonrasında builder kullanılamaz
+ *
+ * Entry başına yapı maliyeti ~24 byte (HashMap: ~40 byte). Thread-safe değildir.
+ */
+public final class StringMapBuilder<V> {
+
+    private long[] table;
+    private Object[] entries;
+    private int size;
+    private int threshold;
+    private boolean frozen;
+
+    public StringMapBuilder(int expectedSize) {
+        int capacity = StringTable.capacityFor(expectedSize);
+        this.table = new long[capacity];
+        this.threshold = StringTable.thresholdFor(capacity);
+        this.entries = new Object[Math.max(expectedSize, 1) * 2];
+    }
+
+    /**
+     * @return key için önceki değer, yoksa null
+     */
+    public V put(String key, V value) {
+        Objects.requireNonNull(key, "key");
+        checkNotFrozen();
+        int hash = key.hashCode();
+        int index = StringTable.probe(table, entries, key, hash);
+        if (index >= 0) {
+            @SuppressWarnings("unchecked")
+            V previous = (V) entries[(index << 1) + 1];
+            entries[(index << 1) + 1] = value;
+            return previous;
+        }
+        int slot = -index - 1;
+        if (size << 1 == entries.length) {
+            entries = Arrays.copyOf(entries, grownLength(size) << 1);
+        }
+        if (size == threshold) {
+            rehash(StringTable.capacityFor(entries.length >> 1));
+            StringTable.insertNew(table, hash, size);
+        } else {
+            table[slot] = StringTable.encode(hash, size);
+        }
+        entries[size << 1] = key;
+        entries[(size << 1) + 1] = value;
+        size++;
+        return null;
+    }
+
+    public V get(String key) {
+        checkNotFrozen();
+        int index = StringTable.find(table, entries, key, key.hashCode());
+        @SuppressWarnings("unchecked")
+        V value = index < 0 ? null : (V) entries[(index << 1) + 1];
+        return value;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Salt okunur map'e çevirir; tam boyutlandırılmışsa dizi kopyalanmaz
+     */
+    public FrozenStringMap<V> freeze() {
+        checkNotFrozen();
+        frozen = true;
+        Object[] frozenEntries = entries.length == size << 1 ? entries : Arrays.copyOf(entries, size << 1);
+        FrozenStringMap<V> map = new FrozenStringMap<>(table, frozenEntries);
+        table = null;
+        entries = null;
+        return map;
+    }
+
+    private void rehash(int newCapacity) {
+        long[] old = table;
+        long[] grown = new long[newCapacity];
+        for (long entry : old) {
+            if (entry != 0) {
+                StringTable.insertNew(grown, StringTable.hashOf(entry), StringTable.indexOf(entry));
+            }
+        }
+        table = grown;
+        threshold = StringTable.thresholdFor(newCapacity);
+    }
+
+    private static int grownLength(int length) {
+        long grown = Math.max(length + (length >> 1), length + 16L);
+        return (int) Math.min(grown, StringTable.MAX_ENTRIES);
+    }
+
+    private void checkNotFrozen() {
+        if (frozen) {
+            throw new IllegalStateException("builder already frozen");
+        }
+    }
+}
@@ -0,0 +1,158 @@
+package com.example.analysis.map;
+
+import java.util.Arrays;
+
+/**
+ * StringMapBuilder ve FrozenStringMap'in ortak slot düzeni
+ *
+ * Tablo tek bir long[]: her slot (String.hashCode << 32) | (dense index + 1),
+ * 0 boş slot. Probe sırasında sadece bu dizi okunur; key nesnesine ancak hash
+ * eşleşince gidilir. Kapasite 2'nin kuvveti değildir (tam boyutlandırma),
+ * başlangıç slot'u multiply-shift ile [0, capacity) aralığına indirgenir.
+ *
+ * Entry'ler ekleme sırasıyla tek bir Object[]'te yan yana (key 2i, value 2i+1):
+ * key bulunduğunda value aynı cache line'dadır.
+ *
+ * Toplu kurulumda slot'lar önce başlangıç slot'una göre radix sort edilir,
+ * tabloya artan slot sırasıyla yazılır: rastgele erişim yerine sıralı yazma.
+ */
+final class StringTable {
+
+    static final float LOAD_FACTOR = 0.5f;
+    static final int MAX_CAPACITY = Integer.MAX_VALUE - 8;
+    static final int MAX_ENTRIES = (int) (MAX_CAPACITY * (double) LOAD_FACTOR) - 1;
+
+    private static final int RADIX_BITS = 11;
+    private static final int RADIX_MASK = (1 << RADIX_BITS) - 1;
+
+    private StringTable() {
+    }
+
+    /** expectedSize eleman için, yük faktörünü aşmayan en küçük kapasite */
+    static int capacityFor(int expectedSize) {
+        if (expectedSize < 0 || expectedSize > MAX_ENTRIES) {
+            throw new IllegalArgumentException("expectedSize out of range: " + expectedSize);
+        }
+        long capacity = (long) Math.ceil(expectedSize / (double) LOAD_FACTOR) + 1;
+        return (int) Math.max(capacity, 4);
+    }
+
+    /** Bu kapasitede rehash'siz tutulabilecek eleman sayısı */
+    static int thresholdFor(int capacity) {
+        return Math.min((int) (capacity * (double) LOAD_FACTOR), capacity - 1);
+    }
+
+    static int startSlot(int hash, int capacity) {
+        // String.hashCode'un bitleri karıştırılır, ardından Lemire indirgemesi
+        int h = hash * 0x9E3779B9;
+        h ^= h >>> 15;
+        return (int) (((h & 0xFFFFFFFFL) * capacity) >>> 32);
+    }
+
+    static long encode(int hash, int index) {
+        return ((long) hash << 32) | (index + 1L);
+    }
+
+    static int hashOf(long slot) {
+        return (int) (slot >>> 32);
+    }
+
+    static int indexOf(long slot) {
+        return (int) slot - 1;
+    }
+
+    /** key'in dense index'i, yoksa -1 */
+    static int find(long[] table, Object[] entries, String key, int hash) {
+        int capacity = table.length;
+        int slot = startSlot(hash, capacity);
+        while (true) {
+            long entry = table[slot];
+            if (entry == 0) {
+                return -1;
+            }
+            if (hashOf(entry) == hash) {
+                int index = indexOf(entry);
+                Object candidate = entries[index << 1];
+                if (candidate == key || key.equals(candidate)) {
+                    return index;
+                }
+            }
+            if (++slot == capacity) {
+                slot = 0;
+            }
+        }
+    }
+
+    /** key varsa dense index'i, yoksa -(eklenecek slot + 1) */
+    static int probe(long[] table, Object[] entries, String key, int hash) {
+        int capacity = table.length;
+        int slot = startSlot(hash, capacity);
+        while (true) {
+            long entry = table[slot];
+            if (entry == 0) {
+                return -(slot + 1);
+            }
+            if (hashOf(entry) == hash) {
+                int index = indexOf(entry);
+                Object candidate = entries[index << 1];
+                if (candidate == key || key.equals(candidate)) {
+                    return index;
+                }
+            }
+            if (++slot == capacity) {
+                slot = 0;
+            }
+        }
+    }
+
+    /** Tabloda olmadığı bilinen entry'yi ekler (rehash) */
+    static void insertNew(long[] table, int hash, int index) {
+        insertFrom(table, startSlot(hash, table.length), encode(hash, index));
+    }
+
+    /** from'dan başlayarak ilk boş slot'a yazar, yazılan slot'u döner */
+    static int insertFrom(long[] table, int from, long encoded) {
+        int capacity = table.length;
+        int slot = from;
+        while (table[slot] != 0) {
+            if (++slot == capacity) {
+                slot = 0;
+            }
+        }
+        table[slot] = encoded;
+        return slot;
+    }
+
+    /**
+     * Kodlanmış slot'ları başlangıç slot'una göre sıralar (LSD radix, kararlı)
+     *
+     * Eşit başlangıç slot'unda girdi sırası korunur. Dönen dizi encoded veya
+     * yeni bir dizi olabilir; encoded üzerine yazılabilir.
+     */
+    static long[] sortBySlot(long[] encoded, int count, int capacity) {
+        int bits = 32 - Integer.numberOfLeadingZeros(capacity - 1);
+        long[] src = encoded;
+        long[] dst = new long[count];
+        int[] offsets = new int[1 << RADIX_BITS];
+        for (int shift = 0; shift < bits; shift += RADIX_BITS) {
+            Arrays.fill(offsets, 0);
+            for (int i = 0; i < count; i++) {
+                offsets[(startSlot(hashOf(src[i]), capacity) >>> shift) & RADIX_MASK]++;
+            }
+            int sum = 0;
+            for (int d = 0; d < offsets.length; d++) {
+                int c = offsets[d];
+                offsets[d] = sum;
+                sum += c;
+            }
+            for (int i = 0; i < count; i++) {
+                long e = src[i];
+                dst[offsets[(startSlot(hashOf(e), capacity) >>> shift) & RADIX_MASK]++] = e;
+            }
+            long[] swap = src;
+            src = dst;
+            dst = swap;
+        }
+        return src;
+    }
+}
@@ -0,0 +1,9 @@
+package com.example.analysis.math;
+
+/**
+ * PairwiseTrigEngine iç döngüsü: Σj √|xi − xj| · (sᵢcⱼ + sⱼcᵢ), j ∈ [from, to)
+ */
+@FunctionalInterface
+interface PairKernel {
+    double pairSum(double[] x, double[] sin2, double[] cos2, int i, int from, int to);
+}
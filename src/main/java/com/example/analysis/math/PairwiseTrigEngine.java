@@ -0,0 +1,157 @@
+package com.example.analysis.math;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * MemoryFootprint.heavyMathOperation'ın hızlı karşılığı
+ *
+ *   Σi Σj sin²(xi) · cos²(xj) · √|xi − xj|
+ *
+ * - sin² ve cos² her eleman için bir kez hesaplanır (n² yerine n trig çağrısı)
+ * - √|xi − xj| simetrik olduğu için sadece j > i çiftleri hesaplanır:
+ *   (i,j) + (j,i) = √|xi − xj| · (sᵢcⱼ + sⱼcᵢ); köşegen terimleri 0'dır
+ * - Üçgen, tile × tile bloklara bölünür; her blok L1/L2'ye sığar
+ * - Satır tile'ları ForkJoin ile paralel işlenir
+ * - Proje -Pvector profili ile derlendiyse ve JVM jdk.incubator.vector modülüyle
+ *   başlatıldıysa iç döngü Vector API ile çalışır; varsayılan build sadece skaler yolu içerir
+ *
+ * Tolerans: tüm terimler ≥ 0 olduğundan sadece toplama sırası değişir;
+ * sonuç heavyMathOperation ile göreli olarak {@link #RELATIVE_TOLERANCE} içinde eşleşir.
+ */
+public final class PairwiseTrigEngine {
+
+    /** heavyMathOperation sonucuna göre izin verilen göreli fark */
+    public static final double RELATIVE_TOLERANCE = 1e-9;
+
+    public static final int DEFAULT_TILE = 1024;
+
+    private final ForkJoinPool pool;
+    private final int tile;
+    private final boolean vectorized;
+    private final PairKernel kernel;
+
+    /** Ortak ForkJoinPool, varsayılan tile, Vector API varsa kullanılır */
+    public PairwiseTrigEngine() {
+        this(ForkJoinPool.commonPool(), DEFAULT_TILE, isVectorApiAvailable());
+    }
+
+    public PairwiseTrigEngine(ForkJoinPool pool, int tile, boolean vectorized) {
+        if (tile <= 0) {
+            throw new IllegalArgumentException("tile must be positive: " + tile);
+        }
+        if (vectorized && VectorKernelHolder.KERNEL == null) {
+            throw new IllegalStateException("Vector API kernel is not available; build with -Pvector "
+                + "and start the JVM with --add-modules jdk.incubator.vector");
+        }
+        this.pool = pool;
+        this.tile = tile;
+        this.vectorized = vectorized;
+        this.kernel = vectorized ? VectorKernelHolder.KERNEL : PairwiseTrigEngine::scalarPairSum;
+    }
+
+    /** Kernel -Pvector ile derlendiyse ve JVM --add-modules jdk.incubator.vector ile başlatıldıysa true */
+    public static boolean isVectorApiAvailable() {
+        return VectorKernelHolder.KERNEL != null;
+    }
+
+    public boolean isVectorized() {
+        return vectorized;
+    }
+
+    public double compute(double[] data) {
+        int n = data.length;
+        double[] sin2 = new double[n];
+        double[] cos2 = new double[n];
+        for (int i = 0; i < n; i++) {
+            double s = Math.sin(data[i]);
+            double c = Math.cos(data[i]);
+            sin2[i] = s * s;
+            cos2[i] = c * c;
+        }
+        int tiles = (n + tile - 1) / tile;
+        if (tiles == 0) {
+            return 0.0;
+        }
+        return pool.invoke(new RowTiles(data, sin2, cos2, 0, tiles));
+    }
+
+    /** Satır tile aralığını ikiye bölerek işler */
+    @SuppressWarnings("serial") // ForkJoin görevi, serialize edilmez
+    private final class RowTiles extends RecursiveTask<Double> {
+        private final double[] x;
+        private final double[] sin2;
+        private final double[] cos2;
+        private final int fromTile;
+        private final int toTile;
+
+        RowTiles(double[] x, double[] sin2, double[] cos2, int fromTile, int toTile) {
+            this.x = x;
+            this.sin2 = sin2;
+            this.cos2 = cos2;
+            this.fromTile = fromTile;
+            this.toTile = toTile;
+        }
+
+        @Override
+        protected Double compute() {
+            if (toTile - fromTile == 1) {
+                return rowTile(fromTile);
+            }
+            int mid = (fromTile + toTile) >>> 1;
+            RowTiles left = new RowTiles(x, sin2, cos2, fromTile, mid);
+            left.fork();
+            double right = new RowTiles(x, sin2, cos2, mid, toTile).compute();
+            return left.join() + right;
+        }
+
+        private double rowTile(int rowTile) {
+            int n = x.length;
+            int iStart = rowTile * tile;
+            int iEnd = Math.min(n, iStart + tile);
+            double sum = 0.0;
+            for (int jStart = iStart; jStart < n; jStart += tile) {
+                int jEnd = Math.min(n, jStart + tile);
+                for (int i = iStart; i < iEnd; i++) {
+                    // Aynı tile içinde sadece j > i
+                    int from = Math.max(jStart, i + 1);
+                    if (from >= jEnd) {
+                        continue;
+                    }
+                    sum += kernel.pairSum(x, sin2, cos2, i, from, jEnd);
+                }
+            }
+            return sum;
+        }
+    }
+
+    // Varsayılan build'de VectorKernel sınıfı derlenmez; modül yoksa sınıf yüklenemez
+    private static final class VectorKernelHolder {
+        static final PairKernel KERNEL = load();
+
+        private static PairKernel load() {
+            if (ModuleLayer.boot().findModule("jdk.incubator.vector").isEmpty()) {
+                return null;
+            }
+            try {
+                return (PairKernel) Class.forName(PairwiseTrigEngine.class.getPackageName() + ".VectorKernel")
+                    .getDeclaredConstructor().newInstance();
+            } catch (ReflectiveOperationException | LinkageError e) {
+                return null;
+            }
+        }
+    }
+
+    /** Σj √|xi − xj| · (sᵢcⱼ + sⱼcᵢ), j ∈ [from, to) */
+    static double scalarPairSum(double[] x, double[] sin2, double[] cos2, int i, int from, int to) {
+        double xi = x[i];
+        double withCos = 0.0; // Σ cⱼ √|xi − xj|
+        double withSin = 0.0; // Σ sⱼ √|xi − xj|
+        for (int j = from; j < to; j++) {
+            double r = Math.sqrt(Math.abs(xi - x[j]));
+            withCos += cos2[j] * r;
+            withSin += sin2[j] * r;
+        }
+        return sin2[i] * withCos + cos2[i] * withSin;
+    }
+}
@@ -0,0 +1,45 @@
+package com.example.analysis.math;
+
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * PairwiseTrigEngine iç döngüsünün Vector API versiyonu
+ *
+ * Sadece -Pvector profiliyle derlenir ve jdk.incubator.vector modülü yüklüyken
+ * PairwiseTrigEngine tarafından reflection ile yüklenir.
+ */
+final class VectorKernel implements PairKernel {
+
+    private static final VectorSpecies<Double> SPECIES = DoubleVector.SPECIES_PREFERRED;
+
+    VectorKernel() {
+    }
+
+    @Override
+    public double pairSum(double[] x, double[] sin2, double[] cos2, int i, int from, int to) {
+        DoubleVector xi = DoubleVector.broadcast(SPECIES, x[i]);
+        DoubleVector withCos = DoubleVector.zero(SPECIES);
+        DoubleVector withSin = DoubleVector.zero(SPECIES);
+        int j = from;
+        int upper = from + SPECIES.loopBound(to - from);
+        for (; j < upper; j += SPECIES.length()) {
+            DoubleVector r = xi.sub(DoubleVector.fromArray(SPECIES, x, j))
+                .lanewise(VectorOperators.ABS)
+                .lanewise(VectorOperators.SQRT);
+            withCos = DoubleVector.fromArray(SPECIES, cos2, j).fma(r, withCos);
+            withSin = DoubleVector.fromArray(SPECIES, sin2, j).fma(r, withSin);
+        }
+        double cosSum = withCos.reduceLanes(VectorOperators.ADD);
+        double sinSum = withSin.reduceLanes(VectorOperators.ADD);
+        // Kalan elemanlar skaler
+        double xv = x[i];
+        for (; j < to; j++) {
+            double r = Math.sqrt(Math.abs(xv - x[j]));
+            cosSum += cos2[j] * r;
+            sinSum += sin2[j] * r;
+        }
+        return sin2[i] * cosSum + cos2[i] * sinSum;
+    }
+}
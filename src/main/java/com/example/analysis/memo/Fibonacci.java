@@ -0,0 +1,90 @@
+package com.example.analysis.memo;
+
+import java.math.BigInteger;
+import java.util.function.IntToLongFunction;
+
+/**
+ * Fibonacci hesaplama yöntemleri
+ *
+ * long dönen metotlar 2^64 modunda sarar (n > 92'de taşar), Java long aritmetiği gibi.
+ */
+public final class Fibonacci {
+
+    /** F(n) = F(n-1) + F(n-2), F(0) = 0, F(1) = 1 */
+    public static final LongRecurrence RECURRENCE = new LongRecurrence() {
+        @Override
+        public int dependencyCount(int n) {
+            return n <= 1 ? 0 : 2;
+        }
+
+        @Override
+        public int dependency(int n, int index) {
+            return n - 1 - index;
+        }
+
+        @Override
+        public long compute(int n, IntToLongFunction solved) {
+            return n <= 1 ? n : solved.applyAsLong(n - 1) + solved.applyAsLong(n - 2);
+        }
+    };
+
+    private Fibonacci() {
+    }
+
+    /** O(n), O(1) memory */
+    public static long iterative(int n) {
+        checkIndex(n);
+        long a = 0, b = 1;
+        for (int i = 0; i < n; i++) {
+            long next = a + b;
+            a = b;
+            b = next;
+        }
+        return a;
+    }
+
+    /**
+     * Fast doubling - O(log n)
+     * F(2k) = F(k) * (2F(k+1) - F(k)), F(2k+1) = F(k)^2 + F(k+1)^2
+     */
+    public static long fastDoubling(int n) {
+        checkIndex(n);
+        long a = 0, b = 1; // F(k), F(k+1)
+        for (int bit = Integer.highestOneBit(Math.max(n, 1)); bit != 0; bit >>>= 1) {
+            long c = a * (2 * b - a);
+            long d = a * a + b * b;
+            if ((n & bit) != 0) {
+                a = d;
+                b = c + d;
+            } else {
+                a = c;
+                b = d;
+            }
+        }
+        return a;
+    }
+
+    /** Fast doubling, tam hassasiyet - O(log n) çarpma */
+    public static BigInteger fastDoublingBig(int n) {
+        checkIndex(n);
+        BigInteger a = BigInteger.ZERO, b = BigInteger.ONE;
+        for (int bit = Integer.highestOneBit(Math.max(n, 1)); bit != 0; bit >>>= 1) {
+            BigInteger c = a.multiply(b.shiftLeft(1).subtract(a));
+            BigInteger d = a.multiply(a).add(b.multiply(b));
+            if ((n & bit) != 0) {
+                a = d;
+                b = c.add(d);
+            } else {
+                a = c;
+                b = d;
+            }
+        }
+        return a;
+    }
+
+    private static void checkIndex(int n) {
+        if (n < 0) {
+            throw new IllegalArgumentException("n must not be negative: " + n);
+        }
+    }
+}
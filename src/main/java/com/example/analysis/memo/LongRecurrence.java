@@ -0,0 +1,25 @@
+package com.example.analysis.memo;
+
+import java.util.function.IntToLongFunction;
+
+/**
+ * int → long özyinelemeli tanım
+ *
+ * Bağımlılıklar açıkça bildirilir; LongRecurrenceMemoizer böylece
+ * çağrı yığını yerine kendi stack'i ile hesaplayabilir.
+ */
+public interface LongRecurrence {
+
+    /** n'in bağımlı olduğu değer sayısı; 0 ise n bir taban durumdur */
+    int dependencyCount(int n);
+
+    /** n'in index'inci bağımlılığı */
+    int dependency(int n, int index);
+
+    /**
+     * Tüm bağımlılıklar hesaplandıktan sonra çağrılır
+     *
+     * @param solved bağımlılıkların değerleri
+     */
+    long compute(int n, IntToLongFunction solved);
+}
@@ -0,0 +1,85 @@
+package com.example.analysis.memo;
+
+import com.example.analysis.primitive.IntArrayList;
+
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Primitive int key'li, sabit kapasiteli, özyinelemesiz memoization
+ *
+ * - Sonuçlar [0, capacity) aralığında düz long dizisinde; boxing ve Map entry yok
+ * - Okumalar lock'suz; eksik değerler tek bir lock altında hesaplanır,
+ *   aynı anda isteyen thread'ler hesabı tekrarlamaz
+ * - Hesaplama açık bir stack ile yapılır - n ne kadar büyük olursa olsun
+ *   StackOverflowError olmaz
+ */
+public final class LongRecurrenceMemoizer {
+
+    private final LongRecurrence recurrence;
+    private final AtomicLongArray values;
+    // 1: hesaplandı; value yazıldıktan sonra set edilir (volatile yayın)
+    private final AtomicIntegerArray done;
+    private final ReentrantLock lock = new ReentrantLock();
+
+    public LongRecurrenceMemoizer(LongRecurrence recurrence, int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("capacity must be positive: " + capacity);
+        }
+        this.recurrence = recurrence;
+        this.values = new AtomicLongArray(capacity);
+        this.done = new AtomicIntegerArray(capacity);
+    }
+
+    public long get(int n) {
+        checkKey(n);
+        if (done.get(n) == 1) {
+            return values.get(n);
+        }
+        lock.lock();
+        try {
+            evaluate(n);
+            return values.get(n);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int capacity() {
+        return values.length();
+    }
+
+    private void evaluate(int n) {
+        IntArrayList stack = new IntArrayList();
+        stack.add(n);
+        while (!stack.isEmpty()) {
+            int m = stack.get(stack.size() - 1);
+            if (done.get(m) == 1) {
+                stack.removeLast();
+                continue;
+            }
+            boolean pending = false;
+            int count = recurrence.dependencyCount(m);
+            for (int i = 0; i < count; i++) {
+                int dep = recurrence.dependency(m, i);
+                checkKey(dep);
+                if (done.get(dep) == 0) {
+                    stack.add(dep);
+                    pending = true;
+                }
+            }
+            if (!pending) {
+                values.set(m, recurrence.compute(m, values::get));
+                done.set(m, 1);
+                stack.removeLast();
+            }
+        }
+    }
+
+    private void checkKey(int n) {
+        if (n < 0 || n >= values.length()) {
+            throw new IllegalArgumentException("key " + n + " outside memo capacity " + values.length());
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package com.example.analysis.memo;
+
+import com.example.analysis.cache.CacheStats;
+import com.example.analysis.cache.SegmentedLruCache;
+
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Thread-safe, sınırlı boyutlu memoization
+ *
+ * - Aynı key için eşzamanlı çağrılarda fonksiyon sadece bir kez çalışır,
+ *   diğer thread'ler sonucu bekler (cache stampede yok)
+ * - Tamamlanan sonuçlar SegmentedLruCache'te en fazla maxEntries adet tutulur
+ * - Fonksiyon null dönemez
+ *
+ * Derin özyinelemeli hesaplar için LongRecurrenceMemoizer kullanılmalı.
+ */
+public final class Memoizer<K, V> {
+
+    private final Function<? super K, ? extends V> function;
+    private final SegmentedLruCache<K, V> cache;
+    private final ConcurrentHashMap<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+
+    public Memoizer(Function<? super K, ? extends V> function, int maxEntries) {
+        this.function = Objects.requireNonNull(function, "function");
+        // Eviction segment içinde LRU; küçük kapasitede az segment LRU sırasını daha isabetli tutar
+        int segments = Math.max(1, Math.min(64, maxEntries / 64));
+        this.cache = new SegmentedLruCache<>(maxEntries, value -> 1, 0, TimeUnit.NANOSECONDS, segments);
+    }
+
+    public V get(K key) {
+        V value = cache.get(key);
+        if (value != null) {
+            return value;
+        }
+
+        CompletableFuture<V> pending = new CompletableFuture<>();
+        CompletableFuture<V> existing = inFlight.putIfAbsent(key, pending);
+        if (existing != null) {
+            return join(existing);
+        }
+        try {
+            // İlk okumadan sonra başka bir thread hesabı bitirip in-flight kaydını silmiş olabilir
+            value = cache.get(key);
+            if (value != null) {
+                pending.complete(value);
+                return value;
+            }
+            value = function.apply(key);
+            if (value == null) {
+                throw new NullPointerException("memoized function returned null for " + key);
+            }
+            cache.put(key, value);
+            pending.complete(value);
+            return value;
+        } catch (RuntimeException | Error e) {
+            pending.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, pending);
+        }
+    }
+
+    public void invalidate(K key) {
+        cache.remove(key);
+    }
+
+    public int size() {
+        return cache.size();
+    }
+
+    public CacheStats stats() {
+        return cache.stats();
+    }
+
+    private static <V> V join(CompletableFuture<V> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw e;
+        }
+    }
+}
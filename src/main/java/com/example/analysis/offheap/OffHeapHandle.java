@@ -0,0 +1,46 @@
+package com.example.analysis.offheap;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Off-heap'te tutulan bir payload'ın hafif referansı
+ * byte[] yerine sadece konum bilgisi taşır (~40 byte heap)
+ */
+public final class OffHeapHandle {
+
+    final boolean mapped;
+    final int slab;
+    final int offset;
+    final int length;
+    private final AtomicBoolean released = new AtomicBoolean();
+
+    OffHeapHandle(boolean mapped, int slab, int offset, int length) {
+        this.mapped = mapped;
+        this.slab = slab;
+        this.offset = offset;
+        this.length = length;
+    }
+
+    public int length() {
+        return length;
+    }
+
+    /** Payload dosyaya taşmış (memory-mapped) tier'da mı? */
+    public boolean isMapped() {
+        return mapped;
+    }
+
+    boolean markReleased() {
+        return released.compareAndSet(false, true);
+    }
+
+    boolean isReleased() {
+        return released.get();
+    }
+
+    @Override
+    public String toString() {
+        return "OffHeapHandle{" + (mapped ? "mapped" : "direct") + ", slab=" + slab +
+            ", offset=" + offset + ", length=" + length + "}";
+    }
+}
@@ -0,0 +1,334 @@
+package com.example.analysis.offheap;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Büyük payload'lar için heap dışı depolama
+ *
+ * - Payload'lar ByteBuffer.allocateDirect ile ayrılan slab'lara bump-pointer ile yazılır
+ * - Direct bütçe dolunca (opsiyonel) bir dosyaya MappedByteBuffer ile taşar;
+ *   dosya maxSpillBytes'ı aşmaz, sınırda put IllegalStateException fırlatır
+ * - Çağırana byte[] yerine OffHeapHandle döner; heap'te sadece handle kalır
+ * - Release edilen alanlar slab içinde boşluk olarak tutulur (komşular birleştirilir) ve
+ *   yeni payload'lara verilir; tek bir uzun ömürlü handle slab'ın geri kalanını kilitlemez
+ *
+ * Bir bölge yeniden verilince slab'ın generation'ı artar. read/get kopyadan sonra
+ * generation'ı kontrol eder: kopya sırasında bölge başka payload'a verildiyse sessizce
+ * yanlış byte dönmez, handle release edilmişse IllegalStateException fırlatılır.
+ *
+ * Slab'lar ve mapping'ler ilk ihtiyaçta oluşturulur, kullanılmayan store maliyetsizdir.
+ */
+public final class OffHeapStore implements Closeable {
+
+    public static final int DEFAULT_SLAB_SIZE = 64 * 1024 * 1024; // 64MB
+    public static final long DEFAULT_MAX_SPILL_BYTES = 4L * 1024 * 1024 * 1024; // 4GB
+
+    private final int slabSize;
+    private final int maxDirectSlabs;
+    private final int maxSpillSlabs;
+    private final Path spillFile;
+
+    private final Tier direct = new Tier(false);
+    private final Tier mapped = new Tier(true);
+    private FileChannel spillChannel;
+    private boolean closed;
+
+    /**
+     * Sadece direct memory - bütçe dolunca put IllegalStateException fırlatır
+     */
+    public OffHeapStore(long maxDirectBytes) {
+        this(maxDirectBytes, DEFAULT_SLAB_SIZE, null);
+    }
+
+    /** Taşma dosyası en fazla {@link #DEFAULT_MAX_SPILL_BYTES} */
+    public OffHeapStore(long maxDirectBytes, int slabSize, Path spillFile) {
+        this(maxDirectBytes, slabSize, spillFile, DEFAULT_MAX_SPILL_BYTES);
+    }
+
+    /**
+     * @param spillFile     null değilse direct bütçe dolunca payload'lar bu dosyaya map edilir;
+     *                      dosya geçicidir, store kapanınca veya JVM çıkınca silinir
+     * @param maxSpillBytes taşma dosyasının en büyük boyutu (slab'a aşağı yuvarlanır)
+     */
+    public OffHeapStore(long maxDirectBytes, int slabSize, Path spillFile, long maxSpillBytes) {
+        if (slabSize <= 0) {
+            throw new IllegalArgumentException("slabSize must be positive: " + slabSize);
+        }
+        if (maxDirectBytes < 0) {
+            throw new IllegalArgumentException("maxDirectBytes must not be negative: " + maxDirectBytes);
+        }
+        if (maxSpillBytes < 0) {
+            throw new IllegalArgumentException("maxSpillBytes must not be negative: " + maxSpillBytes);
+        }
+        this.slabSize = slabSize;
+        this.maxDirectSlabs = (int) Math.min(Integer.MAX_VALUE, maxDirectBytes / slabSize);
+        this.maxSpillSlabs = (int) Math.min(Integer.MAX_VALUE, maxSpillBytes / slabSize);
+        this.spillFile = spillFile;
+    }
+
+    public OffHeapHandle put(byte[] data) {
+        return put(data, 0, data.length);
+    }
+
+    public OffHeapHandle put(byte[] data, int offset, int length) {
+        if (length > slabSize) {
+            throw new IllegalArgumentException(
+                "payload of " + length + " bytes exceeds slab size " + slabSize);
+        }
+        OffHeapHandle handle = allocate(length);
+        // Mutlak put - buffer position'ı değişmez, farklı bölgelere eşzamanlı yazılabilir
+        slabOf(handle).buffer.put(handle.offset, data, offset, length);
+        return handle;
+    }
+
+    /** Payload'ı yeni bir byte[]'e kopyalar */
+    public byte[] get(OffHeapHandle handle) {
+        byte[] data = new byte[handle.length];
+        read(handle, data, 0);
+        return data;
+    }
+
+    /**
+     * Payload'ı verilen diziye kopyalar - allocation yok
+     *
+     * @throws IllegalStateException handle release edilmişse (kopya sırasında edilmiş olsa da)
+     */
+    public void read(OffHeapHandle handle, byte[] dst, int dstOffset) {
+        Slab slab = slabOf(handle);
+        while (true) {
+            int generation = slab.generation;
+            checkLive(handle);
+            slab.buffer.get(handle.offset, dst, dstOffset, handle.length);
+            // Kopyanın okumaları generation'ın tekrar okunmasından sonraya kayamaz
+            VarHandle.loadLoadFence();
+            if (slab.generation == generation) {
+                return;
+            }
+            // Slab'da bir bölge yeniden verildi - bizimki ise checkLive fırlatır, değilse tekrar kopyala
+        }
+    }
+
+    /**
+     * Kopyalamadan salt okunur görünüm
+     *
+     * Görünüm payload'ın belleğini paylaşır ve sadece handle release edilene kadar geçerlidir:
+     * release sonrası (veya release ile eşzamanlı) okunan byte'lar başka bir payload'a ait
+     * olabilir. Handle'ın ömrü çağıranın kontrolünde değilse {@link #get} kullanılmalı.
+     */
+    public ByteBuffer view(OffHeapHandle handle) {
+        checkLive(handle);
+        return slabOf(handle).buffer.slice(handle.offset, handle.length).asReadOnlyBuffer();
+    }
+
+    /** Payload'ın alanını serbest bırakır; aynı handle ikinci kez release edilemez */
+    public void release(OffHeapHandle handle) {
+        if (!handle.markReleased()) {
+            throw new IllegalStateException("handle already released: " + handle);
+        }
+        synchronized (this) {
+            if (!closed) {
+                (handle.mapped ? mapped : direct).free(handle);
+            }
+        }
+    }
+
+    public synchronized long directBytesReserved() {
+        return (long) direct.slabs.size() * slabSize;
+    }
+
+    public synchronized long mappedBytesReserved() {
+        return (long) mapped.slabs.size() * slabSize;
+    }
+
+    /** Canlı payload'ların toplam boyutu */
+    public synchronized long bytesStored() {
+        return direct.liveBytes() + mapped.liveBytes();
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        // Direct buffer'lar referansları bırakılınca Cleaner ile serbest kalır
+        direct.slabs.clear();
+        mapped.slabs.clear();
+        if (spillChannel != null) {
+            spillChannel.close();
+            Files.deleteIfExists(spillFile);
+        }
+    }
+
+    private synchronized OffHeapHandle allocate(int length) {
+        if (closed) {
+            throw new IllegalStateException("store is closed");
+        }
+        OffHeapHandle handle = direct.tryAllocate(length);
+        if (handle == null && direct.slabs.size() < maxDirectSlabs) {
+            direct.addSlab(ByteBuffer.allocateDirect(slabSize));
+            handle = direct.tryAllocate(length);
+        }
+        if (handle == null && spillFile != null) {
+            handle = mapped.tryAllocate(length);
+            if (handle == null && mapped.slabs.size() < maxSpillSlabs) {
+                mapped.addSlab(mapNextRegion());
+                handle = mapped.tryAllocate(length);
+            }
+        }
+        if (handle == null) {
+            throw new IllegalStateException("off-heap store is full (" + directBytesReserved() + " bytes direct, "
+                + mappedBytesReserved() + " bytes spilled)");
+        }
+        return handle;
+    }
+
+    private MappedByteBuffer mapNextRegion() {
+        try {
+            if (spillChannel == null) {
+                // DELETE_ON_CLOSE: close() çağrılmasa da dosya JVM ile birlikte silinir
+                // (Unix'te açıldıktan hemen sonra unlink edilir, mapping'ler çalışmaya devam eder)
+                spillChannel = FileChannel.open(spillFile, StandardOpenOption.CREATE,
+                    StandardOpenOption.READ, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING,
+                    StandardOpenOption.DELETE_ON_CLOSE);
+            }
+            long position = (long) mapped.slabs.size() * slabSize;
+            return spillChannel.map(FileChannel.MapMode.READ_WRITE, position, slabSize);
+        } catch (IOException e) {
+            throw new UncheckedIOException("could not map spill region of " + spillFile, e);
+        }
+    }
+
+    private Slab slabOf(OffHeapHandle handle) {
+        synchronized (this) {
+            if (closed) {
+                throw new IllegalStateException("store is closed");
+            }
+            return (handle.mapped ? mapped : direct).slabs.get(handle.slab);
+        }
+    }
+
+    private static void checkLive(OffHeapHandle handle) {
+        if (handle.isReleased()) {
+            throw new IllegalStateException("handle already released: " + handle);
+        }
+    }
+
+    private static final class Slab {
+        final ByteBuffer buffer;
+        // [top, slabSize) boş; top'un altındaki boşluklar holes'ta
+        int top;
+        // Şimdiye kadar verilen en yüksek adres - altına yapılan allocation yeniden kullanımdır
+        int highWater;
+        long live;
+        // Boşluklar: offset -> length; komşular birleşik, top'a değen boşluk top'a katılır
+        final TreeMap<Integer, Integer> holes = new TreeMap<>();
+        // Yeniden kullanımda artar; sadece store lock'u altında yazılır
+        volatile int generation;
+
+        Slab(ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+    }
+
+    /** Aynı boyutta slab'lardan oluşan bir depolama katmanı */
+    private final class Tier {
+        final boolean isMapped;
+        final List<Slab> slabs = new ArrayList<>();
+
+        Tier(boolean isMapped) {
+            this.isMapped = isMapped;
+        }
+
+        void addSlab(ByteBuffer buffer) {
+            slabs.add(new Slab(buffer));
+        }
+
+        // Önce boşluklar (first-fit), sonra bump pointer; yeni slab sadece ikisi de yetmezse
+        OffHeapHandle tryAllocate(int length) {
+            for (int i = slabs.size() - 1; i >= 0; i--) {
+                Slab slab = slabs.get(i);
+                for (Map.Entry<Integer, Integer> hole : slab.holes.entrySet()) {
+                    if (hole.getValue() >= length) {
+                        int offset = hole.getKey();
+                        slab.holes.remove(offset);
+                        if (hole.getValue() > length) {
+                            slab.holes.put(offset + length, hole.getValue() - length);
+                        }
+                        return take(slab, i, offset, length);
+                    }
+                }
+            }
+            for (int i = slabs.size() - 1; i >= 0; i--) {
+                Slab slab = slabs.get(i);
+                if (slabSize - slab.top >= length) {
+                    int offset = slab.top;
+                    slab.top += length;
+                    return take(slab, i, offset, length);
+                }
+            }
+            return null;
+        }
+
+        private OffHeapHandle take(Slab slab, int index, int offset, int length) {
+            if (offset < slab.highWater) {
+                // Bölge daha önce başka payload'a aitti - eski handle'ı okuyanlar kopya sonrası görür.
+                // Fence: generation, put'un bu bölgeye yazacağı byte'lardan önce görünür olur
+                slab.generation++;
+                VarHandle.storeStoreFence();
+            }
+            slab.highWater = Math.max(slab.highWater, offset + length);
+            slab.live += length;
+            return new OffHeapHandle(isMapped, index, offset, length);
+        }
+
+        void free(OffHeapHandle handle) {
+            Slab slab = slabs.get(handle.slab);
+            slab.live -= handle.length;
+            if (slab.live == 0) {
+                // Slab boşaldı - bump pointer başa döner
+                slab.top = 0;
+                slab.holes.clear();
+                return;
+            }
+            int offset = handle.offset;
+            int length = handle.length;
+            Map.Entry<Integer, Integer> before = slab.holes.floorEntry(offset);
+            if (before != null && before.getKey() + before.getValue() == offset) {
+                slab.holes.remove(before.getKey());
+                offset = before.getKey();
+                length += before.getValue();
+            }
+            Integer after = slab.holes.remove(offset + length);
+            if (after != null) {
+                length += after;
+            }
+            if (offset + length == slab.top) {
+                slab.top = offset;
+            } else {
+                slab.holes.put(offset, length);
+            }
+        }
+
+        long liveBytes() {
+            long total = 0;
+            for (Slab slab : slabs) {
+                total += slab.live;
+            }
+            return total;
+        }
+    }
+}
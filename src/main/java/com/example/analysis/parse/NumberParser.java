@@ -0,0 +1,267 @@
+package com.example.analysis.parse;
+
+import java.util.BitSet;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Exception fırlatmayan, boxing yapmayan int/long parse - Integer.parseInt + catch yerine
+ *
+ * - Geçersiz girdi exception (ve stack trace) değil {@link ParseStatus} ile bildirilir
+ * - int sonucu tek long'a paketlenir: üst 32 bit durum, alt 32 bit değer;
+ *   {@link #isOk(long)}, {@link #intValue(long)}, {@link #status(long)} ile okunur
+ * - long sonucu çağıranın dizisine yazılır, dönüş değeri durumdur
+ * - CharSequence ve byte[] aralıkları substring/String oluşturmadan okunur
+ *
+ * Kabul edilen biçim Integer.parseInt/Long.parseLong ile aynıdır (isteğe bağlı +/-,
+ * ardından rakamlar, boşluk yok) ama sadece ASCII rakamlar. Taşma ile geçersiz
+ * karakter birlikteyse INVALID döner.
+ */
+public final class NumberParser {
+
+    private static final ParseStatus[] STATUSES = ParseStatus.values();
+
+    private NumberParser() {
+    }
+
+    /** Paketlenmiş int sonucu; null ise EMPTY */
+    public static long parseInt(CharSequence text) {
+        return text == null ? failure(ParseStatus.EMPTY) : parseIntRange(text, 0, text.length());
+    }
+
+    public static long parseInt(CharSequence text, int from, int to) {
+        Objects.checkFromToIndex(from, to, text.length());
+        return parseIntRange(text, from, to);
+    }
+
+    /** ASCII byte aralığı (ör. okunmuş CSV satırı) */
+    public static long parseInt(byte[] data, int from, int to) {
+        Objects.checkFromToIndex(from, to, data.length);
+        if (from == to) {
+            return failure(ParseStatus.EMPTY);
+        }
+        boolean negative = data[from] == '-';
+        int i = negative || data[from] == '+' ? from + 1 : from;
+        if (i == to) {
+            return failure(ParseStatus.INVALID);
+        }
+        long limit = negative ? -(long) Integer.MIN_VALUE : Integer.MAX_VALUE;
+        long value = 0;
+        boolean overflow = false;
+        for (; i < to; i++) {
+            int digit = data[i] - '0';
+            if (digit < 0 || digit > 9) {
+                return failure(ParseStatus.INVALID);
+            }
+            value = value * 10 + digit;
+            if (value > limit) {
+                // Sınırda tutulur; kalan karakterler yine de doğrulanır
+                overflow = true;
+                value = limit;
+            }
+        }
+        return overflow ? failure(ParseStatus.OVERFLOW) : ok(negative ? -value : value);
+    }
+
+    public static boolean isOk(long result) {
+        return result >>> 32 == 0;
+    }
+
+    /** Paketlenmiş değer; başarısız sonuçta 0 */
+    public static int intValue(long result) {
+        return (int) result;
+    }
+
+    public static ParseStatus status(long result) {
+        return STATUSES[(int) (result >>> 32)];
+    }
+
+    /** Geçersiz, boş veya taşan girdide defaultValue */
+    public static int parseIntOr(CharSequence text, int defaultValue) {
+        long result = parseInt(text);
+        return isOk(result) ? intValue(result) : defaultValue;
+    }
+
+    /**
+     * Değer sadece OK durumunda out[index]'e yazılır
+     *
+     * @return null ise EMPTY
+     */
+    public static ParseStatus parseLong(CharSequence text, long[] out, int index) {
+        if (text == null) {
+            return ParseStatus.EMPTY;
+        }
+        return parseLongRange(text, 0, text.length(), out, index);
+    }
+
+    public static ParseStatus parseLong(CharSequence text, int from, int to, long[] out, int index) {
+        Objects.checkFromToIndex(from, to, text.length());
+        return parseLongRange(text, from, to, out, index);
+    }
+
+    public static ParseStatus parseLong(byte[] data, int from, int to, long[] out, int index) {
+        Objects.checkFromToIndex(from, to, data.length);
+        if (from == to) {
+            return ParseStatus.EMPTY;
+        }
+        boolean negative = data[from] == '-';
+        int i = negative || data[from] == '+' ? from + 1 : from;
+        if (i == to) {
+            return ParseStatus.INVALID;
+        }
+        // Long.parseLong gibi negatif tarafta biriktirilir; MIN_VALUE da sığar
+        long limit = negative ? Long.MIN_VALUE : -Long.MAX_VALUE;
+        long multiplyMin = limit / 10;
+        long value = 0;
+        boolean overflow = false;
+        for (; i < to; i++) {
+            int digit = data[i] - '0';
+            if (digit < 0 || digit > 9) {
+                return ParseStatus.INVALID;
+            }
+            if (!overflow) {
+                if (value < multiplyMin || value * 10 < limit + digit) {
+                    overflow = true;
+                } else {
+                    value = value * 10 - digit;
+                }
+            }
+        }
+        if (overflow) {
+            return ParseStatus.OVERFLOW;
+        }
+        out[index] = negative ? value : -value;
+        return ParseStatus.OK;
+    }
+
+    /** Geçersiz, boş veya taşan girdide defaultValue */
+    public static long parseLongOr(CharSequence text, long defaultValue) {
+        if (text == null) {
+            return defaultValue;
+        }
+        long[] holder = {defaultValue};
+        // Escape analysis ile holder heap'e çıkmaz
+        parseLongRange(text, 0, text.length(), holder, 0);
+        return holder[0];
+    }
+
+    /**
+     * CSV sütunu gibi değer listesini out'a parse eder
+     *
+     * @param defaultValue geçersiz, boş veya taşan alanlara yazılır
+     * @param failed       null değilse başarısız alanların index'leri işaretlenir
+     * @return başarısız alan sayısı
+     */
+    public static int parseInts(List<? extends CharSequence> fields, int[] out, int defaultValue, BitSet failed) {
+        requireCapacity(fields.size(), out.length);
+        int failures = 0;
+        int index = 0;
+        for (CharSequence field : fields) {
+            long result = parseInt(field);
+            if (isOk(result)) {
+                out[index] = intValue(result);
+            } else {
+                out[index] = defaultValue;
+                failures++;
+                if (failed != null) {
+                    failed.set(index);
+                }
+            }
+            index++;
+        }
+        return failures;
+    }
+
+    /** {@link #parseInts} ile aynı, long sütun için */
+    public static int parseLongs(List<? extends CharSequence> fields, long[] out, long defaultValue, BitSet failed) {
+        requireCapacity(fields.size(), out.length);
+        int failures = 0;
+        int index = 0;
+        for (CharSequence field : fields) {
+            if (parseLong(field, out, index) != ParseStatus.OK) {
+                out[index] = defaultValue;
+                failures++;
+                if (failed != null) {
+                    failed.set(index);
+                }
+            }
+            index++;
+        }
+        return failures;
+    }
+
+    private static long parseIntRange(CharSequence text, int from, int to) {
+        if (from == to) {
+            return failure(ParseStatus.EMPTY);
+        }
+        char first = text.charAt(from);
+        boolean negative = first == '-';
+        int i = negative || first == '+' ? from + 1 : from;
+        if (i == to) {
+            return failure(ParseStatus.INVALID);
+        }
+        long limit = negative ? -(long) Integer.MIN_VALUE : Integer.MAX_VALUE;
+        long value = 0;
+        boolean overflow = false;
+        for (; i < to; i++) {
+            int digit = text.charAt(i) - '0';
+            if (digit < 0 || digit > 9) {
+                return failure(ParseStatus.INVALID);
+            }
+            value = value * 10 + digit;
+            if (value > limit) {
+                overflow = true;
+                value = limit;
+            }
+        }
+        return overflow ? failure(ParseStatus.OVERFLOW) : ok(negative ? -value : value);
+    }
+
+    private static ParseStatus parseLongRange(CharSequence text, int from, int to, long[] out, int index) {
+        if (from == to) {
+            return ParseStatus.EMPTY;
+        }
+        char first = text.charAt(from);
+        boolean negative = first == '-';
+        int i = negative || first == '+' ? from + 1 : from;
+        if (i == to) {
+            return ParseStatus.INVALID;
+        }
+        long limit = negative ? Long.MIN_VALUE : -Long.MAX_VALUE;
+        long multiplyMin = limit / 10;
+        long value = 0;
+        boolean overflow = false;
+        for (; i < to; i++) {
+            int digit = text.charAt(i) - '0';
+            if (digit < 0 || digit > 9) {
+                return ParseStatus.INVALID;
+            }
+            if (!overflow) {
+                if (value < multiplyMin || value * 10 < limit + digit) {
+                    overflow = true;
+                } else {
+                    value = value * 10 - digit;
+                }
+            }
+        }
+        if (overflow) {
+            return ParseStatus.OVERFLOW;
+        }
+        out[index] = negative ? value : -value;
+        return ParseStatus.OK;
+    }
+
+    private static long ok(long value) {
+        return value & 0xFFFF_FFFFL;
+    }
+
+    private static long failure(ParseStatus status) {
+        return (long) status.ordinal() << 32;
+    }
+
+    private static void requireCapacity(int size, int capacity) {
+        if (capacity < size) {
+            throw new IllegalArgumentException("output too small: " + capacity + " < " + size);
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package com.example.analysis.parse;
+
+/**
+ * {@link NumberParser} sonucunun durumu
+ */
+public enum ParseStatus {
+    /** Değer geçerli ve aralıkta */
+    OK,
+    /** null veya boş girdi */
+    EMPTY,
+    /** İşaret/rakam dışı karakter veya rakamsız işaret */
+    INVALID,
+    /** Sözdizimi geçerli ama değer int/long aralığının dışında */
+    OVERFLOW
+}
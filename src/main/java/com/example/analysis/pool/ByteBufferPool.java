@@ -0,0 +1,292 @@
+package com.example.analysis.pool;
+
+import java.lang.ref.Cleaner;
+import java.nio.ByteBuffer;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Size class'lı, striped ByteBuffer pool
+ *
+ * - İstenen boyut 2'nin kuvveti olan en yakın size class'a yuvarlanır (minSize..maxSize)
+ * - Her size class'ın free list'i thread id'ye göre stripe'lara bölünür;
+ *   thread önce kendi stripe'ına, boşsa diğerlerine bakar - tek lock yok
+ * - Boş pool davranışı MissPolicy ile seçilir: yeni buffer ayır veya iade bekle
+ * - Sayaçlar LongAdder - acquire/release yolunda paylaşılan tek cache line yok;
+ *   bu yüzden ALLOCATE modunda boş buffer sınırı eşzamanlı iadelerde birkaç buffer aşılabilir
+ * - maxSize'dan büyük istekler pool dışı ayrılır (sessizce atlanmaz)
+ * - Leak sampling: buffer'ların ortalama 1/N'i (ThreadLocalRandom) Cleaner ile izlenir, close() edilmeden
+ *   GC'ye giderse {@link PoolMetrics} leak sayacına yansır. BLOCK modunda
+ *   kaybolan buffer'ın permit'i geri alınabilsin diye pool'daki her buffer izlenir.
+ */
+public final class ByteBufferPool {
+
+    public enum MissPolicy {
+        /** Pool boşsa yeni buffer ayır; fazla buffer'lar iadede bırakılır */
+        ALLOCATE,
+        /** Size class başına maxBuffersPerClass buffer; fazlası iade bekler */
+        BLOCK
+    }
+
+    private static final Cleaner LEAK_CLEANER = Cleaner.create();
+
+    private final int minShift;
+    private final int[] classSizes;
+    private final SizeClass[] classes;
+    private final int stripeMask;
+    private final boolean direct;
+    private final MissPolicy missPolicy;
+    private final long blockTimeoutNanos;
+    private final int leakSampleInterval;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder oversized = new LongAdder();
+    private final LongAdder leaks = new LongAdder();
+
+    /**
+     * 4KB..16MB size class'lar, ALLOCATE politikası, ortalama 64 buffer'dan biri leak için izlenir
+     */
+    public ByteBufferPool(int maxBuffersPerClass, boolean direct) {
+        this(4 * 1024, 16 * 1024 * 1024, maxBuffersPerClass, direct,
+            MissPolicy.ALLOCATE, 0, TimeUnit.MILLISECONDS, 64);
+    }
+
+    /**
+     * @param maxBuffersPerClass ALLOCATE: class başına tutulan en fazla boş buffer,
+     *                           BLOCK: class başına toplam buffer
+     * @param blockTimeout       BLOCK modunda en fazla bekleme süresi
+     * @param leakSampleInterval N: buffer'ların ~1/N'i izlenir, 1: her buffer, 0: leak tespiti kapalı
+     *                           (BLOCK modunda size class buffer'ları her durumda izlenir)
+     */
+    public ByteBufferPool(int minSize, int maxSize, int maxBuffersPerClass, boolean direct,
+                          MissPolicy missPolicy, long blockTimeout, TimeUnit unit,
+                          int leakSampleInterval) {
+        if (minSize <= 0 || maxSize < minSize) {
+            throw new IllegalArgumentException("invalid size range: " + minSize + ".." + maxSize);
+        }
+        if (maxBuffersPerClass <= 0) {
+            throw new IllegalArgumentException("maxBuffersPerClass must be positive: " + maxBuffersPerClass);
+        }
+        if (leakSampleInterval < 0) {
+            throw new IllegalArgumentException("leakSampleInterval must not be negative: " + leakSampleInterval);
+        }
+        this.minShift = 32 - Integer.numberOfLeadingZeros(minSize - 1);
+        int maxShift = 32 - Integer.numberOfLeadingZeros(maxSize - 1);
+        if (maxShift > 30) {
+            throw new IllegalArgumentException("maxSize too large: " + maxSize);
+        }
+        this.direct = direct;
+        this.missPolicy = missPolicy;
+        this.blockTimeoutNanos = unit.toNanos(blockTimeout);
+        this.leakSampleInterval = leakSampleInterval;
+
+        int stripes = Integer.highestOneBit(Math.max(2, Runtime.getRuntime().availableProcessors()) * 2 - 1);
+        this.stripeMask = stripes - 1;
+
+        int count = maxShift - minShift + 1;
+        this.classSizes = new int[count];
+        this.classes = new SizeClass[count];
+        for (int i = 0; i < count; i++) {
+            classSizes[i] = 1 << (minShift + i);
+            classes[i] = new SizeClass(classSizes[i], stripes, maxBuffersPerClass,
+                missPolicy == MissPolicy.BLOCK);
+        }
+    }
+
+    /**
+     * En az size byte'lık buffer döner; limit = size
+     *
+     * @throws InterruptedException   BLOCK modunda beklerken kesilirse
+     * @throws IllegalStateException  BLOCK modunda timeout dolarsa
+     */
+    public PooledBuffer acquire(int size) throws InterruptedException {
+        int index = checkedClassIndex(size);
+        if (index < classes.length) {
+            SizeClass sizeClass = classes[index];
+            if (sizeClass.permits != null &&
+                    !sizeClass.permits.tryAcquire(blockTimeoutNanos, TimeUnit.NANOSECONDS)) {
+                throw new IllegalStateException(
+                    "no " + sizeClass.size + " byte buffer returned within timeout");
+            }
+        }
+        return take(index, size);
+    }
+
+    /**
+     * Beklemeden buffer döner; ALLOCATE modunda her zaman başarılı,
+     * BLOCK modunda size class'ta boş permit yoksa null
+     */
+    public PooledBuffer tryAcquire(int size) {
+        int index = checkedClassIndex(size);
+        if (index < classes.length) {
+            Semaphore permits = classes[index].permits;
+            if (permits != null && !permits.tryAcquire()) {
+                return null;
+            }
+        }
+        return take(index, size);
+    }
+
+    private int checkedClassIndex(int size) {
+        if (size < 0) {
+            throw new IllegalArgumentException("size must not be negative: " + size);
+        }
+        return classIndex(size);
+    }
+
+    // BLOCK modunda permit çağıran tarafından alınmış olmalı
+    private PooledBuffer take(int index, int size) {
+        if (index >= classes.length) {
+            // Pool dışı - iade edildiğinde bırakılır
+            oversized.increment();
+            ByteBuffer buffer = allocate(size);
+            return wrap(buffer, new Release(this, null, buffer), false);
+        }
+
+        SizeClass sizeClass = classes[index];
+        ByteBuffer buffer = sizeClass.poll(stripe());
+        if (buffer != null) {
+            hits.increment();
+        } else {
+            misses.increment();
+            buffer = allocate(sizeClass.size);
+        }
+        sizeClass.inUse.increment();
+        buffer.clear().limit(size);
+        return wrap(buffer, new Release(this, sizeClass, buffer), sizeClass.permits != null);
+    }
+
+    public PoolMetrics metrics() {
+        int[] idle = new int[classes.length];
+        int[] inUse = new int[classes.length];
+        for (int i = 0; i < classes.length; i++) {
+            idle[i] = (int) classes[i].idle.sum();
+            inUse[i] = (int) classes[i].inUse.sum();
+        }
+        return new PoolMetrics(classSizes.clone(), idle, inUse,
+            hits.sum(), misses.sum(), oversized.sum(), leaks.sum());
+    }
+
+    public MissPolicy missPolicy() {
+        return missPolicy;
+    }
+
+    // holdsPermit: izlenmeyen bir leak permit'i kalıcı olarak tüketirdi
+    private PooledBuffer wrap(ByteBuffer buffer, Release release, boolean holdsPermit) {
+        // Paylaşılan sayaç yerine thread-local rastgele örnekleme
+        boolean track = holdsPermit || leakSampleInterval == 1 || leakSampleInterval > 1 &&
+            ThreadLocalRandom.current().nextInt(leakSampleInterval) == 0;
+        return new PooledBuffer(buffer, release, track ? LEAK_CLEANER : null);
+    }
+
+    private int classIndex(int size) {
+        if (size <= 1 << minShift) {
+            return 0;
+        }
+        return 32 - Integer.numberOfLeadingZeros(size - 1) - minShift;
+    }
+
+    private int stripe() {
+        return (int) Thread.currentThread().getId() & stripeMask;
+    }
+
+    private ByteBuffer allocate(int size) {
+        return direct ? ByteBuffer.allocateDirect(size) : ByteBuffer.allocate(size);
+    }
+
+    private void giveBack(SizeClass sizeClass, ByteBuffer buffer, boolean leaked) {
+        if (leaked) {
+            leaks.increment();
+        }
+        if (sizeClass == null) {
+            return;
+        }
+        sizeClass.inUse.decrement();
+        // Leak olan buffer'a dışarıda hâlâ referans olabilir - tekrar kullanılmaz
+        if (!leaked) {
+            sizeClass.offer(stripe(), buffer, missPolicy == MissPolicy.ALLOCATE);
+        }
+        if (sizeClass.permits != null) {
+            sizeClass.permits.release();
+        }
+    }
+
+    /**
+     * İade işlemi; Cleaner action'ı olarak da çalışır.
+     * PooledBuffer'a referans tutmaz.
+     */
+    static final class Release implements Runnable {
+        private final ByteBufferPool pool;
+        private final SizeClass sizeClass;
+        private final ByteBuffer buffer;
+        private final AtomicBoolean returned = new AtomicBoolean();
+
+        Release(ByteBufferPool pool, SizeClass sizeClass, ByteBuffer buffer) {
+            this.pool = pool;
+            this.sizeClass = sizeClass;
+            this.buffer = buffer;
+        }
+
+        boolean markReturned() {
+            return returned.compareAndSet(false, true);
+        }
+
+        @Override
+        public void run() {
+            // Cleaner'dan close() olmadan çağrıldıysa leak
+            boolean leaked = returned.compareAndSet(false, true);
+            pool.giveBack(sizeClass, buffer, leaked);
+        }
+    }
+
+    private static final class SizeClass {
+        final int size;
+        final Queue<ByteBuffer>[] stripes;
+        final int maxIdle;
+        final LongAdder idle = new LongAdder();
+        final LongAdder inUse = new LongAdder();
+        final Semaphore permits;
+
+        SizeClass(int size, int stripeCount, int maxBuffers, boolean blocking) {
+            this.size = size;
+            this.maxIdle = maxBuffers;
+            this.stripes = newStripes(stripeCount);
+            for (int i = 0; i < stripeCount; i++) {
+                stripes[i] = new ConcurrentLinkedQueue<>();
+            }
+            this.permits = blocking ? new Semaphore(maxBuffers) : null;
+        }
+
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        private static Queue<ByteBuffer>[] newStripes(int count) {
+            return new Queue[count];
+        }
+
+        ByteBuffer poll(int home) {
+            for (int i = 0; i < stripes.length; i++) {
+                ByteBuffer buffer = stripes[(home + i) & (stripes.length - 1)].poll();
+                if (buffer != null) {
+                    idle.decrement();
+                    return buffer;
+                }
+            }
+            return null;
+        }
+
+        void offer(int home, ByteBuffer buffer, boolean bounded) {
+            // sum() kesin değil - sınır yaklaşık, karşılığında iade yolu CAS yarışına girmez
+            if (bounded && idle.sum() >= maxIdle) {
+                // Pool dolu - buffer GC'ye bırakılır
+                return;
+            }
+            idle.increment();
+            stripes[home].offer(buffer);
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package com.example.analysis.pool;
+
+/**
+ * ByteBufferPool doluluk ve kullanım metriklerinin anlık görüntüsü
+ */
+public final class PoolMetrics {
+
+    private final int[] classSizes;
+    private final int[] idle;
+    private final int[] inUse;
+    private final long hits;
+    private final long misses;
+    private final long oversized;
+    private final long leaks;
+
+    PoolMetrics(int[] classSizes, int[] idle, int[] inUse,
+                long hits, long misses, long oversized, long leaks) {
+        this.classSizes = classSizes;
+        this.idle = idle;
+        this.inUse = inUse;
+        this.hits = hits;
+        this.misses = misses;
+        this.oversized = oversized;
+        this.leaks = leaks;
+    }
+
+    public int sizeClassCount() {
+        return classSizes.length;
+    }
+
+    public int sizeClass(int index) {
+        return classSizes[index];
+    }
+
+    /** Pool'da bekleyen buffer sayısı */
+    public int idle(int index) {
+        return idle[index];
+    }
+
+    /** Şu an kullanımda olan buffer sayısı */
+    public int inUse(int index) {
+        return inUse[index];
+    }
+
+    /** Pool'da bekleyen toplam byte */
+    public long idleBytes() {
+        long total = 0;
+        for (int i = 0; i < classSizes.length; i++) {
+            total += (long) idle[i] * classSizes[i];
+        }
+        return total;
+    }
+
+    /** Pool'dan karşılanan istekler */
+    public long hits() {
+        return hits;
+    }
+
+    /** Yeni buffer ayrılarak karşılanan istekler */
+    public long misses() {
+        return misses;
+    }
+
+    /** En büyük size class'tan büyük, pool dışı ayrılan istekler */
+    public long oversized() {
+        return oversized;
+    }
+
+    /** close() edilmeden GC'ye giden buffer'lar */
+    public long leaks() {
+        return leaks;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder("PoolMetrics{hits=").append(hits)
+            .append(", misses=").append(misses)
+            .append(", oversized=").append(oversized)
+            .append(", leaks=").append(leaks)
+            .append(", classes=[");
+        for (int i = 0; i < classSizes.length; i++) {
+            if (idle[i] == 0 && inUse[i] == 0) continue;
+            sb.append(' ').append(classSizes[i]).append("B:")
+              .append(inUse[i]).append('/').append(idle[i]);
+        }
+        return sb.append(" ]}").toString();
+    }
+}
@@ -0,0 +1,41 @@
+package com.example.analysis.pool;
+
+import java.lang.ref.Cleaner;
+import java.nio.ByteBuffer;
+
+/**
+ * Pool'dan alınan buffer - try-with-resources ile kullanılmalı
+ *
+ * close() çağrılmadan GC'ye giden (leak sampling'e takılan) buffer'lar
+ * pool tarafından raporlanır.
+ */
+public final class PooledBuffer implements AutoCloseable {
+
+    private final ByteBuffer buffer;
+    private final ByteBufferPool.Release release;
+    private final Cleaner.Cleanable cleanable;
+
+    PooledBuffer(ByteBuffer buffer, ByteBufferPool.Release release, Cleaner cleaner) {
+        this.buffer = buffer;
+        this.release = release;
+        // Release nesnesi PooledBuffer'a referans tutmamalı, yoksa hiç GC olmaz
+        this.cleanable = cleaner != null ? cleaner.register(this, release) : null;
+    }
+
+    /** limit = istenen boyut, position = 0 */
+    public ByteBuffer buffer() {
+        return buffer;
+    }
+
+    /** Buffer'ı pool'a iade eder; birden fazla çağrı etkisizdir */
+    @Override
+    public void close() {
+        if (release.markReturned()) {
+            if (cleanable != null) {
+                cleanable.clean();
+            } else {
+                release.run();
+            }
+        }
+    }
+}
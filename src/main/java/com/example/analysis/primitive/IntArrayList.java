@@ -0,0 +1,188 @@
+package com.example.analysis.primitive;
+
+import com.example.analysis.select.IntTopK;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.function.IntConsumer;
+import java.util.function.IntPredicate;
+import java.util.function.IntUnaryOperator;
+
+/**
+ * int[] tabanlı büyüyebilen liste - ArrayList&lt;Integer&gt; yerine
+ *
+ * Eleman başına 4 byte (ArrayList&lt;Integer&gt;: 4 byte referans + 16 byte Integer).
+ * map/filter/smallest/largest stream benzeri işlemler ara boxing yapmadan yeni liste döner.
+ */
+public final class IntArrayList {
+
+    private static final int[] EMPTY = new int[0];
+
+    private int[] elements;
+    private int size;
+
+    public IntArrayList() {
+        this.elements = EMPTY;
+    }
+
+    public IntArrayList(int initialCapacity) {
+        if (initialCapacity < 0) {
+            throw new IllegalArgumentException("initialCapacity must not be negative: " + initialCapacity);
+        }
+        this.elements = initialCapacity == 0 ? EMPTY : new int[initialCapacity];
+    }
+
+    /** Diziyi kopyalamadan sarar; dizi artık bu listeye aittir */
+    public static IntArrayList wrap(int[] values) {
+        IntArrayList list = new IntArrayList();
+        list.elements = values;
+        list.size = values.length;
+        return list;
+    }
+
+    /** 0, 1, ..., count-1 */
+    public static IntArrayList range(int count) {
+        int[] values = new int[count];
+        for (int i = 0; i < count; i++) {
+            values[i] = i;
+        }
+        return wrap(values);
+    }
+
+    public void add(int value) {
+        if (size == elements.length) {
+            grow(size + 1);
+        }
+        elements[size++] = value;
+    }
+
+    /** Son elemanı çıkarır - liste stack olarak kullanılabilir */
+    public int removeLast() {
+        if (size == 0) {
+            throw new NoSuchElementException("empty list");
+        }
+        return elements[--size];
+    }
+
+    public int get(int index) {
+        checkIndex(index);
+        return elements[index];
+    }
+
+    public int set(int index, int value) {
+        checkIndex(index);
+        int old = elements[index];
+        elements[index] = value;
+        return old;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public void clear() {
+        size = 0;
+    }
+
+    public void ensureCapacity(int capacity) {
+        if (capacity > elements.length) {
+            grow(capacity);
+        }
+    }
+
+    public long sum() {
+        long sum = 0;
+        for (int i = 0; i < size; i++) {
+            sum += elements[i];
+        }
+        return sum;
+    }
+
+    public int min() {
+        if (size == 0) {
+            throw new NoSuchElementException("empty list");
+        }
+        int min = elements[0];
+        for (int i = 1; i < size; i++) {
+            if (elements[i] < min) min = elements[i];
+        }
+        return min;
+    }
+
+    public int max() {
+        if (size == 0) {
+            throw new NoSuchElementException("empty list");
+        }
+        int max = elements[0];
+        for (int i = 1; i < size; i++) {
+            if (elements[i] > max) max = elements[i];
+        }
+        return max;
+    }
+
+    public void forEach(IntConsumer action) {
+        for (int i = 0; i < size; i++) {
+            action.accept(elements[i]);
+        }
+    }
+
+    public IntArrayList map(IntUnaryOperator mapper) {
+        int[] result = new int[size];
+        for (int i = 0; i < size; i++) {
+            result[i] = mapper.applyAsInt(elements[i]);
+        }
+        return wrap(result);
+    }
+
+    public IntArrayList filter(IntPredicate predicate) {
+        IntArrayList result = new IntArrayList();
+        for (int i = 0; i < size; i++) {
+            if (predicate.test(elements[i])) {
+                result.add(elements[i]);
+            }
+        }
+        return result;
+    }
+
+    /** En küçük k eleman, artan sırada - O(n log k), tam sıralama yok */
+    public IntArrayList smallest(int k) {
+        return select(k, false);
+    }
+
+    /** En büyük k eleman, azalan sırada - O(n log k) */
+    public IntArrayList largest(int k) {
+        return select(k, true);
+    }
+
+    public void sort() {
+        Arrays.sort(elements, 0, size);
+    }
+
+    public int[] toArray() {
+        return Arrays.copyOf(elements, size);
+    }
+
+    private IntArrayList select(int k, boolean largest) {
+        return wrap(IntTopK.select(elements, 0, size, k, largest));
+    }
+
+    private void grow(int minCapacity) {
+        int newCapacity = Math.max(minCapacity, Math.max(10, elements.length + (elements.length >> 1)));
+        elements = Arrays.copyOf(elements, newCapacity);
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("index " + index + ", size " + size);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return Arrays.toString(toArray());
+    }
+}
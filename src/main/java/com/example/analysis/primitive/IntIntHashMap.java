@@ -0,0 +1,236 @@
+package com.example.analysis.primitive;
+
+import java.util.Arrays;
+
+/**
+ * int → int open addressing hash map - HashMap&lt;Integer, Integer&gt; yerine
+ *
+ * - Key ve value'lar iki düz dizide; entry nesnesi ve boxing yok
+ * - Linear probing, silmede backward-shift (tombstone yok)
+ * - 0 key'i boş slot işareti olduğu için ayrı alanda tutulur
+ */
+public final class IntIntHashMap {
+
+    /** Her (key, value) çifti için çağrılır */
+    @FunctionalInterface
+    public interface IntIntConsumer {
+        void accept(int key, int value);
+    }
+
+    private static final float LOAD_FACTOR = 0.75f;
+
+    private int[] keys;
+    private int[] values;
+    private int mask;
+    private int size;
+    private int resizeThreshold;
+
+    private boolean hasZeroKey;
+    private int zeroValue;
+
+    public IntIntHashMap() {
+        this(16);
+    }
+
+    /** expectedSize elemana kadar rehash yapılmaz */
+    public IntIntHashMap(int expectedSize) {
+        if (expectedSize < 0) {
+            throw new IllegalArgumentException("expectedSize must not be negative: " + expectedSize);
+        }
+        allocate(capacityFor(expectedSize));
+    }
+
+    public int get(int key, int defaultValue) {
+        if (key == 0) {
+            return hasZeroKey ? zeroValue : defaultValue;
+        }
+        int slot = slot(key);
+        while (true) {
+            int k = keys[slot];
+            if (k == key) return values[slot];
+            if (k == 0) return defaultValue;
+            slot = (slot + 1) & mask;
+        }
+    }
+
+    public boolean containsKey(int key) {
+        if (key == 0) {
+            return hasZeroKey;
+        }
+        int slot = slot(key);
+        while (true) {
+            int k = keys[slot];
+            if (k == key) return true;
+            if (k == 0) return false;
+            slot = (slot + 1) & mask;
+        }
+    }
+
+    /** @return önceki değer, yoksa defaultValue */
+    public int put(int key, int value, int defaultValue) {
+        if (key == 0) {
+            int old = hasZeroKey ? zeroValue : defaultValue;
+            if (!hasZeroKey) {
+                hasZeroKey = true;
+                size++;
+            }
+            zeroValue = value;
+            return old;
+        }
+        int slot = slot(key);
+        while (true) {
+            int k = keys[slot];
+            if (k == key) {
+                int old = values[slot];
+                values[slot] = value;
+                return old;
+            }
+            if (k == 0) {
+                keys[slot] = key;
+                values[slot] = value;
+                if (++size > resizeThreshold) {
+                    rehash(keys.length << 1);
+                }
+                return defaultValue;
+            }
+            slot = (slot + 1) & mask;
+        }
+    }
+
+    public void put(int key, int value) {
+        put(key, value, 0);
+    }
+
+    /** Sayaç artırma: değer yoksa 0 kabul edilir. Yeni değeri döner. */
+    public int addTo(int key, int delta) {
+        if (key == 0) {
+            if (!hasZeroKey) {
+                hasZeroKey = true;
+                size++;
+            }
+            return zeroValue += delta;
+        }
+        int slot = slot(key);
+        while (true) {
+            int k = keys[slot];
+            if (k == key) {
+                return values[slot] += delta;
+            }
+            if (k == 0) {
+                keys[slot] = key;
+                values[slot] = delta;
+                if (++size > resizeThreshold) {
+                    rehash(keys.length << 1);
+                }
+                return delta;
+            }
+            slot = (slot + 1) & mask;
+        }
+    }
+
+    /** @return silinen değer, yoksa defaultValue */
+    public int remove(int key, int defaultValue) {
+        if (key == 0) {
+            if (!hasZeroKey) return defaultValue;
+            hasZeroKey = false;
+            size--;
+            return zeroValue;
+        }
+        int slot = slot(key);
+        while (true) {
+            int k = keys[slot];
+            if (k == 0) return defaultValue;
+            if (k == key) {
+                int old = values[slot];
+                shiftBack(slot);
+                size--;
+                return old;
+            }
+            slot = (slot + 1) & mask;
+        }
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public void clear() {
+        Arrays.fill(keys, 0);
+        hasZeroKey = false;
+        size = 0;
+    }
+
+    public void forEach(IntIntConsumer action) {
+        if (hasZeroKey) {
+            action.accept(0, zeroValue);
+        }
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i] != 0) {
+                action.accept(keys[i], values[i]);
+            }
+        }
+    }
+
+    private int slot(int key) {
+        // Fibonacci hashing - ardışık key'ler tabloya yayılır
+        int h = key * 0x9E3779B9;
+        return (h ^ (h >>> 16)) & mask;
+    }
+
+    // Silinen slottan sonraki zincir elemanları geri kaydırılır
+    private void shiftBack(int slot) {
+        int gap = slot;
+        int next = (gap + 1) & mask;
+        while (keys[next] != 0) {
+            int ideal = slot(keys[next]);
+            // next, ideal ile gap arasında değilse gap'e taşınabilir
+            if (((next - ideal) & mask) >= ((next - gap) & mask)) {
+                keys[gap] = keys[next];
+                values[gap] = values[next];
+                gap = next;
+            }
+            next = (next + 1) & mask;
+        }
+        keys[gap] = 0;
+    }
+
+    private void rehash(int newCapacity) {
+        int[] oldKeys = keys;
+        int[] oldValues = values;
+        allocate(newCapacity);
+        for (int i = 0; i < oldKeys.length; i++) {
+            int key = oldKeys[i];
+            if (key != 0) {
+                int slot = slot(key);
+                while (keys[slot] != 0) {
+                    slot = (slot + 1) & mask;
+                }
+                keys[slot] = key;
+                values[slot] = oldValues[i];
+            }
+        }
+    }
+
+    private void allocate(int capacity) {
+        keys = new int[capacity];
+        values = new int[capacity];
+        mask = capacity - 1;
+        resizeThreshold = (int) (capacity * LOAD_FACTOR);
+    }
+
+    private static int capacityFor(int expectedSize) {
+        long needed = (long) Math.ceil(expectedSize / (double) LOAD_FACTOR) + 1;
+        if (needed > 1 << 30) {
+            throw new IllegalArgumentException("expectedSize too large: " + expectedSize);
+        }
+        int capacity = 4;
+        while (capacity < needed) {
+            capacity <<= 1;
+        }
+        return capacity;
+    }
+}
@@ -0,0 +1,58 @@
+package com.example.analysis.regex;
+
+/**
+ * charAt çağrılarını sayan CharSequence - java.util.regex her adımda karakter okur,
+ * bütçe aşılınca eşleşme istisnayla kesilir
+ */
+final class BudgetedCharSequence implements CharSequence {
+
+    // Saat her adımda değil, bu kadar adımda bir kontrol edilir
+    private static final int CLOCK_CHECK_INTERVAL = 4096;
+
+    private final CharSequence delegate;
+    private final String pattern;
+    private final long maxSteps;
+    private final long deadlineNanos;
+    private final long[] steps;
+
+    BudgetedCharSequence(CharSequence delegate, String pattern, long maxSteps, long timeoutNanos) {
+        this(delegate, pattern, maxSteps,
+            timeoutNanos > 0 ? System.nanoTime() + timeoutNanos : 0, new long[1]);
+    }
+
+    private BudgetedCharSequence(CharSequence delegate, String pattern, long maxSteps,
+                                 long deadlineNanos, long[] steps) {
+        this.delegate = delegate;
+        this.pattern = pattern;
+        this.maxSteps = maxSteps;
+        this.deadlineNanos = deadlineNanos;
+        this.steps = steps;
+    }
+
+    @Override
+    public char charAt(int index) {
+        long count = ++steps[0];
+        if (count > maxSteps) {
+            throw new MatchBudgetExceededException(pattern, count, false);
+        }
+        if (deadlineNanos != 0 && (count % CLOCK_CHECK_INTERVAL) == 0 && System.nanoTime() - deadlineNanos > 0) {
+            throw new MatchBudgetExceededException(pattern, count, true);
+        }
+        return delegate.charAt(index);
+    }
+
+    @Override
+    public int length() {
+        return delegate.length();
+    }
+
+    @Override
+    public CharSequence subSequence(int start, int end) {
+        return new BudgetedCharSequence(delegate.subSequence(start, end), pattern, maxSteps, deadlineNanos, steps);
+    }
+
+    @Override
+    public String toString() {
+        return delegate.toString();
+    }
+}
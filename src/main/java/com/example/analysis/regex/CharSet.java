@@ -0,0 +1,74 @@
+package com.example.analysis.regex;
+
+import java.util.Arrays;
+
+/**
+ * Kod noktası aralıklarından oluşan karakter kümesi (opsiyonel negatif, ASCII case-insensitive)
+ */
+final class CharSet {
+
+    static final CharSet DIGIT = new CharSet(new int[]{'0', '9'}, false, false);
+    static final CharSet WORD = new CharSet(new int[]{'0', '9', 'A', 'Z', '_', '_', 'a', 'z'}, false, false);
+    static final CharSet SPACE = new CharSet(new int[]{'\t', '\r', ' ', ' '}, false, false);
+    /** DOTALL olmadan '.': satır sonlandırıcılar hariç */
+    static final CharSet DOT = new CharSet(new int[]{'\n', '\n', '\r', '\r', 0x85, 0x85, 0x2028, 0x2029}, true, false);
+    static final CharSet ANY = new CharSet(new int[0], true, false);
+
+    // [lo0, hi0, lo1, hi1, ...] - sıralı olması gerekmez
+    private final int[] ranges;
+    private final boolean negated;
+    private final boolean caseInsensitive;
+
+    CharSet(int[] ranges, boolean negated, boolean caseInsensitive) {
+        this.ranges = ranges;
+        this.negated = negated;
+        this.caseInsensitive = caseInsensitive;
+    }
+
+    static CharSet single(int codePoint, boolean caseInsensitive) {
+        return new CharSet(new int[]{codePoint, codePoint}, false, caseInsensitive);
+    }
+
+    CharSet negate() {
+        return new CharSet(ranges, !negated, caseInsensitive);
+    }
+
+    /** Negatif olmayan kümeleri birleştirir */
+    static CharSet union(CharSet a, CharSet b) {
+        if (a.negated || b.negated) {
+            throw new IllegalArgumentException("cannot union negated sets");
+        }
+        int[] merged = Arrays.copyOf(a.ranges, a.ranges.length + b.ranges.length);
+        System.arraycopy(b.ranges, 0, merged, a.ranges.length, b.ranges.length);
+        return new CharSet(merged, false, a.caseInsensitive || b.caseInsensitive);
+    }
+
+    /** Tek kod noktalı pozitif kümede o kod noktası, değilse -1 */
+    int singleCodePoint() {
+        return !negated && ranges.length == 2 && ranges[0] == ranges[1] ? ranges[0] : -1;
+    }
+
+    boolean matches(int codePoint) {
+        boolean in = rawContains(codePoint);
+        if (!in && caseInsensitive) {
+            int swapped = swapAsciiCase(codePoint);
+            in = swapped != codePoint && rawContains(swapped);
+        }
+        return in != negated;
+    }
+
+    private boolean rawContains(int codePoint) {
+        for (int i = 0; i < ranges.length; i += 2) {
+            if (codePoint >= ranges[i] && codePoint <= ranges[i + 1]) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static int swapAsciiCase(int c) {
+        if (c >= 'a' && c <= 'z') return c - 32;
+        if (c >= 'A' && c <= 'Z') return c + 32;
+        return c;
+    }
+}
@@ -0,0 +1,89 @@
+package com.example.analysis.regex;
+
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+/**
+ * Derlenmiş regex: mümkünse lineer motor, değilse bütçeli java.util.regex
+ *
+ * matches() tam eşleşme semantiğindedir (Matcher.matches gibi). Thread-safe.
+ */
+public final class CompiledRegex {
+
+    private final Pattern pattern;
+    private final LinearMatcher linear;
+    private final String unsupportedReason;
+    private final long defaultMaxSteps;
+    private final long defaultTimeoutNanos;
+
+    CompiledRegex(String regex, int flags, boolean allowLinear, long defaultMaxSteps, long defaultTimeoutNanos) {
+        this.pattern = Pattern.compile(regex, flags);
+        LinearMatcher matcher = null;
+        String reason = allowLinear ? null : "linear engine disabled";
+        if (allowLinear) {
+            try {
+                matcher = LinearMatcher.compile(regex, flags);
+            } catch (RegexParser.Unsupported e) {
+                reason = e.getMessage();
+            }
+        }
+        this.linear = matcher;
+        this.unsupportedReason = reason;
+        this.defaultMaxSteps = defaultMaxSteps;
+        this.defaultTimeoutNanos = defaultTimeoutNanos;
+    }
+
+    public Pattern pattern() {
+        return pattern;
+    }
+
+    /** Lineer motor kullanılıyorsa true - bu durumda bütçe gerekmez */
+    public boolean isLinear() {
+        return linear != null;
+    }
+
+    /** Lineer motora çevrilemediyse nedeni, çevrildiyse null */
+    public String unsupportedReason() {
+        return unsupportedReason;
+    }
+
+    /**
+     * @throws MatchBudgetExceededException backtracking motoru varsayılan bütçeyi aşarsa
+     */
+    public boolean matches(CharSequence input) {
+        if (linear != null) {
+            return linear.matches(input);
+        }
+        return matchesBudgeted(input, defaultMaxSteps, defaultTimeoutNanos);
+    }
+
+    /**
+     * Bu çağrıya özel bütçe; lineer motorda bütçe yok sayılır
+     *
+     * @param maxSteps karakter okuma sınırı (Long.MAX_VALUE: sınırsız)
+     * @param timeout  0: süre sınırı yok
+     */
+    public boolean matches(CharSequence input, long maxSteps, long timeout, TimeUnit unit) {
+        if (linear != null) {
+            return linear.matches(input);
+        }
+        return matchesBudgeted(input, maxSteps, unit.toNanos(timeout));
+    }
+
+    /** Budget olmadan, her zaman java.util.regex ile - karşılaştırma için */
+    public boolean matchesBacktracking(CharSequence input) {
+        return pattern.matcher(input).matches();
+    }
+
+    private boolean matchesBudgeted(CharSequence input, long maxSteps, long timeoutNanos) {
+        if (maxSteps == Long.MAX_VALUE && timeoutNanos == 0) {
+            return pattern.matcher(input).matches();
+        }
+        return pattern.matcher(new BudgetedCharSequence(input, pattern.pattern(), maxSteps, timeoutNanos)).matches();
+    }
+
+    @Override
+    public String toString() {
+        return pattern.pattern() + (linear != null ? " [linear]" : " [backtracking: " + unsupportedReason + "]");
+    }
+}
@@ -0,0 +1,284 @@
+package com.example.analysis.regex;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Backtracking olmayan tam eşleşme motoru: Thompson NFA + ASCII için önceden kurulmuş DFA
+ *
+ * - Süre girdi uzunluğuyla lineer: O(n) DFA'da, O(n * NFA boyutu) ASCII dışı karakterlerde
+ * - DFA derleme anında kurulur ve değişmez - matcher thread-safe
+ * - DFA durum sayısı sınırı aşılırsa sadece NFA simülasyonu kullanılır
+ */
+final class LinearMatcher {
+
+    private static final int CHAR = 0;
+    private static final int SPLIT = 1;
+    private static final int MATCH = 2;
+    private static final int EPSILON = 3;
+
+    private static final int MAX_NFA_STATES = 20_000;
+    private static final int MAX_DFA_STATES = 512;
+    private static final int ALPHABET = 128;
+
+    // NFA
+    private final int[] kind;
+    private final int[] out;
+    private final int[] out2;
+    private final CharSet[] sets;
+    private final int[] startSet;
+
+    // ASCII DFA; null ise devre dışı
+    private final int[] transitions;
+    private final boolean[] accepting;
+    private final int[][] dfaSets;
+
+    private LinearMatcher(NfaBuilder nfa, int start) {
+        int n = nfa.kinds.size();
+        this.kind = new int[n];
+        this.out = new int[n];
+        this.out2 = new int[n];
+        this.sets = new CharSet[n];
+        for (int i = 0; i < n; i++) {
+            kind[i] = nfa.kinds.get(i);
+            out[i] = nfa.outs.get(i);
+            out2[i] = nfa.outs2.get(i);
+            sets[i] = nfa.sets.get(i);
+        }
+        this.startSet = closure(new int[]{start}, new Scratch(n));
+
+        DfaBuilder dfa = new DfaBuilder();
+        if (dfa.build()) {
+            this.transitions = dfa.transitions;
+            this.accepting = dfa.accepting;
+            this.dfaSets = dfa.states.toArray(new int[0][]);
+        } else {
+            this.transitions = null;
+            this.accepting = null;
+            this.dfaSets = null;
+        }
+    }
+
+    static LinearMatcher compile(String regex, int flags) throws RegexParser.Unsupported {
+        RegexParser.Node root = RegexParser.parse(regex, flags);
+        NfaBuilder nfa = new NfaBuilder();
+        int match = nfa.add(MATCH, -1, -1, null);
+        int start = nfa.compile(root, match);
+        return new LinearMatcher(nfa, start);
+    }
+
+    boolean hasDfa() {
+        return transitions != null;
+    }
+
+    boolean matches(CharSequence input) {
+        int length = input.length();
+        if (transitions == null) {
+            return simulate(startSet, input, 0);
+        }
+        int state = 0;
+        for (int i = 0; i < length; i++) {
+            char c = input.charAt(i);
+            if (c >= ALPHABET) {
+                // ASCII dışı: bu noktadan sonrası NFA ile
+                return simulate(dfaSets[state], input, i);
+            }
+            state = transitions[state * ALPHABET + c];
+            if (dfaSets[state].length == 0) {
+                return false;
+            }
+        }
+        return accepting[state];
+    }
+
+    private boolean simulate(int[] initial, CharSequence input, int from) {
+        Scratch scratch = new Scratch(kind.length);
+        int[] current = initial;
+        int length = input.length();
+        int i = from;
+        while (i < length) {
+            if (current.length == 0) {
+                return false;
+            }
+            int cp = Character.codePointAt(input, i);
+            current = step(current, cp, scratch);
+            i += Character.charCount(cp);
+        }
+        return containsMatch(current);
+    }
+
+    private boolean containsMatch(int[] states) {
+        for (int s : states) {
+            if (kind[s] == MATCH) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private int[] step(int[] states, int codePoint, Scratch scratch) {
+        int[] next = new int[states.length];
+        int count = 0;
+        for (int s : states) {
+            if (kind[s] == CHAR && sets[s].matches(codePoint)) {
+                if (count == next.length) {
+                    next = Arrays.copyOf(next, count * 2 + 1);
+                }
+                next[count++] = out[s];
+            }
+        }
+        return closure(Arrays.copyOf(next, count), scratch);
+    }
+
+    /** Epsilon kapanışı; sonuç sıralı (DFA anahtarı olarak kullanılır), sadece CHAR ve MATCH durumları */
+    private int[] closure(int[] seeds, Scratch scratch) {
+        int generation = ++scratch.generation;
+        int[] stack = scratch.stack;
+        int top = 0;
+        int count = 0;
+        int[] result = scratch.result;
+        for (int s : seeds) {
+            stack[top++] = s;
+        }
+        while (top > 0) {
+            int s = stack[--top];
+            if (scratch.marks[s] == generation) {
+                continue;
+            }
+            scratch.marks[s] = generation;
+            switch (kind[s]) {
+                case SPLIT:
+                    stack[top++] = out2[s];
+                    stack[top++] = out[s];
+                    break;
+                case EPSILON:
+                    stack[top++] = out[s];
+                    break;
+                default:
+                    result[count++] = s;
+            }
+        }
+        int[] closed = Arrays.copyOf(result, count);
+        Arrays.sort(closed);
+        return closed;
+    }
+
+    /** Simülasyon için çağrı başına tampon */
+    private static final class Scratch {
+        final int[] marks;
+        final int[] stack;
+        final int[] result;
+        int generation;
+
+        Scratch(int size) {
+            marks = new int[size];
+            // Tohumlar + işlenen her durumdan en fazla iki çıkış
+            stack = new int[size * 3 + 1];
+            result = new int[size];
+        }
+    }
+
+    private final class DfaBuilder {
+        final List<int[]> states = new ArrayList<>();
+        final Map<String, Integer> ids = new HashMap<>();
+        int[] transitions = new int[64 * ALPHABET];
+        boolean[] accepting = new boolean[64];
+
+        boolean build() {
+            Scratch scratch = new Scratch(kind.length);
+            id(startSet);
+            for (int d = 0; d < states.size(); d++) {
+                int[] set = states.get(d);
+                for (int c = 0; c < ALPHABET; c++) {
+                    int target = id(step(set, c, scratch));
+                    if (target < 0) {
+                        return false;
+                    }
+                    transitions[d * ALPHABET + c] = target;
+                }
+            }
+            return true;
+        }
+
+        private int id(int[] set) {
+            String key = Arrays.toString(set);
+            Integer existing = ids.get(key);
+            if (existing != null) {
+                return existing;
+            }
+            int id = states.size();
+            if (id == MAX_DFA_STATES) {
+                return -1;
+            }
+            if (id == accepting.length) {
+                accepting = Arrays.copyOf(accepting, id * 2);
+                transitions = Arrays.copyOf(transitions, id * 2 * ALPHABET);
+            }
+            states.add(set);
+            ids.put(key, id);
+            accepting[id] = containsMatch(set);
+            return id;
+        }
+    }
+
+    private static final class NfaBuilder {
+        final List<Integer> kinds = new ArrayList<>();
+        final List<Integer> outs = new ArrayList<>();
+        final List<Integer> outs2 = new ArrayList<>();
+        final List<CharSet> sets = new ArrayList<>();
+
+        int add(int kind, int out, int out2, CharSet set) throws RegexParser.Unsupported {
+            if (kinds.size() == MAX_NFA_STATES) {
+                throw new RegexParser.Unsupported("pattern too large for linear engine");
+            }
+            kinds.add(kind);
+            outs.add(out);
+            outs2.add(out2);
+            sets.add(set);
+            return kinds.size() - 1;
+        }
+
+        /** node'u derler, eşleşme sonrası next'e bağlar; başlangıç durumunu döner */
+        int compile(RegexParser.Node node, int next) throws RegexParser.Unsupported {
+            if (node instanceof RegexParser.CharNode) {
+                return add(CHAR, next, -1, ((RegexParser.CharNode) node).set);
+            }
+            if (node instanceof RegexParser.Concat) {
+                List<RegexParser.Node> items = ((RegexParser.Concat) node).items;
+                int start = next;
+                for (int i = items.size() - 1; i >= 0; i--) {
+                    start = compile(items.get(i), start);
+                }
+                return start == next ? add(EPSILON, next, -1, null) : start;
+            }
+            if (node instanceof RegexParser.Alt) {
+                List<RegexParser.Node> options = ((RegexParser.Alt) node).options;
+                int start = compile(options.get(options.size() - 1), next);
+                for (int i = options.size() - 2; i >= 0; i--) {
+                    start = add(SPLIT, compile(options.get(i), next), start, null);
+                }
+                return start;
+            }
+            RegexParser.Repeat repeat = (RegexParser.Repeat) node;
+            int start;
+            if (repeat.max < 0) {
+                // Döngü: loop -> body -> loop | next
+                int loop = add(SPLIT, -1, next, null);
+                outs.set(loop, compile(repeat.body, loop));
+                start = loop;
+            } else {
+                start = next;
+                for (int i = repeat.min; i < repeat.max; i++) {
+                    start = add(SPLIT, compile(repeat.body, start), next, null);
+                }
+            }
+            for (int i = 0; i < repeat.min; i++) {
+                start = compile(repeat.body, start);
+            }
+            return start;
+        }
+    }
+}
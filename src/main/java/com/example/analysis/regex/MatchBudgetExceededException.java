@@ -0,0 +1,24 @@
+package com.example.analysis.regex;
+
+/**
+ * Backtracking eşleşmesi adım veya süre bütçesini aştığında fırlatılır
+ *
+ * Girdi ne eşleşti ne eşleşmedi sayılır; çağıran reddetmeli (ör. 400 dönmeli).
+ */
+public final class MatchBudgetExceededException extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+
+    private final long steps;
+
+    MatchBudgetExceededException(String pattern, long steps, boolean timedOut) {
+        super((timedOut ? "Match timed out" : "Match step budget exceeded") + " after " + steps
+            + " steps for pattern " + pattern, null, false, false);
+        this.steps = steps;
+    }
+
+    /** Kesilene kadar yapılan karakter okuma sayısı */
+    public long steps() {
+        return steps;
+    }
+}
@@ -0,0 +1,96 @@
+package com.example.analysis.regex;
+
+import com.example.analysis.cache.CacheStats;
+import com.example.analysis.memo.Memoizer;
+
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Derlenmiş regex'lerin paylaşılan, sınırlı boyutlu kaydı
+ *
+ * - (regex, flags) başına bir kez derlenir; eşzamanlı ilk istekler tek derlemeyi bekler
+ * - En fazla maxEntries pattern tutulur (SLRU) - dinamik pattern'ler belleği şişiremez
+ * - Lineer motora çevrilebilen pattern'ler backtracking yapmaz; diğerleri
+ *   varsayılan adım/süre bütçesiyle çalışır
+ */
+public final class PatternRegistry {
+
+    public static final long DEFAULT_MAX_STEPS = 1_000_000;
+    public static final long DEFAULT_TIMEOUT_MILLIS = 100;
+
+    private final Memoizer<Key, CompiledRegex> compiled;
+
+    // İlk shared() çağrısında oluşur
+    private static final class SharedHolder {
+        static final PatternRegistry INSTANCE = new PatternRegistry(256);
+    }
+
+    /** Uygulama genelinde tek kayıt - aynı pattern her sınıfta ayrı derlenmez */
+    public static PatternRegistry shared() {
+        return SharedHolder.INSTANCE;
+    }
+
+    public PatternRegistry(int maxEntries) {
+        this(maxEntries, true, DEFAULT_MAX_STEPS, DEFAULT_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * @param linear   false ise her zaman java.util.regex (bütçeli) kullanılır
+     * @param maxSteps backtracking eşleşmesi başına karakter okuma sınırı
+     * @param timeout  backtracking eşleşmesi başına süre sınırı, 0: yok
+     */
+    public PatternRegistry(int maxEntries, boolean linear, long maxSteps, long timeout, TimeUnit unit) {
+        long timeoutNanos = unit.toNanos(timeout);
+        this.compiled = new Memoizer<>(key -> new CompiledRegex(key.regex, key.flags, linear, maxSteps, timeoutNanos),
+            maxEntries);
+    }
+
+    public CompiledRegex get(String regex) {
+        return get(regex, 0);
+    }
+
+    /**
+     * @throws java.util.regex.PatternSyntaxException regex geçersizse
+     */
+    public CompiledRegex get(String regex, int flags) {
+        return compiled.get(new Key(regex, flags));
+    }
+
+    /** Kısayol: get(regex).matches(input) */
+    public boolean matches(String regex, CharSequence input) {
+        return get(regex).matches(input);
+    }
+
+    public int size() {
+        return compiled.size();
+    }
+
+    public CacheStats stats() {
+        return compiled.stats();
+    }
+
+    private static final class Key {
+        final String regex;
+        final int flags;
+
+        Key(String regex, int flags) {
+            this.regex = Objects.requireNonNull(regex, "regex");
+            this.flags = flags;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof Key)) {
+                return false;
+            }
+            Key other = (Key) o;
+            return flags == other.flags && regex.equals(other.regex);
+        }
+
+        @Override
+        public int hashCode() {
+            return regex.hashCode() * 31 + flags;
+        }
+    }
+}
@@ -0,0 +1,348 @@
+package com.example.analysis.regex;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Pattern;
+
+/**
+ * Regex'in lineer motora çevrilebilen alt kümesini AST'ye ayrıştırır
+ *
+ * Desteklenen: literal, ., [...] (aralık, negasyon, \d \w \s), \d \D \w \W \s \S,
+ * kaçışlar, (...) ve (?:...), |, * + ? {n} {n,} {n,m} (lazy '?' sonucu değiştirmez),
+ * baştaki ^ ve sondaki $. Flag'ler: CASE_INSENSITIVE (ASCII), DOTALL.
+ *
+ * Geri referans, lookaround, possessive, \b, \p{..}, iç içe sınıf vb. için
+ * Unsupported fırlatılır - bu pattern'ler java.util.regex'te kalır.
+ */
+final class RegexParser {
+
+    static final class Unsupported extends Exception {
+        private static final long serialVersionUID = 1L;
+
+        Unsupported(String message) {
+            super(message, null, false, false);
+        }
+    }
+
+    abstract static class Node {
+    }
+
+    static final class CharNode extends Node {
+        final CharSet set;
+
+        CharNode(CharSet set) {
+            this.set = set;
+        }
+    }
+
+    static final class Concat extends Node {
+        final List<Node> items;
+
+        Concat(List<Node> items) {
+            this.items = items;
+        }
+    }
+
+    static final class Alt extends Node {
+        final List<Node> options;
+
+        Alt(List<Node> options) {
+            this.options = options;
+        }
+    }
+
+    static final class Repeat extends Node {
+        final Node body;
+        final int min;
+        /** -1: sınırsız */
+        final int max;
+
+        Repeat(Node body, int min, int max) {
+            this.body = body;
+            this.min = min;
+            this.max = max;
+        }
+    }
+
+    // Açılımda NFA'nın şişmemesi için {n,m} üst sınırı
+    private static final int MAX_REPEAT = 1000;
+
+    private final String regex;
+    private final boolean caseInsensitive;
+    private final boolean dotAll;
+    private int pos;
+    private int end;
+
+    private RegexParser(String regex, int flags) throws Unsupported {
+        int supported = Pattern.CASE_INSENSITIVE | Pattern.DOTALL;
+        if ((flags & ~supported) != 0) {
+            throw new Unsupported("flags " + flags);
+        }
+        this.regex = regex;
+        this.caseInsensitive = (flags & Pattern.CASE_INSENSITIVE) != 0;
+        this.dotAll = (flags & Pattern.DOTALL) != 0;
+    }
+
+    static Node parse(String regex, int flags) throws Unsupported {
+        RegexParser parser = new RegexParser(regex, flags);
+        parser.pos = 0;
+        parser.end = regex.length();
+        // matches() zaten tam eşleşme - baştaki ^ ve sondaki $ anlamsız
+        if (parser.end > 0 && regex.charAt(0) == '^') {
+            parser.pos = 1;
+        }
+        if (parser.end > parser.pos && regex.charAt(parser.end - 1) == '$' && !parser.isEscaped(parser.end - 1)) {
+            parser.end--;
+        }
+        Node node = parser.alternation();
+        if (parser.pos != parser.end) {
+            throw new Unsupported("unexpected '" + regex.charAt(parser.pos) + "' at " + parser.pos);
+        }
+        return node;
+    }
+
+    private boolean isEscaped(int index) {
+        int backslashes = 0;
+        for (int i = index - 1; i >= 0 && regex.charAt(i) == '\\'; i--) {
+            backslashes++;
+        }
+        return (backslashes & 1) == 1;
+    }
+
+    private boolean more() {
+        return pos < end;
+    }
+
+    private char peek() {
+        return regex.charAt(pos);
+    }
+
+    private Node alternation() throws Unsupported {
+        List<Node> options = new ArrayList<>();
+        options.add(concatenation());
+        while (more() && peek() == '|') {
+            pos++;
+            options.add(concatenation());
+        }
+        return options.size() == 1 ? options.get(0) : new Alt(options);
+    }
+
+    private Node concatenation() throws Unsupported {
+        List<Node> items = new ArrayList<>();
+        while (more() && peek() != '|' && peek() != ')') {
+            items.add(repetition());
+        }
+        return items.size() == 1 ? items.get(0) : new Concat(items);
+    }
+
+    private Node repetition() throws Unsupported {
+        Node atom = atom();
+        while (more()) {
+            char c = peek();
+            int min;
+            int max;
+            if (c == '*') {
+                min = 0;
+                max = -1;
+                pos++;
+            } else if (c == '+') {
+                min = 1;
+                max = -1;
+                pos++;
+            } else if (c == '?') {
+                min = 0;
+                max = 1;
+                pos++;
+            } else if (c == '{') {
+                pos++;
+                min = number();
+                max = min;
+                if (more() && peek() == ',') {
+                    pos++;
+                    max = more() && peek() == '}' ? -1 : number();
+                }
+                expect('}');
+                if (max != -1 && max < min) {
+                    throw new Unsupported("bad repetition");
+                }
+                if (min > MAX_REPEAT || max > MAX_REPEAT) {
+                    throw new Unsupported("repetition too large");
+                }
+            } else {
+                break;
+            }
+            if (more() && peek() == '?') {
+                // Lazy: tam eşleşmede sonuç aynı
+                pos++;
+            } else if (more() && peek() == '+') {
+                throw new Unsupported("possessive quantifier");
+            }
+            atom = new Repeat(atom, min, max);
+        }
+        return atom;
+    }
+
+    private int number() throws Unsupported {
+        int start = pos;
+        int value = 0;
+        while (more() && Character.isDigit(peek())) {
+            value = value * 10 + (peek() - '0');
+            if (value > MAX_REPEAT) {
+                throw new Unsupported("repetition too large");
+            }
+            pos++;
+        }
+        if (pos == start) {
+            throw new Unsupported("expected number at " + pos);
+        }
+        return value;
+    }
+
+    private void expect(char c) throws Unsupported {
+        if (!more() || peek() != c) {
+            throw new Unsupported("expected '" + c + "' at " + pos);
+        }
+        pos++;
+    }
+
+    private Node atom() throws Unsupported {
+        char c = peek();
+        switch (c) {
+            case '(': {
+                pos++;
+                if (more() && peek() == '?') {
+                    if (pos + 1 < end && regex.charAt(pos + 1) == ':') {
+                        pos += 2;
+                    } else {
+                        throw new Unsupported("group construct (?" );
+                    }
+                }
+                Node inner = alternation();
+                expect(')');
+                return inner;
+            }
+            case '[':
+                pos++;
+                return new CharNode(charClass());
+            case '.':
+                pos++;
+                return new CharNode(dotAll ? CharSet.ANY : CharSet.DOT);
+            case '\\':
+                pos++;
+                return new CharNode(escape(false));
+            case '^':
+            case '$':
+                throw new Unsupported("inner anchor");
+            case '*':
+            case '+':
+            case '?':
+            case '{':
+                throw new Unsupported("dangling quantifier");
+            default:
+                int cp = regex.codePointAt(pos);
+                pos += Character.charCount(cp);
+                return new CharNode(CharSet.single(cp, caseInsensitive));
+        }
+    }
+
+    private CharSet escape(boolean inClass) throws Unsupported {
+        if (!more()) {
+            throw new Unsupported("trailing backslash");
+        }
+        char c = peek();
+        pos++;
+        switch (c) {
+            case 'd': return CharSet.DIGIT;
+            case 'D': if (inClass) break; return CharSet.DIGIT.negate();
+            case 'w': return CharSet.WORD;
+            case 'W': if (inClass) break; return CharSet.WORD.negate();
+            case 's': return CharSet.SPACE;
+            case 'S': if (inClass) break; return CharSet.SPACE.negate();
+            case 't': return CharSet.single('\t', false);
+            case 'n': return CharSet.single('\n', false);
+            case 'r': return CharSet.single('\r', false);
+            case 'f': return CharSet.single('\f', false);
+            case 'e': return CharSet.single(0x1B, false);
+            case 'x': return CharSet.single(hex(2), caseInsensitive);
+            case 'u': return CharSet.single(hex(4), caseInsensitive);
+            default:
+                if (!Character.isLetterOrDigit(c)) {
+                    return CharSet.single(c, caseInsensitive);
+                }
+        }
+        throw new Unsupported("escape \\" + c);
+    }
+
+    private int hex(int digits) throws Unsupported {
+        if (pos + digits > end) {
+            throw new Unsupported("short hex escape");
+        }
+        int value = 0;
+        for (int i = 0; i < digits; i++) {
+            int d = Character.digit(regex.charAt(pos++), 16);
+            if (d < 0) {
+                throw new Unsupported("bad hex escape");
+            }
+            value = value * 16 + d;
+        }
+        return value;
+    }
+
+    private CharSet charClass() throws Unsupported {
+        boolean negated = false;
+        if (more() && peek() == '^') {
+            negated = true;
+            pos++;
+        }
+        if (more() && peek() == ']') {
+            throw new Unsupported("empty or ']'-leading class");
+        }
+        CharSet set = new CharSet(new int[0], false, caseInsensitive);
+        while (more() && peek() != ']') {
+            char c = peek();
+            if (c == '[' || (c == '&' && pos + 1 < end && regex.charAt(pos + 1) == '&')) {
+                throw new Unsupported("nested class or intersection");
+            }
+            int lo;
+            if (c == '\\') {
+                pos++;
+                CharSet escaped = escape(true);
+                if (escaped == CharSet.DIGIT || escaped == CharSet.WORD || escaped == CharSet.SPACE) {
+                    set = CharSet.union(set, escaped);
+                    continue;
+                }
+                lo = singleCodePoint(escaped);
+            } else {
+                lo = regex.codePointAt(pos);
+                pos += Character.charCount(lo);
+            }
+            int hi = lo;
+            if (pos + 1 < end && peek() == '-' && regex.charAt(pos + 1) != ']') {
+                pos++;
+                if (peek() == '\\') {
+                    pos++;
+                    hi = singleCodePoint(escape(true));
+                } else if (peek() == '[') {
+                    throw new Unsupported("nested class");
+                } else {
+                    hi = regex.codePointAt(pos);
+                    pos += Character.charCount(hi);
+                }
+                if (hi < lo) {
+                    throw new Unsupported("bad range");
+                }
+            }
+            set = CharSet.union(set, new CharSet(new int[]{lo, hi}, false, caseInsensitive));
+        }
+        expect(']');
+        return negated ? set.negate() : set;
+    }
+
+    private static int singleCodePoint(CharSet escaped) throws Unsupported {
+        int cp = escaped.singleCodePoint();
+        if (cp < 0) {
+            throw new Unsupported("class escape in range");
+        }
+        return cp;
+    }
+}
@@ -0,0 +1,98 @@
+package com.example.analysis.select;
+
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.RandomAccess;
+
+/**
+ * Sıralamadan lineer min/max - "sort edip get(0)" yerine O(n), listeyi değiştirmez
+ *
+ * Eşit elemanlar arasında ilk karşılaşılan döner (sort + get(0) ile aynı).
+ * minMax elemanları ikişer işler: 2n yerine ~3n/2 karşılaştırma.
+ */
+public final class Extremes {
+
+    private Extremes() {
+    }
+
+    public static <T extends Comparable<? super T>> T min(List<? extends T> values) {
+        return min(values, Comparator.naturalOrder());
+    }
+
+    public static <T extends Comparable<? super T>> T max(List<? extends T> values) {
+        return max(values, Comparator.naturalOrder());
+    }
+
+    /**
+     * @throws NoSuchElementException liste boşsa
+     */
+    public static <T> T min(List<? extends T> values, Comparator<? super T> comparator) {
+        Objects.requireNonNull(comparator, "comparator");
+        if (values.isEmpty()) {
+            throw new NoSuchElementException("empty list");
+        }
+        if (!(values instanceof RandomAccess)) {
+            Iterator<? extends T> it = values.iterator();
+            T best = it.next();
+            while (it.hasNext()) {
+                T value = it.next();
+                if (comparator.compare(value, best) < 0) {
+                    best = value;
+                }
+            }
+            return best;
+        }
+        T best = values.get(0);
+        for (int i = 1, n = values.size(); i < n; i++) {
+            T value = values.get(i);
+            if (comparator.compare(value, best) < 0) {
+                best = value;
+            }
+        }
+        return best;
+    }
+
+    /**
+     * @throws NoSuchElementException liste boşsa
+     */
+    public static <T> T max(List<? extends T> values, Comparator<? super T> comparator) {
+        return min(values, Objects.requireNonNull(comparator, "comparator").reversed());
+    }
+
+    public static <T extends Comparable<? super T>> MinMax<T> minMax(List<? extends T> values) {
+        return minMax(values, Comparator.naturalOrder());
+    }
+
+    /**
+     * @throws NoSuchElementException liste boşsa
+     */
+    public static <T> MinMax<T> minMax(List<? extends T> values, Comparator<? super T> comparator) {
+        Objects.requireNonNull(comparator, "comparator");
+        if (values.isEmpty()) {
+            throw new NoSuchElementException("empty list");
+        }
+        Iterator<? extends T> it = values.iterator();
+        T first = it.next();
+        T min = first;
+        T max = first;
+        while (it.hasNext()) {
+            T a = it.next();
+            if (!it.hasNext()) {
+                if (comparator.compare(a, min) < 0) min = a;
+                if (comparator.compare(a, max) > 0) max = a;
+                break;
+            }
+            T b = it.next();
+            // Önce çift kendi içinde karşılaştırılır: küçük min'e, büyük max'a aday
+            int c = comparator.compare(b, a);
+            T low = c < 0 ? b : a;
+            T high = c > 0 ? b : a;
+            if (comparator.compare(low, min) < 0) min = low;
+            if (comparator.compare(high, max) > 0) max = high;
+        }
+        return new MinMax<>(min, max);
+    }
+}
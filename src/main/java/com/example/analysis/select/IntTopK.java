@@ -0,0 +1,157 @@
+package com.example.analysis.select;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.stream.IntStream;
+
+/**
+ * int için boxing'siz top-k seçimi - k boyutlu int[] max-heap
+ *
+ * En büyük k için değerler ~v ile ters çevrilip aynı "en küçük k" heap'ine
+ * konur; ~v taşmaz (Integer.MIN_VALUE dahil), karşılaştırmalar tek yönlü kalır.
+ * Heap dolduktan sonra kökü geçemeyen elemanlar tek karşılaştırma ile elenir.
+ *
+ * Thread-safe değildir; paralel kullanımda parçalar merge ile birleştirilir.
+ */
+public final class IntTopK {
+
+    // Bu boyutun altındaki dizilerde paralel seçim yapılmaz
+    private static final int PARALLEL_THRESHOLD = 1 << 16;
+
+    private final int k;
+    private final boolean largest;
+    private final int[] heap;
+    private int size;
+
+    public IntTopK(int k, boolean largest) {
+        if (k < 0) {
+            throw new IllegalArgumentException("k must not be negative: " + k);
+        }
+        this.k = k;
+        this.largest = largest;
+        this.heap = new int[k];
+    }
+
+    /** En küçük k eleman, artan sırada */
+    public static int[] smallest(int[] values, int k) {
+        return select(values, 0, values.length, k, false);
+    }
+
+    /** En büyük k eleman, azalan sırada */
+    public static int[] largest(int[] values, int k) {
+        return select(values, 0, values.length, k, true);
+    }
+
+    /**
+     * Büyük aralıklar paralel parçalara bölünür, her parçanın heap'i merge edilir
+     */
+    public static int[] select(int[] values, int from, int to, int k, boolean largest) {
+        Objects.checkFromToIndex(from, to, values.length);
+        if (to - from < PARALLEL_THRESHOLD) {
+            IntTopK topK = new IntTopK(k, largest);
+            topK.addAll(values, from, to);
+            return topK.toSortedArray();
+        }
+        return select(Arrays.stream(values, from, to).parallel(), k, largest);
+    }
+
+    /** Sıralı veya paralel IntStream'den seçim */
+    public static int[] select(IntStream stream, int k, boolean largest) {
+        if (k < 0) {
+            throw new IllegalArgumentException("k must not be negative: " + k);
+        }
+        return stream.collect(() -> new IntTopK(k, largest), IntTopK::add, IntTopK::merge)
+            .toSortedArray();
+    }
+
+    public void add(int value) {
+        int key = largest ? ~value : value;
+        if (size < k) {
+            heap[size] = key;
+            siftUp(size++);
+        } else if (k > 0 && key < heap[0]) {
+            heap[0] = key;
+            siftDown();
+        }
+    }
+
+    public void addAll(int[] values, int from, int to) {
+        Objects.checkFromToIndex(from, to, values.length);
+        int i = from;
+        while (i < to && size < k) {
+            add(values[i++]);
+        }
+        if (k == 0) {
+            return;
+        }
+        // Sıcak döngü: kök yerel değişkende, çoğu eleman tek karşılaştırma
+        int root = heap[0];
+        for (; i < to; i++) {
+            int key = largest ? ~values[i] : values[i];
+            if (key < root) {
+                heap[0] = key;
+                siftDown();
+                root = heap[0];
+            }
+        }
+    }
+
+    public IntTopK merge(IntTopK other) {
+        if (other.largest != largest) {
+            throw new IllegalArgumentException("Cannot merge smallest and largest selections");
+        }
+        for (int i = 0; i < other.size; i++) {
+            int key = other.heap[i];
+            if (size < k) {
+                heap[size] = key;
+                siftUp(size++);
+            } else if (k > 0 && key < heap[0]) {
+                heap[0] = key;
+                siftDown();
+            }
+        }
+        return this;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /** smallest: artan, largest: azalan sırada; heap değişmez */
+    public int[] toSortedArray() {
+        int[] result = Arrays.copyOf(heap, size);
+        Arrays.sort(result);
+        if (largest) {
+            for (int i = 0; i < result.length; i++) {
+                result[i] = ~result[i];
+            }
+        }
+        return result;
+    }
+
+    // Max-heap: kök, tutulan k anahtar içindeki en büyük
+    private void siftUp(int index) {
+        int value = heap[index];
+        while (index > 0) {
+            int parent = (index - 1) >>> 1;
+            if (heap[parent] >= value) break;
+            heap[index] = heap[parent];
+            index = parent;
+        }
+        heap[index] = value;
+    }
+
+    private void siftDown() {
+        int value = heap[0];
+        int index = 0;
+        int half = size >>> 1;
+        while (index < half) {
+            int child = 2 * index + 1;
+            if (child + 1 < size && heap[child + 1] > heap[child]) child++;
+            if (value >= heap[child]) break;
+            heap[index] = heap[child];
+            index = child;
+        }
+        heap[index] = value;
+    }
+}
@@ -0,0 +1,28 @@
+package com.example.analysis.select;
+
+/**
+ * Tek geçişte bulunan en küçük ve en büyük eleman
+ */
+public final class MinMax<T> {
+
+    private final T min;
+    private final T max;
+
+    MinMax(T min, T max) {
+        this.min = min;
+        this.max = max;
+    }
+
+    public T min() {
+        return min;
+    }
+
+    public T max() {
+        return max;
+    }
+
+    @Override
+    public String toString() {
+        return "MinMax{min=" + min + ", max=" + max + "}";
+    }
+}
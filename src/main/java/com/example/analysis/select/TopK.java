@@ -0,0 +1,181 @@
+package com.example.analysis.select;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Collector;
+
+/**
+ * k boyutlu max-heap ile "en küçük k" seçimi - sorted().limit(k) yerine
+ *
+ * - O(n log k) zaman, O(k) bellek; heap dolduktan sonra kökten büyük elemanlar
+ *   tek karşılaştırma ile elenir (çoğu eleman için O(1))
+ * - Kararlı: eşit elemanlar arasında önce gelen kazanır ve sonuçta önce yer alır,
+ *   sorted().limit(k) ile aynı sonucu verir
+ * - merge ile birleştirilebilir; collector paralel stream'lerde de aynı sonucu verir
+ *
+ * Thread-safe değildir; paralel kullanımda her parça kendi örneğini doldurur.
+ */
+public final class TopK<T> {
+
+    private final int k;
+    private final Comparator<? super T> comparator;
+    private final Object[] heap;
+    // Eşitlikte karşılaşma sırası - kararlılık için
+    private final long[] order;
+    private int size;
+    private long offered;
+
+    public TopK(int k, Comparator<? super T> comparator) {
+        if (k < 0) {
+            throw new IllegalArgumentException("k must not be negative: " + k);
+        }
+        this.k = k;
+        this.comparator = Objects.requireNonNull(comparator, "comparator");
+        this.heap = new Object[k];
+        this.order = new long[k];
+    }
+
+    /** Doğal sıraya göre en küçük k eleman, artan sırada */
+    public static <T extends Comparable<? super T>> Collector<T, ?, List<T>> smallest(int k) {
+        return smallest(k, Comparator.naturalOrder());
+    }
+
+    /** Doğal sıraya göre en büyük k eleman, azalan sırada */
+    public static <T extends Comparable<? super T>> Collector<T, ?, List<T>> largest(int k) {
+        return smallest(k, Comparator.<T>reverseOrder());
+    }
+
+    public static <T> Collector<T, ?, List<T>> smallest(int k, Comparator<? super T> comparator) {
+        Objects.requireNonNull(comparator, "comparator");
+        if (k < 0) {
+            throw new IllegalArgumentException("k must not be negative: " + k);
+        }
+        return Collector.of(
+            () -> new TopK<T>(k, comparator),
+            TopK::add,
+            TopK::merge,
+            TopK::toList);
+    }
+
+    public static <T> Collector<T, ?, List<T>> largest(int k, Comparator<? super T> comparator) {
+        return smallest(k, comparator.reversed());
+    }
+
+    public void add(T value) {
+        long seq = offered++;
+        if (size < k) {
+            heap[size] = value;
+            order[size] = seq;
+            siftUp(heap, order, size++);
+        } else if (k > 0 && comparator.compare(value, root()) < 0) {
+            // Eşit eleman kökü geçemez: önce gelen korunur
+            heap[0] = value;
+            order[0] = seq;
+            siftDown(heap, order, size);
+        }
+    }
+
+    /**
+     * other'daki elemanları ekler; other'ın tüm elemanları bu örnektekilerden
+     * sonra gelmiş sayılır (paralel stream'in sol/sağ parça sırası)
+     */
+    public TopK<T> merge(TopK<T> other) {
+        long base = offered;
+        for (int i = 0; i < other.size; i++) {
+            Object value = other.heap[i];
+            long seq = base + other.order[i];
+            if (size < k) {
+                heap[size] = value;
+                order[size] = seq;
+                siftUp(heap, order, size++);
+            } else if (k > 0 && precedes(value, seq, heap[0], order[0])) {
+                heap[0] = value;
+                order[0] = seq;
+                siftDown(heap, order, size);
+            }
+        }
+        offered = base + other.offered;
+        return this;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /** Seçilen elemanlar, artan sırada; heap değişmez */
+    public List<T> toList() {
+        if (size == 0) {
+            return Collections.emptyList();
+        }
+        // Kopya üzerinde heapsort: kök (en sondaki) her adımda dizinin sonuna gider
+        Object[] values = Arrays.copyOf(heap, size);
+        long[] seqs = Arrays.copyOf(order, size);
+        for (int end = size - 1; end > 0; end--) {
+            Object value = values[end];
+            long seq = seqs[end];
+            values[end] = values[0];
+            seqs[end] = seqs[0];
+            values[0] = value;
+            seqs[0] = seq;
+            siftDown(values, seqs, end);
+        }
+        List<T> result = new ArrayList<>(size);
+        for (Object value : values) {
+            @SuppressWarnings("unchecked")
+            T element = (T) value;
+            result.add(element);
+        }
+        return result;
+    }
+
+    @SuppressWarnings("unchecked")
+    private T root() {
+        return (T) heap[0];
+    }
+
+    // (değer, sıra) çiftine göre a, b'den önce mi
+    @SuppressWarnings("unchecked")
+    private boolean precedes(Object a, long seqA, Object b, long seqB) {
+        int c = comparator.compare((T) a, (T) b);
+        return c < 0 || (c == 0 && seqA < seqB);
+    }
+
+    // Max-heap: kök, tutulan k eleman içinde en son sırada olan
+    private void siftUp(Object[] values, long[] seqs, int index) {
+        Object value = values[index];
+        long seq = seqs[index];
+        while (index > 0) {
+            int parent = (index - 1) >>> 1;
+            if (!precedes(values[parent], seqs[parent], value, seq)) break;
+            values[index] = values[parent];
+            seqs[index] = seqs[parent];
+            index = parent;
+        }
+        values[index] = value;
+        seqs[index] = seq;
+    }
+
+    private void siftDown(Object[] values, long[] seqs, int heapSize) {
+        Object value = values[0];
+        long seq = seqs[0];
+        int index = 0;
+        int half = heapSize >>> 1;
+        while (index < half) {
+            int child = 2 * index + 1;
+            int right = child + 1;
+            if (right < heapSize && precedes(values[child], seqs[child], values[right], seqs[right])) {
+                child = right;
+            }
+            if (!precedes(value, seq, values[child], seqs[child])) break;
+            values[index] = values[child];
+            seqs[index] = seqs[child];
+            index = child;
+        }
+        values[index] = value;
+        seqs[index] = seq;
+    }
+}
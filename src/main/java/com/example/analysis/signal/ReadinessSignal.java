@@ -0,0 +1,234 @@
+package com.example.analysis.signal;
+
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Tek seferlik hazır olma sinyali - busy-wait döngüsü yerine
+ *
+ * - {@link #await()}, {@link #await(long, TimeUnit)}: kısa bir spin
+ *   (Thread.onSpinWait) ardından park; boşta bekleyen thread CPU yakmaz
+ * - {@link #whenReady()}: thread bağlamadan CompletableFuture ile bekleme
+ * - Tek {@link #signal()} tüm bekleyenleri uyandırır; sonradan gelenler beklemez
+ * - {@link #reset()} ile tekrar kullanılabilir
+ *
+ * Bekleyenler lock'suz bir yığında tutulur; zaman aşımına uğrayan, interrupt edilen
+ * ve dışarıdan tamamlanan (ör. cancel) whenReady bekleyenleri yığının neresinde
+ * olursa olsun ayrılır, timed await döngüleri yığını büyütmez. whenReady callback'leri
+ * sinyali veren thread'de çalışır; ağır işler için thenRunAsync kullanılmalı.
+ */
+public final class ReadinessSignal {
+
+    // Tek çekirdekte spin sadece sinyali verecek thread'in CPU'sunu çalar
+    private static final int DEFAULT_SPINS = Runtime.getRuntime().availableProcessors() > 1 ? 256 : 0;
+    private static final Object READY = new Object();
+
+    // null: bekleyen yok, READY: sinyallendi, Waiter: bekleyen yığını
+    private final AtomicReference<Object> state = new AtomicReference<>();
+    private final int spins;
+
+    public ReadinessSignal() {
+        this(DEFAULT_SPINS);
+    }
+
+    /** @param spins park etmeden önce onSpinWait deneme sayısı; 0 ise doğrudan park */
+    public ReadinessSignal(int spins) {
+        if (spins < 0) {
+            throw new IllegalArgumentException("spins must not be negative: " + spins);
+        }
+        this.spins = spins;
+    }
+
+    public boolean isReady() {
+        return state.get() == READY;
+    }
+
+    /** Tüm bekleyenleri uyandırır; zaten sinyallendiyse false */
+    public boolean signal() {
+        Object previous = state.getAndSet(READY);
+        if (previous == READY) {
+            return false;
+        }
+        for (Waiter waiter = (Waiter) previous; waiter != null; waiter = waiter.next) {
+            waiter.wake();
+        }
+        return true;
+    }
+
+    /** Sinyali temizler; sonraki await'ler yeni bir signal() bekler */
+    public boolean reset() {
+        return state.compareAndSet(READY, null);
+    }
+
+    public void await() throws InterruptedException {
+        if (spinUntilReady()) {
+            return;
+        }
+        Waiter waiter = new Waiter(Thread.currentThread());
+        if (!push(waiter)) {
+            return;
+        }
+        while (!waiter.woken) {
+            LockSupport.park(this);
+            if (Thread.interrupted()) {
+                interrupted(waiter);
+                return;
+            }
+        }
+    }
+
+    /** @return süre dolmadan sinyallendiyse true */
+    public boolean await(long timeout, TimeUnit unit) throws InterruptedException {
+        if (spinUntilReady()) {
+            return true;
+        }
+        long deadline = System.nanoTime() + unit.toNanos(timeout);
+        Waiter waiter = new Waiter(Thread.currentThread());
+        if (!push(waiter)) {
+            return true;
+        }
+        while (!waiter.woken) {
+            long remaining = deadline - System.nanoTime();
+            if (remaining <= 0) {
+                cancel(waiter);
+                return waiter.woken;
+            }
+            LockSupport.parkNanos(this, remaining);
+            if (Thread.interrupted()) {
+                interrupted(waiter);
+                return true;
+            }
+        }
+        return true;
+    }
+
+    /** Sinyalde tamamlanan future; sinyallenmişse tamamlanmış döner */
+    public CompletableFuture<Void> whenReady() {
+        if (isReady()) {
+            return CompletableFuture.completedFuture(null);
+        }
+        CompletableFuture<Void> future = new CompletableFuture<>();
+        Waiter waiter = new Waiter(future);
+        if (!push(waiter)) {
+            future.complete(null);
+        } else {
+            // Sinyalden önce cancel/complete edilirse yığında kalmasın
+            future.whenComplete((result, error) -> {
+                if (!waiter.woken) {
+                    unlinkCancelled();
+                }
+            });
+        }
+        return future;
+    }
+
+    // Sinyal interrupt ile yarıştıysa sinyal kazanır, interrupt durumu korunur
+    private void interrupted(Waiter waiter) throws InterruptedException {
+        cancel(waiter);
+        if (!waiter.woken) {
+            throw new InterruptedException();
+        }
+        Thread.currentThread().interrupt();
+    }
+
+    private boolean spinUntilReady() {
+        for (int i = 0; i < spins; i++) {
+            if (state.get() == READY) {
+                return true;
+            }
+            Thread.onSpinWait();
+        }
+        return state.get() == READY;
+    }
+
+    // Sinyallendiyse false - bekleyen yığına girmeden döner
+    private boolean push(Waiter waiter) {
+        Object head = state.get();
+        while (true) {
+            if (head == READY) {
+                return false;
+            }
+            // Baştaki iptal edilmiş (zaman aşımı/interrupt) bekleyenler yığından düşürülür
+            Waiter next = (Waiter) head;
+            while (next != null && next.isCancelled()) {
+                next = next.next;
+            }
+            waiter.next = next;
+            Object witness = state.compareAndExchange(head, waiter);
+            if (witness == head) {
+                return true;
+            }
+            head = witness;
+        }
+    }
+
+    private void cancel(Waiter waiter) {
+        waiter.cancelled = true;
+        unlinkCancelled();
+    }
+
+    /*
+     * İptal edilmiş bekleyenleri yığının her yerinden ayırır (CompletableFuture.cleanStack gibi)
+     *
+     * Yeni düğümler sadece başa eklenir ve iptal geri alınmaz; pred.next = s.next yazan
+     * eşzamanlı temizleyiciler en kötü ihtimalle iptal edilmiş bir düğümü geri bağlar,
+     * canlı bir bekleyen asla yığından düşmez.
+     */
+    private void unlinkCancelled() {
+        Object head = state.get();
+        if (!(head instanceof Waiter)) {
+            return;
+        }
+        Waiter first = (Waiter) head;
+        while (first != null && first.isCancelled()) {
+            first = first.next;
+        }
+        if (first != head) {
+            // Başarısızsa araya push/signal girmiştir; push baştakileri zaten atlar
+            state.compareAndSet(head, first);
+        }
+        Waiter pred = first;
+        while (pred != null) {
+            Waiter next = pred.next;
+            if (next != null && next.isCancelled()) {
+                pred.next = next.next;
+            } else {
+                pred = next;
+            }
+        }
+    }
+
+    private static final class Waiter {
+        private final Thread thread;
+        private final CompletableFuture<Void> future;
+        volatile Waiter next;
+        volatile boolean woken;
+        volatile boolean cancelled;
+
+        Waiter(Thread thread) {
+            this.thread = thread;
+            this.future = null;
+        }
+
+        Waiter(CompletableFuture<Void> future) {
+            this.thread = null;
+            this.future = Objects.requireNonNull(future, "future");
+        }
+
+        void wake() {
+            woken = true;
+            if (thread != null) {
+                LockSupport.unpark(thread);
+            } else {
+                future.complete(null);
+            }
+        }
+
+        boolean isCancelled() {
+            return cancelled || (future != null && future.isDone() && !woken);
+        }
+    }
+}
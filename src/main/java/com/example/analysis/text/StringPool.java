@@ -0,0 +1,188 @@
+package com.example.analysis.text;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Objects;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Uygulama seviyesinde, sınırlı string pool'u - String.intern() yerine
+ *
+ * - JVM'in intern tablosuna dokunmaz; pool ile birlikte tüm string'ler GC'ye gider
+ * - Sabit kapasiteli, 4 yollu set-associative tablo: set dolunca rastgele bir
+ *   yol üzerine yazılır, bellek kapasite ile sınırlı kalır
+ * - Lock yok: yarışan yazmalarda en kötü ihtimalle bir tekrar kaçırılır,
+ *   dönen string'in içeriği her zaman doğrudur
+ * - CharSequence aralığı veya Latin-1 byte[] aralığından String üretmeden
+ *   arama yapılır; yeni String sadece miss'te oluşur. Compact strings sayesinde
+ *   Latin-1 içerik pool'da karakter başına 1 byte tutar.
+ *
+ * Hash String.hashCode() ile aynı polinomdur; String girdide cache'lenmiş hash kullanılır.
+ */
+public final class StringPool {
+
+    private static final int WAYS = 4;
+
+    private final AtomicReferenceArray<String> table;
+    private final int setMask;
+    private final int maxLength;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder bypassed = new LongAdder();
+
+    /**
+     * @param capacity  en fazla tutulan string sayısı, 2'nin kuvvetine yuvarlanır
+     * @param maxLength bundan uzun string'ler pool'a alınmaz (tekrar olasılığı düşük)
+     */
+    public StringPool(int capacity, int maxLength) {
+        if (capacity < WAYS || capacity > (1 << 30)) {
+            throw new IllegalArgumentException("capacity must be in [" + WAYS + ", 2^30]: " + capacity);
+        }
+        if (maxLength < 0) {
+            throw new IllegalArgumentException("maxLength must not be negative: " + maxLength);
+        }
+        int sets = Integer.highestOneBit(capacity - 1) * 2 / WAYS;
+        this.table = new AtomicReferenceArray<>(sets * WAYS);
+        this.setMask = sets - 1;
+        this.maxLength = maxLength;
+    }
+
+    /** İçeriği aynı kanonik instance; yoksa value pool'a alınıp döner */
+    public String intern(String value) {
+        Objects.requireNonNull(value, "value");
+        if (value.length() > maxLength) {
+            bypassed.increment();
+            return value;
+        }
+        int hash = value.hashCode();
+        int base = setIndex(hash);
+        for (int way = 0; way < WAYS; way++) {
+            String candidate = table.get(base + way);
+            if (candidate != null && candidate.hashCode() == hash && candidate.equals(value)) {
+                hits.increment();
+                return candidate;
+            }
+        }
+        return insert(base, value);
+    }
+
+    /** text[start, end) aralığı; hit'te substring oluşturulmaz */
+    public String intern(CharSequence text, int start, int end) {
+        Objects.checkFromToIndex(start, end, text.length());
+        int length = end - start;
+        if (length > maxLength) {
+            bypassed.increment();
+            return text.subSequence(start, end).toString();
+        }
+        int hash = 0;
+        for (int i = start; i < end; i++) {
+            hash = 31 * hash + text.charAt(i);
+        }
+        int base = setIndex(hash);
+        for (int way = 0; way < WAYS; way++) {
+            String candidate = table.get(base + way);
+            if (candidate != null && candidate.length() == length && candidate.hashCode() == hash
+                    && regionEquals(candidate, text, start)) {
+                hits.increment();
+                return candidate;
+            }
+        }
+        return insert(base, text.subSequence(start, end).toString());
+    }
+
+    /** Latin-1 (ISO-8859-1) byte aralığı; hit'te decode edilmez */
+    public String intern(byte[] latin1, int offset, int length) {
+        Objects.checkFromIndexSize(offset, length, latin1.length);
+        if (length > maxLength) {
+            bypassed.increment();
+            return new String(latin1, offset, length, StandardCharsets.ISO_8859_1);
+        }
+        int end = offset + length;
+        int hash = 0;
+        for (int i = offset; i < end; i++) {
+            hash = 31 * hash + (latin1[i] & 0xFF);
+        }
+        int base = setIndex(hash);
+        for (int way = 0; way < WAYS; way++) {
+            String candidate = table.get(base + way);
+            if (candidate != null && candidate.length() == length && candidate.hashCode() == hash
+                    && latin1Equals(candidate, latin1, offset)) {
+                hits.increment();
+                return candidate;
+            }
+        }
+        return insert(base, new String(latin1, offset, length, StandardCharsets.ISO_8859_1));
+    }
+
+    public void clear() {
+        for (int i = 0; i < table.length(); i++) {
+            table.set(i, null);
+        }
+    }
+
+    public int capacity() {
+        return table.length();
+    }
+
+    public int maxLength() {
+        return maxLength;
+    }
+
+    /** size tabloyu tarar - sıcak yolda çağrılmamalı */
+    public StringPoolStats stats() {
+        int size = 0;
+        for (int i = 0; i < table.length(); i++) {
+            if (table.get(i) != null) {
+                size++;
+            }
+        }
+        return new StringPoolStats(hits.sum(), misses.sum(), evictions.sum(), bypassed.sum(),
+            size, table.length());
+    }
+
+    private String insert(int base, String value) {
+        misses.increment();
+        for (int way = 0; way < WAYS; way++) {
+            if (table.get(base + way) == null && table.compareAndSet(base + way, null, value)) {
+                return value;
+            }
+        }
+        // Set dolu: rastgele yol - sık kullanılanlar tekrar istendiğinde geri gelir
+        String evicted = table.getAndSet(base + ThreadLocalRandom.current().nextInt(WAYS), value);
+        if (evicted != null) {
+            evictions.increment();
+        }
+        return value;
+    }
+
+    private int setIndex(int hash) {
+        // String.hashCode'un alt bitleri zayıf; karıştırılıp set seçilir
+        int h = hash * 0x9E3779B9;
+        h ^= h >>> 16;
+        return (h & setMask) * WAYS;
+    }
+
+    private static boolean regionEquals(String candidate, CharSequence text, int start) {
+        if (text instanceof String) {
+            return candidate.regionMatches(0, (String) text, start, candidate.length());
+        }
+        for (int i = 0, n = candidate.length(); i < n; i++) {
+            if (candidate.charAt(i) != text.charAt(start + i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean latin1Equals(String candidate, byte[] latin1, int offset) {
+        for (int i = 0, n = candidate.length(); i < n; i++) {
+            if (candidate.charAt(i) != (latin1[offset + i] & 0xFF)) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,62 @@
+package com.example.analysis.text;
+
+/**
+ * StringPool istatistiklerinin anlık görüntüsü
+ */
+public final class StringPoolStats {
+
+    private final long hits;
+    private final long misses;
+    private final long evictions;
+    private final long bypassed;
+    private final int size;
+    private final int capacity;
+
+    StringPoolStats(long hits, long misses, long evictions, long bypassed, int size, int capacity) {
+        this.hits = hits;
+        this.misses = misses;
+        this.evictions = evictions;
+        this.bypassed = bypassed;
+        this.size = size;
+        this.capacity = capacity;
+    }
+
+    /** Var olan kanonik instance ile karşılanan istekler */
+    public long hits() {
+        return hits;
+    }
+
+    public long misses() {
+        return misses;
+    }
+
+    /** Dolu bir slot'a yazılırken çıkarılan string'ler */
+    public long evictions() {
+        return evictions;
+    }
+
+    /** maxLength'ten uzun olduğu için pool'a girmeyen string'ler */
+    public long bypassed() {
+        return bypassed;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public int capacity() {
+        return capacity;
+    }
+
+    public double hitRatio() {
+        long total = hits + misses;
+        return total == 0 ? 0.0 : (double) hits / total;
+    }
+
+    @Override
+    public String toString() {
+        return "StringPoolStats{hits=" + hits + ", misses=" + misses + ", evictions=" + evictions
+            + ", bypassed=" + bypassed + ", size=" + size + "/" + capacity
+            + ", hitRatio=" + String.format("%.3f", hitRatio()) + "}";
+    }
+}
@@ -0,0 +1,305 @@
+package com.example.analysis.text;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * UTF-8 byte[] üzerinde metin birleştirme - StringBuilder ve döngüde + yerine
+ *
+ * - Sayılar Integer.toString ara String'i olmadan doğrudan buffer'a yazılır
+ * - Bellek modu: kapasite baştan tahmin edilir ({@link #rangeLength}); tahmin
+ *   tutarsa hiç büyüme/kopyalama yok, {@link #toString()} tek kopya yapar
+ * - Kanal modu: sabit boyutlu buffer dolunca WritableByteChannel'a yazılır;
+ *   çıktı ne kadar büyük olursa olsun bellek chunk boyutu kadardır
+ * - {@link #reset()} buffer'ı koruyarak tekrar kullanım sağlar
+ *
+ * Kanal hataları UncheckedIOException olarak fırlatılır. Thread-safe değildir.
+ */
+public final class TextAssembler {
+
+    private static final int MAX_CAPACITY = Integer.MAX_VALUE - 8;
+    private static final int MIN_CHUNK = 64;
+    // En uzun tekil yazım: long (20 byte) veya 4 byte'lık UTF-8 karakter
+    private static final int MAX_SCALAR = 20;
+
+    private static final byte[] DIGIT_TENS = new byte[100];
+    private static final byte[] DIGIT_ONES = new byte[100];
+
+    static {
+        for (int i = 0; i < 100; i++) {
+            DIGIT_TENS[i] = (byte) ('0' + i / 10);
+            DIGIT_ONES[i] = (byte) ('0' + i % 10);
+        }
+    }
+
+    private final WritableByteChannel channel;
+    private final ByteBuffer view;
+    private byte[] buffer;
+    private int length;
+    private long flushed;
+    // Çok byte'lı karakter yazılmadıysa toString kontrolsüz Latin-1 kopyasıdır
+    private boolean ascii = true;
+
+    /** Bellek modu; capacity byte cinsinden, gerekirse 1.5x büyür */
+    public TextAssembler(int capacity) {
+        if (capacity < 0 || capacity > MAX_CAPACITY) {
+            throw new IllegalArgumentException("capacity out of range: " + capacity);
+        }
+        this.channel = null;
+        this.view = null;
+        this.buffer = new byte[Math.max(capacity, MAX_SCALAR)];
+    }
+
+    /** Kanal modu; chunkSize byte dolunca kanala yazılır. Kanal kapatılmaz. */
+    public TextAssembler(WritableByteChannel channel, int chunkSize) {
+        if (chunkSize < MIN_CHUNK) {
+            throw new IllegalArgumentException("chunkSize must be at least " + MIN_CHUNK + ": " + chunkSize);
+        }
+        this.channel = Objects.requireNonNull(channel, "channel");
+        this.buffer = new byte[chunkSize];
+        this.view = ByteBuffer.wrap(buffer);
+    }
+
+    /** value'nun ondalık gösterimindeki karakter sayısı ('-' dahil) */
+    public static int decimalLength(long value) {
+        if (value < 0) {
+            return value == Long.MIN_VALUE ? 20 : 1 + decimalLength(-value);
+        }
+        int digits = 1;
+        for (long bound = 10; digits < 19 && value >= bound; bound *= 10) {
+            digits++;
+        }
+        return digits;
+    }
+
+    /** 0..count-1 sayılarının her biri ardından separatorLength byte ile toplam uzunluk */
+    public static long rangeLength(int count, int separatorLength) {
+        long total = (long) count * separatorLength;
+        long low = 0;
+        long high = 10;
+        for (int digits = 1; low < count; digits++) {
+            total += (Math.min(high, count) - low) * digits;
+            low = high;
+            high *= 10;
+        }
+        return total;
+    }
+
+    public TextAssembler append(int value) {
+        if (value == Integer.MIN_VALUE) {
+            return appendWide(value);
+        }
+        // Tam uzunluk kadar yer istenir; tam boyutlu buffer son sayıda büyümez
+        int size = decimalLength(value);
+        ensure(size);
+        int end = length + size;
+        if (value < 0) {
+            buffer[length] = '-';
+            value = -value;
+        }
+        writeDigits(value, end);
+        length = end;
+        return this;
+    }
+
+    public TextAssembler append(long value) {
+        return value == (int) value ? append((int) value) : appendWide(value);
+    }
+
+    public TextAssembler append(char c) {
+        if (c < 0x80) {
+            ensure(1);
+            buffer[length++] = (byte) c;
+        } else if (Character.isSurrogate(c)) {
+            // Tek başına surrogate UTF-8'de temsil edilemez
+            ensure(1);
+            buffer[length++] = '?';
+        } else {
+            ensure(3);
+            writeMultiByte(c);
+        }
+        return this;
+    }
+
+    public TextAssembler append(String text) {
+        int n = text.length();
+        if (n <= buffer.length - length) {
+            // Sık durum: yer var ve metin ASCII - tek döngü, karakter başına kontrol yok
+            int base = length;
+            for (int i = 0; i < n; i++) {
+                char c = text.charAt(i);
+                if (c >= 0x80) {
+                    length = base + i;
+                    return appendSlow(text, i);
+                }
+                buffer[base + i] = (byte) c;
+            }
+            length = base + n;
+            return this;
+        }
+        return appendSlow(text, 0);
+    }
+
+    public TextAssembler append(CharSequence text) {
+        return appendSlow(text, 0);
+    }
+
+    private TextAssembler appendSlow(CharSequence text, int from) {
+        int n = text.length();
+        int i = from;
+        // ASCII ön eki tek yer kontrolüyle; kanal modunda chunk'a sığan kadarı
+        while (i < n) {
+            int room = buffer.length - length;
+            if (room == 0) {
+                ensure(Math.min(n - i, buffer.length));
+                room = buffer.length - length;
+            }
+            int stop = i + Math.min(room, n - i);
+            int start = i;
+            while (i < stop) {
+                char c = text.charAt(i);
+                if (c >= 0x80) {
+                    break;
+                }
+                buffer[length + i - start] = (byte) c;
+                i++;
+            }
+            length += i - start;
+            if (i < stop) {
+                i = appendNonAscii(text, i, n);
+            }
+        }
+        return this;
+    }
+
+    /** Şimdiye kadar yazılan toplam byte (kanala gönderilenler dahil) */
+    public long length() {
+        return flushed + length;
+    }
+
+    /** Kanal modunda buffer'daki byte'ları kanala yazar */
+    public void flush() {
+        if (channel == null || length == 0) {
+            return;
+        }
+        view.clear().limit(length);
+        try {
+            while (view.hasRemaining()) {
+                channel.write(view);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        flushed += length;
+        length = 0;
+    }
+
+    /** Buffer'ı koruyarak başa döner; kanal modunda yazılmamış byte'lar atılır */
+    public void reset() {
+        length = 0;
+        flushed = 0;
+        ascii = true;
+    }
+
+    /** Sadece bellek modunda */
+    @Override
+    public String toString() {
+        if (channel != null) {
+            throw new IllegalStateException("channel mode output is not kept in memory");
+        }
+        return new String(buffer, 0, length, ascii ? StandardCharsets.ISO_8859_1 : StandardCharsets.UTF_8);
+    }
+
+    private TextAssembler appendWide(long value) {
+        int size = decimalLength(value);
+        ensure(size);
+        int end = length + size;
+        int pos = end;
+        boolean negative = value < 0;
+        // Negatif aralık pozitiften bir geniş; basamaklar negatif değer üzerinden çıkarılır
+        long v = negative ? value : -value;
+        while (v <= -Integer.MAX_VALUE) {
+            long q = v / 100;
+            int r = (int) (q * 100 - v);
+            v = q;
+            buffer[--pos] = DIGIT_ONES[r];
+            buffer[--pos] = DIGIT_TENS[r];
+        }
+        writeDigits((int) -v, pos);
+        if (negative) {
+            buffer[length] = '-';
+        }
+        length = end;
+        return this;
+    }
+
+    // text[i] ASCII değil; bir karakter (veya surrogate çifti) yazar, sonraki index'i döner
+    private int appendNonAscii(CharSequence text, int i, int n) {
+        ensure(4);
+        char c = text.charAt(i);
+        if (Character.isHighSurrogate(c) && i + 1 < n && Character.isLowSurrogate(text.charAt(i + 1))) {
+            writeMultiByte(Character.toCodePoint(c, text.charAt(i + 1)));
+            return i + 2;
+        }
+        if (Character.isSurrogate(c)) {
+            buffer[length++] = '?';
+        } else {
+            writeMultiByte(c);
+        }
+        return i + 1;
+    }
+
+    // value >= 0, basamaklar end'den geriye yazılır
+    private void writeDigits(int value, int end) {
+        int pos = end;
+        while (value >= 100) {
+            int q = value / 100;
+            int r = value - q * 100;
+            value = q;
+            buffer[--pos] = DIGIT_ONES[r];
+            buffer[--pos] = DIGIT_TENS[r];
+        }
+        if (value >= 10) {
+            buffer[--pos] = DIGIT_ONES[value];
+            buffer[--pos] = DIGIT_TENS[value];
+        } else {
+            buffer[--pos] = (byte) ('0' + value);
+        }
+    }
+
+    private void writeMultiByte(int codePoint) {
+        ascii = false;
+        if (codePoint < 0x800) {
+            buffer[length++] = (byte) (0xC0 | (codePoint >> 6));
+        } else if (codePoint < 0x10000) {
+            buffer[length++] = (byte) (0xE0 | (codePoint >> 12));
+            buffer[length++] = (byte) (0x80 | ((codePoint >> 6) & 0x3F));
+        } else {
+            buffer[length++] = (byte) (0xF0 | (codePoint >> 18));
+            buffer[length++] = (byte) (0x80 | ((codePoint >> 12) & 0x3F));
+            buffer[length++] = (byte) (0x80 | ((codePoint >> 6) & 0x3F));
+        }
+        buffer[length++] = (byte) (0x80 | (codePoint & 0x3F));
+    }
+
+    private void ensure(int bytes) {
+        if (length + bytes <= buffer.length) {
+            return;
+        }
+        if (channel != null) {
+            flush();
+            return;
+        }
+        long needed = (long) length + bytes;
+        if (needed > MAX_CAPACITY) {
+            throw new IllegalStateException("text exceeds " + MAX_CAPACITY + " bytes; use the channel mode");
+        }
+        long grown = Math.max(needed, buffer.length + ((long) buffer.length >> 1));
+        buffer = Arrays.copyOf(buffer, (int) Math.min(grown, MAX_CAPACITY));
+    }
+}
@@ -0,0 +1,100 @@
+package com.example.analysis.text;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Kopyasız, tek karakter ayraçlı tokenizer - String.split yerine
+ *
+ * Regex, ara String[] ve token başına substring yok: {@link #next()} sadece
+ * sınırları ilerletir, {@link #start()}/{@link #end()} aralığı verir.
+ * String'e ihtiyaç varsa {@link #token(StringPool, int)} aralığı pool'dan çözer;
+ * tekrar eden token'lar için yeni nesne oluşmaz.
+ *
+ * Ardışık ayraçlar arasındaki boş token'lar atlanır.
+ */
+public final class Tokenizer {
+
+    private final CharSequence text;
+    private final String string;
+    private final char delimiter;
+    private int start;
+    private int end;
+    private int position;
+
+    public Tokenizer(CharSequence text, char delimiter) {
+        this.text = Objects.requireNonNull(text, "text");
+        // String'de indexOf intrinsic'i kullanılır
+        this.string = text instanceof String ? (String) text : null;
+        this.delimiter = delimiter;
+    }
+
+    /** text'teki token'lar, en fazla maxLength karakterlik önekleri pool'dan */
+    public static List<String> tokenize(CharSequence text, char delimiter, StringPool pool, int maxLength) {
+        // Sayım geçişi allocation yapmaz; liste büyürken kopyalanmaz, boş kapasite tutmaz
+        Tokenizer counter = new Tokenizer(text, delimiter);
+        int count = 0;
+        while (counter.next()) {
+            count++;
+        }
+        List<String> tokens = new ArrayList<>(count);
+        Tokenizer tokenizer = new Tokenizer(text, delimiter);
+        while (tokenizer.next()) {
+            tokens.add(tokenizer.token(pool, maxLength));
+        }
+        return tokens;
+    }
+
+    /** Sonraki boş olmayan token'a ilerler */
+    public boolean next() {
+        int length = text.length();
+        while (position < length) {
+            int from = position;
+            int to = indexOfDelimiter(from, length);
+            position = to + 1;
+            if (to > from) {
+                start = from;
+                end = to;
+                return true;
+            }
+        }
+        start = end = length;
+        return false;
+    }
+
+    public int start() {
+        return start;
+    }
+
+    public int end() {
+        return end;
+    }
+
+    public int length() {
+        return end - start;
+    }
+
+    /** Geçerli token, pool'dan */
+    public String token(StringPool pool) {
+        return pool.intern(text, start, end);
+    }
+
+    /** Geçerli token'ın en fazla maxLength karakterlik öneki, pool'dan */
+    public String token(StringPool pool, int maxLength) {
+        return pool.intern(text, start, start + Math.min(end - start, maxLength));
+    }
+
+    private int indexOfDelimiter(int from, int length) {
+        if (string != null) {
+            int index = string.indexOf(delimiter, from);
+            return index < 0 ? length : index;
+        }
+        for (int i = from; i < length; i++) {
+            if (text.charAt(i) == delimiter) {
+                return i;
+            }
+        }
+        return length;
+    }
+}
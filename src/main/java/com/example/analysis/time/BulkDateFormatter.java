@@ -0,0 +1,275 @@
+package com.example.analysis.time;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.time.zone.ZoneOffsetTransition;
+import java.time.zone.ZoneRules;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Çok sayıda zaman damgası için thread-safe tarih formatlayıcı
+ *
+ * - Tarih kısmı paylaşılan DateTimeFormatter ile gün başına bir kez formatlanır ve
+ *   cache'lenir; aynı günün 86.400 saniyesi bu öneki tekrar kullanır
+ * - Saat kısmı (HH:mm:ss[.SSS]) doğrudan char[]'a rakam rakam yazılır
+ * - formatTo(): StringBuilder veya char[] hedefe String üretmeden yazar
+ * - formatAllParallel(): büyük dizileri ForkJoin ile parçalara böler
+ *
+ * Gün cache'i direct-mapped ve kilitsizdir; entry'ler değiştirilemez, yarışta en kötü
+ * ihtimalle aynı gün iki kez formatlanır. Yaz saati geçişi olan günlerde entry sadece
+ * geçişe kadar (veya geçişten sonra) geçerlidir.
+ */
+public final class BulkDateFormatter {
+
+    public enum TimeLayout {
+        NONE(0),
+        /** " HH:mm:ss" */
+        SECONDS(9),
+        /** " HH:mm:ss.SSS" */
+        MILLIS(13);
+
+        final int length;
+
+        TimeLayout(int length) {
+            this.length = length;
+        }
+    }
+
+    private static final int CACHE_SIZE = 1024;
+    private static final int PARALLEL_THRESHOLD = 64 * 1024;
+    private static final char[] DIGITS = "0123456789".toCharArray();
+
+    private final DateTimeFormatter dateFormatter;
+    private final TimeLayout timeLayout;
+    private final ZoneRules rules;
+    // Gün tahmini için sabit offset; gerçek yerel gün tahmin ±1 içindedir
+    private final int guessOffsetSeconds;
+    private final DayEntry[] cache = new DayEntry[CACHE_SIZE];
+
+    public BulkDateFormatter(DateTimeFormatter dateFormatter, TimeLayout timeLayout, ZoneId zone) {
+        this.dateFormatter = dateFormatter.withZone(null);
+        this.timeLayout = timeLayout;
+        this.rules = zone.getRules();
+        this.guessOffsetSeconds = rules.getOffset(Instant.now()).getTotalSeconds();
+    }
+
+    /** Sadece tarih: yyyy-MM-dd, sistem saat dilimi */
+    public static BulkDateFormatter isoDate() {
+        return new BulkDateFormatter(DateTimeFormatter.ISO_LOCAL_DATE, TimeLayout.NONE, ZoneId.systemDefault());
+    }
+
+    public String format(long epochMilli) {
+        DayEntry day = day(Math.floorDiv(epochMilli, 1000));
+        char[] buffer = new char[day.prefix.length + timeLayout.length];
+        return new String(buffer, 0, write(epochMilli, day, buffer, 0));
+    }
+
+    public String format(Date date) {
+        return format(date.getTime());
+    }
+
+    public void formatTo(long epochMilli, StringBuilder sink) {
+        DayEntry day = day(Math.floorDiv(epochMilli, 1000));
+        sink.append(day.prefix);
+        if (timeLayout != TimeLayout.NONE) {
+            char[] time = new char[timeLayout.length];
+            writeTime(epochMilli, day, time, 0);
+            sink.append(time);
+        }
+    }
+
+    /**
+     * @return yazılan son karakterden sonraki index
+     * @throws ArrayIndexOutOfBoundsException hedefte yer yoksa
+     */
+    public int formatTo(long epochMilli, char[] target, int offset) {
+        return write(epochMilli, day(Math.floorDiv(epochMilli, 1000)), target, offset);
+    }
+
+    /**
+     * [from, to) aralığını separator ile ayırarak sink'e yazar - eleman başına String yok
+     */
+    public void formatAll(long[] epochMillis, int from, int to, char separator, StringBuilder sink) {
+        char[] scratch = new char[64];
+        for (int i = from; i < to; i++) {
+            if (i > from) {
+                sink.append(separator);
+            }
+            DayEntry day = day(Math.floorDiv(epochMillis[i], 1000));
+            scratch = fit(scratch, day);
+            sink.append(scratch, 0, write(epochMillis[i], day, scratch, 0));
+        }
+    }
+
+    public String[] formatAll(long[] epochMillis) {
+        String[] result = new String[epochMillis.length];
+        formatRange(epochMillis, result, 0, epochMillis.length);
+        return result;
+    }
+
+    public String[] formatAll(List<Date> dates) {
+        return formatAll(toEpochMillis(dates));
+    }
+
+    /** Büyük diziler common pool'da parçalara bölünür; küçükler sıralı formatlanır */
+    public String[] formatAllParallel(long[] epochMillis) {
+        String[] result = new String[epochMillis.length];
+        if (epochMillis.length < PARALLEL_THRESHOLD) {
+            formatRange(epochMillis, result, 0, epochMillis.length);
+        } else {
+            ForkJoinPool.commonPool().invoke(new FormatTask(epochMillis, result, 0, epochMillis.length));
+        }
+        return result;
+    }
+
+    public String[] formatAllParallel(List<Date> dates) {
+        return formatAllParallel(toEpochMillis(dates));
+    }
+
+    private static long[] toEpochMillis(List<Date> dates) {
+        long[] millis = new long[dates.size()];
+        int i = 0;
+        for (Date date : dates) {
+            millis[i++] = date.getTime();
+        }
+        return millis;
+    }
+
+    private void formatRange(long[] epochMillis, String[] result, int from, int to) {
+        // Parça başına tek tampon
+        char[] scratch = new char[64];
+        for (int i = from; i < to; i++) {
+            DayEntry day = day(Math.floorDiv(epochMillis[i], 1000));
+            scratch = fit(scratch, day);
+            result[i] = new String(scratch, 0, write(epochMillis[i], day, scratch, 0));
+        }
+    }
+
+    // ForkJoin görevi olarak Serializable; hiç serialize edilmez
+    @SuppressWarnings("serial")
+    private final class FormatTask extends RecursiveAction {
+        private final long[] epochMillis;
+        private final String[] result;
+        private final int from;
+        private final int to;
+
+        FormatTask(long[] epochMillis, String[] result, int from, int to) {
+            this.epochMillis = epochMillis;
+            this.result = result;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= PARALLEL_THRESHOLD) {
+                formatRange(epochMillis, result, from, to);
+                return;
+            }
+            int mid = (from + to) >>> 1;
+            invokeAll(new FormatTask(epochMillis, result, from, mid),
+                      new FormatTask(epochMillis, result, mid, to));
+        }
+    }
+
+    private char[] fit(char[] scratch, DayEntry day) {
+        int needed = day.prefix.length + timeLayout.length;
+        return needed <= scratch.length ? scratch : new char[needed * 2];
+    }
+
+    private int write(long epochMilli, DayEntry day, char[] target, int offset) {
+        char[] prefix = day.prefix;
+        System.arraycopy(prefix, 0, target, offset, prefix.length);
+        return writeTime(epochMilli, day, target, offset + prefix.length);
+    }
+
+    private int writeTime(long epochMilli, DayEntry day, char[] target, int offset) {
+        if (timeLayout == TimeLayout.NONE) {
+            return offset;
+        }
+        long epochSecond = Math.floorDiv(epochMilli, 1000);
+        int secondOfDay = (int) (epochSecond + day.offsetSeconds - day.localEpochDay * 86_400L);
+        int hour = secondOfDay / 3600;
+        int minute = (secondOfDay / 60) % 60;
+        int second = secondOfDay % 60;
+        target[offset] = ' ';
+        writeTwoDigits(hour, target, offset + 1);
+        target[offset + 3] = ':';
+        writeTwoDigits(minute, target, offset + 4);
+        target[offset + 6] = ':';
+        writeTwoDigits(second, target, offset + 7);
+        if (timeLayout == TimeLayout.MILLIS) {
+            int millis = (int) Math.floorMod(epochMilli, 1000L);
+            target[offset + 9] = '.';
+            target[offset + 10] = DIGITS[millis / 100];
+            target[offset + 11] = DIGITS[(millis / 10) % 10];
+            target[offset + 12] = DIGITS[millis % 10];
+        }
+        return offset + timeLayout.length;
+    }
+
+    private static void writeTwoDigits(int value, char[] target, int offset) {
+        target[offset] = DIGITS[value / 10];
+        target[offset + 1] = DIGITS[value % 10];
+    }
+
+    /** epochSecond'u içeren yerel gün entry'si; tahmin edilen gün ve komşuları yoklanır */
+    private DayEntry day(long epochSecond) {
+        long guess = Math.floorDiv(epochSecond + guessOffsetSeconds, 86_400L);
+        for (long d = guess - 1; d <= guess + 1; d++) {
+            DayEntry entry = cache[(int) (d & (CACHE_SIZE - 1))];
+            if (entry != null && entry.covers(epochSecond)) {
+                return entry;
+            }
+        }
+        DayEntry entry = load(epochSecond);
+        cache[(int) (entry.localEpochDay & (CACHE_SIZE - 1))] = entry;
+        return entry;
+    }
+
+    private DayEntry load(long epochSecond) {
+        Instant instant = Instant.ofEpochSecond(epochSecond);
+        ZoneOffset offset = rules.getOffset(instant);
+        long localEpochDay = Math.floorDiv(epochSecond + offset.getTotalSeconds(), 86_400L);
+        long start = localEpochDay * 86_400L - offset.getTotalSeconds();
+        long end = start + 86_400L;
+        // Gün içinde offset değişiyorsa entry sadece geçişler arasını kapsar
+        ZoneOffsetTransition previous = rules.previousTransition(instant.plusSeconds(1));
+        if (previous != null && previous.toEpochSecond() > start) {
+            start = previous.toEpochSecond();
+        }
+        ZoneOffsetTransition next = rules.nextTransition(instant);
+        if (next != null && next.toEpochSecond() < end) {
+            end = next.toEpochSecond();
+        }
+        char[] prefix = dateFormatter.format(LocalDate.ofEpochDay(localEpochDay)).toCharArray();
+        return new DayEntry(localEpochDay, start, end, offset.getTotalSeconds(), prefix);
+    }
+
+    private static final class DayEntry {
+        final long localEpochDay;
+        // [startSecond, endSecond) aralığında yerel gün ve offset sabit
+        final long startSecond;
+        final long endSecond;
+        final int offsetSeconds;
+        final char[] prefix;
+
+        DayEntry(long localEpochDay, long startSecond, long endSecond, int offsetSeconds, char[] prefix) {
+            this.localEpochDay = localEpochDay;
+            this.startSecond = startSecond;
+            this.endSecond = endSecond;
+            this.offsetSeconds = offsetSeconds;
+            this.prefix = prefix;
+        }
+
+        boolean covers(long epochSecond) {
+            return epochSecond >= startSecond && epochSecond < endSecond;
+        }
+    }
+}
@@ -0,0 +1,237 @@
+package com.example.analysis.copy;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class CompactSerializerTest {
+
+    enum Color { RED, GREEN }
+
+    record Point(int x, int y, String label) {
+    }
+
+    static final class Node {
+        String name;
+        int weight;
+        Node next;
+        List<Object> children = new ArrayList<>();
+        Map<String, Object> attributes;
+        Color color;
+
+        Node() {
+        }
+
+        Node(String name) {
+            this.name = name;
+        }
+    }
+
+    static final class NoDefaultConstructor {
+        final int value;
+
+        NoDefaultConstructor(int value) {
+            this.value = value;
+        }
+    }
+
+    private final CompactSerializer serializer =
+        new CompactSerializer(Node.class, Point.class, Color.class);
+
+    @Test
+    public void scalarsAndArrays() {
+        for (Object value : new Object[]{null, "", "çğ😀", true, false, 0, -1, Integer.MIN_VALUE, Long.MAX_VALUE,
+            Long.MIN_VALUE, 1.5, Double.NaN, -0.0f, (short) -7, (byte) 200, 'x', Color.GREEN}) {
+            assertEquals(value, roundTrip(value));
+        }
+        assertArrayEquals(new int[]{1, -2, Integer.MAX_VALUE}, (int[]) roundTrip(new int[]{1, -2, Integer.MAX_VALUE}));
+        assertArrayEquals(new byte[]{1, -1}, (byte[]) roundTrip(new byte[]{1, -1}));
+        assertArrayEquals(new long[]{Long.MIN_VALUE}, (long[]) roundTrip(new long[]{Long.MIN_VALUE}));
+        assertArrayEquals(new double[]{0.1, -0.0}, (double[]) roundTrip(new double[]{0.1, -0.0}), 0.0);
+        assertArrayEquals(new char[]{'a', '\uD83D'}, (char[]) roundTrip(new char[]{'a', '\uD83D'}));
+        assertTrue(Arrays.equals(new boolean[]{true, false}, (boolean[]) roundTrip(new boolean[]{true, false})));
+        assertArrayEquals(new Object[]{1, "a", null}, (Object[]) roundTrip(new Object[]{1, "a", null}));
+    }
+
+    @Test
+    public void mutableCollectionsKeepTheirTypes() {
+        List<Object> list = new ArrayList<>(List.of(1, "a"));
+        list.add(null);
+        LinkedList<Object> linked = new LinkedList<>(List.of(2L, 3.0));
+        Set<Object> set = new HashSet<>(Set.of("x", "y"));
+        Set<Object> ordered = new LinkedHashSet<>(List.of("c", "a", "b"));
+        Map<Object, Object> map = new HashMap<>(Map.of("k", 1));
+        map.put(null, "null key");
+        Map<Object, Object> orderedMap = new LinkedHashMap<>();
+        orderedMap.put("z", 1);
+        orderedMap.put("a", 2);
+        for (Object value : new Object[]{list, linked, set, ordered, map, orderedMap}) {
+            Object copy = roundTrip(value);
+            assertEquals(value, copy);
+            assertSame(value.getClass(), copy.getClass());
+        }
+        assertEquals(List.of("c", "a", "b"), new ArrayList<>((Set<?>) roundTrip(ordered)));
+        assertEquals(List.of("z", "a"), new ArrayList<>(((Map<?, ?>) roundTrip(orderedMap)).keySet()));
+    }
+
+    @Test
+    public void immutableCollectionsStayImmutable() {
+        Map<String, Integer> large = new HashMap<>();
+        for (int i = 0; i < 20; i++) {
+            large.put("k" + i, i);
+        }
+        for (Object value : new Object[]{List.of(), List.of(1, 2, 3), Set.of(), Set.of("a", "b"), Map.of(),
+            Map.of("a", 1), Map.copyOf(large), List.of(List.of(1), Map.of("x", Set.of(2)))}) {
+            Object copy = roundTrip(value);
+            assertEquals(value, copy);
+            assertImmutable(copy);
+        }
+    }
+
+    @Test
+    public void cyclesAreRestored() {
+        Node a = new Node("a");
+        Node b = new Node("b");
+        a.next = b;
+        b.next = a;
+        a.children.add(a);
+        a.children.add(b);
+
+        Node copy = (Node) roundTrip(a);
+        assertNotSame(a, copy);
+        assertEquals("a", copy.name);
+        assertEquals("b", copy.next.name);
+        assertSame(copy, copy.next.next);
+        assertSame(copy, copy.children.get(0));
+        assertSame(copy.next, copy.children.get(1));
+
+        Node self = new Node("self");
+        self.next = self;
+        Node selfCopy = (Node) roundTrip(self);
+        assertSame(selfCopy, selfCopy.next);
+    }
+
+    @Test
+    public void sharedReferencesStayShared() {
+        Node shared = new Node("shared");
+        Point point = new Point(1, 2, "p");
+        int[] numbers = {1, 2, 3};
+        List<Object> immutable = List.of(shared, point);
+        List<Object> root = new ArrayList<>(Arrays.asList(shared, shared, point, point, numbers, numbers,
+            immutable, immutable));
+
+        List<?> copy = (List<?>) roundTrip(root);
+        assertSame(copy.get(0), copy.get(1));
+        assertSame(copy.get(2), copy.get(3));
+        assertEquals(point, copy.get(2));
+        assertSame(copy.get(4), copy.get(5));
+        assertSame(copy.get(6), copy.get(7));
+        List<?> immutableCopy = (List<?>) copy.get(6);
+        assertSame(copy.get(0), immutableCopy.get(0));
+        assertSame(copy.get(2), immutableCopy.get(1));
+        assertImmutable(immutableCopy);
+    }
+
+    @Test
+    public void objectFieldsAndRecords() {
+        Node node = new Node("n");
+        node.weight = -42;
+        node.color = Color.RED;
+        node.attributes = Map.of("point", new Point(3, 4, null), "tags", List.of("x"));
+        node.children = null;
+
+        Node copy = (Node) roundTrip(node);
+        assertEquals("n", copy.name);
+        assertEquals(-42, copy.weight);
+        assertSame(Color.RED, copy.color);
+        assertNull(copy.children);
+        assertNull(copy.next);
+        assertEquals(new Point(3, 4, null), copy.attributes.get("point"));
+        assertEquals(List.of("x"), copy.attributes.get("tags"));
+        assertImmutable(copy.attributes);
+    }
+
+    @Test
+    public void rejectsUnknownInputAndTypes() {
+        try {
+            serializer.serialize(new StringBuilder("x"));
+            fail("unsupported type");
+        } catch (IllegalArgumentException expected) {
+            // Kayıtsız sınıf
+        }
+        try {
+            new CompactSerializer(NoDefaultConstructor.class);
+            fail("class without a no-arg constructor");
+        } catch (IllegalArgumentException expected) {
+            // Plan kayıt anında üretilir
+        }
+        try {
+            new CompactSerializer(Node.class, Node.class);
+            fail("duplicate registration");
+        } catch (IllegalArgumentException expected) {
+            // Aynı sınıf iki kez
+        }
+        byte[] bytes = serializer.serialize("x");
+        byte[] trailing = Arrays.copyOf(bytes, bytes.length + 1);
+        try {
+            serializer.deserialize(trailing);
+            fail("trailing bytes");
+        } catch (IllegalArgumentException expected) {
+            // Fazla byte
+        }
+        // Farklı kayıt sırasındaki okuyucu başka sınıf id'lerine sahip
+        byte[] point = serializer.serialize(new Point(1, 1, "p"));
+        try {
+            new CompactSerializer(Color.class).deserialize(point);
+            fail("unknown type id");
+        } catch (IllegalArgumentException expected) {
+            // Kayıt sırası farklı
+        }
+    }
+
+    @Test
+    public void pooledBuffersDoNotLeakBetweenCalls() {
+        byte[] large = serializer.serialize(new int[100_000]);
+        byte[] small = serializer.serialize("x");
+        assertEquals("x", serializer.deserialize(small));
+        assertArrayEquals(new int[100_000], (int[]) serializer.deserialize(large));
+        assertEquals("x", serializer.deserialize(small, 0, small.length));
+    }
+
+    private Object roundTrip(Object value) {
+        return serializer.deserialize(serializer.serialize(value));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static void assertImmutable(Object value) {
+        try {
+            if (value instanceof List) {
+                ((List<Object>) value).add(1);
+            } else if (value instanceof Set) {
+                ((Set<Object>) value).add(1);
+            } else {
+                ((Map<Object, Object>) value).put("new", 1);
+            }
+            fail(value + " should be immutable");
+        } catch (UnsupportedOperationException expected) {
+            // List.of/Set.of/Map.of olarak geri geldi
+        }
+    }
+}
@@ -0,0 +1,222 @@
+package com.example.analysis.json;
+
+import org.junit.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class JsonReaderTest {
+
+    @Test
+    public void tokenizesNestedDocument() {
+        JsonReader reader = reader("{\"a\": [1, -2.5e3, true, false, null], \"b\": {\"c\": \"x\"}}");
+        List<String> tokens = new ArrayList<>();
+        JsonToken token;
+        while ((token = reader.next()) != JsonToken.END_DOCUMENT) {
+            tokens.add(token == JsonToken.START_OBJECT || token == JsonToken.START_ARRAY
+                || token == JsonToken.END_OBJECT || token == JsonToken.END_ARRAY
+                ? token.name() : token + ":" + reader.stringValue());
+        }
+        assertEquals(List.of("START_OBJECT", "FIELD_NAME:a", "START_ARRAY", "NUMBER:1", "NUMBER:-2.5e3",
+            "TRUE:true", "FALSE:false", "NULL:null", "END_ARRAY", "FIELD_NAME:b", "START_OBJECT",
+            "FIELD_NAME:c", "STRING:x", "END_OBJECT", "END_OBJECT"), tokens);
+    }
+
+    @Test
+    public void decodesEscapes() {
+        assertEquals("\"\\/\b\f\n\r\t", string("\"\\\"\\\\\\/\\b\\f\\n\\r\\t\""));
+        assertEquals("A\u00e9\u4e2d", string("\"\\u0041\\u00E9\\u4e2d\""));
+        // Surrogate çifti iki \\u escape'i olarak
+        assertEquals("a\uD83D\uDE00b", string("\"a\\ud83d\\ude00b\""));
+        assertEquals("çğ😀", string("\"çğ😀\""));
+        assertEquals("", string("\"\""));
+    }
+
+    @Test
+    public void textEqualsMatchesEscapedAndPlainNames() {
+        JsonReader reader = reader("{\"n\\u0061me\": 1, \"name\": 2}");
+        byte[] name = "name".getBytes(StandardCharsets.UTF_8);
+        reader.next();
+        assertEquals(JsonToken.FIELD_NAME, reader.next());
+        assertTrue(reader.textEquals(name));
+        reader.next();
+        reader.next();
+        assertTrue(reader.textEquals(name));
+        assertFalse(reader.textEquals("nam".getBytes(StandardCharsets.UTF_8)));
+    }
+
+    @Test
+    public void rejectsInvalidEscapes() {
+        assertInvalid("\"\\x\"", "invalid escape");
+        assertInvalid("\"\\u12G4\"", "invalid \\u escape");
+        assertInvalid("\"\\u12\"", "unterminated string");
+        assertInvalid("\"abc", "unterminated string");
+        assertInvalid("\"a\nb\"", "control character in string");
+    }
+
+    @Test
+    public void parsesNumbers() {
+        assertEquals(0L, number("0").longValue());
+        assertEquals(-0L, number("-0").longValue());
+        assertEquals(Long.MAX_VALUE, number("9223372036854775807").longValue());
+        assertEquals(Long.MIN_VALUE, number("-9223372036854775808").longValue());
+        assertEquals(0.1, number("0.1").doubleValue(), 0.0);
+        assertEquals(-1.5e-7, number("-1.5E-7").doubleValue(), 0.0);
+        assertEquals(1e300, number("1e+300").doubleValue(), 0.0);
+        assertEquals(123456789.125, number("123456789.125").doubleValue(), 0.0);
+        assertEquals(42.0, number("42").doubleValue(), 0.0);
+        // assertEquals(double, double, 0.0) -0.0 ile 0.0'ı ayırmaz
+        assertEquals(Double.doubleToRawLongBits(-0.0), Double.doubleToRawLongBits(number("-0").doubleValue()));
+        assertEquals(Double.doubleToRawLongBits(-0.0), Double.doubleToRawLongBits(number("-0.0").doubleValue()));
+        assertEquals(Double.doubleToRawLongBits(0.0), Double.doubleToRawLongBits(number("0").doubleValue()));
+        try {
+            number("1.5").longValue();
+            fail("non-integral longValue");
+        } catch (JsonParseException expected) {
+            // 1.5 long değil
+        }
+    }
+
+    @Test
+    public void rejectsInvalidNumbers() {
+        assertInvalid("-", "expected digit");
+        assertInvalid("1.", "expected digit");
+        assertInvalid("1e", "expected digit");
+        assertInvalid("1e+", "expected digit");
+        assertInvalid(".5", "unexpected character '.'");
+        assertInvalid("+1", "unexpected character '+'");
+        assertInvalid("01", "unexpected data after root value");
+        assertInvalid("[01]", "expected ',' or ']'");
+        assertInvalid("-a", "expected digit");
+    }
+
+    @Test
+    public void rejectsTrailingData() {
+        assertInvalid("{} {}", "unexpected data after root value");
+        assertInvalid("1 2", "unexpected data after root value");
+        assertInvalid("truex", "unexpected data after root value");
+        assertInvalid("[1,]", "trailing comma");
+        assertInvalid("{\"a\":1,}", "expected field name");
+        assertInvalid("{\"a\" 1}", "expected ':'");
+        assertInvalid("[1}", "mismatched '}'");
+        assertInvalid("[1", "unexpected end of input");
+        assertInvalid("", "unexpected end of input");
+        // Sondaki boşluk geçerli
+        assertEquals(JsonToken.END_DOCUMENT, tokenizeAll(" [1] \r\n\t"));
+    }
+
+    @Test
+    public void enforcesMaxDepth() {
+        String nested = "[".repeat(4) + "]".repeat(4);
+        JsonReader reader = new JsonReader(4);
+        byte[] ok = nested.getBytes(StandardCharsets.UTF_8);
+        reader.reset(ok, 0, ok.length);
+        while (reader.next() != JsonToken.END_DOCUMENT) {
+            assertTrue(reader.depth() <= 4);
+        }
+        byte[] deep = ("[".repeat(5) + "]".repeat(5)).getBytes(StandardCharsets.UTF_8);
+        reader.reset(deep, 0, deep.length);
+        try {
+            while (reader.next() != JsonToken.END_DOCUMENT) {
+                // Beşinci '[' hata vermeli
+            }
+            fail("depth 5 should be rejected");
+        } catch (JsonParseException e) {
+            assertTrue(e.getMessage(), e.getMessage().startsWith("nesting deeper than 4"));
+            assertEquals(4, e.offset());
+        }
+        // Derinlik sınırı stack taşmasına yol açmadan uygulanır
+        byte[] huge = "[".repeat(100_000).getBytes(StandardCharsets.UTF_8);
+        try {
+            tokenize(new JsonReader().reset(huge, 0, huge.length));
+            fail("deep nesting should be rejected");
+        } catch (JsonParseException e) {
+            assertEquals(JsonReader.DEFAULT_MAX_DEPTH, e.offset());
+        }
+    }
+
+    @Test
+    public void skipValueSkipsContainers() {
+        JsonReader reader = reader("{\"skip\": {\"x\": [1, \"]}\\\"\"]}, \"keep\": 7}");
+        reader.next();
+        reader.next();
+        reader.skipValue();
+        assertEquals(JsonToken.END_OBJECT, reader.currentToken());
+        assertEquals(JsonToken.FIELD_NAME, reader.next());
+        assertEquals("keep", reader.stringValue());
+        assertEquals(JsonToken.NUMBER, reader.next());
+        assertEquals(7L, reader.longValue());
+        assertEquals(JsonToken.END_OBJECT, reader.next());
+        assertEquals(JsonToken.END_DOCUMENT, reader.next());
+    }
+
+    @Test
+    public void resetRespectsRangeAndReportsOffsets() {
+        byte[] data = "xx[1, ?]yy".getBytes(StandardCharsets.UTF_8);
+        JsonReader reader = new JsonReader().reset(data, 2, 8);
+        reader.next();
+        reader.next();
+        try {
+            reader.next();
+            fail("'?' should be rejected");
+        } catch (JsonParseException e) {
+            assertEquals(6, e.offset());
+        }
+        // Aynı reader sonraki dokümanda temiz başlar
+        reader.reset(data, 2, 5);
+        assertEquals(JsonToken.START_ARRAY, reader.next());
+        assertEquals(JsonToken.NUMBER, reader.next());
+        try {
+            reader.next();
+            fail("range ends inside the array");
+        } catch (JsonParseException e) {
+            assertEquals(5, e.offset());
+        }
+    }
+
+    private static JsonReader reader(String json) {
+        byte[] bytes = json.getBytes(StandardCharsets.UTF_8);
+        return new JsonReader().reset(bytes, 0, bytes.length);
+    }
+
+    private static String string(String json) {
+        JsonReader reader = reader(json);
+        assertEquals(JsonToken.STRING, reader.next());
+        String value = reader.stringValue();
+        assertEquals(JsonToken.END_DOCUMENT, reader.next());
+        return value;
+    }
+
+    private static JsonReader number(String json) {
+        JsonReader reader = reader(json);
+        assertEquals(JsonToken.NUMBER, reader.next());
+        return reader;
+    }
+
+    private static JsonToken tokenizeAll(String json) {
+        return tokenize(reader(json));
+    }
+
+    private static JsonToken tokenize(JsonReader reader) {
+        JsonToken token;
+        do {
+            token = reader.next();
+        } while (token != JsonToken.END_DOCUMENT);
+        return token;
+    }
+
+    private static void assertInvalid(String json, String message) {
+        try {
+            tokenizeAll(json);
+            fail(json + " should be rejected");
+        } catch (JsonParseException e) {
+            assertTrue(json + ": " + e.getMessage(), e.getMessage().startsWith(message + " at offset"));
+        }
+    }
+}
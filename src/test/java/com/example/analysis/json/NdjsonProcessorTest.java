@@ -0,0 +1,126 @@
+package com.example.analysis.json;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class NdjsonProcessorTest {
+
+    private static final JsonProjection PROJECTION = new JsonProjection("id", "name");
+
+    @Rule
+    public TemporaryFolder temp = new TemporaryFolder();
+
+    @Test
+    public void linesCrossingChunkBoundariesAreReadOnce() throws IOException {
+        StringBuilder content = new StringBuilder();
+        List<String> expected = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            String name = "n" + "x".repeat(i % 37);
+            content.append("{\"id\": ").append(i).append(", \"name\": \"").append(name).append("\"}")
+                .append(i % 3 == 0 ? "\r\n" : "\n");
+            if (i % 50 == 0) {
+                content.append("\n  \n");
+            }
+            expected.add(i + ":" + name);
+        }
+        Path file = write(content.toString());
+        Collections.sort(expected);
+        // Parça boyu satır boyundan küçük - çoğu satır parça sınırından geçer
+        for (int chunkSize : new int[]{7, 16, 64, 1000, 1 << 20}) {
+            for (boolean parallel : new boolean[]{false, true}) {
+                List<String> rows = collect(new NdjsonProcessor(chunkSize, 128, parallel), file);
+                assertEquals("chunk " + chunkSize + " parallel " + parallel, expected, rows);
+            }
+        }
+    }
+
+    @Test
+    public void lastLineWithoutTrailingNewline() throws IOException {
+        Path file = write("{\"id\": 1, \"name\": \"a\"}\n{\"id\": 2, \"name\": \"b\"}");
+        for (int chunkSize : new int[]{5, 25, 1024}) {
+            assertEquals(List.of("1:a", "2:b"), collect(new NdjsonProcessor(chunkSize, 64, false), file));
+        }
+        assertEquals(List.of("3:c"), collect(new NdjsonProcessor(), write("{\"id\": 3, \"name\": \"c\"}")));
+    }
+
+    @Test
+    public void emptyAndBlankFiles() throws IOException {
+        assertEquals(List.of(), collect(new NdjsonProcessor(), write("")));
+        assertEquals(List.of(), collect(new NdjsonProcessor(8, 8, false), write("\n \r\n\t\n")));
+    }
+
+    @Test
+    public void lineLongerThanMaxLineLengthIsRejected() throws IOException {
+        String longLine = "{\"id\": 1, \"name\": \"" + "x".repeat(100) + "\"}";
+        Path file = write("{\"id\": 0, \"name\": \"a\"}\n" + longLine + "\n{\"id\": 2, \"name\": \"b\"}\n");
+        try {
+            collect(new NdjsonProcessor(32, 16, false), file);
+            fail("line crossing the chunk end by more than maxLineLength should be rejected");
+        } catch (JsonParseException e) {
+            assertTrue(e.getMessage(), e.getMessage().startsWith("line longer than 16 bytes"));
+            assertEquals(23, e.offset());
+        }
+        // Yeterli maxLineLength ile aynı dosya okunur
+        assertEquals(3, collect(new NdjsonProcessor(32, 128, false), file).size());
+    }
+
+    @Test
+    public void parseErrorOffsetIsFromFileStart() throws IOException {
+        Path file = write("{\"id\": 1, \"name\": \"a\"}\n{\"id\": 01, \"name\": \"b\"}\n");
+        for (int chunkSize : new int[]{10, 1024}) {
+            try {
+                collect(new NdjsonProcessor(chunkSize, 64, false), file);
+                fail("invalid number should be rejected");
+            } catch (JsonParseException e) {
+                assertTrue(e.getMessage(), e.getMessage().startsWith("expected ',' or '}'"));
+                assertEquals(31, e.offset());
+            }
+        }
+    }
+
+    @Test
+    public void inMemoryDocumentsShareOneReader() {
+        NdjsonProcessor processor = new NdjsonProcessor();
+        List<String> documents = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            documents.add("{\"name\": \"n\\u00e7" + i + "\", \"other\": [1, 2], \"id\": " + i + "}");
+        }
+        List<String> rows = processor.aggregate(documents, PROJECTION, new ArrayList<>(), NdjsonProcessorTest::add);
+        assertEquals(1000, rows.size());
+        assertEquals("999:nç999", rows.get(999));
+        assertEquals(1, processor.readersCreated());
+    }
+
+    private Path write(String content) throws IOException {
+        Path file = temp.newFile().toPath();
+        Files.write(file, content.getBytes(StandardCharsets.UTF_8));
+        return file;
+    }
+
+    private static List<String> collect(NdjsonProcessor processor, Path file) throws IOException {
+        List<String> rows = processor.aggregate(file, PROJECTION, ArrayList::new, NdjsonProcessorTest::add,
+            (a, b) -> {
+                a.addAll(b);
+                return a;
+            });
+        Collections.sort(rows);
+        return rows;
+    }
+
+    private static void add(List<String> rows, JsonProjection.Row row) {
+        rows.add(row.getLong(0) + ":" + row.getString(1));
+    }
+}
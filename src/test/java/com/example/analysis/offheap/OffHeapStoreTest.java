@@ -0,0 +1,166 @@
+package com.example.analysis.offheap;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class OffHeapStoreTest {
+
+    private static final int SLAB = 1024;
+
+    @Rule
+    public TemporaryFolder temp = new TemporaryFolder();
+
+    @Test
+    public void freedHolesAreReusedWithinSlab() throws IOException {
+        try (OffHeapStore store = new OffHeapStore(SLAB, SLAB, null)) {
+            List<OffHeapHandle> handles = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                handles.add(store.put(filled(128, i)));
+            }
+            // Tek uzun ömürlü handle kalsa da boşalan alan tekrar kullanılır
+            for (int round = 0; round < 100; round++) {
+                for (int i = 1; i < 8; i++) {
+                    store.release(handles.get(i));
+                }
+                for (int i = 1; i < 8; i++) {
+                    handles.set(i, store.put(filled(128, round + i)));
+                }
+            }
+            assertEquals(SLAB, store.directBytesReserved());
+            assertEquals(SLAB, store.bytesStored());
+            assertArrayEquals(filled(128, 0), store.get(handles.get(0)));
+            assertArrayEquals(filled(128, 99 + 7), store.get(handles.get(7)));
+        }
+    }
+
+    @Test
+    public void adjacentHolesAreMerged() throws IOException {
+        try (OffHeapStore store = new OffHeapStore(SLAB, SLAB, null)) {
+            OffHeapHandle a = store.put(new byte[256]);
+            OffHeapHandle b = store.put(new byte[256]);
+            OffHeapHandle c = store.put(new byte[256]);
+            OffHeapHandle pin = store.put(new byte[256]);
+            store.release(a);
+            store.release(c);
+            store.release(b);
+            // a+b+c birleşti - 768 byte'lık payload yeni slab istemeden sığar
+            OffHeapHandle large = store.put(filled(768, 3));
+            assertEquals(SLAB, store.directBytesReserved());
+            assertArrayEquals(filled(768, 3), store.get(large));
+            assertEquals(1024, store.bytesStored());
+            assertFalse(pin.isMapped());
+        }
+    }
+
+    @Test
+    public void spillIsCapped() throws IOException {
+        Path spill = temp.getRoot().toPath().resolve("store.spill");
+        try (OffHeapStore store = new OffHeapStore(SLAB, SLAB, spill, 2 * SLAB)) {
+            List<OffHeapHandle> handles = new ArrayList<>();
+            for (int i = 0; i < 3; i++) {
+                handles.add(store.put(new byte[SLAB]));
+            }
+            assertTrue(handles.get(2).isMapped());
+            try {
+                store.put(new byte[SLAB]);
+                fail("spill cap should reject the fourth slab");
+            } catch (IllegalStateException expected) {
+                // Dosya 2 slab'da kaldı
+            }
+            assertEquals(2 * SLAB, store.mappedBytesReserved());
+            // Yer açılınca tekrar kabul edilir, dosya büyümez
+            store.release(handles.get(1));
+            OffHeapHandle reused = store.put(filled(SLAB, 9));
+            assertTrue(reused.isMapped());
+            assertArrayEquals(filled(SLAB, 9), store.get(reused));
+            assertEquals(2 * SLAB, store.mappedBytesReserved());
+        }
+        assertFalse(Files.exists(spill));
+    }
+
+    @Test
+    public void releasedHandleCannotBeRead() throws IOException {
+        try (OffHeapStore store = new OffHeapStore(SLAB, SLAB, null)) {
+            OffHeapHandle handle = store.put(new byte[16]);
+            store.release(handle);
+            try {
+                store.get(handle);
+                fail("read after release");
+            } catch (IllegalStateException expected) {
+                // Bölge başka payload'a verilmiş olabilir
+            }
+            try {
+                store.release(handle);
+                fail("double release");
+            } catch (IllegalStateException expected) {
+                // İkinci release
+            }
+        }
+    }
+
+    @Test
+    public void concurrentReuseNeverReturnsForeignBytes() throws Exception {
+        try (OffHeapStore store = new OffHeapStore(4 * SLAB, SLAB, null)) {
+            OffHeapHandle pinned = store.put(filled(512, 1));
+            CountDownLatch done = new CountDownLatch(1);
+            AtomicReference<Throwable> failure = new AtomicReference<>();
+            Thread churn = new Thread(() -> {
+                try {
+                    // Aynı slab'daki boşluk sürekli farklı içerikle yeniden verilir
+                    for (int i = 0; i < 200_000; i++) {
+                        store.release(store.put(filled(512, 2 + (i & 63))));
+                    }
+                } catch (Throwable t) {
+                    failure.set(t);
+                } finally {
+                    done.countDown();
+                }
+            });
+            churn.start();
+            byte[] expected = filled(512, 1);
+            byte[] buffer = new byte[512];
+            while (done.getCount() > 0) {
+                store.read(pinned, buffer, 0);
+                assertArrayEquals(expected, buffer);
+            }
+            churn.join();
+            if (failure.get() != null) {
+                throw new AssertionError(failure.get());
+            }
+        }
+    }
+
+    @Test
+    public void viewIsReadOnly() throws IOException {
+        try (OffHeapStore store = new OffHeapStore(SLAB, SLAB, null)) {
+            OffHeapHandle handle = store.put(filled(32, 5));
+            ByteBuffer view = store.view(handle);
+            assertTrue(view.isReadOnly());
+            assertEquals(32, view.remaining());
+            assertEquals(5, view.get(31));
+        }
+    }
+
+    private static byte[] filled(int length, int value) {
+        byte[] data = new byte[length];
+        Arrays.fill(data, (byte) value);
+        return data;
+    }
+}
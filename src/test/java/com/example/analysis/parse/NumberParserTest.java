@@ -0,0 +1,172 @@
+package com.example.analysis.parse;
+
+import org.junit.Test;
+
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class NumberParserTest {
+
+    private static final BigInteger INT_MIN = BigInteger.valueOf(Integer.MIN_VALUE);
+    private static final BigInteger INT_MAX = BigInteger.valueOf(Integer.MAX_VALUE);
+    private static final BigInteger LONG_MIN = BigInteger.valueOf(Long.MIN_VALUE);
+    private static final BigInteger LONG_MAX = BigInteger.valueOf(Long.MAX_VALUE);
+
+    private static final String[] EDGE_CASES = {
+        "", "+", "-", "0", "+0", "-0", "00012", "7", "-7",
+        "2147483647", "2147483648", "-2147483648", "-2147483649", "+2147483647",
+        "9223372036854775807", "9223372036854775808", "-9223372036854775808", "-9223372036854775809",
+        "99999999999999999999999", "-99999999999999999999999",
+        // Taşma ile geçersiz karakter birlikte: INVALID
+        "99999999999x", "9223372036854775808x", "-99999999999999999999a", "99999999999999999999 ",
+        "+-1", "-+1", "--1", "1-", "1+", " 1", "1 ", "1.0", "1e3", "0x10", "a", "n/a", "١٢٣", "1_000"
+    };
+
+    @Test
+    public void intEdgeCases() {
+        for (String text : EDGE_CASES) {
+            assertInt(text);
+        }
+        assertEquals(ParseStatus.EMPTY, NumberParser.status(NumberParser.parseInt(null)));
+    }
+
+    @Test
+    public void longEdgeCases() {
+        for (String text : EDGE_CASES) {
+            assertLong(text);
+        }
+        assertEquals(ParseStatus.EMPTY, NumberParser.parseLong(null, new long[1], 0));
+    }
+
+    @Test
+    public void agreesWithJdkOnRandomInput() {
+        char[] alphabet = {'0', '1', '5', '9', '-', '+', 'x'};
+        Random random = new Random(42);
+        for (int n = 0; n < 50_000; n++) {
+            char[] chars = new char[random.nextInt(24)];
+            for (int i = 0; i < chars.length; i++) {
+                // Çoğunlukla rakam - taşma sınırının iki yanı da üretilsin
+                chars[i] = random.nextInt(8) == 0 ? alphabet[4 + random.nextInt(3)] : alphabet[random.nextInt(4)];
+            }
+            String text = new String(chars);
+            assertInt(text);
+            assertLong(text);
+        }
+        for (long value : new long[]{Integer.MIN_VALUE, Integer.MAX_VALUE, Long.MIN_VALUE, Long.MAX_VALUE}) {
+            for (long delta = -3; delta <= 3; delta++) {
+                assertInt(Long.toString(value + delta));
+                assertLong(Long.toString(value + delta));
+                assertLong(new BigInteger(Long.toString(value)).add(BigInteger.valueOf(delta)).toString());
+            }
+        }
+    }
+
+    @Test
+    public void packedIntResult() {
+        long result = NumberParser.parseInt("-123");
+        assertTrue(NumberParser.isOk(result));
+        assertEquals(ParseStatus.OK, NumberParser.status(result));
+        assertEquals(-123, NumberParser.intValue(result));
+
+        long failure = NumberParser.parseInt("12a");
+        assertFalse(NumberParser.isOk(failure));
+        assertEquals(0, NumberParser.intValue(failure));
+        assertEquals(-1, NumberParser.parseIntOr("12a", -1));
+        assertEquals(-1, NumberParser.parseIntOr(null, -1));
+        assertEquals(Integer.MIN_VALUE, NumberParser.parseIntOr("-2147483648", -1));
+    }
+
+    @Test
+    public void rangesDoNotReadOutside() {
+        String text = "ab-42cd";
+        assertEquals(-42, NumberParser.intValue(NumberParser.parseInt(text, 2, 5)));
+        assertEquals(ParseStatus.EMPTY, NumberParser.status(NumberParser.parseInt(text, 3, 3)));
+        assertEquals(ParseStatus.INVALID, NumberParser.status(NumberParser.parseInt(text, 2, 3)));
+        byte[] bytes = text.getBytes(StandardCharsets.US_ASCII);
+        assertEquals(42, NumberParser.intValue(NumberParser.parseInt(bytes, 3, 5)));
+        long[] out = {7L, 7L};
+        assertEquals(ParseStatus.OK, NumberParser.parseLong(text, 2, 5, out, 1));
+        assertEquals(ParseStatus.OK, NumberParser.parseLong(bytes, 3, 4, out, 0));
+        assertArrayEquals(new long[]{4L, -42L}, out);
+    }
+
+    @Test
+    public void failedLongLeavesOutputUntouched() {
+        long[] out = {5L};
+        assertEquals(ParseStatus.OVERFLOW, NumberParser.parseLong("9223372036854775808", out, 0));
+        assertEquals(ParseStatus.INVALID, NumberParser.parseLong("-", out, 0));
+        assertEquals(5L, out[0]);
+        assertEquals(5L, NumberParser.parseLongOr("x", 5L));
+        assertEquals(5L, NumberParser.parseLongOr(null, 5L));
+        assertEquals(Long.MIN_VALUE, NumberParser.parseLongOr("-9223372036854775808", 5L));
+    }
+
+    @Test
+    public void columnsMarkFailures() {
+        List<String> column = Arrays.asList("1", "", null, "x", "2147483648", "-3");
+        int[] ints = new int[column.size()];
+        BitSet failed = new BitSet();
+        assertEquals(4, NumberParser.parseInts(column, ints, -1, failed));
+        assertArrayEquals(new int[]{1, -1, -1, -1, -1, -3}, ints);
+        assertEquals("{1, 2, 3, 4}", failed.toString());
+
+        long[] longs = new long[column.size()];
+        failed.clear();
+        assertEquals(3, NumberParser.parseLongs(column, longs, 0L, failed));
+        assertArrayEquals(new long[]{1, 0, 0, 0, 2147483648L, -3}, longs);
+        assertEquals("{1, 2, 3}", failed.toString());
+
+        // failed opsiyonel
+        assertEquals(3, NumberParser.parseLongs(column, longs, 0L, null));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void columnOutputTooSmall() {
+        NumberParser.parseInts(List.of("1", "2"), new int[1], 0, null);
+    }
+
+    private static void assertInt(String text) {
+        ParseStatus expected = expectedStatus(text, INT_MIN, INT_MAX);
+        long result = NumberParser.parseInt(text);
+        assertEquals(text, expected, NumberParser.status(result));
+        byte[] bytes = text.getBytes(StandardCharsets.UTF_8);
+        assertEquals(text, result, NumberParser.parseInt(bytes, 0, bytes.length));
+        if (expected == ParseStatus.OK) {
+            assertEquals(text, Integer.parseInt(text), NumberParser.intValue(result));
+        }
+    }
+
+    private static void assertLong(String text) {
+        ParseStatus expected = expectedStatus(text, LONG_MIN, LONG_MAX);
+        long[] out = new long[1];
+        assertEquals(text, expected, NumberParser.parseLong(text, out, 0));
+        long[] fromBytes = new long[1];
+        byte[] bytes = text.getBytes(StandardCharsets.UTF_8);
+        assertEquals(text, expected, NumberParser.parseLong(bytes, 0, bytes.length, fromBytes, 0));
+        if (expected == ParseStatus.OK) {
+            assertEquals(text, Long.parseLong(text), out[0]);
+            assertEquals(text, Long.parseLong(text), fromBytes[0]);
+        }
+    }
+
+    // Integer/Long.parseLong biçimi, sadece ASCII rakamlar; taşma sözdizimi geçerliyse raporlanır
+    private static ParseStatus expectedStatus(String text, BigInteger min, BigInteger max) {
+        if (text.isEmpty()) {
+            return ParseStatus.EMPTY;
+        }
+        if (!text.matches("[+-]?[0-9]+")) {
+            return ParseStatus.INVALID;
+        }
+        BigInteger value = new BigInteger(text);
+        return value.compareTo(min) < 0 || value.compareTo(max) > 0 ? ParseStatus.OVERFLOW : ParseStatus.OK;
+    }
+}
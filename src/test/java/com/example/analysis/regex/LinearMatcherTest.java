@@ -0,0 +1,174 @@
+package com.example.analysis.regex;
+
+import org.junit.Test;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * LinearMatcher sonuçlarının Pattern.matches ile birebir aynı olduğunu doğrular
+ */
+public class LinearMatcherTest {
+
+    private static final String[] INPUTS = {
+        "", "a", "A", "b", "ab", "aB", "abc", "ABC", "aaa", "aaab", "abab", "a\nb", "\n", "\r\n",
+        "0", "42", "4a2", "x_9", " ", "\t", "a b", "é", "É", "ğ", "aé", "😀", "a😀b", "\uD83D", "\uDE00a",
+        "foo@bar.com", "FOO@BAR.COM", "@bar", "foo@", "2024-01-31", "2024-1-31", "aaaaaaaaaaaaaaaaaaaa"
+    };
+
+    @Test
+    public void anchorsAndLiterals() {
+        assertSameAsPattern(0, "abc", "^abc", "abc$", "^abc$", "^", "$", "^$", "a\\.b", "\\^a", "a\\$");
+    }
+
+    @Test
+    public void characterClasses() {
+        assertSameAsPattern(0, "[a-c]+", "[^a-c]*", "[abc]{2}", "\\d+", "\\D*", "\\w+", "\\W", "\\s", "\\S+",
+            "[\\d_x]+", "[-a]", "[a-]+", "[^\\n]*", "[é-ğ]", "\\x41", "\\u00e9", "\\t");
+    }
+
+    @Test
+    public void alternationAndGroups() {
+        assertSameAsPattern(0, "a|b", "(a|b)*", "(?:ab)+", "(a|ab)(c|bcd)?", "a(b|)c?", "(a*)*", "(a|aa)+",
+            "[a-z]+@[a-z]+\\.com", "^[A-Za-z0-9+_.-]+@(.+)$", "\\d{4}-\\d{2}-\\d{2}");
+    }
+
+    @Test
+    public void boundedRepeats() {
+        assertSameAsPattern(0, "a{3}", "a{2,}", "a{0,2}", "a{1,3}b", "(ab){1,2}", "a{0}", "a{2,4}?", "[ab]{3,5}",
+            "a{20}", "a{5,20}", "(a|b){2,3}c?");
+    }
+
+    @Test
+    public void caseInsensitiveIsAsciiOnly() {
+        assertSameAsPattern(Pattern.CASE_INSENSITIVE, "abc", "[a-c]+", "[^b]+", "foo@bar\\.com", "é", "[é]", "a{2,}");
+    }
+
+    @Test
+    public void dotAll() {
+        assertSameAsPattern(0, ".", ".*", "a.b", ".+b", "..");
+        assertSameAsPattern(Pattern.DOTALL, ".", ".*", "a.b", ".+b", "..");
+        assertSameAsPattern(Pattern.DOTALL | Pattern.CASE_INSENSITIVE, "a.B", ".*B");
+    }
+
+    @Test
+    public void nonAsciiAndSurrogates() {
+        assertSameAsPattern(0, "é", "ğ+", "a.b", "😀", ".", "..", "a😀b", "[^a]", "[^a]+", "\\W+", "[😀]", "\\S");
+    }
+
+    @Test
+    public void randomInputsMatchPattern() {
+        String[] regexes = {"(a|b)*abb", "a[^b]*b", "(ab|a)*b?", "[a-c]{1,3}(x|é)?", ".{2,4}", "(a+|b)*c"};
+        char[] alphabet = {'a', 'b', 'c', 'x', 'A', '\n', 'é', '\uD83D', '\uDE00'};
+        Random random = new Random(42);
+        for (String regex : regexes) {
+            for (int flags : new int[]{0, Pattern.CASE_INSENSITIVE, Pattern.DOTALL}) {
+                LinearMatcher matcher = compile(regex, flags);
+                Pattern pattern = Pattern.compile(regex, flags);
+                for (int i = 0; i < 2000; i++) {
+                    char[] input = new char[random.nextInt(12)];
+                    for (int j = 0; j < input.length; j++) {
+                        input[j] = alphabet[random.nextInt(alphabet.length)];
+                    }
+                    String s = new String(input);
+                    assertEquals(regex + " / " + flags + " / " + escape(s),
+                        pattern.matcher(s).matches(), matcher.matches(s));
+                }
+            }
+        }
+    }
+
+    @Test
+    public void largeRepeatStaysLinear() {
+        // Backtracking motorunda üstel; lineer motor hemen sonuçlanır
+        LinearMatcher matcher = compile("(a|aa)*b", 0);
+        assertFalse(matcher.matches("a".repeat(10_000)));
+        assertTrue(matcher.matches("a".repeat(10_000) + "b"));
+    }
+
+    @Test
+    public void unsupportedConstructsFallBack() {
+        for (String regex : new String[]{"(a)\\1", "a(?=b)", "a++", "\\bfoo", "\\p{L}", "a^b"}) {
+            try {
+                LinearMatcher.compile(regex, 0);
+                fail(regex + " should be unsupported");
+            } catch (RegexParser.Unsupported expected) {
+                // java.util.regex'te kalır
+            }
+            CompiledRegex compiled = new CompiledRegex(regex, 0, true, 1000, 0);
+            assertFalse(regex, compiled.isLinear());
+        }
+        try {
+            LinearMatcher.compile("abc", Pattern.MULTILINE);
+            fail("MULTILINE should be unsupported");
+        } catch (RegexParser.Unsupported expected) {
+            // Flag desteklenmiyor
+        }
+    }
+
+    @Test
+    public void budgetedBacktrackingThrows() {
+        // Güncel JDK'lar (a+)+b gibi iç içe döngüleri memoize eder; (.*a){n} hâlâ üstel
+        CompiledRegex regex = new CompiledRegex("(.*a){12}", 0, false, 100_000, 0);
+        assertFalse(regex.isLinear());
+        String evil = "a".repeat(25) + "!";
+        try {
+            regex.matches(evil);
+            fail("step budget should be exceeded");
+        } catch (MatchBudgetExceededException e) {
+            assertTrue(e.steps() > 100_000);
+        }
+        try {
+            regex.matches(evil, Long.MAX_VALUE, 20, TimeUnit.MILLISECONDS);
+            fail("timeout should be exceeded");
+        } catch (MatchBudgetExceededException expected) {
+            // Süre bütçesi
+        }
+        // Bütçe içinde kalan girdiler normal sonuç verir
+        assertTrue(regex.matches("a".repeat(12)));
+        assertFalse(regex.matches("a".repeat(11)));
+    }
+
+    @Test
+    public void registryUsesLinearEngineWhenPossible() {
+        PatternRegistry registry = new PatternRegistry(16);
+        assertTrue(registry.get("(.*a){12}").isLinear());
+        assertFalse(registry.matches("(.*a){12}", "a".repeat(10_000) + "!"));
+        assertTrue(registry.matches("(.*a){12}", "a".repeat(10_000)));
+        assertFalse(registry.get("(a)\\1").isLinear());
+        assertTrue(registry.matches("(a)\\1", "aa"));
+    }
+
+    private static void assertSameAsPattern(int flags, String... regexes) {
+        for (String regex : regexes) {
+            LinearMatcher matcher = compile(regex, flags);
+            Pattern pattern = Pattern.compile(regex, flags);
+            for (String input : INPUTS) {
+                assertEquals(regex + " / " + flags + " / " + escape(input),
+                    pattern.matcher(input).matches(), matcher.matches(input));
+            }
+        }
+    }
+
+    private static LinearMatcher compile(String regex, int flags) {
+        try {
+            return LinearMatcher.compile(regex, flags);
+        } catch (RegexParser.Unsupported e) {
+            throw new AssertionError(regex + " should be supported: " + e.getMessage(), e);
+        }
+    }
+
+    private static String escape(String s) {
+        StringBuilder out = new StringBuilder();
+        for (char c : s.toCharArray()) {
+            out.append(c < 0x20 || c > 0x7e ? String.format("\\u%04x", (int) c) : String.valueOf(c));
+        }
+        return out.toString();
+    }
+}